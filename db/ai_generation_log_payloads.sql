@@ -0,0 +1,16 @@
+-- AI 로그 원문 분리: ai_generation_logs.prompt/response -> ai_generation_log_payloads (deflate 압축 bytea)
+-- prod 는 ddl-auto: validate 라 스키마를 만들지 않으므로 아래 순서대로 직접 실행한다.
+
+-- 1) 배포 전: 원문 테이블 생성 (로그 삭제 시 함께 삭제)
+CREATE TABLE IF NOT EXISTS ai_generation_log_payloads (
+    log_id   BIGINT PRIMARY KEY REFERENCES ai_generation_logs (id) ON DELETE CASCADE,
+    prompt   BYTEA,
+    response BYTEA
+);
+
+-- 2) 배포 후: AiGenerationLogCleanupScheduler 가 실행될 때마다 이전 컬럼에 남은 값을 청크 단위로 압축해 옮기고 비운다.
+--    "AI 로그 원문 이관 완료" 로그가 남은 뒤 아래 결과가 0 인지 확인한다.
+SELECT COUNT(*) FROM ai_generation_logs WHERE prompt IS NOT NULL OR response IS NOT NULL;
+
+-- 3) 이관 완료 후: 이전 컬럼 삭제. 컬럼이 없으면 스케줄러의 이관 단계는 건너뛴다.
+ALTER TABLE ai_generation_logs DROP COLUMN prompt, DROP COLUMN response;
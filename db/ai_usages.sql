@@ -0,0 +1,33 @@
+-- AI 사용량 집계: ai_usages 테이블 + FREE 평생 사용량 이관
+-- prod 는 ddl-auto: validate 라 스키마를 만들지 않으므로 아래 순서대로 직접 실행한다.
+
+-- 1) 배포 전: 집계 테이블 생성. 슬롯 선점(AiUsageRepositoryCustomImpl.insertIfAbsent)의
+--    ON CONFLICT (user_id, type, period, period_start) 가 아래 유니크 인덱스를 사용한다.
+CREATE TABLE IF NOT EXISTS ai_usages (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT       NOT NULL,
+    type         VARCHAR(50)  NOT NULL,
+    period       VARCHAR(20)  NOT NULL,
+    period_start DATE         NOT NULL,
+    used         INTEGER      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    modified_at  TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_ai_usage_user_type_period
+    ON ai_usages (user_id, type, period, period_start);
+
+-- 2) 배포 전: 기존 성공 로그로 FREE 평생 사용량(LIFETIME, 1970-01-01)을 채운다.
+--    보관 기간 정리(AiGenerationLogCleanupScheduler)가 오래된 USER_CARD 로그를 지우기 전에 실행해야 하며,
+--    애플리케이션은 집계 행이 없으면 0 에서 시작하므로 이 단계를 건너뛰면 이전 사용량이 사라진다.
+INSERT INTO ai_usages (user_id, type, period, period_start, used, created_at, modified_at)
+SELECT user_id, 'USER_CARD', 'LIFETIME', DATE '1970-01-01', COUNT(*), NOW(), NOW()
+FROM ai_generation_logs
+WHERE type = 'USER_CARD' AND success = TRUE
+GROUP BY user_id
+ON CONFLICT (user_id, type, period, period_start)
+    DO UPDATE SET used = GREATEST(ai_usages.used, EXCLUDED.used), modified_at = NOW();
+
+-- 3) 배포 직후: 2) 와 배포 사이에 남은 로그를 반영하려고 2) 를 한 번 더 실행한다.
+--    GREATEST 로 합치므로 배포 후 선점으로 늘어난 값은 줄어들지 않는다.
+--    PRO 일일 사용량은 Redis 카운트(ai_generation:{userId})에서 첫 선점 때 이어받는다.
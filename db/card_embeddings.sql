@@ -0,0 +1,25 @@
+-- 카드 임베딩 사전 계산: card_embeddings 테이블 + 카탈로그 변경 조회용 cards 인덱스
+-- prod 는 ddl-auto: validate 라 스키마를 만들지 않으므로 아래 순서대로 직접 실행한다.
+
+-- 1) 배포 전: 임베딩 테이블 생성 (카드 삭제 시 함께 삭제)
+CREATE TABLE IF NOT EXISTS card_embeddings (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    card_id     BIGINT       NOT NULL REFERENCES cards (id) ON DELETE CASCADE,
+    model       VARCHAR(100) NOT NULL,
+    dimension   INTEGER      NOT NULL,
+    vector      BYTEA        NOT NULL,
+    embedded_at TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    modified_at TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_card_embedding_card ON card_embeddings (card_id);
+
+-- 2) 배포 전: 변경분(modified_at, id) 순회에 쓰는 인덱스. 운영 중 락을 피하려고 CONCURRENTLY 로 만들며
+--    트랜잭션 블록 밖에서 단독 실행해야 한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_card_modified_at ON cards (modified_at, id);
+
+-- 3) 배포 후: RelatedCardIndexScheduler 가 임베딩이 없거나 모델이 바뀐 카드를 채운다.
+--    아래 결과가 0 이 되면 유사 카드 인덱스가 전체 카탈로그를 다룬다.
+SELECT COUNT(*) FROM cards c
+WHERE NOT EXISTS (SELECT 1 FROM card_embeddings e WHERE e.card_id = c.id);
@@ -0,0 +1,15 @@
+-- 생성 카드 검토 대기열 점유: generated_cards.claimed_by / claim_expires_at
+-- prod 는 ddl-auto: validate 라 스키마를 만들지 않으므로 아래 순서대로 직접 실행한다.
+
+-- 1) 배포 전: 점유 컬럼 추가. 기존 행은 점유되지 않은 상태(NULL)로 시작한다.
+ALTER TABLE generated_cards
+    ADD COLUMN IF NOT EXISTS claimed_by       BIGINT,
+    ADD COLUMN IF NOT EXISTS claim_expires_at TIMESTAMP(6);
+
+-- 2) 배포 전: 대기열 조회(findClaimableForUpdate)용 부분 인덱스.
+--    status = 'PENDING' 행만 id 순으로 담고 claim_expires_at 을 함께 두어,
+--    "claim_expires_at IS NULL OR claim_expires_at < now ORDER BY id LIMIT n" 을 테이블을 읽기 전에 인덱스에서 거른다.
+--    운영 중 락을 피하려고 CONCURRENTLY 로 만들며 트랜잭션 블록 밖에서 단독 실행해야 한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_generated_card_pending_claim
+    ON generated_cards (id, claim_expires_at)
+    WHERE status = 'PENDING';
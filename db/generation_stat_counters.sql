@@ -0,0 +1,22 @@
+-- 생성 카드 통계 카운터: generation_stat_counters 테이블
+-- prod 는 ddl-auto: validate 라 스키마를 만들지 않으므로 아래 순서대로 직접 실행한다.
+
+-- 1) 배포 전: 카운터 테이블 생성. 증감(GenerationStatCounterRepositoryCustomImpl.increment)의
+--    ON CONFLICT (model, status) 가 아래 유니크 인덱스를 사용하고, 재집계(rebuild)는 이 테이블에 LOCK TABLE 을 건다.
+CREATE TABLE IF NOT EXISTS generation_stat_counters (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    model       VARCHAR(50)  NOT NULL,
+    status      VARCHAR(20)  NOT NULL,
+    count       BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    modified_at TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_generation_stat_counter_model_status
+    ON generation_stat_counters (model, status);
+
+-- 2) 배포 후: GenerationStatsScheduler 의 첫 재집계가 generated_cards 에서 값을 채우고 seeded 표시를 남긴다.
+--    그 전까지 관리자 통계는 generated_cards 집계 쿼리로 응답하므로 수동으로 채울 필요는 없다.
+--    아래 두 결과가 같으면 카운터가 맞게 채워진 것이다.
+SELECT COALESCE(SUM(count), 0) FROM generation_stat_counters;
+SELECT COUNT(*) FROM generated_cards;
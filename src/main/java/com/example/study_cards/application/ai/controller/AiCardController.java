@@ -1,13 +1,21 @@
 package com.example.study_cards.application.ai.controller;
 
 import com.example.study_cards.application.ai.dto.request.GenerateUserCardRequest;
+import com.example.study_cards.application.ai.dto.response.AiGenerationJobResponse;
 import com.example.study_cards.application.ai.dto.response.AiLimitResponse;
 import com.example.study_cards.application.ai.dto.response.UserAiGenerationResponse;
+import com.example.study_cards.application.ai.service.AiGenerationJobService;
 import com.example.study_cards.application.ai.service.AiSourceTextExtractorService;
 import com.example.study_cards.application.ai.service.UserAiCardService;
+import com.example.study_cards.common.aop.RateLimited;
+import com.example.study_cards.common.exception.BaseException;
+import com.example.study_cards.common.response.CommonResponse;
+import com.example.study_cards.domain.ai.entity.AiGenerationJobStatus;
+import com.example.study_cards.domain.ai.exception.AiErrorCode;
+import com.example.study_cards.domain.ai.exception.AiException;
 import com.example.study_cards.domain.user.entity.User;
-import com.example.study_cards.domain.user.service.UserDomainService;
-import com.example.study_cards.infra.security.user.CustomUserDetails;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.example.study_cards.infra.security.user.CurrentUser;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -16,10 +24,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 
 @RestController
 @RequestMapping("/api/ai")
@@ -27,38 +45,154 @@ import org.springframework.web.multipart.MultipartFile;
 @Validated
 public class AiCardController {
 
+    private static final long STREAM_TIMEOUT_MS = 180_000L;
+    private static final Duration JOB_POLL_INTERVAL = Duration.ofSeconds(1);
+
     private final UserAiCardService userAiCardService;
+    private final AiGenerationJobService aiGenerationJobService;
     private final AiSourceTextExtractorService aiSourceTextExtractorService;
-    private final UserDomainService userDomainService;
+    private final Executor aiStreamExecutor;
+    private final TaskScheduler taskScheduler;
 
     @PostMapping("/generate-cards")
+    @RateLimited(key = "ai-generate", identifier = "#user?.id", limit = 10, windowSeconds = 60)
     public ResponseEntity<UserAiGenerationResponse> generateCards(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser User user,
             @Valid @RequestBody GenerateUserCardRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
         UserAiGenerationResponse response = userAiCardService.generateCards(user, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/generate-cards/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RateLimited(key = "ai-generate", identifier = "#user?.id", limit = 10, windowSeconds = 60)
+    public SseEmitter generateCardsStream(
+            @CurrentUser User user,
+            @Valid @RequestBody GenerateUserCardRequest request) {
+        UserAiCardService.GenerationSession session = userAiCardService.prepareGeneration(user, request);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        FutureTask<Void> task = new FutureTask<>(() -> streamCards(session, emitter), null);
+        // 타임아웃이나 연결 종료로 emitter 가 끝나면 작업 스레드를 인터럽트해 provider 스트림 구독을 취소한다
+        emitter.onTimeout(() -> task.cancel(true));
+        emitter.onError(e -> task.cancel(true));
+        emitter.onCompletion(() -> task.cancel(true));
+
+        try {
+            aiStreamExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            userAiCardService.abandonGeneration(session);
+            throw new AiException(AiErrorCode.AI_PROVIDER_BUSY);
+        }
+        return emitter;
+    }
+
     @PostMapping(value = "/generate-cards/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited(key = "ai-generate", identifier = "#user?.id", limit = 10, windowSeconds = 60)
     public ResponseEntity<UserAiGenerationResponse> generateCardsByUpload(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser User user,
             @RequestPart("file") MultipartFile file,
             @RequestParam @NotBlank String categoryCode,
             @RequestParam(defaultValue = "5") @Min(1) @Max(20) Integer count,
             @RequestParam(required = false) String difficulty) {
-        User user = userDomainService.findById(userDetails.userId());
-        String sourceText = aiSourceTextExtractorService.extractText(file);
+        String sourceText = aiSourceTextExtractorService.extractDocumentText(file);
         GenerateUserCardRequest request = new GenerateUserCardRequest(sourceText, categoryCode, count, difficulty);
-        UserAiGenerationResponse response = userAiCardService.generateCards(user, request);
+        UserAiGenerationResponse response = userAiCardService.generateCardsFromDocument(user, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/generation-jobs")
+    @RateLimited(key = "ai-generate", identifier = "#user?.id", limit = 10, windowSeconds = 60)
+    public ResponseEntity<AiGenerationJobResponse> submitGenerationJob(
+            @CurrentUser User user,
+            @Valid @RequestBody GenerateUserCardRequest request) {
+        AiGenerationJobResponse response = aiGenerationJobService.submit(user, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/generation-jobs/{jobId}")
+    public ResponseEntity<AiGenerationJobResponse> getGenerationJob(
+            @CurrentUser UserVo user,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(aiGenerationJobService.getJob(user.id(), jobId));
+    }
+
+    /**
+     * 작업이 끝나면 complete(성공) 또는 error(실패) 이벤트를 한 번 보내고 연결을 닫는다.
+     * 작업은 다른 서버에서 실행될 수 있으므로 Redis 의 작업 상태를 주기적으로 확인한다.
+     */
+    @GetMapping(value = "/generation-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeGenerationJob(
+            @CurrentUser UserVo user,
+            @PathVariable String jobId) {
+        // 없는 작업이면 SSE 연결 전에 일반 에러 응답으로 반환한다
+        aiGenerationJobService.getJob(user.id(), jobId);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        ScheduledFuture<?> poller = taskScheduler.scheduleWithFixedDelay(
+                () -> pushFinishedJob(user.id(), jobId, emitter),
+                Instant.now().plus(JOB_POLL_INTERVAL), JOB_POLL_INTERVAL);
+        emitter.onTimeout(() -> poller.cancel(false));
+        emitter.onError(e -> poller.cancel(false));
+        emitter.onCompletion(() -> poller.cancel(false));
+        return emitter;
+    }
+
     @GetMapping("/generation-limit")
     public ResponseEntity<AiLimitResponse> getGenerationLimit(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        User user = userDomainService.findById(userDetails.userId());
+            @CurrentUser UserVo user) {
         AiLimitResponse response = userAiCardService.getGenerationLimit(user);
         return ResponseEntity.ok(response);
     }
+
+    private void streamCards(UserAiCardService.GenerationSession session, SseEmitter emitter) {
+        try {
+            UserAiGenerationResponse response = userAiCardService.streamCards(
+                    session, card -> sendEvent(emitter, "card", card));
+            sendEvent(emitter, "complete", response);
+            emitter.complete();
+        } catch (BaseException e) {
+            sendErrorEvent(emitter, e);
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void pushFinishedJob(Long userId, String jobId, SseEmitter emitter) {
+        try {
+            AiGenerationJobResponse job = aiGenerationJobService.getJob(userId, jobId);
+            if (!job.status().isFinished()) {
+                return;
+            }
+            if (job.status() == AiGenerationJobStatus.COMPLETED) {
+                sendEvent(emitter, "complete", job.result());
+            } else {
+                sendEvent(emitter, "error", CommonResponse.of(job.errorStatus(), job.errorMessage()));
+            }
+            emitter.complete();
+        } catch (BaseException e) {
+            sendErrorEvent(emitter, e);
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 에러 이벤트도 보내지 못하면(연결 종료 등) 에러로 끝내 emitter 가 열린 채 남지 않게 한다
+    private void sendErrorEvent(SseEmitter emitter, BaseException e) {
+        try {
+            sendEvent(emitter, "error", CommonResponse.of(
+                    e.getErrorCode().getStatus().value(), e.getErrorCode().getMessage()));
+            emitter.complete();
+        } catch (RuntimeException sendFailure) {
+            emitter.completeWithError(sendFailure);
+        }
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // 클라이언트 연결이 끊기면 스트리밍을 중단해 토큰 낭비를 막는다
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.study_cards.application.ai.dto.response;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationJobStatus;
+
+public record AiGenerationJobResponse(
+        String jobId,
+        AiGenerationJobStatus status,
+        UserAiGenerationResponse result,
+        Integer errorStatus,
+        String errorMessage
+) {
+    public static AiGenerationJobResponse pending(String jobId) {
+        return new AiGenerationJobResponse(jobId, AiGenerationJobStatus.PENDING, null, null, null);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.study_cards.common.util.AiCategoryType;
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.category.entity.Category;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -34,6 +35,17 @@ public final class AiPromptTemplateFactory {
         );
     }
 
+    public static String buildBatchPrompt(List<Card> sourceCards, Category category) {
+        String sourceItems = formatBatchSourceItems(sourceCards);
+        return buildByCategoryType(
+                category.getCode(),
+                categoryCode -> buildAdminJlptBatchPrompt(sourceItems, sourceCards.size(), categoryCode),
+                () -> buildAdminToeicBatchPrompt(sourceItems, sourceCards.size()),
+                () -> buildAdminCsBatchPrompt(sourceItems, sourceCards.size()),
+                () -> buildAdminGenericBatchPrompt(sourceItems, sourceCards.size(), category)
+        );
+    }
+
     private static String buildByCategoryType(
             String categoryCode,
             Function<String, String> jlptPromptBuilder,
@@ -268,6 +280,154 @@ public final class AiPromptTemplateFactory {
             """.formatted(category.getName(), sourceCard.getQuestion(), sourceCard.getAnswer(), outputFormat);
     }
 
+    private static String buildAdminToeicBatchPrompt(String sourceItems, int count) {
+        String outputFormat = adminQuizBatchOutputFormat(
+                "answer는 정답 알파벳(A, B, C, D 중 하나)이어야 합니다.",
+                "예문 (빈칸 포함)",
+                "\"A\", \"B\", \"C\", \"D\"",
+                "정답 알파벳",
+                "간단한 해설"
+        );
+        return """
+            당신은 TOEIC 출제 전문가입니다.
+            아래 %d개의 단어/문장 각각에 대해 TOEIC Part 5 스타일의 문제를 1개씩 생성하세요.
+
+            원본 목록:
+            %s
+
+            요구사항:
+            1. 실제 비즈니스/일상 상황의 예문을 작성하세요.
+            2. 4개의 선택지를 만드세요 (정답 1개 + 오답 3개).
+            3. 오답은 비슷한 형태의 단어로 구성하세요 (품사 변형, 유사어 등).
+            4. 난이도는 중급으로 맞추세요.
+
+            %s
+            """.formatted(count, sourceItems, outputFormat);
+    }
+
+    private static String buildAdminJlptBatchPrompt(String sourceItems, int count, String categoryCode) {
+        String jlptLevel = AiCategoryType.toJlptLevel(categoryCode);
+        String outputFormat = adminQuizBatchOutputFormat(
+                "answer는 정답 번호(\"1\", \"2\", \"3\", \"4\" 중 하나)여야 합니다.",
+                "예문 (빈칸 포함)",
+                "\"1\", \"2\", \"3\", \"4\"",
+                "정답 번호",
+                "간단한 해설 (한국어)"
+        );
+        return """
+            당신은 JLPT 출제 전문가입니다.
+            아래 %d개의 단어/문장 각각에 대해 JLPT %s 스타일의 문제를 1개씩 생성하세요.
+
+            원본 목록:
+            %s
+
+            요구사항:
+            1. 자연스러운 일본어 예문을 작성하세요.
+            2. 4개의 선택지를 만드세요 (정답 1개 + 오답 3개).
+            3. 오답은 문맥상 헷갈릴 수 있는 단어로 구성하세요.
+            4. 난이도는 %s 레벨에 맞게 조정하세요.
+            5. 해설은 반드시 한국어로 작성하세요.
+
+            %s
+            """.formatted(count, jlptLevel, sourceItems, jlptLevel, outputFormat);
+    }
+
+    private static String buildAdminCsBatchPrompt(String sourceItems, int count) {
+        return """
+            당신은 컴퓨터 공학(CS) 교육 전문가입니다.
+            아래 %d개의 참고 질문/답변 각각을 기반으로 새로운 학습 카드를 1개씩 생성하세요.
+
+            참고 목록:
+            %s
+
+            요구사항:
+            1. 참고 내용과 관련되지만, 다른 관점의 새로운 질문을 작성하세요.
+            2. 질문과 답변은 반드시 컴퓨터 공학 개념(자료구조, 알고리즘, 운영체제, 네트워크, 데이터베이스 등)과 직접 관련되어야 합니다.
+            3. 한글로 작성하세요.
+            4. 답변은 명확하고 이해하기 쉽게, 강의하듯이 작성하세요.
+
+            출력 형식:
+            - JSON 배열만 정확히 출력하고, 다른 설명 문장은 절대 쓰지 마세요.
+            - 참고 목록의 항목마다 정확히 1개의 원소를 만드세요.
+            - key 이름은 반드시 sourceId, question, answer 세 개만 사용하세요. (소문자)
+            - sourceId는 참고 목록의 [ID] 숫자를 그대로 사용하세요.
+            - 다음 형식을 정확히 지키세요.
+
+            [
+              {
+                "sourceId": 1,
+                "question": "질문 내용",
+                "answer": "답변 내용"
+              }
+            ]
+            """.formatted(count, sourceItems);
+    }
+
+    private static String buildAdminGenericBatchPrompt(String sourceItems, int count, Category category) {
+        String outputFormat = adminQuizBatchOutputFormat(
+                "answer는 정답 알파벳(A, B, C, D 중 하나)이어야 합니다.",
+                "문제",
+                "\"A\", \"B\", \"C\", \"D\"",
+                "정답 알파벳",
+                "간단한 해설"
+        );
+        return """
+            아래 %d개의 학습 자료 각각을 기반으로 4지선다 문제를 1개씩 생성하세요.
+
+            카테고리: %s
+            원본 목록:
+            %s
+
+            요구사항:
+            1. 원본 내용을 기반으로 새로운 관점의 문제를 작성하세요.
+            2. 4개의 선택지를 만드세요 (정답 1개 + 오답 3개).
+            3. 오답은 그럴듯하지만 틀린 내용으로 구성하세요.
+            4. 한글로 작성하세요.
+
+            %s
+            """.formatted(count, category.getName(), sourceItems, outputFormat);
+    }
+
+    private static String formatBatchSourceItems(List<Card> sourceCards) {
+        StringBuilder items = new StringBuilder();
+        for (Card sourceCard : sourceCards) {
+            items.append("[").append(sourceCard.getId()).append("] ")
+                    .append("원본 질문: ").append(sourceCard.getQuestion())
+                    .append(" / 원본 답변: ").append(sourceCard.getAnswer())
+                    .append("\n");
+        }
+        return items.toString().trim();
+    }
+
+    private static String adminQuizBatchOutputFormat(
+            String answerRule,
+            String questionExample,
+            String optionExamples,
+            String answerExample,
+            String explanationExample
+    ) {
+        return """
+                출력 형식:
+                - JSON 배열만 정확히 출력하고, 다른 설명 문장은 절대 쓰지 마세요.
+                - 원본 목록의 항목마다 정확히 1개의 원소를 만드세요.
+                - key 이름은 반드시 sourceId, question, options, answer, explanation 다섯 개만 사용하세요. (소문자)
+                - sourceId는 원본 목록의 [ID] 숫자를 그대로 사용하세요.
+                - options는 정확히 4개의 문자열 배열이어야 합니다.
+                - %s
+                - 다음 형식을 정확히 지키세요.
+
+                [
+                  {
+                    "sourceId": 1,
+                    "question": "%s",
+                    "options": [%s],
+                    "answer": "%s",
+                    "explanation": "%s"
+                  }
+                ]
+                """.formatted(answerRule, questionExample, optionExamples, answerExample, explanationExample);
+    }
+
     private static String adminQuizOutputFormat(
             String answerRule,
             String questionExample,
@@ -0,0 +1,155 @@
+package com.example.study_cards.application.ai.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 문서를 제목/문단 경계 기준으로 나누고, 인접 청크 사이에 문맥이 이어지도록 앞 청크의 끝부분을 겹쳐 붙인다.
+ */
+public final class AiSourceTextChunker {
+
+    private static final String BLOCK_SEPARATOR = "\n\n";
+    private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\R");
+    private static final Pattern SENTENCE_BOUNDARY_PATTERN = Pattern.compile("(?<=[.!?。！？])\\s+");
+    private static final Pattern HEADING_PATTERN = Pattern.compile(
+            "^(#{1,6}\\s+\\S.*"
+                    + "|제\\s*\\d+\\s*[장절편부](\\s.*)?"
+                    + "|chapter\\s+\\d+.*"
+                    + "|\\d+(\\.\\d+)*\\.?\\s+[^.!?。]{1,60})$",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private AiSourceTextChunker() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public static List<String> split(String text, int maxChunkLength, int overlapLength) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        if (maxChunkLength < 1) {
+            throw new IllegalArgumentException("maxChunkLength must be positive");
+        }
+
+        String normalized = text.strip();
+        if (normalized.length() <= maxChunkLength) {
+            return List.of(normalized);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (Block block : toBlocks(normalized, maxChunkLength)) {
+            boolean overflow = current.length() > 0
+                    && current.length() + BLOCK_SEPARATOR.length() + block.text().length() > maxChunkLength;
+            // 청크가 절반 이상 찼다면 새 제목부터는 다음 청크로 넘긴다
+            boolean headingBoundary = block.heading()
+                    && current.length() > 0
+                    && current.length() >= maxChunkLength / 2;
+
+            if (overflow || headingBoundary) {
+                String chunk = current.toString();
+                chunks.add(chunk);
+                current.setLength(0);
+                if (!block.heading()) {
+                    int budget = maxChunkLength - block.text().length() - BLOCK_SEPARATOR.length();
+                    current.append(overlapTail(chunk, Math.min(overlapLength, budget)));
+                }
+            }
+
+            if (current.length() > 0) {
+                current.append(BLOCK_SEPARATOR);
+            }
+            current.append(block.text());
+        }
+
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    private static List<Block> toBlocks(String text, int maxChunkLength) {
+        List<Block> blocks = new ArrayList<>();
+        StringBuilder paragraph = new StringBuilder();
+        boolean heading = false;
+
+        for (String rawLine : LINE_BREAK_PATTERN.split(text)) {
+            String line = rawLine.strip();
+            if (line.isEmpty()) {
+                addBlock(blocks, paragraph.toString(), heading, maxChunkLength);
+                paragraph.setLength(0);
+                heading = false;
+                continue;
+            }
+
+            if (HEADING_PATTERN.matcher(line).matches()) {
+                addBlock(blocks, paragraph.toString(), heading, maxChunkLength);
+                paragraph.setLength(0);
+                heading = true;
+            }
+
+            if (paragraph.length() > 0) {
+                paragraph.append('\n');
+            }
+            paragraph.append(line);
+        }
+        addBlock(blocks, paragraph.toString(), heading, maxChunkLength);
+
+        return blocks;
+    }
+
+    // 한 문단이 청크보다 길면 문장 단위로, 문장도 길면 글자 수 기준으로 자른다
+    private static void addBlock(List<Block> blocks, String text, boolean heading, int maxChunkLength) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (text.length() <= maxChunkLength) {
+            blocks.add(new Block(text, heading));
+            return;
+        }
+
+        StringBuilder piece = new StringBuilder();
+        boolean first = true;
+        for (String sentence : SENTENCE_BOUNDARY_PATTERN.split(text)) {
+            if (piece.length() > 0 && piece.length() + 1 + sentence.length() > maxChunkLength) {
+                blocks.add(new Block(piece.toString(), heading && first));
+                piece.setLength(0);
+                first = false;
+            }
+
+            for (int start = 0; start < sentence.length(); start += maxChunkLength) {
+                String part = sentence.substring(start, Math.min(sentence.length(), start + maxChunkLength));
+                if (piece.length() > 0 && piece.length() + 1 + part.length() > maxChunkLength) {
+                    blocks.add(new Block(piece.toString(), heading && first));
+                    piece.setLength(0);
+                    first = false;
+                }
+                if (piece.length() > 0) {
+                    piece.append(' ');
+                }
+                piece.append(part);
+            }
+        }
+
+        if (piece.length() > 0) {
+            blocks.add(new Block(piece.toString(), heading && first));
+        }
+    }
+
+    // 단어 중간에서 잘리지 않도록 겹침 시작 위치를 다음 공백 뒤로 맞춘다
+    private static String overlapTail(String chunk, int overlapLength) {
+        if (overlapLength <= 0 || chunk.length() <= overlapLength) {
+            return "";
+        }
+
+        int start = chunk.length() - overlapLength;
+        while (start < chunk.length() && !Character.isWhitespace(chunk.charAt(start - 1))) {
+            start++;
+        }
+        return chunk.substring(start).strip();
+    }
+
+    private record Block(String text, boolean heading) {
+    }
+}
@@ -8,7 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,7 +23,10 @@ public class AiGenerationLogCleanupScheduler {
             List.of(AiGenerationType.RECOMMENDATION, AiGenerationType.WEAKNESS_ANALYSIS);
     private static final long MIN_RETENTION_DAYS = 1L;
 
+    private static final List<AiGenerationType> USER_CARD_LOG_TYPES = List.of(AiGenerationType.USER_CARD);
+
     private final AiGenerationLogDomainService aiGenerationLogDomainService;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${app.ai.log-retention.recommendation-days:90}")
     private long recommendationRetentionDays;
@@ -30,7 +34,15 @@ public class AiGenerationLogCleanupScheduler {
     @Value("${app.ai.log-retention.user-card-days:30}")
     private long userCardRetentionDays;
 
-    @Transactional
+    @Value("${app.ai.log-retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.ai.log-retention.chunk-pause-ms:100}")
+    private long chunkPauseMs;
+
+    @Value("${app.ai.log-retention.max-runtime-minutes:20}")
+    private long maxRuntimeMinutes;
+
     @Scheduled(cron = "${app.ai.log-retention.cleanup-cron:0 30 4 * * *}")
     @DistributedLock(key = "scheduler:ai-log-cleanup", ttlMinutes = 30)
     public void cleanupOldLogs() {
@@ -42,21 +54,73 @@ public class AiGenerationLogCleanupScheduler {
             LocalDateTime recommendationCutoff = now.minusDays(recommendationDays);
             LocalDateTime userCardCutoff = now.minusDays(userCardDays);
 
-            long recommendationDeleted = aiGenerationLogDomainService.deleteByTypeInAndCreatedAtBefore(
-                    RECOMMENDATION_LOG_TYPES,
-                    recommendationCutoff
-            );
-            long userCardDeleted = aiGenerationLogDomainService.deleteByTypeAndCreatedAtBefore(
-                    AiGenerationType.USER_CARD,
-                    userCardCutoff
-            );
+            long deadline = System.currentTimeMillis() + maxRuntimeMinutes * 60_000L;
 
-            log.info("AI 로그 정리 완료 - recommendationDeleted: {}, userCardDeleted: {}", recommendationDeleted, userCardDeleted);
+            long payloadsMigrated = migrateLegacyPayloads(deadline);
+            long recommendationDeleted = deleteInChunks(RECOMMENDATION_LOG_TYPES, recommendationCutoff, deadline);
+            long userCardDeleted = deleteInChunks(USER_CARD_LOG_TYPES, userCardCutoff, deadline);
+
+            log.info("AI 로그 정리 완료 - payloadsMigrated: {}, recommendationDeleted: {}, userCardDeleted: {}",
+                    payloadsMigrated, recommendationDeleted, userCardDeleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("AI 로그 정리 중단");
         } catch (Exception e) {
             log.error("AI 로그 정리 스케줄러 실패", e);
         }
     }
 
+    // 원문 분리 이전 컬럼에 남은 값을 원문 테이블로 옮긴다. 다 옮긴 뒤 db/ai_generation_log_payloads.sql 의 컬럼 삭제를 실행한다
+    private long migrateLegacyPayloads(long deadline) throws InterruptedException {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, chunkSize);
+        long totalMigrated = 0;
+
+        while (true) {
+            Integer migrated = template.execute(status -> aiGenerationLogDomainService.migrateLegacyPayloadChunk(size));
+            totalMigrated += migrated != null ? migrated : 0;
+
+            if (migrated == null || migrated < size) {
+                if (totalMigrated > 0) {
+                    log.info("AI 로그 원문 이관 완료 - migrated: {}", totalMigrated);
+                }
+                return totalMigrated;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("AI 로그 원문 이관 시간 초과, 남은 로그는 다음 실행에서 이관 - migrated: {}", totalMigrated);
+                return totalMigrated;
+            }
+            if (chunkPauseMs > 0) {
+                Thread.sleep(chunkPauseMs);
+            }
+        }
+    }
+
+    // 청크마다 커밋해 잠금과 WAL 을 짧게 유지하고, 남은 로그는 실행 시간을 넘기면 다음 실행에서 정리한다
+    private long deleteInChunks(List<AiGenerationType> types, LocalDateTime cutoff, long deadline)
+            throws InterruptedException {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, chunkSize);
+        long totalDeleted = 0;
+
+        while (true) {
+            Long deleted = template.execute(status ->
+                    aiGenerationLogDomainService.deleteChunkByTypeInAndCreatedAtBefore(types, cutoff, size));
+            totalDeleted += deleted != null ? deleted : 0;
+
+            if (deleted == null || deleted < size) {
+                return totalDeleted;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("AI 로그 정리 시간 초과, 남은 로그는 다음 실행에서 정리 - types: {}, deleted: {}", types, totalDeleted);
+                return totalDeleted;
+            }
+            if (chunkPauseMs > 0) {
+                Thread.sleep(chunkPauseMs);
+            }
+        }
+    }
+
     private long normalizeRetentionDays(String propertyName, long configuredDays) {
         if (configuredDays < MIN_RETENTION_DAYS) {
             log.warn("잘못된 AI 로그 보관 기간 설정({}={}), {}일로 보정합니다.",
@@ -0,0 +1,104 @@
+package com.example.study_cards.application.ai.service;
+
+import com.example.study_cards.application.ai.dto.request.GenerateUserCardRequest;
+import com.example.study_cards.application.ai.dto.response.AiGenerationJobResponse;
+import com.example.study_cards.application.ai.dto.response.UserAiGenerationResponse;
+import com.example.study_cards.common.exception.BaseException;
+import com.example.study_cards.domain.ai.exception.AiErrorCode;
+import com.example.study_cards.domain.ai.exception.AiException;
+import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.infra.redis.service.AiGenerationJobStateService;
+import com.example.study_cards.infra.redis.vo.AiGenerationJobVo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AI 카드 생성을 작업으로 등록하고 작업 풀에서 실행한다.
+ * 요청 스레드는 한도 확인과 슬롯 선점까지만 하고 작업 ID를 바로 반환하며,
+ * LLM 호출은 작업 풀에서 트랜잭션 없이 수행하고 결과만 짧은 트랜잭션으로 저장한다.
+ * 동시 생성 수는 작업 풀 크기로 제한되므로 생성 요청이 몰려도 DB 커넥션 풀을 다 차지하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiGenerationJobService {
+
+    private final UserAiCardService userAiCardService;
+    private final AiGenerationJobStateService aiGenerationJobStateService;
+    private final ObjectMapper objectMapper;
+    private final Executor aiJobExecutor;
+
+    public AiGenerationJobResponse submit(User user, GenerateUserCardRequest request) {
+        UserAiCardService.GenerationSession session = userAiCardService.prepareGeneration(user, request);
+        String jobId = UUID.randomUUID().toString();
+
+        try {
+            aiGenerationJobStateService.save(jobId, AiGenerationJobVo.pending(user.getId()));
+            aiJobExecutor.execute(() -> run(jobId, session));
+        } catch (RejectedExecutionException e) {
+            userAiCardService.abandonGeneration(session);
+            aiGenerationJobStateService.delete(jobId);
+            throw new AiException(AiErrorCode.AI_PROVIDER_BUSY);
+        } catch (RuntimeException e) {
+            userAiCardService.abandonGeneration(session);
+            throw e;
+        }
+        return AiGenerationJobResponse.pending(jobId);
+    }
+
+    // 다른 사용자의 작업은 존재 여부도 드러내지 않도록 없는 작업과 같게 응답한다
+    public AiGenerationJobResponse getJob(Long userId, String jobId) {
+        AiGenerationJobVo job = aiGenerationJobStateService.find(jobId)
+                .filter(found -> found.userId().equals(userId))
+                .orElseThrow(() -> new AiException(AiErrorCode.GENERATION_JOB_NOT_FOUND));
+        return new AiGenerationJobResponse(jobId, job.status(), readResult(job),
+                job.errorStatus(), job.errorMessage());
+    }
+
+    private void run(String jobId, UserAiCardService.GenerationSession session) {
+        Long userId = session.user().getId();
+        saveState(jobId, AiGenerationJobVo.running(userId));
+
+        AiGenerationJobVo finished;
+        try {
+            UserAiGenerationResponse result = userAiCardService.generateCards(session);
+            finished = AiGenerationJobVo.completed(userId, objectMapper.writeValueAsString(result));
+        } catch (BaseException e) {
+            finished = AiGenerationJobVo.failed(userId,
+                    e.getErrorCode().getStatus().value(), e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.error("[AI] 생성 작업 실패 - jobId: {}, error: {}", jobId, e.getMessage(), e);
+            finished = AiGenerationJobVo.failed(userId,
+                    AiErrorCode.AI_GENERATION_FAILED.getStatus().value(), AiErrorCode.AI_GENERATION_FAILED.getMessage());
+        }
+        saveState(jobId, finished);
+    }
+
+    // 상태 저장에 실패해도 카드 저장과 사용량 차감은 이미 끝났으므로 작업은 그대로 마치고 로그만 남긴다
+    private void saveState(String jobId, AiGenerationJobVo job) {
+        try {
+            aiGenerationJobStateService.save(jobId, job);
+        } catch (RuntimeException e) {
+            log.warn("[AI] 생성 작업 상태 저장 실패 - jobId: {}, status: {}, error: {}",
+                    jobId, job.status(), e.getMessage());
+        }
+    }
+
+    private UserAiGenerationResponse readResult(AiGenerationJobVo job) {
+        if (job.result() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(job.result(), UserAiGenerationResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 생성 작업 결과 변환 실패", e);
+        }
+    }
+}
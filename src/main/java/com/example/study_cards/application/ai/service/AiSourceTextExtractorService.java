@@ -3,13 +3,18 @@ package com.example.study_cards.application.ai.service;
 import com.example.study_cards.domain.ai.exception.AiErrorCode;
 import com.example.study_cards.domain.ai.exception.AiException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
@@ -19,11 +24,24 @@ public class AiSourceTextExtractorService {
 
     private static final long DEFAULT_MAX_UPLOAD_FILE_SIZE_BYTES = 5L * 1024L * 1024L;
     private static final int MAX_SOURCE_LENGTH = 5000;
+    private static final long PDF_MAIN_MEMORY_BYTES = 1024L * 1024L;
 
     @Value("${app.ai.upload.max-file-size-bytes:5242880}")
     private long maxUploadFileSizeBytes = DEFAULT_MAX_UPLOAD_FILE_SIZE_BYTES;
 
+    @Value("${app.ai.upload.max-document-length:40000}")
+    private int maxDocumentLength;
+
     public String extractText(MultipartFile file) {
+        return extract(file, MAX_SOURCE_LENGTH);
+    }
+
+    // 청크 단위 생성용으로 단건 프롬프트 한도보다 긴 문서 본문을 추출한다
+    public String extractDocumentText(MultipartFile file) {
+        return extract(file, Math.max(MAX_SOURCE_LENGTH, maxDocumentLength));
+    }
+
+    private String extract(MultipartFile file, int maxLength) {
         if (file == null || file.isEmpty()) {
             throw new AiException(AiErrorCode.EMPTY_EXTRACTED_TEXT);
         }
@@ -35,9 +53,9 @@ public class AiSourceTextExtractorService {
 
         String extracted;
         if (isPdf(file)) {
-            extracted = extractPdfText(file);
+            extracted = extractPdfText(file, maxLength);
         } else if (isPlainText(file)) {
-            extracted = extractPlainText(file);
+            extracted = extractPlainText(file, maxLength);
         } else {
             throw new AiException(AiErrorCode.UNSUPPORTED_FILE_TYPE);
         }
@@ -47,8 +65,8 @@ public class AiSourceTextExtractorService {
             throw new AiException(AiErrorCode.EMPTY_EXTRACTED_TEXT);
         }
 
-        if (normalized.length() > MAX_SOURCE_LENGTH) {
-            return normalized.substring(0, MAX_SOURCE_LENGTH);
+        if (normalized.length() > maxLength) {
+            return normalized.substring(0, maxLength);
         }
         return normalized;
     }
@@ -94,21 +112,52 @@ public class AiSourceTextExtractorService {
                 || lower.endsWith(".markdown");
     }
 
-    private String extractPlainText(MultipartFile file) {
-        try {
-            return new String(file.getBytes(), StandardCharsets.UTF_8);
+    // 파일 전체를 byte[]로 올리지 않고 필요한 글자 수만큼만 디코딩
+    private String extractPlainText(MultipartFile file, int maxLength) {
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[4096];
+            int read;
+            while (lengthWithoutLeadingWhitespace(text) < maxLength && (read = reader.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
         } catch (IOException e) {
             log.warn("[AI] 텍스트 파일 파싱 실패: {}", e.getMessage());
             throw new AiException(AiErrorCode.FILE_TEXT_EXTRACTION_FAILED);
         }
     }
 
-    private String extractPdfText(MultipartFile file) {
-        try (PDDocument document = PDDocument.load(file.getInputStream())) {
-            return new PDFTextStripper().getText(document);
+    // 페이지 단위로 추출하다가 글자 수 예산을 채우면 나머지 페이지는 파싱하지 않는다
+    private String extractPdfText(MultipartFile file, int maxLength) {
+        MemoryUsageSetting memoryUsageSetting = file.getSize() > PDF_MAIN_MEMORY_BYTES
+                ? MemoryUsageSetting.setupTempFileOnly()
+                : MemoryUsageSetting.setupMainMemoryOnly();
+
+        try (InputStream inputStream = file.getInputStream();
+             PDDocument document = PDDocument.load(inputStream, memoryUsageSetting)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            StringBuilder text = new StringBuilder();
+            int pageCount = document.getNumberOfPages();
+
+            for (int page = 1; page <= pageCount && lengthWithoutLeadingWhitespace(text) < maxLength; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                text.append(stripper.getText(document));
+            }
+            return text.toString();
         } catch (IOException e) {
             log.warn("[AI] PDF 텍스트 추출 실패: {}", e.getMessage());
             throw new AiException(AiErrorCode.FILE_TEXT_EXTRACTION_FAILED);
         }
     }
+
+    private int lengthWithoutLeadingWhitespace(StringBuilder text) {
+        int start = 0;
+        while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return text.length() - start;
+    }
 }
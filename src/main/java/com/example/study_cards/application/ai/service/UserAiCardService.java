@@ -2,11 +2,16 @@ package com.example.study_cards.application.ai.service;
 
 import com.example.study_cards.application.ai.prompt.AiInputCategoryMatcher;
 import com.example.study_cards.application.ai.prompt.AiPromptTemplateFactory;
+import com.example.study_cards.application.ai.prompt.AiSourceTextChunker;
 import com.example.study_cards.application.ai.dto.request.GenerateUserCardRequest;
+import com.example.study_cards.application.ai.dto.response.AiCardResponse;
 import com.example.study_cards.application.ai.dto.response.AiLimitResponse;
 import com.example.study_cards.application.ai.dto.response.UserAiGenerationResponse;
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
 import com.example.study_cards.common.util.AiCategoryType;
-import com.example.study_cards.common.util.AiResponseUtils;
+import com.example.study_cards.common.util.AiJsonSalvager;
+import com.example.study_cards.common.util.JsonArrayStreamParser;
+import com.example.study_cards.common.util.MinHashLshIndex;
 import com.example.study_cards.domain.ai.entity.AiGenerationLog;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.ai.exception.AiErrorCode;
@@ -16,25 +21,42 @@ import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.exception.CategoryErrorCode;
 import com.example.study_cards.domain.category.exception.CategoryException;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
+import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import com.example.study_cards.domain.subscription.service.SubscriptionDomainService;
 import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.usercard.entity.UserCard;
 import com.example.study_cards.domain.usercard.service.UserCardDomainService;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
 import com.example.study_cards.infra.redis.service.AiLimitService;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -55,72 +77,364 @@ public class UserAiCardService {
     private final UserCardDomainService userCardDomainService;
     private final AiGenerationLogDomainService aiGenerationLogDomainService;
     private final CategoryDomainService categoryDomainService;
+    private final CardDuplicateDetector cardDuplicateDetector;
     private final ObjectMapper objectMapper;
+    private final Executor generationExecutor;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional
+    @Value("${app.ai.response-cache.free-hit-plans:PRO}")
+    private Set<SubscriptionPlan> cacheHitFreePlans;
+
+    @Value("${app.ai.document.chunk-size:5000}")
+    private int documentChunkSize;
+
+    @Value("${app.ai.document.chunk-overlap:300}")
+    private int documentChunkOverlap;
+
+    @Value("${app.ai.document.max-chunks:8}")
+    private int documentMaxChunks;
+
+    @Value("${app.card.duplicate.threshold:0.8}")
+    private double duplicateThreshold;
+
+    /**
+     * 플랜 조회, 슬롯 선점, 카테고리 조회, 저장을 각각 짧은 트랜잭션으로 수행하고 LLM 호출 동안에는 트랜잭션을 열지 않는다.
+     * 슬롯 트랜잭션을 요청 트랜잭션 안에 중첩하지 않으므로 요청당 DB 커넥션을 하나만 쓴다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserAiGenerationResponse generateCards(User user, GenerateUserCardRequest request) {
-        boolean isAdmin = isAdmin(user);
-        SubscriptionPlan plan = subscriptionDomainService.getEffectivePlan(user);
-        boolean slotAcquired = tryAcquireSlotIfNeeded(user, plan, isAdmin);
+        return generateCards(prepareGeneration(user, request));
+    }
 
-        Category requestedCategory = categoryDomainService.findByCode(request.categoryCode());
-        Category category = resolveEffectiveCategory(requestedCategory, request.sourceText());
-        String prompt = AiPromptTemplateFactory.buildPrompt(request, category);
+    // 준비된 세션으로 생성한다. 비동기 생성 작업은 요청 스레드에서 세션을 준비하고 작업 풀에서 이 메서드를 호출한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAiGenerationResponse generateCards(GenerationSession session) {
+        User user = session.user();
+        GenerateUserCardRequest request = session.request();
+        SubscriptionPlan plan = session.plan();
+        boolean slotAcquired = session.slotAcquired();
 
-        String aiResponse;
+        MinHashLshIndex userQuestions;
         try {
-            aiResponse = aiGenerationService.generateContent(prompt);
+            userQuestions = readUserQuestions(user);
+        } catch (RuntimeException e) {
+            releaseSlotIfAcquired(user, plan, slotAcquired);
+            throw e;
+        }
+
+        AiCompletion completion;
+        try {
+            completion = aiGenerationService.generate(session.prompt(), resolveContext(plan, session.isAdmin()));
         } catch (Exception e) {
             handleFailure(user, request, plan, slotAcquired, e.getMessage());
-            throw new AiException(AiErrorCode.AI_GENERATION_FAILED);
+            throw toGenerationFailure(e);
         }
 
         List<UserCard> cards;
         try {
-            cards = parseAndCreateUserCards(user, aiResponse, category);
-            userCardDomainService.saveAll(cards);
+            cards = parseAndCreateUserCards(user, completion.content(), session.category(), userQuestions);
         } catch (AiException e) {
+            aiGenerationService.evictCachedContent(session.prompt());
             handleFailure(user, request, plan, slotAcquired, "응답 파싱 실패: " + e.getMessage());
             throw e;
+        }
+
+        return saveGeneration(user, request, plan, slotAcquired, session.isAdmin(), completion, cards);
+    }
+
+    /**
+     * 긴 문서를 청크로 나눠 병렬로 생성한 뒤 중복 카드를 걸러 한 번에 저장한다.
+     * 사용량은 문서 단위로 1회 차감하고, 일부 청크가 실패해도 나머지 결과는 저장한다.
+     * 청크 LLM 호출 동안 DB 커넥션을 잡지 않도록 플랜/카테고리 조회와 저장만 짧은 트랜잭션으로 수행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAiGenerationResponse generateCardsFromDocument(User user, GenerateUserCardRequest request) {
+        boolean isAdmin = isAdmin(user);
+        SubscriptionPlan plan = readPlan(user);
+        boolean slotAcquired = tryAcquireSlotIfNeeded(user, plan, isAdmin);
+
+        Category category;
+        MinHashLshIndex userQuestions;
+        List<String> chunks;
+        try {
+            category = readCategory(request);
+            userQuestions = readUserQuestions(user);
+            chunks = splitDocument(request.sourceText());
+        } catch (RuntimeException e) {
+            releaseSlotIfAcquired(user, plan, slotAcquired);
+            throw e;
+        }
+
+        AiRequestContext context = resolveContext(plan, isAdmin);
+        int countPerChunk = Math.max(1, (request.count() + chunks.size() - 1) / chunks.size());
+        List<CompletableFuture<ChunkOutcome>> futures = chunks.stream()
+                .map(chunk -> new GenerateUserCardRequest(chunk, request.categoryCode(), countPerChunk, request.difficulty()))
+                .map(chunkRequest -> CompletableFuture.supplyAsync(
+                        () -> generateChunk(user, chunkRequest, category, userQuestions, context), generationExecutor))
+                .toList();
+        List<ChunkOutcome> outcomes = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        List<ChunkOutcome> succeeded = outcomes.stream()
+                .filter(outcome -> outcome.completion() != null)
+                .toList();
+        if (succeeded.isEmpty()) {
+            handleFailure(user, request, plan, slotAcquired, outcomes.get(0).failure());
+            throw new AiException(AiErrorCode.AI_GENERATION_FAILED);
+        }
+        log.info("[AI] 문서 청크 생성 완료 - chunks: {}, succeeded: {}", chunks.size(), succeeded.size());
+
+        List<UserCard> cards = selectDistinctCards(succeeded, request.count());
+        String combinedResponse = String.join("\n\n", succeeded.stream()
+                .map(outcome -> outcome.completion().content())
+                .toList());
+        boolean allCached = succeeded.size() == chunks.size()
+                && succeeded.stream().allMatch(outcome -> outcome.completion().cached());
+        String models = succeeded.stream()
+                .map(outcome -> outcome.completion().model())
+                .distinct()
+                .collect(Collectors.joining(","));
+        AiCompletion completion = new AiCompletion(combinedResponse, allCached, models);
+
+        return saveGeneration(user, request, plan, slotAcquired, isAdmin, completion, cards);
+    }
+
+    /**
+     * 생성 전 한도 확인, 슬롯 선점, 카테고리 결정을 먼저 수행한다.
+     * 여기서 발생한 예외는 SSE 연결이나 생성 작업 등록 전에 일반 에러 응답으로 반환된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GenerationSession prepareGeneration(User user, GenerateUserCardRequest request) {
+        boolean isAdmin = isAdmin(user);
+        SubscriptionPlan plan = readPlan(user);
+        boolean slotAcquired = tryAcquireSlotIfNeeded(user, plan, isAdmin);
+
+        try {
+            Category category = readCategory(request);
+            String prompt = AiPromptTemplateFactory.buildPrompt(request, category);
+            return new GenerationSession(user, request, plan, isAdmin, slotAcquired, category, prompt);
+        } catch (RuntimeException e) {
+            releaseSlotIfAcquired(user, plan, slotAcquired);
+            throw e;
+        }
+    }
+
+    // 스트리밍 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 열지 않고, 저장만 짧은 트랜잭션으로 수행한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAiGenerationResponse streamCards(GenerationSession session, Consumer<AiCardResponse> onCard) {
+        User user = session.user();
+        List<UserCard> cards = new ArrayList<>();
+        MinHashLshIndex userQuestions = readUserQuestions(user);
+        MinHashLshIndex streamedIndex = new MinHashLshIndex();
+        AtomicInteger knownCount = new AtomicInteger();
+        JsonArrayStreamParser parser = new JsonArrayStreamParser(json -> {
+            UserCard card = createUserCard(user, parseJsonObject(json), session.category());
+            if (card == null) {
+                return;
+            }
+            if (isKnownQuestion(card.getQuestion(), userQuestions)) {
+                knownCount.incrementAndGet();
+                return;
+            }
+            if (streamedIndex.addIfAbsent(cards.size(), card.getQuestion(), duplicateThreshold)) {
+                cards.add(card);
+                onCard.accept(AiCardResponse.from(card));
+            }
+        });
+
+        AiCompletion completion;
+        try {
+            completion = aiGenerationService.streamContent(session.prompt(),
+                    resolveContext(session.plan(), session.isAdmin()), parser::feed);
+        } catch (Exception e) {
+            handleFailure(user, session.request(), session.plan(), session.slotAcquired(), e.getMessage());
+            throw toGenerationFailure(e);
+        }
+
+        if (cards.isEmpty()) {
+            aiGenerationService.evictCachedContent(session.prompt());
+            AiErrorCode errorCode = knownCount.get() > 0 ? AiErrorCode.DUPLICATE_CARDS : AiErrorCode.INVALID_AI_RESPONSE;
+            handleFailure(user, session.request(), session.plan(), session.slotAcquired(),
+                    "응답 파싱 실패: " + errorCode.getMessage());
+            throw new AiException(errorCode);
+        }
+
+        return saveGeneration(user, session.request(), session.plan(), session.slotAcquired(),
+                session.isAdmin(), completion, cards);
+    }
+
+    // 스트리밍이나 생성 작업을 시작하지 못한 세션의 슬롯을 돌려준다. 읽기 전용 트랜잭션에 합류하면 사용량을 줄이지 못한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void abandonGeneration(GenerationSession session) {
+        releaseSlotIfAcquired(session.user(), session.plan(), session.slotAcquired());
+    }
+
+    public AiLimitResponse getGenerationLimit(UserVo user) {
+        if (user.hasRole(Role.ROLE_ADMIN)) {
+            return new AiLimitResponse(UNLIMITED_COUNT, 0, UNLIMITED_COUNT, false);
+        }
+
+        SubscriptionPlan plan = subscriptionDomainService.getSubscribedPlan(user.id());
+        int limit = plan.getAiGenerationDailyLimit();
+        int used = aiLimitService.getUsedCount(user.id(), plan);
+        int remaining = Math.max(0, limit - used);
+        boolean isLifetime = (plan == SubscriptionPlan.FREE);
+
+        return new AiLimitResponse(limit, used, remaining, isLifetime);
+    }
+
+    // 트랜잭션 밖에서 조회하면 EntityManager 가 요청 끝까지 묶여 LLM 호출 동안 커넥션을 잡으므로 짧은 읽기 트랜잭션에서 조회한다
+    private SubscriptionPlan readPlan(User user) {
+        return readOnlyTemplate().execute(status -> subscriptionDomainService.getEffectivePlan(user));
+    }
+
+    private Category readCategory(GenerateUserCardRequest request) {
+        return readOnlyTemplate().execute(status -> resolveEffectiveCategory(
+                categoryDomainService.findByCode(request.categoryCode()), request.sourceText()));
+    }
+
+    private MinHashLshIndex readUserQuestions(User user) {
+        return readOnlyTemplate().execute(status -> {
+            MinHashLshIndex index = new MinHashLshIndex();
+            List<String> questions = userCardDomainService.findQuestionsByUser(user);
+            for (int i = 0; i < questions.size(); i++) {
+                index.add(i, questions.get(i));
+            }
+            return index;
+        });
+    }
+
+    private TransactionTemplate readOnlyTemplate() {
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        return readTemplate;
+    }
+
+    // 저장이 실패하면 트랜잭션이 롤백된 뒤 트랜잭션 밖에서 슬롯을 돌려주고 실패 로그를 남긴다
+    private UserAiGenerationResponse saveGeneration(
+            User user,
+            GenerateUserCardRequest request,
+            SubscriptionPlan plan,
+            boolean slotAcquired,
+            boolean isAdmin,
+            AiCompletion completion,
+            List<UserCard> cards
+    ) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                userCardDomainService.saveAll(cards);
+                return completeGeneration(user, request, plan, slotAcquired, isAdmin, completion, cards);
+            });
         } catch (Exception e) {
             handleFailure(user, request, plan, slotAcquired, "카드 저장 실패: " + e.getMessage());
             throw new AiException(AiErrorCode.AI_GENERATION_FAILED);
         }
+    }
 
+    private UserAiGenerationResponse completeGeneration(
+            User user,
+            GenerateUserCardRequest request,
+            SubscriptionPlan plan,
+            boolean slotAcquired,
+            boolean isAdmin,
+            AiCompletion completion,
+            List<UserCard> cards
+    ) {
         AiGenerationLog aiLog = AiGenerationLog.builder()
                 .user(user)
                 .type(AiGenerationType.USER_CARD)
                 .prompt(request.sourceText())
-                .response(aiResponse)
-                .model(aiGenerationService.getDefaultModel())
+                .response(completion.content())
+                .model(completion.model())
                 .cardsGenerated(cards.size())
                 .success(true)
                 .build();
         aiGenerationLogDomainService.save(aiLog);
 
+        // 캐시 적중은 플랜 정책에 따라 사용량에서 제외
+        if (completion.cached() && cacheHitFreePlans.contains(plan)) {
+            releaseSlotIfAcquired(user, plan, slotAcquired);
+        }
+
         int remaining = isAdmin ? UNLIMITED_COUNT : aiLimitService.getRemainingCount(user.getId(), plan);
 
         return UserAiGenerationResponse.from(cards, remaining);
     }
 
-    public AiLimitResponse getGenerationLimit(User user) {
-        if (isAdmin(user)) {
-            return new AiLimitResponse(UNLIMITED_COUNT, 0, UNLIMITED_COUNT, false);
+    private List<String> splitDocument(String sourceText) {
+        List<String> chunks = AiSourceTextChunker.split(sourceText, documentChunkSize, documentChunkOverlap);
+        if (chunks.isEmpty()) {
+            throw new AiException(AiErrorCode.EMPTY_EXTRACTED_TEXT);
+        }
+        if (chunks.size() > documentMaxChunks) {
+            log.warn("[AI] 문서 청크 수 상한 초과 - chunks: {}, max: {}", chunks.size(), documentMaxChunks);
+            return chunks.subList(0, documentMaxChunks);
         }
+        return chunks;
+    }
 
-        SubscriptionPlan plan = subscriptionDomainService.getEffectivePlan(user);
-        int limit = plan.getAiGenerationDailyLimit();
-        int used = aiLimitService.getUsedCount(user.getId(), plan);
-        int remaining = Math.max(0, limit - used);
-        boolean isLifetime = (plan == SubscriptionPlan.FREE);
+    // 청크 실패는 예외 대신 결과로 모아 다른 청크 생성을 계속한다
+    private ChunkOutcome generateChunk(User user, GenerateUserCardRequest chunkRequest, Category category,
+                                       MinHashLshIndex userQuestions, AiRequestContext context) {
+        String prompt = AiPromptTemplateFactory.buildPrompt(chunkRequest, category);
 
-        return new AiLimitResponse(limit, used, remaining, isLifetime);
+        AiCompletion completion;
+        try {
+            completion = aiGenerationService.generate(prompt, context);
+        } catch (Exception e) {
+            log.warn("[AI] 문서 청크 생성 실패: {}", e.getMessage());
+            return ChunkOutcome.failed(e.getMessage());
+        }
+
+        try {
+            return new ChunkOutcome(completion,
+                    parseAndCreateUserCards(user, completion.content(), category, userQuestions), null);
+        } catch (AiException e) {
+            aiGenerationService.evictCachedContent(prompt);
+            log.warn("[AI] 문서 청크 응답 파싱 실패: {}", e.getMessage());
+            return ChunkOutcome.failed("응답 파싱 실패: " + e.getMessage());
+        }
+    }
+
+    // 청크를 번갈아 가며 골라 문서 전체가 고르게 반영되도록 하고, 겹침 구간에서 생긴 유사 카드는 제외한다
+    private List<UserCard> selectDistinctCards(List<ChunkOutcome> outcomes, int count) {
+        List<UserCard> selected = new ArrayList<>();
+        MinHashLshIndex selectedIndex = new MinHashLshIndex();
+        int maxSize = outcomes.stream().mapToInt(outcome -> outcome.cards().size()).max().orElse(0);
+
+        for (int index = 0; index < maxSize && selected.size() < count; index++) {
+            for (ChunkOutcome outcome : outcomes) {
+                if (index >= outcome.cards().size() || selected.size() >= count) {
+                    continue;
+                }
+                UserCard candidate = outcome.cards().get(index);
+                if (selectedIndex.addIfAbsent(selected.size(), candidate.getQuestion(), duplicateThreshold)) {
+                    selected.add(candidate);
+                }
+            }
+        }
+        return selected;
     }
 
     private boolean isAdmin(User user) {
         return user.hasRole(Role.ROLE_ADMIN);
     }
 
+    // 관리자 요청은 플랜과 관계없이 대기열에서 우선 처리한다
+    private AiRequestContext resolveContext(SubscriptionPlan plan, boolean isAdmin) {
+        return AiRequestContext.of(AiGenerationType.USER_CARD, plan,
+                isAdmin ? AiRequestPriority.HIGH : AiRequestPriority.from(plan));
+    }
+
+    private AiException toGenerationFailure(Exception e) {
+        if (e instanceof GenerationException generationException
+                && generationException.getErrorCode() == GenerationErrorCode.AI_RATE_LIMITED) {
+            return new AiException(AiErrorCode.AI_PROVIDER_BUSY);
+        }
+        return new AiException(AiErrorCode.AI_GENERATION_FAILED);
+    }
+
     private boolean tryAcquireSlotIfNeeded(User user, SubscriptionPlan plan, boolean isAdmin) {
         if (isAdmin) {
             return false;
@@ -154,54 +468,96 @@ public class UserAiCardService {
         saveFailureLog(user, request, errorMessage);
     }
 
-    private List<UserCard> parseAndCreateUserCards(User user, String aiResponse, Category category) {
-        String json = extractJson(aiResponse);
-        List<Map<String, String>> parsed = parseJsonArray(json);
+    private List<UserCard> parseAndCreateUserCards(User user, String aiResponse, Category category,
+                                                   MinHashLshIndex userQuestions) {
+        AiJsonSalvager.Result salvaged = salvageCards(aiResponse);
 
         List<UserCard> cards = new ArrayList<>();
-        for (Map<String, String> data : parsed) {
-            String question = data.get("question");
-            String answer = data.get("answer");
-            if (question == null || answer == null || question.isBlank() || answer.isBlank()) {
+        MinHashLshIndex createdIndex = new MinHashLshIndex();
+        int knownCount = 0;
+        for (JsonNode node : salvaged.nodes()) {
+            UserCard card = createUserCard(user, toFieldMap(node), category);
+            if (card == null) {
                 continue;
             }
-
-            UserCard card = UserCard.builder()
-                    .user(user)
-                    .question(question)
-                    .questionSub(data.get("questionSub"))
-                    .answer(answer)
-                    .answerSub(data.get("answerSub"))
-                    .category(category)
-                    .aiGenerated(true)
-                    .build();
-            cards.add(card);
+            if (isKnownQuestion(card.getQuestion(), userQuestions)) {
+                knownCount++;
+                continue;
+            }
+            // 한 응답 안에서 같은 질문을 반복한 카드는 한 번만 저장
+            if (createdIndex.addIfAbsent(cards.size(), card.getQuestion(), duplicateThreshold)) {
+                cards.add(card);
+            }
         }
 
         if (cards.isEmpty()) {
-            throw new AiException(AiErrorCode.INVALID_AI_RESPONSE);
+            throw new AiException(knownCount > 0 ? AiErrorCode.DUPLICATE_CARDS : AiErrorCode.INVALID_AI_RESPONSE);
         }
 
         return cards;
     }
 
-    private String extractJson(String response) {
-        try {
-            return AiResponseUtils.extractJsonPayload(response);
-        } catch (IllegalArgumentException e) {
-            throw new AiException(AiErrorCode.INVALID_AI_RESPONSE);
+    // 사용자가 이미 가진 카드나 공용 카드와 질문이 거의 같은 카드는 저장하지 않는다
+    private boolean isKnownQuestion(String question, MinHashLshIndex userQuestions) {
+        return userQuestions.findNearDuplicate(question, duplicateThreshold).isPresent()
+                || cardDuplicateDetector.isCatalogDuplicate(question);
+    }
+
+    private UserCard createUserCard(User user, Map<String, String> data, Category category) {
+        if (data == null) {
+            return null;
+        }
+
+        String question = data.get("question");
+        String answer = data.get("answer");
+        if (question == null || answer == null || question.isBlank() || answer.isBlank()) {
+            return null;
+        }
+
+        return UserCard.builder()
+                .user(user)
+                .question(question)
+                .questionSub(data.get("questionSub"))
+                .answer(answer)
+                .answerSub(data.get("answerSub"))
+                .category(category)
+                .aiGenerated(true)
+                .build();
+    }
+
+    // 스트리밍 중 깨진 원소는 건너뛰고 나머지 카드를 계속 생성
+    private Map<String, String> parseJsonObject(String json) {
+        JsonNode node = AiJsonSalvager.readObject(objectMapper, json);
+        if (node == null) {
+            log.warn("AI 스트리밍 응답 원소 파싱 실패 - length: {}", json.length());
+            return null;
         }
+        return toFieldMap(node);
     }
 
-    private List<Map<String, String>> parseJsonArray(String json) {
+    // 형식이 일부 깨진 응답도 완성된 카드만 골라 사용해 재시도로 인한 중복 호출을 줄인다
+    private AiJsonSalvager.Result salvageCards(String response) {
         try {
-            return objectMapper.readValue(json, new TypeReference<>() {});
-        } catch (Exception e) {
-            log.error("AI 응답 JSON 파싱 실패: {}", e.getMessage());
+            AiJsonSalvager.Result salvaged = AiJsonSalvager.salvageArray(objectMapper, response);
+            if (salvaged.dropped() > 0) {
+                log.warn("AI 응답 일부 복구 - recovered: {}, dropped: {}", salvaged.nodes().size(), salvaged.dropped());
+            }
+            return salvaged;
+        } catch (IllegalArgumentException e) {
             throw new AiException(AiErrorCode.INVALID_AI_RESPONSE);
         }
     }
 
+    private Map<String, String> toFieldMap(JsonNode node) {
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(entry -> {
+            if (entry.getValue().isValueNode() && !entry.getValue().isNull()) {
+                fields.put(entry.getKey(), entry.getValue().asText());
+            }
+        });
+        return fields;
+    }
+
     private Category resolveEffectiveCategory(Category requestedCategory, String sourceText) {
         if (!categoryDomainService.isLeafCategory(requestedCategory)) {
             Category mappedLeafCategory = resolveMappedFallbackCategory(requestedCategory);
@@ -294,4 +650,22 @@ public class UserAiCardService {
             log.error("AI 실패 로그 저장 실패: {}", e.getMessage());
         }
     }
+
+    public record GenerationSession(
+            User user,
+            GenerateUserCardRequest request,
+            SubscriptionPlan plan,
+            boolean isAdmin,
+            boolean slotAcquired,
+            Category category,
+            String prompt
+    ) {
+    }
+
+    private record ChunkOutcome(AiCompletion completion, List<UserCard> cards, String failure) {
+
+        private static ChunkOutcome failed(String failure) {
+            return new ChunkOutcome(null, List.of(), failure);
+        }
+    }
 }
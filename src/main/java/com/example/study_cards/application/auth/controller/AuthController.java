@@ -12,6 +12,7 @@ import com.example.study_cards.application.auth.dto.response.UserResponse;
 import com.example.study_cards.application.auth.exception.AuthErrorCode;
 import com.example.study_cards.application.auth.exception.AuthException;
 import com.example.study_cards.application.auth.service.AuthService;
+import com.example.study_cards.common.aop.RateLimited;
 import com.example.study_cards.infra.redis.service.RateLimitService;
 import com.example.study_cards.infra.security.jwt.CookieProvider;
 import com.example.study_cards.infra.security.user.CustomUserDetails;
@@ -32,7 +33,9 @@ import java.time.Duration;
 public class AuthController {
 
     private static final int MAX_AUTH_ATTEMPTS = 5;
-    private static final Duration AUTH_RATE_LIMIT_WINDOW = Duration.ofMinutes(5);
+    // 애너테이션 속성은 컴파일 타임 상수여야 하므로 초 단위 값에서 Duration 을 만든다
+    private static final long AUTH_RATE_LIMIT_WINDOW_SECONDS = 5 * 60;
+    private static final Duration AUTH_RATE_LIMIT_WINDOW = Duration.ofSeconds(AUTH_RATE_LIMIT_WINDOW_SECONDS);
 
     private final AuthService authService;
     private final CookieProvider cookieProvider;
@@ -43,7 +46,9 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(authService.signUp(request));
     }
 
+    // 계정별 실패 횟수 차단과 별개로, 한 IP 에서 여러 계정을 대입하는 요청을 막는다
     @PostMapping("/signin")
+    @RateLimited(key = "signin-ip", limit = 30, windowSeconds = 60)
     public ResponseEntity<SignInResponse> signIn(
             @Valid @RequestBody SignInRequest request,
             HttpServletResponse response) {
@@ -83,36 +88,34 @@ public class AuthController {
     }
 
     @PostMapping("/password-reset/request")
+    @RateLimited(key = "password-reset", identifier = "#request.email()",
+            limit = MAX_AUTH_ATTEMPTS, windowSeconds = AUTH_RATE_LIMIT_WINDOW_SECONDS)
     public ResponseEntity<Void> requestPasswordReset(@Valid @RequestBody PasswordResetRequest request) {
-        checkRateLimit("password-reset", request.email());
         authService.requestPasswordReset(request);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/password-reset/verify")
+    @RateLimited(key = "password-reset-verify", identifier = "#request.email()",
+            limit = MAX_AUTH_ATTEMPTS, windowSeconds = AUTH_RATE_LIMIT_WINDOW_SECONDS)
     public ResponseEntity<Void> verifyPasswordReset(@Valid @RequestBody PasswordResetVerifyRequest request) {
-        checkRateLimit("password-reset-verify", request.email());
         authService.verifyAndResetPassword(request);
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/email-verification/request")
+    @RateLimited(key = "email-verification", identifier = "#request.email()",
+            limit = MAX_AUTH_ATTEMPTS, windowSeconds = AUTH_RATE_LIMIT_WINDOW_SECONDS)
     public ResponseEntity<Void> requestEmailVerification(@Valid @RequestBody EmailVerificationRequest request) {
-        checkRateLimit("email-verification", request.email());
         authService.requestEmailVerification(request);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/email-verification/verify")
+    @RateLimited(key = "email-verification-verify", identifier = "#request.email()",
+            limit = MAX_AUTH_ATTEMPTS, windowSeconds = AUTH_RATE_LIMIT_WINDOW_SECONDS)
     public ResponseEntity<Void> verifyEmail(@Valid @RequestBody EmailVerificationVerifyRequest request) {
-        checkRateLimit("email-verification-verify", request.email());
         authService.verifyEmail(request);
         return ResponseEntity.noContent().build();
     }
-
-    private void checkRateLimit(String action, String identifier) {
-        if (rateLimitService.isRateLimited(action, identifier, MAX_AUTH_ATTEMPTS, AUTH_RATE_LIMIT_WINDOW)) {
-            throw new AuthException(AuthErrorCode.TOO_MANY_ATTEMPTS);
-        }
-    }
 }
@@ -0,0 +1,29 @@
+package com.example.study_cards.application.auth.scheduler;
+
+import com.example.study_cards.infra.redis.service.TokenBlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistFilterScheduler {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    // filter 는 서버마다 따로 가지므로 분산 락 없이 모든 서버에서 실행한다
+    @Scheduled(
+            initialDelayString = "${app.security.blacklist.filter-initial-delay-ms:0}",
+            fixedDelayString = "${app.security.blacklist.filter-rebuild-ms:600000}"
+    )
+    public void rebuildFilter() {
+        try {
+            int count = tokenBlacklistService.rebuildFilter();
+            log.debug("토큰 블랙리스트 filter 재구성 완료 - count: {}", count);
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 filter 재구성 실패, 이전 filter 유지", e);
+        }
+    }
+}
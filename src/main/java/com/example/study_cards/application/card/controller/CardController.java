@@ -1,33 +1,58 @@
 package com.example.study_cards.application.card.controller;
 
+import com.example.study_cards.application.card.dto.response.CardChangesResponse;
 import com.example.study_cards.application.card.dto.response.CardResponse;
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
 import com.example.study_cards.application.card.service.CardService;
+import com.example.study_cards.application.card.service.RelatedCardService;
+import com.example.study_cards.common.aop.RateLimited;
+import com.example.study_cards.common.response.CatalogETagResponder;
+import com.example.study_cards.common.util.ClientIpUtils;
 import com.example.study_cards.infra.security.user.CustomUserDetails;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/cards")
+@Validated
 public class CardController {
 
     private final CardService cardService;
+    private final RelatedCardService relatedCardService;
+    private final CatalogETagResponder catalogETagResponder;
 
     @GetMapping("/{id}")
-    public ResponseEntity<CardResponse> getCard(@PathVariable Long id) {
-        return ResponseEntity.ok(cardService.getCard(id));
+    public ResponseEntity<CardResponse> getCard(@PathVariable Long id, WebRequest webRequest) {
+        return catalogETagResponder.catalog(webRequest, () -> cardService.getCard(id));
+    }
+
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedCardResponse>> getRelatedCards(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(20) int limit) {
+        return ResponseEntity.ok(relatedCardService.getRelatedCards(id, limit));
     }
 
     @GetMapping("/study")
+    @RateLimited(key = "study", limit = 60, windowSeconds = 60, anonymousOnly = true)
     public ResponseEntity<Page<CardResponse>> getCardsForStudy(
             @RequestParam(required = false) String category,
             Authentication authentication,
@@ -36,7 +61,7 @@ public class CardController {
         boolean isAuthenticated = authentication != null
                 && authentication.isAuthenticated()
                 && !(authentication instanceof AnonymousAuthenticationToken);
-        String ipAddress = getClientIpAddress(request);
+        String ipAddress = ClientIpUtils.resolve(request);
         return ResponseEntity.ok(cardService.getCardsForStudy(category, isAuthenticated, ipAddress, pageable));
     }
 
@@ -44,16 +69,20 @@ public class CardController {
     public ResponseEntity<Page<CardResponse>> getAllCardsWithUserCards(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String category,
+            WebRequest webRequest,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(cardService.getAllCardsWithUserCards(userDetails.userId(), category, pageable));
+        return catalogETagResponder.forUser(userDetails.userId(), webRequest,
+                () -> cardService.getAllCardsWithUserCards(userDetails.userId(), category, pageable));
     }
 
     @GetMapping("/study/all")
     public ResponseEntity<Page<CardResponse>> getCardsForStudyWithUserCards(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String category,
+            WebRequest webRequest,
             @PageableDefault(size = 20, sort = "efFactor", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ResponseEntity.ok(cardService.getCardsForStudyWithUserCards(userDetails.userId(), category, pageable));
+        return catalogETagResponder.forUser(userDetails.userId(), webRequest,
+                () -> cardService.getCardsForStudyWithUserCards(userDetails.userId(), category, pageable));
     }
 
     @GetMapping("/search")
@@ -62,45 +91,26 @@ public class CardController {
             @RequestParam(required = false) String category,
             Authentication authentication,
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         boolean isAuthenticated = authentication != null
                 && authentication.isAuthenticated()
                 && !(authentication instanceof AnonymousAuthenticationToken);
         Long userId = isAuthenticated ? userDetails.userId() : null;
-        return ResponseEntity.ok(cardService.searchCards(userId, keyword, category, pageable));
+        return catalogETagResponder.forUser(userId, webRequest,
+                () -> cardService.searchCards(userId, keyword, category, pageable));
     }
 
-    @GetMapping("/count")
-    public ResponseEntity<Long> getCardCount(@RequestParam(required = false) String category) {
-        return ResponseEntity.ok(cardService.getCardCount(category));
+    @GetMapping("/changes")
+    public ResponseEntity<CardChangesResponse> getCardChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "500") @Min(1) @Max(1000) int size) {
+        return ResponseEntity.ok(cardService.getCardChanges(since, cursor, size));
     }
 
-    private static final String[] IP_HEADER_CANDIDATES = {
-            "X-Forwarded-For",
-            "X-Real-IP",
-            "Proxy-Client-IP",
-            "WL-Proxy-Client-IP"
-    };
-
-    private static final String IP_PATTERN = "^([0-9]{1,3}\\.){3}[0-9]{1,3}$|^([0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$|^::1$|^::$";
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        for (String header : IP_HEADER_CANDIDATES) {
-            String ip = request.getHeader(header);
-            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-                String clientIp = ip.split(",")[0].trim();
-                if (isValidIpAddress(clientIp)) {
-                    return clientIp;
-                }
-            }
-        }
-        return request.getRemoteAddr();
-    }
-
-    private boolean isValidIpAddress(String ip) {
-        if (ip == null || ip.isEmpty()) {
-            return false;
-        }
-        return ip.matches(IP_PATTERN);
+    @GetMapping("/count")
+    public ResponseEntity<Long> getCardCount(@RequestParam(required = false) String category, WebRequest webRequest) {
+        return catalogETagResponder.catalog(webRequest, () -> cardService.getCardCount(category));
     }
 }
@@ -0,0 +1,23 @@
+package com.example.study_cards.application.card.dto.response;
+
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardStatus;
+
+import java.time.LocalDateTime;
+
+public record CardChangeResponse(
+        Long id,
+        CardStatus status,
+        CardResponse card,
+        LocalDateTime modifiedAt
+) {
+    public static CardChangeResponse from(Card card) {
+        boolean visible = card.isActive() && card.getCategory().isActive();
+        return new CardChangeResponse(
+                card.getId(),
+                visible ? CardStatus.ACTIVE : CardStatus.DELETED,
+                visible ? CardResponse.from(card) : null,
+                card.getModifiedAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.study_cards.application.card.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CardChangesResponse(
+        List<CardChangeResponse> changes,
+        String nextCursor,
+        boolean hasNext,
+        LocalDateTime nextSince
+) {
+}
@@ -2,6 +2,7 @@ package com.example.study_cards.application.card.dto.response;
 
 import com.example.study_cards.application.category.dto.response.CategoryResponse;
 import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.model.MergedCard;
 import com.example.study_cards.domain.usercard.entity.UserCard;
 
 import java.time.LocalDateTime;
@@ -44,4 +45,24 @@ public record CardResponse(
                 userCard.getCreatedAt()
         );
     }
+
+    public static CardResponse fromMerged(MergedCard mergedCard) {
+        return new CardResponse(
+                mergedCard.id(),
+                mergedCard.question(),
+                mergedCard.questionSub(),
+                mergedCard.answer(),
+                mergedCard.answerSub(),
+                mergedCard.efFactor(),
+                new CategoryResponse(
+                        mergedCard.categoryId(),
+                        mergedCard.categoryCode(),
+                        mergedCard.categoryName(),
+                        mergedCard.parentCategoryId(),
+                        mergedCard.parentCategoryCode()
+                ),
+                mergedCard.source() == MergedCard.Source.USER ? CardType.CUSTOM : CardType.PUBLIC,
+                mergedCard.createdAt()
+        );
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.study_cards.application.card.dto.response;
+
+public record RelatedCardResponse(
+        CardResponse card,
+        double similarity
+) {
+}
@@ -0,0 +1,28 @@
+package com.example.study_cards.application.card.scheduler;
+
+import com.example.study_cards.application.card.service.CardSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardSnapshotScheduler {
+
+    private final CardSnapshotService cardSnapshotService;
+
+    // 스냅샷은 노드 로컬 디스크에 저장되므로 분산 락 없이 노드마다 생성
+    @Scheduled(
+            initialDelayString = "${app.card.snapshot.initial-delay-ms:30000}",
+            fixedDelayString = "${app.card.snapshot.rebuild-delay-ms:60000}"
+    )
+    public void rebuildSnapshots() {
+        try {
+            cardSnapshotService.rebuildIfStale();
+        } catch (Exception e) {
+            log.error("카드 스냅샷 스케줄러 실패", e);
+        }
+    }
+}
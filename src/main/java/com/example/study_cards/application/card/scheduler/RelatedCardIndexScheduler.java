@@ -0,0 +1,29 @@
+package com.example.study_cards.application.card.scheduler;
+
+import com.example.study_cards.application.card.service.RelatedCardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedCardIndexScheduler {
+
+    private final RelatedCardService relatedCardService;
+
+    // 임베딩 계산은 락을 잡은 노드에서만, 색인은 노드 메모리에 있으므로 노드마다 생성
+    @Scheduled(
+            initialDelayString = "${app.card.related.initial-delay-ms:30000}",
+            fixedDelayString = "${app.card.related.rebuild-delay-ms:60000}"
+    )
+    public void refreshIndex() {
+        try {
+            relatedCardService.embedPendingCards();
+            relatedCardService.rebuildIfStale();
+        } catch (Exception e) {
+            log.error("연관 카드 색인 스케줄러 실패", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.common.util.MinHashLshIndex;
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공용 카드 질문의 MinHash 색인을 노드 메모리에 두고 새 카드가 기존 카드와 거의 같은지 확인한다.
+ * 카탈로그 버전이 바뀌면 마지막으로 반영한 위치 이후에 수정된 카드만 색인에 추가하거나 제거하고,
+ * 버전 키가 초기화됐거나 너무 많이 건너뛰어 변경분을 이어 받기 어려운 경우에만 전체를 다시 만든다.
+ * 버전 확인은 check-interval-ms 간격으로만 하고, 이 노드에서 카탈로그를 바꾸면 다음 확인을 앞당긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CardDuplicateDetector {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final CardDomainService cardDomainService;
+    private final CategoryDomainService categoryDomainService;
+    private final CatalogVersionService catalogVersionService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.card.duplicate.threshold:0.8}")
+    private double threshold;
+
+    @Value("${app.card.duplicate.check-interval-ms:5000}")
+    private long checkIntervalMs;
+
+    @Value("${app.card.duplicate.max-incremental-versions:1000}")
+    private long maxIncrementalVersions;
+
+    // 커밋이 늦게 끝난 변경을 놓치지 않도록 최근 구간은 다음 확인에서 읽는다
+    @Value("${app.card.changes.settle-seconds:10}")
+    private long settleSeconds;
+
+    private volatile MinHashLshIndex catalogIndex = new MinHashLshIndex();
+    private volatile boolean built;
+    private volatile long lastCheckedAt;
+
+    // 아래 상태는 refresh 의 잠금 안에서만 다룬다
+    private Long builtVersion;
+    private LocalDateTime syncedModifiedAt;
+    private long syncedId;
+    // 이 시각 이전에 커밋된 변경을 모두 읽을 때까지 변경분 조회를 계속한다
+    private LocalDateTime catchUpUntil;
+
+    public boolean isCatalogDuplicate(String question) {
+        refreshIfStale();
+        return catalogIndex.findNearDuplicate(question, threshold).isPresent();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        lastCheckedAt = 0;
+    }
+
+    private void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        if (built && now - lastCheckedAt < checkIntervalMs) {
+            return;
+        }
+        refresh();
+    }
+
+    synchronized void refresh() {
+        lastCheckedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Long catalogVersion = catalogVersionService.getCatalogVersion();
+        if (!built) {
+            rebuild(catalogVersion, now);
+            return;
+        }
+        // Redis 장애로 버전을 알 수 없으면 이미 만든 색인을 그대로 사용
+        if (catalogVersion == null) {
+            return;
+        }
+
+        if (!catalogVersion.equals(builtVersion)) {
+            if (isVersionGap(catalogVersion)) {
+                log.info("카탈로그 버전 차이가 커서 카드 중복 색인을 다시 생성 - built: {}, current: {}",
+                        builtVersion, catalogVersion);
+                rebuild(catalogVersion, now);
+                return;
+            }
+            builtVersion = catalogVersion;
+            catchUpUntil = now;
+        }
+        if (catchUpUntil != null) {
+            syncChanges(now);
+        }
+    }
+
+    private boolean isVersionGap(Long catalogVersion) {
+        return builtVersion == null
+                || catalogVersion < builtVersion
+                || catalogVersion - builtVersion > maxIncrementalVersions;
+    }
+
+    private void syncChanges(LocalDateTime now) {
+        LocalDateTime until = now.minusSeconds(settleSeconds);
+        int applied = readOnly(() -> {
+            int count = 0;
+            List<Card> cards;
+            do {
+                cards = cardDomainService.findChangedAfter(syncedModifiedAt, syncedId, until, FETCH_SIZE);
+                for (Card card : cards) {
+                    if (card.isActive()) {
+                        catalogIndex.add(card.getId(), card.getQuestion());
+                    } else {
+                        catalogIndex.remove(card.getId());
+                    }
+                }
+                if (!cards.isEmpty()) {
+                    Card last = cards.get(cards.size() - 1);
+                    syncedModifiedAt = last.getModifiedAt();
+                    syncedId = last.getId();
+                }
+                count += cards.size();
+            } while (cards.size() == FETCH_SIZE);
+            return count;
+        });
+
+        if (!until.isBefore(catchUpUntil)) {
+            catchUpUntil = null;
+        }
+        if (applied > 0) {
+            log.info("카드 중복 색인 변경분 반영 - version: {}, cards: {}, size: {}",
+                    builtVersion, applied, catalogIndex.size());
+        }
+    }
+
+    private void rebuild(Long catalogVersion, LocalDateTime now) {
+        MinHashLshIndex rebuilt = readOnly(() -> {
+            List<Category> categories = categoryDomainService.findAll();
+            MinHashLshIndex index = new MinHashLshIndex();
+            Long lastId = null;
+            List<Card> cards;
+            do {
+                cards = cardDomainService.findByCategoriesAfterId(categories, lastId, FETCH_SIZE);
+                for (Card card : cards) {
+                    index.add(card.getId(), card.getQuestion());
+                }
+                if (!cards.isEmpty()) {
+                    lastId = cards.get(cards.size() - 1).getId();
+                }
+            } while (cards.size() == FETCH_SIZE);
+            return index;
+        });
+
+        catalogIndex = rebuilt;
+        builtVersion = catalogVersion;
+        // 전체 조회와 겹치는 최근 구간은 변경분으로 한 번 더 반영해도 결과가 같다
+        syncedModifiedAt = now.minusSeconds(settleSeconds);
+        syncedId = 0L;
+        catchUpUntil = now;
+        built = true;
+        log.info("카드 중복 색인 생성 완료 - version: {}, cards: {}", catalogVersion, rebuilt.size());
+    }
+
+    // 호출자가 트랜잭션 없는 구간(LLM 호출 전후)에 있어도 조회 커넥션을 바로 돌려주도록 짧은 읽기 트랜잭션에서 조회한다
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> query.get());
+    }
+}
@@ -2,29 +2,31 @@ package com.example.study_cards.application.card.service;
 
 import com.example.study_cards.application.card.dto.request.CardCreateRequest;
 import com.example.study_cards.application.card.dto.request.CardUpdateRequest;
+import com.example.study_cards.application.card.dto.response.CardChangeResponse;
+import com.example.study_cards.application.card.dto.response.CardChangesResponse;
 import com.example.study_cards.application.card.dto.response.CardResponse;
 import com.example.study_cards.application.notification.service.NotificationService;
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.exception.CardErrorCode;
 import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.model.MergedCardOrder;
 import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
 import com.example.study_cards.domain.notification.entity.NotificationType;
-import com.example.study_cards.domain.user.entity.User;
-import com.example.study_cards.domain.user.service.UserDomainService;
-import com.example.study_cards.domain.usercard.entity.UserCard;
-import com.example.study_cards.domain.usercard.service.UserCardDomainService;
 import com.example.study_cards.infra.redis.service.RateLimitService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -33,12 +35,14 @@ import java.util.List;
 public class CardService {
 
     private final CardDomainService cardDomainService;
-    private final UserCardDomainService userCardDomainService;
-    private final UserDomainService userDomainService;
     private final CategoryDomainService categoryDomainService;
     private final RateLimitService rateLimitService;
     private final NotificationService notificationService;
 
+    // 커밋이 늦게 끝난 변경을 놓치지 않도록 최근 구간은 다음 동기화로 미룬다
+    @Value("${app.card.changes.settle-seconds:10}")
+    private long changesSettleSeconds;
+
     public Page<CardResponse> getCards(Pageable pageable) {
         Page<Card> cards = cardDomainService.findAll(pageable);
         return cards.map(CardResponse::from);
@@ -128,91 +132,15 @@ public class CardService {
     }
 
     public Page<CardResponse> getAllCardsWithUserCards(Long userId, String categoryCode, Pageable pageable) {
-        User user = userDomainService.findById(userId);
-        Category category = categoryCode != null ? categoryDomainService.findByCodeOrNull(categoryCode) : null;
-        List<Category> categoryScope = category != null ? categoryDomainService.findSelfAndDescendants(category) : null;
-
-        long publicCardCount = categoryScope != null
-                ? cardDomainService.countByCategories(categoryScope)
-                : cardDomainService.count();
-        long userCardCount = categoryScope != null
-                ? userCardDomainService.countByUserAndCategories(user, categoryScope)
-                : userCardDomainService.countByUser(user);
-        long totalCount = userCardCount + publicCardCount;
-
-        long offset = pageable.getOffset();
-        int size = pageable.getPageSize();
-        List<CardResponse> content = new ArrayList<>();
-
-        if (offset < userCardCount) {
-            int userCardSize = (int) Math.min(size, userCardCount - offset);
-            int userPageNum = (int) (offset / size);
-            Page<UserCard> userCards = categoryScope != null
-                    ? userCardDomainService.findByUserAndCategories(user, categoryScope, PageRequest.of(userPageNum, userCardSize).withSort(pageable.getSort()))
-                    : userCardDomainService.findByUser(user, PageRequest.of(userPageNum, userCardSize).withSort(pageable.getSort()));
-            content.addAll(userCards.getContent().stream().map(CardResponse::fromUserCard).toList());
-
-            int remaining = size - content.size();
-            if (remaining > 0) {
-                Page<Card> publicCards = categoryScope != null
-                        ? cardDomainService.findByCategories(categoryScope, PageRequest.of(0, remaining))
-                        : cardDomainService.findAll(PageRequest.of(0, remaining));
-                content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-            }
-        } else {
-            long publicCardOffset = offset - userCardCount;
-            int publicPageNum = (int) (publicCardOffset / size);
-            Page<Card> publicCards = categoryScope != null
-                    ? cardDomainService.findByCategories(categoryScope, PageRequest.of(publicPageNum, size))
-                    : cardDomainService.findAll(PageRequest.of(publicPageNum, size));
-            content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-        }
-
-        return new PageImpl<>(content, pageable, totalCount);
+        List<Category> categoryScope = resolveCategoryScope(categoryCode);
+        return cardDomainService.findMergedWithUserCards(userId, categoryScope, null, MergedCardOrder.LATEST, pageable)
+                .map(CardResponse::fromMerged);
     }
 
     public Page<CardResponse> getCardsForStudyWithUserCards(Long userId, String categoryCode, Pageable pageable) {
-        User user = userDomainService.findById(userId);
-        Category category = categoryCode != null ? categoryDomainService.findByCodeOrNull(categoryCode) : null;
-        List<Category> categoryScope = category != null ? categoryDomainService.findSelfAndDescendants(category) : null;
-
-        long publicCardCount = categoryScope != null
-                ? cardDomainService.countByCategories(categoryScope)
-                : cardDomainService.count();
-        long userCardCount = categoryScope != null
-                ? userCardDomainService.countByUserAndCategories(user, categoryScope)
-                : userCardDomainService.countByUser(user);
-        long totalCount = userCardCount + publicCardCount;
-
-        long offset = pageable.getOffset();
-        int size = pageable.getPageSize();
-        List<CardResponse> content = new ArrayList<>();
-
-        if (offset < userCardCount) {
-            int userCardSize = (int) Math.min(size, userCardCount - offset);
-            int userPageNum = (int) (offset / size);
-            Page<UserCard> userCards = categoryScope != null
-                    ? userCardDomainService.findUserCardsForStudyByCategories(user, categoryScope, PageRequest.of(userPageNum, userCardSize))
-                    : userCardDomainService.findUserCardsForStudy(user, PageRequest.of(userPageNum, userCardSize));
-            content.addAll(userCards.getContent().stream().map(CardResponse::fromUserCard).toList());
-
-            int remaining = size - content.size();
-            if (remaining > 0) {
-                Page<Card> publicCards = categoryScope != null
-                        ? cardDomainService.findCardsForStudyByCategories(categoryScope, PageRequest.of(0, remaining))
-                        : cardDomainService.findCardsForStudy(PageRequest.of(0, remaining));
-                content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-            }
-        } else {
-            long publicCardOffset = offset - userCardCount;
-            int publicPageNum = (int) (publicCardOffset / size);
-            Page<Card> publicCards = categoryScope != null
-                    ? cardDomainService.findCardsForStudyByCategories(categoryScope, PageRequest.of(publicPageNum, size))
-                    : cardDomainService.findCardsForStudy(PageRequest.of(publicPageNum, size));
-            content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-        }
-
-        return new PageImpl<>(content, pageable, totalCount);
+        List<Category> categoryScope = resolveCategoryScope(categoryCode);
+        return cardDomainService.findMergedWithUserCards(userId, categoryScope, null, MergedCardOrder.EF_FACTOR, pageable)
+                .map(CardResponse::fromMerged);
     }
 
     public Page<CardResponse> searchCards(Long userId, String keyword, String categoryCode, Pageable pageable) {
@@ -220,39 +148,11 @@ public class CardService {
             throw new CardException(CardErrorCode.INVALID_SEARCH_KEYWORD);
         }
         String trimmedKeyword = keyword.trim();
-        Category category = categoryCode != null ? categoryDomainService.findByCodeOrNull(categoryCode) : null;
-        List<Category> categoryScope = category != null ? categoryDomainService.findSelfAndDescendants(category) : null;
+        List<Category> categoryScope = resolveCategoryScope(categoryCode);
 
         if (userId != null) {
-            User user = userDomainService.findById(userId);
-
-            long userCardTotal = userCardDomainService.searchByKeyword(user, trimmedKeyword, categoryScope, PageRequest.of(0, 1)).getTotalElements();
-            long publicCardTotal = cardDomainService.searchByKeyword(trimmedKeyword, categoryScope, PageRequest.of(0, 1)).getTotalElements();
-            long totalCount = userCardTotal + publicCardTotal;
-
-            long offset = pageable.getOffset();
-            int size = pageable.getPageSize();
-            List<CardResponse> content = new ArrayList<>();
-
-            if (offset < userCardTotal) {
-                int userCardSize = (int) Math.min(size, userCardTotal - offset);
-                int userPageNum = (int) (offset / size);
-                Page<UserCard> userCards = userCardDomainService.searchByKeyword(user, trimmedKeyword, categoryScope, PageRequest.of(userPageNum, userCardSize));
-                content.addAll(userCards.getContent().stream().map(CardResponse::fromUserCard).toList());
-
-                int remaining = size - content.size();
-                if (remaining > 0) {
-                    Page<Card> publicCards = cardDomainService.searchByKeyword(trimmedKeyword, categoryScope, PageRequest.of(0, remaining));
-                    content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-                }
-            } else {
-                long publicCardOffset = offset - userCardTotal;
-                int publicPageNum = (int) (publicCardOffset / size);
-                Page<Card> publicCards = cardDomainService.searchByKeyword(trimmedKeyword, categoryScope, PageRequest.of(publicPageNum, size));
-                content.addAll(publicCards.getContent().stream().map(CardResponse::from).toList());
-            }
-
-            return new PageImpl<>(content, pageable, totalCount);
+            return cardDomainService.findMergedWithUserCards(userId, categoryScope, trimmedKeyword, MergedCardOrder.LATEST, pageable)
+                    .map(CardResponse::fromMerged);
         }
 
         Page<Card> cards = cardDomainService.searchByKeyword(trimmedKeyword, categoryScope, pageable);
@@ -267,4 +167,63 @@ public class CardService {
         }
         return cardDomainService.count();
     }
+
+    public CardChangesResponse getCardChanges(LocalDateTime since, String cursor, int size) {
+        LocalDateTime afterModifiedAt;
+        long afterId;
+        if (cursor != null && !cursor.isBlank()) {
+            ChangesCursor decoded = decodeCursor(cursor);
+            afterModifiedAt = decoded.modifiedAt();
+            afterId = decoded.id();
+        } else if (since != null) {
+            afterModifiedAt = since;
+            afterId = 0L;
+        } else {
+            throw new CardException(CardErrorCode.INVALID_CHANGES_CURSOR);
+        }
+
+        LocalDateTime until = LocalDateTime.now().minusSeconds(changesSettleSeconds);
+        List<Card> cards = cardDomainService.findChangedAfter(afterModifiedAt, afterId, until, size + 1);
+
+        boolean hasNext = cards.size() > size;
+        List<Card> page = hasNext ? cards.subList(0, size) : cards;
+        String nextCursor = null;
+        if (hasNext) {
+            Card last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getModifiedAt(), last.getId());
+        }
+
+        return new CardChangesResponse(
+                page.stream().map(CardChangeResponse::from).toList(),
+                nextCursor,
+                hasNext,
+                hasNext ? null : until
+        );
+    }
+
+    private String encodeCursor(LocalDateTime modifiedAt, Long id) {
+        String raw = modifiedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ChangesCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ChangesCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CardException(CardErrorCode.INVALID_CHANGES_CURSOR);
+        }
+    }
+
+    private record ChangesCursor(LocalDateTime modifiedAt, long id) {
+    }
+
+    private List<Category> resolveCategoryScope(String categoryCode) {
+        Category category = categoryCode != null ? categoryDomainService.findByCodeOrNull(categoryCode) : null;
+        return category != null ? categoryDomainService.findSelfAndDescendants(category) : null;
+    }
 }
@@ -0,0 +1,176 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.application.card.dto.response.CardResponse;
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.exception.CardErrorCode;
+import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CardSnapshotService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String SNAPSHOT_SUFFIX = ".ndjson.gz";
+
+    private final CardDomainService cardDomainService;
+    private final CategoryDomainService categoryDomainService;
+    private final CatalogVersionService catalogVersionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.card.snapshot.directory:${java.io.tmpdir}/study-cards/snapshots}")
+    private String snapshotDirectory;
+
+    @Value("${app.card.snapshot.retired-retention-seconds:600}")
+    private long retiredRetentionSeconds;
+
+    private volatile Map<String, CardSnapshot> snapshots = Map.of();
+    private volatile Long builtVersion;
+
+    // 교체된 스냅샷 파일 → 교체 시각(ms). rebuildIfStale 의 잠금 안에서만 다룬다
+    private final Map<Path, Long> retiredAt = new HashMap<>();
+
+    public CardSnapshot getSnapshot(String rootCategoryCode) {
+        CardSnapshot snapshot = snapshots.get(rootCategoryCode);
+        if (snapshot == null || !Files.exists(snapshot.path())) {
+            throw new CardException(CardErrorCode.SNAPSHOT_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    public synchronized void rebuildIfStale() {
+        if (!retiredAt.isEmpty()) {
+            deleteRetiredFiles(Path.of(snapshotDirectory), snapshots);
+        }
+
+        Long catalogVersion = catalogVersionService.getCatalogVersion();
+        if (catalogVersion == null || catalogVersion.equals(builtVersion)) {
+            return;
+        }
+
+        try {
+            Path directory = Path.of(snapshotDirectory);
+            Files.createDirectories(directory);
+
+            Map<String, CardSnapshot> rebuilt = new HashMap<>();
+            for (Category root : findRootCategories()) {
+                rebuilt.put(root.getCode(), writeSnapshot(directory, root, catalogVersion));
+            }
+
+            Map<String, CardSnapshot> previous = snapshots;
+            snapshots = Map.copyOf(rebuilt);
+            builtVersion = catalogVersion;
+            retire(previous, rebuilt);
+            deleteRetiredFiles(directory, rebuilt);
+
+            log.info("카드 스냅샷 생성 완료 - version: {}, categories: {}", catalogVersion, rebuilt.keySet());
+        } catch (IOException e) {
+            log.error("카드 스냅샷 생성 실패 - version: {}", catalogVersion, e);
+        }
+    }
+
+    private List<Category> findRootCategories() {
+        return categoryDomainService.findAll().stream()
+                .filter(Category::isRootCategory)
+                .toList();
+    }
+
+    private CardSnapshot writeSnapshot(Path directory, Category root, long version) throws IOException {
+        List<Category> categoryScope = categoryDomainService.findSelfAndDescendants(root);
+        Path tempFile = Files.createTempFile(directory, root.getCode() + "-", ".tmp");
+        long cardCount = 0;
+
+        try {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile), 64 * 1024), StandardCharsets.UTF_8))) {
+                Long lastId = null;
+                List<Card> cards;
+                do {
+                    cards = cardDomainService.findByCategoriesAfterId(categoryScope, lastId, FETCH_SIZE);
+                    for (Card card : cards) {
+                        writer.write(objectMapper.writeValueAsString(CardResponse.from(card)));
+                        writer.newLine();
+                    }
+                    cardCount += cards.size();
+                    if (!cards.isEmpty()) {
+                        lastId = cards.get(cards.size() - 1).getId();
+                    }
+                } while (cards.size() == FETCH_SIZE);
+            }
+
+            Path target = directory.resolve(root.getCode() + "-" + version + SNAPSHOT_SUFFIX);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new CardSnapshot(root.getCode(), version, target, Files.size(target), cardCount);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void retire(Map<String, CardSnapshot> previous, Map<String, CardSnapshot> current) {
+        Set<Path> currentPaths = new HashSet<>();
+        current.values().forEach(snapshot -> currentPaths.add(snapshot.path()));
+        long now = System.currentTimeMillis();
+        previous.values().stream()
+                .map(CardSnapshot::path)
+                .filter(path -> !currentPaths.contains(path))
+                .forEach(path -> retiredAt.putIfAbsent(path, now));
+    }
+
+    /**
+     * 교체된 파일은 sendfile/transferTo 로 아직 전송 중이거나 이어받기 요청이 올 수 있으므로
+     * 교체 후 보관 시간이 지난 뒤에 지운다. 교체 기록이 없는 파일은 이전 실행에서 남은 것이므로 바로 지운다.
+     */
+    private void deleteRetiredFiles(Path directory, Map<String, CardSnapshot> current) {
+        Set<Path> keep = new HashSet<>();
+        current.values().forEach(snapshot -> keep.add(snapshot.path()));
+        long deleteBefore = System.currentTimeMillis() - retiredRetentionSeconds * 1000;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                if (keep.contains(file)) {
+                    continue;
+                }
+                Long retired = retiredAt.get(file);
+                if (retired == null || retired <= deleteBefore) {
+                    Files.deleteIfExists(file);
+                    retiredAt.remove(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("오래된 카드 스냅샷 정리 실패 - directory: {}", directory, e);
+        }
+        // 밖에서 지워진 파일의 기록도 정리한다
+        retiredAt.keySet().removeIf(path -> !Files.exists(path));
+    }
+
+    public record CardSnapshot(String categoryCode, long version, Path path, long size, long cardCount) {
+
+        public String fileName() {
+            return path.getFileName().toString();
+        }
+    }
+}
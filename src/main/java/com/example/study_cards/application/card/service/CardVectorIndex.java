@@ -0,0 +1,171 @@
+package com.example.study_cards.application.card.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 루트 카테고리별로 나눈 카드 임베딩 색인. 벡터는 행 단위로 이어 붙인 float 배열 하나에 보관하고
+ * 같은 파티션 안에서만 내적 순회로 상위 k개를 찾는다. 생성 후에는 변경하지 않는다.
+ */
+final class CardVectorIndex {
+
+    private static final CardVectorIndex EMPTY = new CardVectorIndex(Map.of());
+
+    private final Map<Long, Partition> partitions;
+
+    private CardVectorIndex(Map<Long, Partition> partitions) {
+        this.partitions = partitions;
+    }
+
+    static CardVectorIndex empty() {
+        return EMPTY;
+    }
+
+    static Builder builder(int dimension) {
+        return new Builder(dimension);
+    }
+
+    int size() {
+        return partitions.values().stream().mapToInt(Partition::size).sum();
+    }
+
+    List<ScoredCard> searchSimilarTo(long cardId, int limit, double minSimilarity) {
+        for (Partition partition : partitions.values()) {
+            Integer row = partition.positions.get(cardId);
+            if (row != null) {
+                return partition.search(partition.vectorAt(row), limit, cardId, minSimilarity);
+            }
+        }
+        return List.of();
+    }
+
+    List<ScoredCard> search(Long rootCategoryId, float[] query, int limit, double minSimilarity) {
+        Partition partition = partitions.get(rootCategoryId);
+        if (partition == null || partition.dimension != query.length) {
+            return List.of();
+        }
+        return partition.search(query, limit, -1L, minSimilarity);
+    }
+
+    boolean contains(long cardId) {
+        return partitions.values().stream().anyMatch(partition -> partition.positions.containsKey(cardId));
+    }
+
+    record ScoredCard(long cardId, double similarity) {
+    }
+
+    private static final class Partition {
+
+        private final int dimension;
+        private final long[] cardIds;
+        private final float[] vectors;
+        private final Map<Long, Integer> positions;
+
+        private Partition(int dimension, long[] cardIds, float[] vectors) {
+            this.dimension = dimension;
+            this.cardIds = cardIds;
+            this.vectors = vectors;
+            this.positions = new HashMap<>(cardIds.length * 2);
+            for (int i = 0; i < cardIds.length; i++) {
+                positions.put(cardIds[i], i);
+            }
+        }
+
+        int size() {
+            return cardIds.length;
+        }
+
+        float[] vectorAt(int row) {
+            return Arrays.copyOfRange(vectors, row * dimension, (row + 1) * dimension);
+        }
+
+        List<ScoredCard> search(float[] query, int limit, long excludeCardId, double minSimilarity) {
+            PriorityQueue<ScoredCard> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredCard::similarity));
+            for (int row = 0; row < cardIds.length; row++) {
+                if (cardIds[row] == excludeCardId) {
+                    continue;
+                }
+                double similarity = dot(query, row * dimension);
+                if (similarity < minSimilarity) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(new ScoredCard(cardIds[row], similarity));
+                } else if (similarity > top.peek().similarity()) {
+                    top.poll();
+                    top.add(new ScoredCard(cardIds[row], similarity));
+                }
+            }
+
+            List<ScoredCard> result = new ArrayList<>(top);
+            result.sort(Comparator.comparingDouble(ScoredCard::similarity).reversed());
+            return result;
+        }
+
+        // 단순 누적 루프로 두어 JIT 자동 벡터화 대상이 되도록 한다
+        private double dot(float[] query, int offset) {
+            float sum = 0.0f;
+            for (int i = 0; i < dimension; i++) {
+                sum += query[i] * vectors[offset + i];
+            }
+            return sum;
+        }
+    }
+
+    static final class Builder {
+
+        private final int dimension;
+        private final Map<Long, PartitionBuffer> buffers = new HashMap<>();
+
+        private Builder(int dimension) {
+            this.dimension = dimension;
+        }
+
+        // 차원이 다른 벡터는 다른 모델로 만든 것이므로 색인에서 제외한다
+        boolean add(Long rootCategoryId, long cardId, float[] vector) {
+            if (vector.length != dimension) {
+                return false;
+            }
+            buffers.computeIfAbsent(rootCategoryId, ignored -> new PartitionBuffer(dimension)).add(cardId, vector);
+            return true;
+        }
+
+        CardVectorIndex build() {
+            Map<Long, Partition> partitions = new HashMap<>();
+            buffers.forEach((rootCategoryId, buffer) -> partitions.put(rootCategoryId, buffer.toPartition()));
+            return new CardVectorIndex(Map.copyOf(partitions));
+        }
+    }
+
+    private static final class PartitionBuffer {
+
+        private final int dimension;
+        private long[] cardIds = new long[64];
+        private float[] vectors;
+        private int size;
+
+        private PartitionBuffer(int dimension) {
+            this.dimension = dimension;
+            this.vectors = new float[64 * dimension];
+        }
+
+        void add(long cardId, float[] vector) {
+            if (size == cardIds.length) {
+                cardIds = Arrays.copyOf(cardIds, size * 2);
+                vectors = Arrays.copyOf(vectors, size * 2 * dimension);
+            }
+            cardIds[size] = cardId;
+            System.arraycopy(vector, 0, vectors, size * dimension, dimension);
+            size++;
+        }
+
+        Partition toPartition() {
+            return new Partition(dimension, Arrays.copyOf(cardIds, size), Arrays.copyOf(vectors, size * dimension));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.application.card.dto.response.CardResponse;
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
+import com.example.study_cards.application.card.service.CardVectorIndex.ScoredCard;
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardEmbedding;
+import com.example.study_cards.domain.card.repository.CardEmbeddingRepositoryCustom.CardVector;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.card.service.CardEmbeddingDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.ai.service.TextEmbedder;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.example.study_cards.infra.redis.service.DistributedLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 임베딩을 미리 계산해 두고 노드 메모리 색인에서 연관 카드를 찾는다.
+ * 요청 처리 중에는 저장된 벡터만 사용하고 AI provider를 호출하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RelatedCardService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final String EMBEDDING_LOCK = "card-embedding";
+    private static final Duration EMBEDDING_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final CardDomainService cardDomainService;
+    private final CardEmbeddingDomainService cardEmbeddingDomainService;
+    private final CategoryDomainService categoryDomainService;
+    private final CatalogVersionService catalogVersionService;
+    private final DistributedLockService distributedLockService;
+    private final TextEmbedder textEmbedder;
+
+    @Value("${app.card.related.embed-batch-size:100}")
+    private int embedBatchSize;
+
+    @Value("${app.card.related.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.card.related.min-similarity:0.2}")
+    private double minSimilarity;
+
+    @Value("${app.card.related.hint-limit:3}")
+    private int hintLimit;
+
+    @Value("${app.card.related.hint-min-similarity:0.6}")
+    private double hintMinSimilarity;
+
+    private volatile CardVectorIndex index = CardVectorIndex.empty();
+    private volatile Long builtVersion;
+
+    @Transactional(readOnly = true)
+    public List<RelatedCardResponse> getRelatedCards(Long cardId, int limit) {
+        List<ScoredCard> scored = index.searchSimilarTo(cardId, limit, minSimilarity);
+        if (scored.isEmpty()) {
+            // 아직 색인되지 않은 카드도 존재 여부는 일반 조회와 같게 응답한다
+            cardDomainService.findById(cardId);
+            return List.of();
+        }
+        return toResponses(scored);
+    }
+
+    /**
+     * 사용자 카드 작성 시 비슷한 공용 카드를 안내한다. 안내는 부가 정보이므로 실패해도 빈 목록으로 처리한다.
+     * 작성한 카드는 아직 임베딩이 없어 요청 스레드에서 계산해야 하므로, provider를 호출하는 임베더에서는 안내하지 않는다.
+     */
+    public List<RelatedCardResponse> findSimilarCards(String question, String answer, Category category) {
+        if (hintLimit <= 0 || !textEmbedder.isLocal()) {
+            return List.of();
+        }
+        try {
+            float[] query = textEmbedder.embed(embeddingText(question, answer));
+            List<ScoredCard> scored = index.search(findRoot(category).getId(), query, hintLimit, hintMinSimilarity);
+            return scored.isEmpty() ? List.of() : toResponses(scored);
+        } catch (Exception e) {
+            log.warn("유사 카드 조회 실패 - category: {}, error: {}", category.getCode(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 임베딩이 없거나 카드 수정 이후 갱신되지 않은 카드를 배치로 임베딩한다.
+     * 임베딩은 여러 노드가 중복 계산하지 않도록 분산 락을 잡은 노드에서만 수행한다.
+     */
+    public int embedPendingCards() {
+        if (!distributedLockService.tryLock(EMBEDDING_LOCK, EMBEDDING_LOCK_TTL)) {
+            return 0;
+        }
+
+        int embedded = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Card> cards = cardEmbeddingDomainService.findCardsNeedingEmbedding(textEmbedder.model(), embedBatchSize);
+                if (cards.isEmpty()) {
+                    break;
+                }
+
+                Map<Card, float[]> vectors = new LinkedHashMap<>();
+                for (Card card : cards) {
+                    vectors.put(card, textEmbedder.embed(embeddingText(card.getQuestion(), card.getAnswer())));
+                }
+                cardEmbeddingDomainService.saveAll(vectors, textEmbedder.model());
+                embedded += cards.size();
+
+                if (cards.size() < embedBatchSize) {
+                    break;
+                }
+            }
+        } finally {
+            distributedLockService.unlock(EMBEDDING_LOCK);
+        }
+
+        if (embedded > 0) {
+            log.info("카드 임베딩 갱신 완료 - model: {}, count: {}", textEmbedder.model(), embedded);
+        }
+        return embedded;
+    }
+
+    public synchronized void rebuildIfStale() {
+        Long catalogVersion = catalogVersionService.getCatalogVersion();
+        if (catalogVersion == null || catalogVersion.equals(builtVersion)) {
+            return;
+        }
+
+        CardVectorIndex.Builder builder = CardVectorIndex.builder(textEmbedder.dimension());
+        for (Category root : findRootCategories()) {
+            List<Category> categoryScope = categoryDomainService.findSelfAndDescendants(root);
+            Long lastCardId = null;
+            List<CardVector> vectors;
+            do {
+                vectors = cardEmbeddingDomainService.findVectorsByCategoriesAfterCardId(
+                        textEmbedder.model(), categoryScope, lastCardId, FETCH_SIZE);
+                for (CardVector vector : vectors) {
+                    builder.add(root.getId(), vector.cardId(), CardEmbedding.decode(vector.vector()));
+                }
+                if (!vectors.isEmpty()) {
+                    lastCardId = vectors.get(vectors.size() - 1).cardId();
+                }
+            } while (vectors.size() == FETCH_SIZE);
+        }
+
+        index = builder.build();
+        // 임베딩이 밀린 카드가 남아 있으면 카탈로그 버전이 같아도 다음 주기에 다시 생성
+        if (!cardEmbeddingDomainService.hasCardsNeedingEmbedding(textEmbedder.model())) {
+            builtVersion = catalogVersion;
+        }
+        log.info("연관 카드 색인 생성 완료 - version: {}, model: {}, cards: {}",
+                catalogVersion, textEmbedder.model(), index.size());
+    }
+
+    private List<RelatedCardResponse> toResponses(List<ScoredCard> scored) {
+        Map<Long, Card> cards = cardDomainService.findByIds(scored.stream().map(ScoredCard::cardId).toList()).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        return scored.stream()
+                .filter(score -> cards.containsKey(score.cardId()))
+                .map(score -> new RelatedCardResponse(CardResponse.from(cards.get(score.cardId())), score.similarity()))
+                .toList();
+    }
+
+    private List<Category> findRootCategories() {
+        return categoryDomainService.findAll().stream()
+                .filter(Category::isRootCategory)
+                .toList();
+    }
+
+    private Category findRoot(Category category) {
+        Category current = category;
+        while (current.getParent() != null) {
+            current = current.getParent();
+        }
+        return current;
+    }
+
+    private String embeddingText(String question, String answer) {
+        return question + "\n" + (answer == null ? "" : answer);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.study_cards.application.category.controller;
 import com.example.study_cards.application.category.dto.response.CategoryResponse;
 import com.example.study_cards.application.category.dto.response.CategoryTreeResponse;
 import com.example.study_cards.application.category.service.CategoryService;
+import com.example.study_cards.common.response.CatalogETagResponder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,27 +21,30 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CatalogETagResponder catalogETagResponder;
 
     @GetMapping
     public ResponseEntity<Page<CategoryResponse>> getAllCategories(
+            WebRequest webRequest,
             @PageableDefault(size = 50, sort = "displayOrder", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ResponseEntity.ok(categoryService.getAllCategories(pageable));
+        return catalogETagResponder.catalog(webRequest, () -> categoryService.getAllCategories(pageable));
     }
 
     @GetMapping("/tree")
-    public ResponseEntity<List<CategoryTreeResponse>> getCategoryTree() {
-        return ResponseEntity.ok(categoryService.getCategoryTree());
+    public ResponseEntity<List<CategoryTreeResponse>> getCategoryTree(WebRequest webRequest) {
+        return catalogETagResponder.catalog(webRequest, categoryService::getCategoryTree);
     }
 
     @GetMapping("/{code}")
-    public ResponseEntity<CategoryResponse> getCategory(@PathVariable String code) {
-        return ResponseEntity.ok(categoryService.getCategoryByCode(code));
+    public ResponseEntity<CategoryResponse> getCategory(@PathVariable String code, WebRequest webRequest) {
+        return catalogETagResponder.catalog(webRequest, () -> categoryService.getCategoryByCode(code));
     }
 
     @GetMapping("/{code}/children")
     public ResponseEntity<Page<CategoryResponse>> getChildCategories(
             @PathVariable String code,
+            WebRequest webRequest,
             @PageableDefault(size = 50, sort = "displayOrder", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ResponseEntity.ok(categoryService.getChildCategories(code, pageable));
+        return catalogETagResponder.catalog(webRequest, () -> categoryService.getChildCategories(code, pageable));
     }
 }
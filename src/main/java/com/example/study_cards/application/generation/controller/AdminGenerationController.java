@@ -3,12 +3,16 @@ package com.example.study_cards.application.generation.controller;
 import com.example.study_cards.application.generation.dto.request.ApprovalRequest;
 import com.example.study_cards.application.generation.dto.request.GenerationRequest;
 import com.example.study_cards.application.generation.dto.response.GeneratedCardResponse;
+import com.example.study_cards.application.generation.dto.response.GenerationClaimResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationResultResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationStatsResponse;
 import com.example.study_cards.application.generation.service.GenerationApprovalService;
 import com.example.study_cards.application.generation.service.GenerationService;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import com.example.study_cards.infra.security.user.CustomUserDetails;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +20,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,6 +30,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/admin/generation")
+@Validated
 public class AdminGenerationController {
 
     private final GenerationService generationService;
@@ -67,6 +74,32 @@ public class AdminGenerationController {
         return ResponseEntity.ok(approvalService.batchApprove(request));
     }
 
+    @PostMapping("/cards/batch-reject")
+    public ResponseEntity<List<GeneratedCardResponse>> batchReject(@Valid @RequestBody ApprovalRequest request) {
+        return ResponseEntity.ok(approvalService.batchReject(request));
+    }
+
+    @PostMapping("/claim")
+    public ResponseEntity<GenerationClaimResponse> claim(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int n) {
+        return ResponseEntity.ok(approvalService.claim(userDetails.userId(), n));
+    }
+
+    @PostMapping("/claim/approve")
+    public ResponseEntity<List<GeneratedCardResponse>> approveClaimed(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody ApprovalRequest request) {
+        return ResponseEntity.ok(approvalService.approveClaimed(userDetails.userId(), request));
+    }
+
+    @PostMapping("/claim/reject")
+    public ResponseEntity<List<GeneratedCardResponse>> rejectClaimed(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody ApprovalRequest request) {
+        return ResponseEntity.ok(approvalService.rejectClaimed(userDetails.userId(), request));
+    }
+
     @PostMapping("/migrate")
     public ResponseEntity<Map<String, Object>> migrateApprovedCards() {
         int migratedCount = approvalService.migrateApprovedToCards();
@@ -0,0 +1,18 @@
+package com.example.study_cards.application.generation.dto.response;
+
+import com.example.study_cards.domain.generation.entity.GeneratedCard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record GenerationClaimResponse(
+        List<GeneratedCardResponse> cards,
+        LocalDateTime leaseExpiresAt
+) {
+    public static GenerationClaimResponse of(List<GeneratedCard> cards, LocalDateTime leaseExpiresAt) {
+        return new GenerationClaimResponse(
+                cards.stream().map(GeneratedCardResponse::from).toList(),
+                leaseExpiresAt
+        );
+    }
+}
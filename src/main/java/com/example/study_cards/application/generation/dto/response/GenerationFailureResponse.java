@@ -0,0 +1,8 @@
+package com.example.study_cards.application.generation.dto.response;
+
+public record GenerationFailureResponse(
+        Long sourceCardId,
+        String sourceWord,
+        String reason
+) {
+}
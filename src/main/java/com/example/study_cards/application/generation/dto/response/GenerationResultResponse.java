@@ -5,13 +5,19 @@ import java.util.List;
 public record GenerationResultResponse(
         List<GeneratedCardResponse> generatedCards,
         int totalGenerated,
+        List<GenerationFailureResponse> failures,
+        int totalFailed,
         String categoryCode,
         String model
 ) {
-    public static GenerationResultResponse of(List<GeneratedCardResponse> cards, String categoryCode, String model) {
+    public static GenerationResultResponse of(List<GeneratedCardResponse> cards,
+                                              List<GenerationFailureResponse> failures,
+                                              String categoryCode, String model) {
         return new GenerationResultResponse(
                 cards,
                 cards.size(),
+                failures,
+                failures.size(),
                 categoryCode,
                 model
         );
@@ -16,7 +16,7 @@ public record GenerationStatsResponse(
             double approvalRate
     ) {
         public static ModelStats of(String model, long total, long approved, long rejected, long pending, long migrated) {
-            double rate = total > 0 ? (approved * 100.0) / (approved + rejected) : 0.0;
+            double rate = approved + rejected > 0 ? (approved * 100.0) / (approved + rejected) : 0.0;
             return new ModelStats(model, total, approved, rejected, pending, migrated, Math.round(rate * 10) / 10.0);
         }
     }
@@ -30,7 +30,7 @@ public record GenerationStatsResponse(
             double approvalRate
     ) {
         public static OverallStats of(long total, long approved, long rejected, long pending, long migrated) {
-            double rate = total > 0 ? (approved * 100.0) / (approved + rejected) : 0.0;
+            double rate = approved + rejected > 0 ? (approved * 100.0) / (approved + rejected) : 0.0;
             return new OverallStats(total, approved, rejected, pending, migrated, Math.round(rate * 10) / 10.0);
         }
     }
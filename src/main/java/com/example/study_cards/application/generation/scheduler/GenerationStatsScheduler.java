@@ -0,0 +1,34 @@
+package com.example.study_cards.application.generation.scheduler;
+
+import com.example.study_cards.common.aop.DistributedLock;
+import com.example.study_cards.domain.generation.service.GeneratedCardDomainService;
+import com.example.study_cards.infra.redis.service.GenerationStatsCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenerationStatsScheduler {
+
+    private final GeneratedCardDomainService generatedCardDomainService;
+    private final GenerationStatsCacheService generationStatsCacheService;
+
+    // 기동 직후 한 번 채우고, 이후에는 카운터가 어긋났을 경우를 대비해 주기적으로 다시 집계
+    @Scheduled(
+            initialDelayString = "${app.generation.stats.initial-delay-ms:60000}",
+            fixedDelayString = "${app.generation.stats.rebuild-delay-ms:86400000}"
+    )
+    @DistributedLock(key = "scheduler:generation-stats", ttlMinutes = 10)
+    public void rebuildStatCounters() {
+        try {
+            int rows = generatedCardDomainService.rebuildStatCounters();
+            generationStatsCacheService.markSeeded();
+            log.info("생성 통계 카운터 재집계 완료 - rows: {}", rows);
+        } catch (Exception e) {
+            log.error("생성 통계 카운터 재집계 실패", e);
+        }
+    }
+}
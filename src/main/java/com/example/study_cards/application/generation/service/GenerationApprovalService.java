@@ -1,21 +1,30 @@
 package com.example.study_cards.application.generation.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
 import com.example.study_cards.application.generation.dto.request.ApprovalRequest;
 import com.example.study_cards.application.generation.dto.response.GeneratedCardResponse;
-import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.application.generation.dto.response.GenerationClaimResponse;
+import com.example.study_cards.common.util.MinHashLshIndex;
 import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.example.study_cards.domain.generation.service.GeneratedCardDomainService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,8 +34,19 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class GenerationApprovalService {
 
+    private static final int MIGRATION_BATCH_SIZE = 500;
+
     private final GeneratedCardDomainService generatedCardDomainService;
     private final CardDomainService cardDomainService;
+    private final CardDuplicateDetector cardDuplicateDetector;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.card.duplicate.threshold:0.8}")
+    private double duplicateThreshold;
+
+    @Value("${app.generation.claim.lease-minutes:15}")
+    private long claimLeaseMinutes;
 
     public Page<GeneratedCardResponse> getGeneratedCards(GenerationStatus status, String model, Pageable pageable) {
         Page<GeneratedCard> cards;
@@ -64,50 +84,127 @@ public class GenerationApprovalService {
 
     @Transactional
     public List<GeneratedCardResponse> batchApprove(ApprovalRequest request) {
-        List<GeneratedCardResponse> approved = request.ids().stream()
-                .map(generatedCardDomainService::approve)
+        List<GeneratedCardResponse> approved = generatedCardDomainService.approveAll(request.ids()).stream()
                 .map(GeneratedCardResponse::from)
                 .toList();
 
-        log.info("생성된 카드 일괄 승인 완료 - count: {}", approved.size());
+        log.info("생성된 카드 일괄 승인 완료 - requested: {}, approved: {}", request.ids().size(), approved.size());
         return approved;
     }
 
-    private static final int MIGRATION_BATCH_SIZE = 100;
+    @Transactional
+    public List<GeneratedCardResponse> batchReject(ApprovalRequest request) {
+        List<GeneratedCardResponse> rejected = generatedCardDomainService.rejectAll(request.ids()).stream()
+                .map(GeneratedCardResponse::from)
+                .toList();
 
+        log.info("생성된 카드 일괄 거부 완료 - requested: {}, rejected: {}", request.ids().size(), rejected.size());
+        return rejected;
+    }
+
+    // 점유한 카드는 점유 시간 동안 다른 관리자의 대기열에 나타나지 않는다
     @Transactional
+    public GenerationClaimResponse claim(Long adminId, int count) {
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plusMinutes(claimLeaseMinutes);
+        List<GeneratedCard> claimed = generatedCardDomainService.claimPending(adminId, count, leaseExpiresAt);
+
+        log.info("생성된 카드 검토 점유 - adminId: {}, requested: {}, claimed: {}", adminId, count, claimed.size());
+        return GenerationClaimResponse.of(claimed, leaseExpiresAt);
+    }
+
+    @Transactional
+    public List<GeneratedCardResponse> approveClaimed(Long adminId, ApprovalRequest request) {
+        List<GeneratedCardResponse> approved = generatedCardDomainService.approveClaimed(adminId, request.ids()).stream()
+                .map(GeneratedCardResponse::from)
+                .toList();
+
+        log.info("점유한 카드 일괄 승인 완료 - adminId: {}, requested: {}, approved: {}",
+                adminId, request.ids().size(), approved.size());
+        return approved;
+    }
+
+    @Transactional
+    public List<GeneratedCardResponse> rejectClaimed(Long adminId, ApprovalRequest request) {
+        List<GeneratedCardResponse> rejected = generatedCardDomainService.rejectClaimed(adminId, request.ids()).stream()
+                .map(GeneratedCardResponse::from)
+                .toList();
+
+        log.info("점유한 카드 일괄 거부 완료 - adminId: {}, requested: {}, rejected: {}",
+                adminId, request.ids().size(), rejected.size());
+        return rejected;
+    }
+
+    // 청크마다 별도 트랜잭션으로 커밋해 중간에 실패해도 이미 이동한 청크는 유지된다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int migrateApprovedToCards() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        MinHashLshIndex migratedIndex = new MinHashLshIndex();
         int migratedCount = 0;
-        Page<GeneratedCard> page;
+        int duplicateCount = 0;
+        Long lastId = null;
 
-        do {
-            page = generatedCardDomainService.findApprovedCards(PageRequest.of(0, MIGRATION_BATCH_SIZE));
-
-            if (page.isEmpty()) {
-                if (migratedCount == 0) {
-                    log.info("이동할 승인된 카드가 없습니다.");
-                }
+        while (true) {
+            Long afterId = lastId;
+            MigrationChunk chunk = template.execute(status -> migrateChunk(afterId, migratedIndex));
+            if (chunk == null || chunk.fetched() == 0) {
                 break;
             }
 
-            for (GeneratedCard generatedCard : page.getContent()) {
-                Card card = generatedCard.toCard();
-                cardDomainService.createCard(
-                        card.getQuestion(),
-                        card.getQuestionSub(),
-                        card.getAnswer(),
-                        card.getAnswerSub(),
-                        card.getCategory(),
-                        true
-                );
-                generatedCardDomainService.markAsMigrated(generatedCard);
-                migratedCount++;
+            migratedCount += chunk.migrated();
+            duplicateCount += chunk.duplicates();
+            migrationCounter("migrated").increment(chunk.migrated());
+            migrationCounter("duplicate").increment(chunk.duplicates());
+            log.info("승인된 카드 이동 진행 - chunk: {}, migrated: {}, duplicates: {}, total: {}",
+                    chunk.fetched(), chunk.migrated(), chunk.duplicates(), migratedCount);
+
+            if (chunk.fetched() < MIGRATION_BATCH_SIZE) {
+                break;
             }
-        } while (!page.isEmpty());
+            lastId = chunk.lastId();
+        }
 
-        if (migratedCount > 0) {
-            log.info("승인된 카드 Card 테이블로 이동 완료 - count: {}", migratedCount);
+        if (migratedCount == 0 && duplicateCount == 0) {
+            log.info("이동할 승인된 카드가 없습니다.");
+        } else {
+            log.info("승인된 카드 Card 테이블로 이동 완료 - count: {}, duplicates: {}", migratedCount, duplicateCount);
         }
         return migratedCount;
     }
+
+    private MigrationChunk migrateChunk(Long lastId, MinHashLshIndex migratedIndex) {
+        List<GeneratedCard> approvedCards =
+                generatedCardDomainService.findApprovedCardsAfterIdForUpdate(lastId, MIGRATION_BATCH_SIZE);
+        if (approvedCards.isEmpty()) {
+            return new MigrationChunk(0, 0, 0, lastId);
+        }
+
+        List<Long> migrateIds = new ArrayList<>();
+        List<Long> duplicateIds = new ArrayList<>();
+        for (GeneratedCard generatedCard : approvedCards) {
+            // 공용 카드나 이번에 이동한 카드와 거의 같은 문제는 카탈로그에 넣지 않는다
+            if (cardDuplicateDetector.isCatalogDuplicate(generatedCard.getQuestion())
+                    || !migratedIndex.addIfAbsent(generatedCard.getId(), generatedCard.getQuestion(), duplicateThreshold)) {
+                duplicateIds.add(generatedCard.getId());
+            } else {
+                migrateIds.add(generatedCard.getId());
+            }
+        }
+
+        int migrated = cardDomainService.createFromGeneratedCards(migrateIds);
+        generatedCardDomainService.markAsMigrated(migrateIds);
+        generatedCardDomainService.rejectAsDuplicate(duplicateIds);
+
+        Long chunkLastId = approvedCards.get(approvedCards.size() - 1).getId();
+        return new MigrationChunk(approvedCards.size(), migrated, duplicateIds.size(), chunkLastId);
+    }
+
+    private Counter migrationCounter(String result) {
+        return Counter.builder("generation.migration.cards")
+                .description("승인된 생성 카드 이동 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record MigrationChunk(int fetched, int migrated, int duplicates, Long lastId) {
+    }
 }
@@ -1,33 +1,48 @@
 package com.example.study_cards.application.generation.service;
 
 import com.example.study_cards.application.ai.prompt.AiPromptTemplateFactory;
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
 import com.example.study_cards.application.generation.dto.request.GenerationRequest;
 import com.example.study_cards.application.generation.dto.response.GeneratedCardResponse;
+import com.example.study_cards.application.generation.dto.response.GenerationFailureResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationResultResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationStatsResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationStatsResponse.ModelStats;
 import com.example.study_cards.application.generation.dto.response.GenerationStatsResponse.OverallStats;
 import com.example.study_cards.common.util.AiCategoryType;
-import com.example.study_cards.common.util.AiResponseUtils;
+import com.example.study_cards.common.util.AiJsonSalvager;
+import com.example.study_cards.common.util.MinHashLshIndex;
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
+import com.example.study_cards.domain.generation.entity.GenerationStatCounter;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
 import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.generation.service.GeneratedCardDomainService;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.example.study_cards.infra.redis.service.GenerationStatsCacheService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,25 +51,64 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class GenerationService {
 
+    // 관리자 일괄 생성은 사용자 요청보다 뒤에 처리한다
+    private static final AiRequestContext ADMIN_GENERATION_CONTEXT =
+            AiRequestContext.of(AiGenerationType.ADMIN_CARD, null, AiRequestPriority.LOW);
+
     private final GeneratedCardDomainService generatedCardDomainService;
     private final CardDomainService cardDomainService;
     private final CategoryDomainService categoryDomainService;
     private final AiGenerationService aiGenerationService;
     private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final Executor generationExecutor;
+    private final CardDuplicateDetector cardDuplicateDetector;
+    private final GenerationStatsCacheService generationStatsCacheService;
+
+    @Value("${app.generation.batch-size:5}")
+    private int batchSize;
 
-    @Transactional
+    @Value("${app.card.duplicate.threshold:0.8}")
+    private double duplicateThreshold;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GenerationResultResponse generateCards(GenerationRequest request) {
-        Category category = categoryDomainService.findByCode(request.categoryCode());
+        GenerationPlan plan = prepareGeneration(request);
         String model = aiGenerationService.getDefaultModel();
 
-        List<Card> sourceCards = resolveSourceCards(request, category);
+        // LLM 호출은 트랜잭션(DB 커넥션) 밖에서 병렬로 수행
+        int total = plan.sourceCards().size();
+        AtomicInteger completed = new AtomicInteger();
+        List<CompletableFuture<List<GenerationOutcome>>> futures = partition(plan.sourceCards()).stream()
+                .map(batch -> CompletableFuture.supplyAsync(
+                        () -> generateBatch(batch, plan.category(), model), generationExecutor)
+                        .whenComplete((outcomes, ex) -> log.info("AI 문제 생성 진행 - category: {}, {}/{}",
+                                request.categoryCode(), completed.addAndGet(batch.size()), total)))
+                .toList();
+
         List<GeneratedCard> generatedCards = new ArrayList<>();
+        List<GenerationFailureResponse> failures = new ArrayList<>();
+        GenerationException firstFailure = null;
+        MinHashLshIndex generatedIndex = new MinHashLshIndex();
+
+        for (CompletableFuture<List<GenerationOutcome>> future : futures) {
+            for (GenerationOutcome candidate : future.join()) {
+                GenerationOutcome outcome = rejectIfDuplicate(candidate, generatedIndex);
+                if (outcome.generatedCard() != null) {
+                    generatedCards.add(outcome.generatedCard());
+                    continue;
+                }
+                Card sourceCard = outcome.sourceCard();
+                failures.add(new GenerationFailureResponse(
+                        sourceCard.getId(), sourceCard.getQuestion(), outcome.failure().getErrorCode().getMessage()));
+                if (firstFailure == null) {
+                    firstFailure = outcome.failure();
+                }
+            }
+        }
 
-        for (Card sourceCard : sourceCards) {
-            String prompt = AiPromptTemplateFactory.buildPrompt(sourceCard, category);
-            String aiResponse = aiGenerationService.generateContent(prompt);
-            GeneratedCard generatedCard = parseAndCreateGeneratedCard(aiResponse, sourceCard, category, model, prompt);
-            generatedCards.add(generatedCard);
+        if (generatedCards.isEmpty()) {
+            throw firstFailure;
         }
 
         List<GeneratedCard> savedCards = generatedCardDomainService.saveAll(generatedCards);
@@ -63,50 +117,193 @@ public class GenerationService {
                 .toList();
 
         String mode = hasSelectedSourceCards(request) ? "manual" : "random";
-        log.info("AI 문제 생성 완료 - category: {}, mode: {}, count: {}",
-                request.categoryCode(), mode, savedCards.size());
+        log.info("AI 문제 생성 완료 - category: {}, mode: {}, success: {}, failed: {}",
+                request.categoryCode(), mode, savedCards.size(), failures.size());
 
-        return GenerationResultResponse.of(responses, request.categoryCode(), model);
+        return GenerationResultResponse.of(responses, failures, request.categoryCode(), model);
     }
 
     public GenerationStatsResponse getStats() {
-        List<Object[]> rawStats = generatedCardDomainService.countByModelGroupByStatus();
+        Map<String, Map<GenerationStatus, Long>> countsByModel = generationStatsCacheService.find()
+                .orElseGet(this::loadStatCounts);
 
-        Map<String, Map<GenerationStatus, Long>> modelStatsMap = new HashMap<>();
-        for (Object[] row : rawStats) {
-            String model = (String) row[0];
-            GenerationStatus status = (GenerationStatus) row[1];
-            Long count = (Long) row[2];
-
-            modelStatsMap.computeIfAbsent(model, k -> new EnumMap<>(GenerationStatus.class))
-                    .put(status, count);
-        }
-
-        List<ModelStats> modelStatsList = modelStatsMap.entrySet().stream()
+        Map<GenerationStatus, Long> overallCounts = new EnumMap<>(GenerationStatus.class);
+        List<ModelStats> modelStatsList = countsByModel.entrySet().stream()
                 .map(entry -> {
-                    String model = entry.getKey();
                     Map<GenerationStatus, Long> counts = entry.getValue();
-                    long total = counts.values().stream().mapToLong(Long::longValue).sum();
-                    long approved = counts.getOrDefault(GenerationStatus.APPROVED, 0L);
-                    long rejected = counts.getOrDefault(GenerationStatus.REJECTED, 0L);
-                    long pending = counts.getOrDefault(GenerationStatus.PENDING, 0L);
-                    long migrated = counts.getOrDefault(GenerationStatus.MIGRATED, 0L);
-                    return ModelStats.of(model, total, approved, rejected, pending, migrated);
+                    counts.forEach((status, count) -> overallCounts.merge(status, count, Long::sum));
+                    return toModelStats(entry.getKey(), counts);
                 })
                 .sorted(Comparator.comparing(ModelStats::model))
                 .collect(Collectors.toList());
 
-        long totalGenerated = generatedCardDomainService.count();
-        long totalApproved = generatedCardDomainService.countByStatus(GenerationStatus.APPROVED);
-        long totalRejected = generatedCardDomainService.countByStatus(GenerationStatus.REJECTED);
-        long totalPending = generatedCardDomainService.countByStatus(GenerationStatus.PENDING);
-        long totalMigrated = generatedCardDomainService.countByStatus(GenerationStatus.MIGRATED);
-
-        OverallStats overallStats = OverallStats.of(totalGenerated, totalApproved, totalRejected, totalPending, totalMigrated);
+        OverallStats overallStats = OverallStats.of(
+                overallCounts.values().stream().mapToLong(Long::longValue).sum(),
+                overallCounts.getOrDefault(GenerationStatus.APPROVED, 0L),
+                overallCounts.getOrDefault(GenerationStatus.REJECTED, 0L),
+                overallCounts.getOrDefault(GenerationStatus.PENDING, 0L),
+                overallCounts.getOrDefault(GenerationStatus.MIGRATED, 0L));
 
         return GenerationStatsResponse.of(modelStatsList, overallStats);
     }
 
+    // 카운터 테이블이 한 번도 재집계되지 않았으면 일부 모델/상태의 증감만 있을 수 있으므로 카드 테이블을 직접 집계한다
+    private Map<String, Map<GenerationStatus, Long>> loadStatCounts() {
+        Map<String, Map<GenerationStatus, Long>> countsByModel = new HashMap<>();
+        if (!generationStatsCacheService.isSeeded()) {
+            for (Object[] row : generatedCardDomainService.countByModelGroupByStatus()) {
+                countsByModel.computeIfAbsent((String) row[0], k -> new EnumMap<>(GenerationStatus.class))
+                        .put((GenerationStatus) row[1], (Long) row[2]);
+            }
+        } else {
+            for (GenerationStatCounter counter : generatedCardDomainService.findStatCounters()) {
+                countsByModel.computeIfAbsent(counter.getModel(), k -> new EnumMap<>(GenerationStatus.class))
+                        .put(counter.getStatus(), counter.getCount());
+            }
+        }
+
+        generationStatsCacheService.store(countsByModel);
+        return countsByModel;
+    }
+
+    private ModelStats toModelStats(String model, Map<GenerationStatus, Long> counts) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        long approved = counts.getOrDefault(GenerationStatus.APPROVED, 0L);
+        long rejected = counts.getOrDefault(GenerationStatus.REJECTED, 0L);
+        long pending = counts.getOrDefault(GenerationStatus.PENDING, 0L);
+        long migrated = counts.getOrDefault(GenerationStatus.MIGRATED, 0L);
+        return ModelStats.of(model, total, approved, rejected, pending, migrated);
+    }
+
+    private GenerationPlan prepareGeneration(GenerationRequest request) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Category category = categoryDomainService.findByCode(request.categoryCode());
+            List<Card> sourceCards = resolveSourceCards(request, category);
+            // 응답 매핑은 트랜잭션 밖에서 이루어지므로 상위 카테고리를 미리 로딩
+            Hibernate.initialize(category.getParent());
+            return new GenerationPlan(category, sourceCards);
+        });
+    }
+
+    private List<List<Card>> partition(List<Card> sourceCards) {
+        int size = Math.max(batchSize, 1);
+        List<List<Card>> batches = new ArrayList<>();
+        for (int from = 0; from < sourceCards.size(); from += size) {
+            batches.add(sourceCards.subList(from, Math.min(from + size, sourceCards.size())));
+        }
+        return batches;
+    }
+
+    private List<GenerationOutcome> generateBatch(List<Card> batch, Category category, String model) {
+        if (batch.size() == 1) {
+            return List.of(generateOne(batch.get(0), category, model));
+        }
+
+        String prompt = AiPromptTemplateFactory.buildBatchPrompt(batch, category);
+        String aiResponse;
+        try {
+            aiResponse = aiGenerationService.generateContent(prompt, ADMIN_GENERATION_CONTEXT);
+        } catch (RuntimeException e) {
+            log.warn("AI 배치 문제 생성 실패 - size: {}, error: {}", batch.size(), e.getMessage());
+            GenerationException failure = e instanceof GenerationException generationException
+                    ? generationException
+                    : new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+            return batch.stream().map(sourceCard -> GenerationOutcome.failed(sourceCard, failure)).toList();
+        }
+
+        Map<Long, JsonNode> itemsBySourceId = parseBatchItems(aiResponse);
+        if (itemsBySourceId.size() < batch.size()) {
+            aiGenerationService.evictCachedContent(prompt);
+        }
+        List<GenerationOutcome> outcomes = new ArrayList<>();
+        for (Card sourceCard : batch) {
+            GeneratedCard generatedCard = createFromBatchItem(
+                    itemsBySourceId.get(sourceCard.getId()), sourceCard, category, model, prompt);
+            // 배치 응답에서 빠졌거나 파싱할 수 없는 항목은 단건 프롬프트로 다시 생성
+            outcomes.add(generatedCard != null
+                    ? GenerationOutcome.success(sourceCard, generatedCard)
+                    : generateOne(sourceCard, category, model));
+        }
+        return outcomes;
+    }
+
+    private Map<Long, JsonNode> parseBatchItems(String aiResponse) {
+        Map<Long, JsonNode> itemsBySourceId = new HashMap<>();
+        try {
+            AiJsonSalvager.Result salvaged = AiJsonSalvager.salvageArray(objectMapper, aiResponse);
+            if (salvaged.dropped() > 0) {
+                log.warn("AI 배치 응답 일부 복구 - recovered: {}, dropped: {}",
+                        salvaged.nodes().size(), salvaged.dropped());
+            }
+            for (JsonNode item : salvaged.nodes()) {
+                JsonNode sourceId = item.get("sourceId");
+                if (sourceId == null || sourceId.isNull()) {
+                    continue;
+                }
+                try {
+                    itemsBySourceId.putIfAbsent(Long.parseLong(sourceId.asText().trim()), item);
+                } catch (NumberFormatException ignored) {
+                    // sourceId를 해석할 수 없는 항목은 무시하고 단건 재생성으로 처리
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("AI 배치 응답 파싱 실패 - response: {}", aiResponse);
+        }
+        return itemsBySourceId;
+    }
+
+    private GeneratedCard createFromBatchItem(JsonNode item, Card sourceCard,
+                                              Category category, String model, String prompt) {
+        if (item == null) {
+            return null;
+        }
+        try {
+            if (AiCategoryType.fromCode(category.getCode()).isQuizType()) {
+                return parseQuizResponse(item, sourceCard, category, model, prompt);
+            }
+            return parseQaResponse(item, sourceCard, category, model, prompt);
+        } catch (GenerationException e) {
+            return null;
+        }
+    }
+
+    private GenerationOutcome generateOne(Card sourceCard, Category category, String model) {
+        try {
+            String prompt = AiPromptTemplateFactory.buildPrompt(sourceCard, category);
+            String aiResponse = aiGenerationService.generateContent(prompt, ADMIN_GENERATION_CONTEXT);
+            try {
+                return GenerationOutcome.success(sourceCard,
+                        parseAndCreateGeneratedCard(aiResponse, sourceCard, category, model, prompt));
+            } catch (GenerationException e) {
+                aiGenerationService.evictCachedContent(prompt);
+                throw e;
+            }
+        } catch (GenerationException e) {
+            log.warn("AI 문제 생성 실패 - sourceCardId: {}, error: {}", sourceCard.getId(), e.getMessage());
+            return GenerationOutcome.failed(sourceCard, e);
+        } catch (RuntimeException e) {
+            log.warn("AI 문제 생성 실패 - sourceCardId: {}, error: {}", sourceCard.getId(), e.getMessage());
+            return GenerationOutcome.failed(sourceCard, new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED));
+        }
+    }
+
+    // 공용 카드나 같은 요청에서 먼저 생성된 문제와 거의 같으면 저장하지 않고 실패로 보고한다
+    private GenerationOutcome rejectIfDuplicate(GenerationOutcome outcome, MinHashLshIndex generatedIndex) {
+        GeneratedCard generatedCard = outcome.generatedCard();
+        if (generatedCard == null) {
+            return outcome;
+        }
+        String question = generatedCard.getQuestion();
+        if (cardDuplicateDetector.isCatalogDuplicate(question)
+                || !generatedIndex.addIfAbsent(generatedIndex.size(), question, duplicateThreshold)) {
+            log.info("중복 문제 생성 제외 - sourceCardId: {}", outcome.sourceCard().getId());
+            return GenerationOutcome.failed(outcome.sourceCard(), new GenerationException(GenerationErrorCode.DUPLICATE_CARD));
+        }
+        return outcome;
+    }
+
     private List<Card> selectRandomCards(List<Card> cards, int count) {
         List<Card> shuffled = new ArrayList<>(cards);
         Collections.shuffle(shuffled);
@@ -139,8 +336,7 @@ public class GenerationService {
     private GeneratedCard parseAndCreateGeneratedCard(String aiResponse, Card sourceCard,
                                                        Category category, String model, String prompt) {
         try {
-            String cleanedResponse = AiResponseUtils.extractJsonPayload(aiResponse);
-            JsonNode json = objectMapper.readTree(cleanedResponse);
+            JsonNode json = AiJsonSalvager.salvageObject(objectMapper, aiResponse);
 
             if (AiCategoryType.fromCode(category.getCode()).isQuizType()) {
                 return parseQuizResponse(json, sourceCard, category, model, prompt);
@@ -148,7 +344,7 @@ public class GenerationService {
                 return parseQaResponse(json, sourceCard, category, model, prompt);
             }
 
-        } catch (JsonProcessingException | IllegalArgumentException e) {
+        } catch (IllegalArgumentException e) {
             log.error("AI 응답 파싱 실패 - response: {}", aiResponse, e);
             throw new GenerationException(GenerationErrorCode.INVALID_AI_RESPONSE);
         }
@@ -218,4 +414,17 @@ public class GenerationService {
         return node.asText();
     }
 
+    private record GenerationPlan(Category category, List<Card> sourceCards) {
+    }
+
+    private record GenerationOutcome(Card sourceCard, GeneratedCard generatedCard, GenerationException failure) {
+
+        static GenerationOutcome success(Card sourceCard, GeneratedCard generatedCard) {
+            return new GenerationOutcome(sourceCard, generatedCard, null);
+        }
+
+        static GenerationOutcome failed(Card sourceCard, GenerationException failure) {
+            return new GenerationOutcome(sourceCard, null, failure);
+        }
+    }
 }
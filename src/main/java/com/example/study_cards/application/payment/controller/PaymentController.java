@@ -8,15 +8,14 @@ import com.example.study_cards.application.payment.dto.response.PaymentHistoryRe
 import com.example.study_cards.application.payment.service.PaymentService;
 import com.example.study_cards.application.subscription.dto.response.SubscriptionResponse;
 import com.example.study_cards.domain.user.entity.User;
-import com.example.study_cards.domain.user.service.UserDomainService;
-import com.example.study_cards.infra.security.user.CustomUserDetails;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.example.study_cards.infra.security.user.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RequiredArgsConstructor
@@ -25,37 +24,32 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    private final UserDomainService userDomainService;
 
     @PostMapping("/checkout")
     public ResponseEntity<CheckoutResponse> checkout(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser User user,
             @Valid @RequestBody CheckoutRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
         return ResponseEntity.ok(paymentService.checkout(user, request));
     }
 
     @PostMapping("/confirm-billing")
     public ResponseEntity<SubscriptionResponse> confirmBilling(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser UserVo user,
             @Valid @RequestBody ConfirmBillingRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
-        return ResponseEntity.ok(paymentService.confirmBilling(user, request));
+        return ResponseEntity.ok(paymentService.confirmBilling(user.id(), request));
     }
 
     @PostMapping("/confirm")
     public ResponseEntity<SubscriptionResponse> confirmPayment(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser UserVo user,
             @Valid @RequestBody ConfirmPaymentRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
-        return ResponseEntity.ok(paymentService.confirmPayment(user, request));
+        return ResponseEntity.ok(paymentService.confirmPayment(user.id(), request));
     }
 
     @GetMapping("/invoices")
     public ResponseEntity<Page<PaymentHistoryResponse>> getPaymentHistory(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser UserVo user,
             @PageableDefault(size = 10) Pageable pageable) {
-        User user = userDomainService.findById(userDetails.userId());
-        return ResponseEntity.ok(paymentService.getPaymentHistory(user, pageable));
+        return ResponseEntity.ok(paymentService.getPaymentHistory(user.id(), pageable));
     }
 }
@@ -73,10 +73,10 @@ public class PaymentService {
     }
 
     @Transactional
-    public SubscriptionResponse confirmBilling(User user, ConfirmBillingRequest request) {
+    public SubscriptionResponse confirmBilling(Long userId, ConfirmBillingRequest request) {
         Payment payment = paymentDomainService.getPaymentByOrderIdForUpdate(request.orderId());
 
-        if (!payment.getUser().getId().equals(user.getId())) {
+        if (!payment.getUser().getId().equals(userId)) {
             throw new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND);
         }
 
@@ -89,7 +89,7 @@ public class PaymentService {
         }
 
         if (payment.isCompleted()) {
-            return findExistingSubscription(user.getId());
+            return findExistingSubscription(userId);
         }
 
         if (!payment.isPending()) {
@@ -134,10 +134,10 @@ public class PaymentService {
     }
 
     @Transactional
-    public SubscriptionResponse confirmPayment(User user, ConfirmPaymentRequest request) {
+    public SubscriptionResponse confirmPayment(Long userId, ConfirmPaymentRequest request) {
         Payment payment = paymentDomainService.getPaymentByOrderIdForUpdate(request.orderId());
 
-        if (!payment.getUser().getId().equals(user.getId())) {
+        if (!payment.getUser().getId().equals(userId)) {
             throw new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND);
         }
 
@@ -146,7 +146,7 @@ public class PaymentService {
         }
 
         if (payment.isCompleted()) {
-            return findExistingSubscription(user.getId());
+            return findExistingSubscription(userId);
         }
 
         if (!payment.isPending()) {
@@ -174,8 +174,8 @@ public class PaymentService {
         return SubscriptionResponse.from(subscription);
     }
 
-    public Page<PaymentHistoryResponse> getPaymentHistory(User user, Pageable pageable) {
-        return paymentDomainService.findCompletedByUserId(user.getId(), pageable)
+    public Page<PaymentHistoryResponse> getPaymentHistory(Long userId, Pageable pageable) {
+        return paymentDomainService.findCompletedByUserId(userId, pageable)
                 .map(PaymentHistoryResponse::from);
     }
 
@@ -3,7 +3,7 @@ package com.example.study_cards.application.study.service;
 import com.example.study_cards.application.study.dto.response.AiRecommendationHistoryResponse;
 import com.example.study_cards.application.study.dto.response.AiRecommendationResponse;
 import com.example.study_cards.application.study.dto.response.RecommendationResponse.RecommendedCard;
-import com.example.study_cards.common.util.AiResponseUtils;
+import com.example.study_cards.common.util.AiJsonSalvager;
 import com.example.study_cards.domain.ai.entity.AiGenerationLog;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.ai.exception.AiErrorCode;
@@ -17,8 +17,13 @@ import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import com.example.study_cards.domain.subscription.service.SubscriptionDomainService;
 import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
+import com.example.study_cards.infra.redis.service.AiRecommendationCacheService;
 import com.example.study_cards.infra.redis.service.AiReviewQuotaService;
+import com.example.study_cards.infra.redis.vo.AiRecommendationVo;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +34,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -56,6 +62,7 @@ public class StudyAiRecommendationService {
     private final AiReviewQuotaService aiReviewQuotaService;
     private final AiGenerationService aiGenerationService;
     private final AiGenerationLogDomainService aiGenerationLogDomainService;
+    private final AiRecommendationCacheService aiRecommendationCacheService;
     private final ObjectMapper objectMapper;
 
     @Value("${app.ai.recommendation.min-studied-cards:10}")
@@ -64,6 +71,9 @@ public class StudyAiRecommendationService {
     @Value("${app.ai.recommendation.min-recommendation-cards:3}")
     private int minRecommendationCards;
 
+    @Value("${app.ai.recommendation.cache.accuracy-bucket:10}")
+    private int accuracyBucketSize;
+
     @Transactional
     public AiRecommendationResponse getAiRecommendations(User user, int limit) {
         boolean isAdmin = isAdmin(user);
@@ -136,6 +146,16 @@ public class StudyAiRecommendationService {
             );
         }
 
+        String prompt = buildAiPrompt(accuracies, recommendationPool, ruleWeakConcepts);
+
+        // 학습 상태가 마지막 분석 때와 같으면 AI를 다시 호출하지 않고 사용량도 차감하지 않는다
+        String studyState = buildStudyState(recommendationPool, accuracies);
+        AiRecommendationResponse cachedResponse = findCachedRecommendation(
+                user, prompt, studyState, recommendations, ruleWeakConcepts, fallbackStrategy, subscription, isAdmin);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
         if (!tryAcquireQuotaIfNeeded(user, subscription, isAdmin)) {
             saveFallbackLog(user, recommendations.size(), fallbackStrategy, AiRecommendationResponse.FallbackReason.QUOTA_EXCEEDED);
             AiRecommendationResponse.Quota quota = resolveQuota(user, subscription, isAdmin);
@@ -149,10 +169,11 @@ public class StudyAiRecommendationService {
             );
         }
 
-        String prompt = buildAiPrompt(accuracies, recommendationPool, ruleWeakConcepts);
-
         try {
-            String aiResponse = aiGenerationService.generateContent(prompt);
+            AiCompletion completion = aiGenerationService.generate(prompt, AiRequestContext.of(
+                    AiGenerationType.RECOMMENDATION, plan,
+                    isAdmin ? AiRequestPriority.HIGH : AiRequestPriority.from(plan)));
+            String aiResponse = completion.content();
             ParsedAiReview parsed = parseAiReview(aiResponse);
             List<AiRecommendationResponse.WeakConcept> weakConcepts =
                     parsed.weakConcepts().isEmpty() ? ruleWeakConcepts : parsed.weakConcepts();
@@ -161,7 +182,8 @@ public class StudyAiRecommendationService {
                             ? fallbackStrategy
                             : parsed.reviewStrategy();
 
-            saveSuccessLog(user, prompt, aiResponse, recommendations.size());
+            saveSuccessLog(user, prompt, completion.content(), completion.model(), recommendations.size());
+            aiRecommendationCacheService.store(user.getId(), studyState, aiResponse, completion.model());
             AiRecommendationResponse.Quota quota = resolveQuota(user, subscription, isAdmin);
             return AiRecommendationResponse.of(
                     recommendations,
@@ -196,6 +218,67 @@ public class StudyAiRecommendationService {
                 .map(AiRecommendationHistoryResponse::from);
     }
 
+    private AiRecommendationResponse findCachedRecommendation(
+            User user,
+            String prompt,
+            String studyState,
+            List<RecommendedCard> recommendations,
+            List<AiRecommendationResponse.WeakConcept> ruleWeakConcepts,
+            String fallbackStrategy,
+            Subscription subscription,
+            boolean isAdmin
+    ) {
+        AiRecommendationVo cached = aiRecommendationCacheService.find(user.getId(), studyState).orElse(null);
+        if (cached == null) {
+            return null;
+        }
+
+        ParsedAiReview parsed;
+        try {
+            parsed = parseAiReview(cached.content());
+        } catch (AiException e) {
+            aiRecommendationCacheService.evict(user.getId());
+            return null;
+        }
+
+        // 캐시 적중도 이력에서 조회할 수 있도록 로그는 남긴다
+        saveSuccessLog(user, prompt, cached.content(), cached.model(), recommendations.size());
+        return AiRecommendationResponse.of(
+                recommendations,
+                parsed.weakConcepts().isEmpty() ? ruleWeakConcepts : parsed.weakConcepts(),
+                parsed.reviewStrategy() == null || parsed.reviewStrategy().isBlank()
+                        ? fallbackStrategy
+                        : parsed.reviewStrategy(),
+                true,
+                false,
+                AiRecommendationResponse.FallbackReason.NONE,
+                resolveQuota(user, subscription, isAdmin)
+        );
+    }
+
+    // 추천 카드 구성, 카테고리별 정답률 구간, 날짜가 같으면 같은 학습 상태로 본다
+    private String buildStudyState(List<RecommendedCard> recommendationPool, List<CategoryAccuracy> accuracies) {
+        StringBuilder state = new StringBuilder(LocalDate.now().toString());
+        state.append("|cards:");
+        for (RecommendedCard card : recommendationPool) {
+            state.append(card.cardId() != null ? "c" + card.cardId() : "u" + card.userCardId()).append(',');
+        }
+        state.append("|accuracy:");
+        if (accuracies != null) {
+            accuracies.stream()
+                    .sorted(Comparator.comparing(CategoryAccuracy::categoryCode,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .forEach(ca -> state.append(ca.categoryCode())
+                            .append('=').append(toAccuracyBucket(ca.accuracy())).append(','));
+        }
+        return state.toString();
+    }
+
+    private int toAccuracyBucket(Double accuracy) {
+        int bucketSize = Math.max(1, accuracyBucketSize);
+        return (int) Math.floor((accuracy == null ? 0.0 : accuracy) / bucketSize);
+    }
+
     private List<RecommendedCard> toRecommendedCards(User user, int limit) {
         List<ScoredRecord> scoredRecords = studyRecordDomainService.findPrioritizedDueRecords(user, limit);
         return scoredRecords.stream()
@@ -291,8 +374,8 @@ public class StudyAiRecommendationService {
 
     private ParsedAiReview parseAiReview(String aiResponse) {
         try {
-            String cleaned = AiResponseUtils.extractJsonPayload(aiResponse);
-            JsonNode root = objectMapper.readTree(cleaned);
+            // 응답이 잘렸거나 문법이 조금 틀려도 읽을 수 있는 부분은 살린다
+            JsonNode root = AiJsonSalvager.salvageObject(objectMapper, aiResponse);
 
             List<AiRecommendationResponse.WeakConcept> weakConcepts = new ArrayList<>();
             JsonNode weakNode = root.get("weakConcepts");
@@ -394,14 +477,14 @@ public class StudyAiRecommendationService {
         );
     }
 
-    private void saveSuccessLog(User user, String prompt, String response, int recommendationCount) {
+    private void saveSuccessLog(User user, String prompt, String response, String model, int recommendationCount) {
         try {
             aiGenerationLogDomainService.save(AiGenerationLog.builder()
                     .user(user)
                     .type(AiGenerationType.RECOMMENDATION)
                     .prompt(prompt)
                     .response(response)
-                    .model(aiGenerationService.getDefaultModel())
+                    .model(model)
                     .cardsGenerated(recommendationCount)
                     .success(true)
                     .build());
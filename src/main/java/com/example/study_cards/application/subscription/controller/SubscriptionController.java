@@ -6,12 +6,10 @@ import com.example.study_cards.application.subscription.dto.response.PlanRespons
 import com.example.study_cards.application.subscription.dto.response.ResumeSubscriptionPrepareResponse;
 import com.example.study_cards.application.subscription.dto.response.SubscriptionResponse;
 import com.example.study_cards.application.subscription.service.SubscriptionService;
-import com.example.study_cards.domain.user.entity.User;
-import com.example.study_cards.domain.user.service.UserDomainService;
-import com.example.study_cards.infra.security.user.CustomUserDetails;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.example.study_cards.infra.security.user.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,7 +20,6 @@ import java.util.List;
 public class SubscriptionController {
 
     private final SubscriptionService subscriptionService;
-    private final UserDomainService userDomainService;
 
     @GetMapping("/plans")
     public ResponseEntity<List<PlanResponse>> getPlans() {
@@ -31,9 +28,8 @@ public class SubscriptionController {
 
     @GetMapping("/me")
     public ResponseEntity<SubscriptionResponse> getMySubscription(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        User user = userDomainService.findById(userDetails.userId());
-        SubscriptionResponse response = subscriptionService.getMySubscriptionOrNull(user);
+            @CurrentUser UserVo user) {
+        SubscriptionResponse response = subscriptionService.getMySubscriptionOrNull(user.id());
         if (response == null) {
             return ResponseEntity.noContent().build();
         }
@@ -42,11 +38,10 @@ public class SubscriptionController {
 
     @PostMapping("/cancel")
     public ResponseEntity<SubscriptionResponse> cancelSubscription(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser UserVo user,
             @RequestBody(required = false) CancelSubscriptionRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
         SubscriptionResponse response = subscriptionService.cancelSubscription(
-                user,
+                user.id(),
                 request != null ? request : new CancelSubscriptionRequest(null)
         );
         return ResponseEntity.ok(response);
@@ -54,11 +49,10 @@ public class SubscriptionController {
 
     @PostMapping({"/resume", "/reactivate"})
     public ResponseEntity<SubscriptionResponse> resumeSubscription(
-            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @CurrentUser UserVo user,
             @RequestBody(required = false) ResumeSubscriptionRequest request) {
-        User user = userDomainService.findById(userDetails.userId());
         SubscriptionResponse response = subscriptionService.resumeSubscription(
-                user,
+                user.id(),
                 request != null ? request : new ResumeSubscriptionRequest(null)
         );
         return ResponseEntity.ok(response);
@@ -66,9 +60,8 @@ public class SubscriptionController {
 
     @PostMapping("/resume/prepare")
     public ResponseEntity<ResumeSubscriptionPrepareResponse> prepareResumeSubscription(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        User user = userDomainService.findById(userDetails.userId());
-        ResumeSubscriptionPrepareResponse response = subscriptionService.prepareResumeSubscription(user);
+            @CurrentUser UserVo user) {
+        ResumeSubscriptionPrepareResponse response = subscriptionService.prepareResumeSubscription(user.id());
         return ResponseEntity.ok(response);
     }
 }
@@ -11,7 +11,6 @@ import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import com.example.study_cards.domain.subscription.exception.SubscriptionErrorCode;
 import com.example.study_cards.domain.subscription.exception.SubscriptionException;
 import com.example.study_cards.domain.subscription.service.SubscriptionDomainService;
-import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.infra.payment.service.TossPaymentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -34,19 +33,19 @@ public class SubscriptionService {
                 .toList();
     }
 
-    public SubscriptionResponse getMySubscription(User user) {
-        Subscription subscription = subscriptionDomainService.getSubscription(user.getId());
+    public SubscriptionResponse getMySubscription(Long userId) {
+        Subscription subscription = subscriptionDomainService.getSubscription(userId);
         return SubscriptionResponse.from(subscription);
     }
 
-    public SubscriptionResponse getMySubscriptionOrNull(User user) {
-        return subscriptionDomainService.findActiveByUserId(user.getId())
+    public SubscriptionResponse getMySubscriptionOrNull(Long userId) {
+        return subscriptionDomainService.findActiveByUserId(userId)
                 .map(SubscriptionResponse::from)
                 .orElse(null);
     }
 
-    public ResumeSubscriptionPrepareResponse prepareResumeSubscription(User user) {
-        Subscription subscription = subscriptionDomainService.getSubscription(user.getId());
+    public ResumeSubscriptionPrepareResponse prepareResumeSubscription(Long userId) {
+        Subscription subscription = subscriptionDomainService.getSubscription(userId);
 
         if (!subscription.isActive()) {
             throw new SubscriptionException(SubscriptionErrorCode.SUBSCRIPTION_NOT_ACTIVE);
@@ -68,8 +67,8 @@ public class SubscriptionService {
     }
 
     @Transactional
-    public SubscriptionResponse cancelSubscription(User user, CancelSubscriptionRequest request) {
-        Subscription subscription = subscriptionDomainService.getSubscription(user.getId());
+    public SubscriptionResponse cancelSubscription(Long userId, CancelSubscriptionRequest request) {
+        Subscription subscription = subscriptionDomainService.getSubscription(userId);
 
         if (!subscription.isActive()) {
             throw new SubscriptionException(SubscriptionErrorCode.SUBSCRIPTION_NOT_ACTIVE);
@@ -88,13 +87,13 @@ public class SubscriptionService {
     }
 
     @Transactional
-    public SubscriptionResponse resumeSubscription(User user) {
-        return resumeSubscription(user, new ResumeSubscriptionRequest(null));
+    public SubscriptionResponse resumeSubscription(Long userId) {
+        return resumeSubscription(userId, new ResumeSubscriptionRequest(null));
     }
 
     @Transactional
-    public SubscriptionResponse resumeSubscription(User user, ResumeSubscriptionRequest request) {
-        Subscription subscription = subscriptionDomainService.getSubscription(user.getId());
+    public SubscriptionResponse resumeSubscription(Long userId, ResumeSubscriptionRequest request) {
+        Subscription subscription = subscriptionDomainService.getSubscription(userId);
 
         if (!subscription.isActive()) {
             throw new SubscriptionException(SubscriptionErrorCode.SUBSCRIPTION_NOT_ACTIVE);
@@ -4,6 +4,7 @@ import com.example.study_cards.application.usercard.dto.request.UserCardCreateRe
 import com.example.study_cards.application.usercard.dto.request.UserCardUpdateRequest;
 import com.example.study_cards.application.usercard.dto.response.UserCardResponse;
 import com.example.study_cards.application.usercard.service.UserCardService;
+import com.example.study_cards.common.response.CatalogETagResponder;
 import com.example.study_cards.infra.security.user.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -22,19 +24,20 @@ import org.springframework.web.bind.annotation.*;
 public class UserCardController {
 
     private final UserCardService userCardService;
+    private final CatalogETagResponder catalogETagResponder;
 
     @GetMapping
     public ResponseEntity<Page<UserCardResponse>> getUserCards(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String category,
+            WebRequest webRequest,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<UserCardResponse> cards;
-        if (category != null && !category.isBlank()) {
-            cards = userCardService.getUserCardsByCategory(userDetails.userId(), category, pageable);
-        } else {
-            cards = userCardService.getUserCards(userDetails.userId(), pageable);
-        }
-        return ResponseEntity.ok(cards);
+        return catalogETagResponder.forUser(userDetails.userId(), webRequest, () -> {
+            if (category != null && !category.isBlank()) {
+                return userCardService.getUserCardsByCategory(userDetails.userId(), category, pageable);
+            }
+            return userCardService.getUserCards(userDetails.userId(), pageable);
+        });
     }
 
     @GetMapping("/{id}")
@@ -48,8 +51,10 @@ public class UserCardController {
     public ResponseEntity<Page<UserCardResponse>> getUserCardsForStudy(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) String category,
+            WebRequest webRequest,
             @PageableDefault(size = 20, sort = "efFactor", direction = Sort.Direction.ASC) Pageable pageable) {
-        return ResponseEntity.ok(userCardService.getUserCardsForStudy(userDetails.userId(), category, pageable));
+        return catalogETagResponder.forUser(userDetails.userId(), webRequest,
+                () -> userCardService.getUserCardsForStudy(userDetails.userId(), category, pageable));
     }
 
     @PostMapping
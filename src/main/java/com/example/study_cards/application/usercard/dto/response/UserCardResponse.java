@@ -1,9 +1,12 @@
 package com.example.study_cards.application.usercard.dto.response;
 
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
 import com.example.study_cards.application.category.dto.response.CategoryResponse;
 import com.example.study_cards.domain.usercard.entity.UserCard;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record UserCardResponse(
         Long id,
@@ -13,9 +16,16 @@ public record UserCardResponse(
         String answerSub,
         Double efFactor,
         CategoryResponse category,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        // 작성 직후 응답에만 포함되는 비슷한 공용 카드 안내
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<RelatedCardResponse> similarCards
 ) {
     public static UserCardResponse from(UserCard userCard) {
+        return from(userCard, List.of());
+    }
+
+    public static UserCardResponse from(UserCard userCard, List<RelatedCardResponse> similarCards) {
         return new UserCardResponse(
                 userCard.getId(),
                 userCard.getQuestion(),
@@ -24,7 +34,8 @@ public record UserCardResponse(
                 userCard.getAnswerSub(),
                 userCard.getEfFactor(),
                 CategoryResponse.from(userCard.getCategory()),
-                userCard.getCreatedAt()
+                userCard.getCreatedAt(),
+                similarCards
         );
     }
 }
@@ -1,5 +1,7 @@
 package com.example.study_cards.application.usercard.service;
 
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
+import com.example.study_cards.application.card.service.RelatedCardService;
 import com.example.study_cards.application.usercard.dto.request.UserCardCreateRequest;
 import com.example.study_cards.application.usercard.dto.request.UserCardUpdateRequest;
 import com.example.study_cards.application.usercard.dto.response.UserCardResponse;
@@ -25,6 +27,7 @@ public class UserCardService {
     private final UserCardDomainService userCardDomainService;
     private final UserDomainService userDomainService;
     private final CategoryDomainService categoryDomainService;
+    private final RelatedCardService relatedCardService;
 
     public Page<UserCardResponse> getUserCards(Long userId, Pageable pageable) {
         User user = userDomainService.findById(userId);
@@ -73,7 +76,9 @@ public class UserCardService {
                 request.answerSub(),
                 category
         );
-        return UserCardResponse.from(userCard);
+        List<RelatedCardResponse> similarCards =
+                relatedCardService.findSimilarCards(request.question(), request.answer(), category);
+        return UserCardResponse.from(userCard, similarCards);
     }
 
     @Transactional
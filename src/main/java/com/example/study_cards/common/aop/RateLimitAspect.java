@@ -0,0 +1,109 @@
+package com.example.study_cards.common.aop;
+
+import com.example.study_cards.common.exception.RateLimitErrorCode;
+import com.example.study_cards.common.exception.RateLimitException;
+import com.example.study_cards.common.util.ClientIpUtils;
+import com.example.study_cards.infra.redis.service.RateLimitService;
+import com.example.study_cards.infra.redis.service.RateLimitService.RateLimitResult;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link RateLimited} 가 붙은 요청을 제한하고 RateLimit-* 응답 헤더를 채운다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private static final String LIMIT_HEADER = "RateLimit-Limit";
+    private static final String REMAINING_HEADER = "RateLimit-Remaining";
+    private static final String RESET_HEADER = "RateLimit-Reset";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final RateLimitService rateLimitService;
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(rateLimited)")
+    public Object around(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+        if (rateLimited.anonymousOnly() && isAuthenticated()) {
+            return joinPoint.proceed();
+        }
+
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        String identifier = resolveIdentifier(joinPoint, rateLimited, attributes);
+        if (identifier == null) {
+            return joinPoint.proceed();
+        }
+
+        RateLimitResult result = rateLimitService.tryAcquire(rateLimited.key(), identifier,
+                rateLimited.limit(), Duration.ofSeconds(rateLimited.windowSeconds()));
+        if (attributes != null && attributes.getResponse() != null) {
+            writeHeaders(attributes.getResponse(), result);
+        }
+        if (!result.allowed()) {
+            throw new RateLimitException(RateLimitErrorCode.TOO_MANY_REQUESTS);
+        }
+        return joinPoint.proceed();
+    }
+
+    private boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private String resolveIdentifier(ProceedingJoinPoint joinPoint, RateLimited rateLimited,
+                                     ServletRequestAttributes attributes) {
+        if (rateLimited.identifier().isBlank()) {
+            if (attributes == null) {
+                return null;
+            }
+            return ClientIpUtils.resolve(attributes.getRequest());
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+        Expression expression = expressions.computeIfAbsent(rateLimited.identifier(), expressionParser::parseExpression);
+        Object value = expression.getValue(context);
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    private void writeHeaders(HttpServletResponse response, RateLimitResult result) {
+        response.setHeader(LIMIT_HEADER, String.valueOf(result.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(Math.max(0, result.remaining())));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(result.resetMs())));
+        if (!result.allowed()) {
+            response.setHeader(RETRY_AFTER_HEADER, String.valueOf(Math.max(1, toSeconds(result.retryAfterMs()))));
+        }
+    }
+
+    // 남은 시간이 1초 미만이어도 0으로 보내지 않도록 올림한다
+    private long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.study_cards.common.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * key 별로 windowSeconds 동안 limit 번까지 호출을 허용한다.
+ * identifier 는 메서드 파라미터를 참조하는 SpEL 이며(예: "#request.email()"), 비어 있으면 클라이언트 IP 로 구분한다.
+ * anonymousOnly 가 true 면 로그인한 사용자의 요청은 제한하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    String key();
+
+    String identifier() default "";
+
+    int limit();
+
+    long windowSeconds();
+
+    boolean anonymousOnly() default false;
+}
@@ -0,0 +1,15 @@
+package com.example.study_cards.common.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitErrorCode implements ErrorCode {
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,16 @@
+package com.example.study_cards.common.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RateLimitException extends BaseException {
+
+    private final RateLimitErrorCode errorCode;
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.study_cards.common.response;
+
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 카탈로그 버전 ETag 로 조건부 GET 을 처리한다. If-None-Match 가 일치하면 본문을 만들지 않고 304 를 반환하고,
+ * 아니면 ETag 와 no-cache 를 붙여 200 으로 응답한다. Redis 장애로 버전을 모르면 ETag 없이 200 으로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETagResponder {
+
+    private final CatalogVersionService catalogVersionService;
+
+    // 공용 카탈로그(카드/카테고리)만 담은 응답
+    public <T> ResponseEntity<T> catalog(WebRequest webRequest, Supplier<T> body) {
+        return respond(catalogVersionService.getCatalogETag(), webRequest, CacheControl.noCache(), body);
+    }
+
+    // 사용자 카드가 섞일 수 있는 응답. userId 가 없으면 카탈로그 버전만 반영한다
+    public <T> ResponseEntity<T> forUser(Long userId, WebRequest webRequest, Supplier<T> body) {
+        String eTag = userId != null
+                ? catalogVersionService.getUserCardETag(userId)
+                : catalogVersionService.getCatalogETag();
+        return respond(eTag, webRequest, CacheControl.noCache().cachePrivate(), body);
+    }
+
+    private <T> ResponseEntity<T> respond(String eTag, WebRequest webRequest, CacheControl cacheControl, Supplier<T> body) {
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.study_cards.common.util;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 형식이 조금 어긋난 AI 응답에서 쓸 수 있는 JSON 을 최대한 복구한다.
+ * 앞뒤 설명 문장, 끝에 남은 쉼표, 따옴표 대신 쓰인 “ ”, 중간에 잘린 응답을 허용한다.
+ */
+public final class AiJsonSalvager {
+
+    private static final Pattern SMART_DOUBLE_QUOTES = Pattern.compile("[\\u201C\\u201D\\u201E\\u201F\\u2033]");
+    private static final Pattern SMART_SINGLE_QUOTES = Pattern.compile("[\\u2018\\u2019\\u201A\\u201B\\u2032]");
+
+    private AiJsonSalvager() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    public record Result(List<JsonNode> nodes, int dropped) {
+    }
+
+    /**
+     * 배열 응답에서 끝까지 닫힌 원소 객체만 모아 반환한다.
+     * 파싱할 수 없는 원소와 잘린 마지막 원소는 dropped 로 센다.
+     */
+    public static Result salvageArray(ObjectMapper objectMapper, String response) {
+        String payload = AiResponseUtils.extractJsonPayload(response);
+
+        List<JsonNode> nodes = new ArrayList<>();
+        AtomicInteger failed = new AtomicInteger();
+        JsonArrayStreamParser parser = new JsonArrayStreamParser(element -> {
+            JsonNode node = readObject(objectMapper, element);
+            if (node != null) {
+                nodes.add(node);
+            } else {
+                failed.incrementAndGet();
+            }
+        });
+        parser.feed(payload);
+
+        int dropped = failed.get() + (parser.hasPendingObject() ? 1 : 0);
+        return new Result(nodes, dropped);
+    }
+
+    /**
+     * 단일 객체 응답을 읽는다. 중간에 잘렸으면 마지막으로 완성된 값까지만 남기고 괄호를 닫아 읽는다.
+     */
+    public static JsonNode salvageObject(ObjectMapper objectMapper, String response) {
+        String payload = AiResponseUtils.extractJsonPayload(response);
+        int start = payload.indexOf('{');
+        if (start < 0) {
+            throw new IllegalArgumentException("AI response has no JSON object");
+        }
+
+        String candidate = payload.substring(start);
+        JsonNode node = readObject(objectMapper, candidate);
+        if (node == null) {
+            String repaired = closeTruncated(normalizeQuotes(candidate));
+            node = repaired != null ? readObject(objectMapper, repaired) : null;
+        }
+        if (node == null) {
+            throw new IllegalArgumentException("AI response JSON could not be recovered");
+        }
+        return node;
+    }
+
+    // 그대로 읽어 보고, 실패하면 둥근 따옴표를 JSON 따옴표로 바꿔 한 번 더 시도
+    public static JsonNode readObject(ObjectMapper objectMapper, String json) {
+        JsonNode node = read(objectMapper, json);
+        if (node == null) {
+            node = read(objectMapper, normalizeQuotes(json));
+        }
+        return node != null && node.isObject() ? node : null;
+    }
+
+    private static JsonNode read(ObjectMapper objectMapper, String json) {
+        try {
+            return lenientReader(objectMapper).readTree(json);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static ObjectReader lenientReader(ObjectMapper objectMapper) {
+        return objectMapper.reader().withFeatures(
+                JsonReadFeature.ALLOW_TRAILING_COMMA.mappedFeature(),
+                JsonReadFeature.ALLOW_SINGLE_QUOTES.mappedFeature(),
+                JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(),
+                JsonReadFeature.ALLOW_JAVA_COMMENTS.mappedFeature()
+        );
+    }
+
+    private static String normalizeQuotes(String json) {
+        String normalized = SMART_DOUBLE_QUOTES.matcher(json).replaceAll("\"");
+        return SMART_SINGLE_QUOTES.matcher(normalized).replaceAll("'");
+    }
+
+    /**
+     * 쉼표나 닫는 괄호처럼 값이 완성된 마지막 지점에서 자르고, 열린 괄호를 역순으로 닫는다.
+     */
+    static String closeTruncated(String json) {
+        Deque<Character> open = new ArrayDeque<>();
+        boolean inString = false;
+        boolean escaped = false;
+        int cut = -1;
+        String closersAtCut = "";
+
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                open.push(c);
+            } else if (c == '}' || c == ']') {
+                if (open.isEmpty()) {
+                    break;
+                }
+                open.pop();
+                cut = i + 1;
+                closersAtCut = closers(open);
+                if (open.isEmpty()) {
+                    break;
+                }
+            } else if (c == ',' && !open.isEmpty()) {
+                cut = i;
+                closersAtCut = closers(open);
+            }
+        }
+
+        if (cut < 0) {
+            return null;
+        }
+        return json.substring(0, cut) + closersAtCut;
+    }
+
+    private static String closers(Deque<Character> open) {
+        StringBuilder closers = new StringBuilder();
+        for (char c : open) {
+            closers.append(c == '{' ? '}' : ']');
+        }
+        return closers.toString();
+    }
+}
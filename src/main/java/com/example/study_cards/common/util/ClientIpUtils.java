@@ -0,0 +1,69 @@
+package com.example.study_cards.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+public final class ClientIpUtils {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String REAL_IP_HEADER = "X-Real-IP";
+
+    private static final String IP_PATTERN = "^((25[0-5]|2[0-4][0-9]|1?[0-9]?[0-9])\\.){3}(25[0-5]|2[0-4][0-9]|1?[0-9]?[0-9])$"
+            + "|^([0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$|^::1$|^::$";
+
+    private ClientIpUtils() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * 클라이언트 IP 를 반환합니다. 프록시 헤더는 연결된 주소가 내부망(루프백/사설/링크 로컬) 프록시일 때만 믿고,
+     * X-Forwarded-For 는 오른쪽부터 내부 프록시를 건너뛴 첫 주소를 씁니다. 그 외에는 연결된 주소를 씁니다.
+     */
+    public static String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!isValidIpAddress(hop)) {
+                    // 형식이 깨진 값부터는 클라이언트가 임의로 넣은 값일 수 있다
+                    return remoteAddr;
+                }
+                if (!isTrustedProxy(hop)) {
+                    return hop;
+                }
+            }
+            return hops[0].trim();
+        }
+
+        String realIp = request.getHeader(REAL_IP_HEADER);
+        return isValidIpAddress(realIp) ? realIp : remoteAddr;
+    }
+
+    private static boolean isTrustedProxy(String ip) {
+        if (!isValidIpAddress(ip)) {
+            return false;
+        }
+        try {
+            // IP 리터럴만 넘기므로 DNS 조회는 일어나지 않는다
+            InetAddress address = InetAddress.getByName(ip);
+            return address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValidIpAddress(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return false;
+        }
+        return ip.matches(IP_PATTERN);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.study_cards.common.util;
+
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍으로 들어오는 JSON 배열 텍스트를 조각 단위로 받아,
+ * 최상위 원소 객체가 닫히는 즉시 해당 객체의 JSON 문자열을 전달한다.
+ * 배열 앞의 코드 펜스나 설명 문장은 무시한다.
+ */
+public class JsonArrayStreamParser {
+
+    private final Consumer<String> onObject;
+    private final StringBuilder current = new StringBuilder();
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int emittedCount;
+
+    public JsonArrayStreamParser(Consumer<String> onObject) {
+        this.onObject = onObject;
+    }
+
+    public void feed(String chunk) {
+        if (chunk == null) {
+            return;
+        }
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    public int getEmittedCount() {
+        return emittedCount;
+    }
+
+    // 입력이 끝났는데 닫히지 않은 원소가 남아 있으면 응답이 중간에 잘린 것
+    public boolean hasPendingObject() {
+        return depth > 0;
+    }
+
+    private void accept(char c) {
+        if (!started) {
+            if (c == '[') {
+                started = true;
+                return;
+            }
+            if (c != '{') {
+                return;
+            }
+            // 배열 없이 단일 객체만 응답한 경우도 원소 하나로 처리
+            started = true;
+        }
+
+        if (depth == 0) {
+            if (c == '{') {
+                depth = 1;
+                current.setLength(0);
+                current.append(c);
+            } else if (c == ']') {
+                finished = true;
+            }
+            return;
+        }
+
+        current.append(c);
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                inString = false;
+            }
+            return;
+        }
+
+        if (c == '"') {
+            inString = true;
+        } else if (c == '{' || c == '[') {
+            depth++;
+        } else if (c == '}' || c == ']') {
+            depth--;
+            if (depth == 0) {
+                emittedCount++;
+                onObject.accept(current.toString());
+                current.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.study_cards.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 정규화한 텍스트의 글자 bigram 집합을 MinHash 서명으로 요약하고 밴드별 버킷(LSH)에 등록한다.
+ * 조회 시 같은 버킷에 걸린 후보만 서명으로 Jaccard 유사도를 추정하므로 색인 크기와 무관하게 기대 O(1)로 동작한다.
+ */
+public class MinHashLshIndex {
+
+    private final int bands;
+    private final int rowsPerBand;
+    private final long[] seeds;
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+    // 밴드 16 x 행 4 기준 Jaccard 0.8 이상인 쌍은 99.9% 이상 후보로 걸린다
+    public MinHashLshIndex() {
+        this(16, 4);
+    }
+
+    public MinHashLshIndex(int bands, int rowsPerBand) {
+        if (bands <= 0 || rowsPerBand <= 0) {
+            throw new IllegalArgumentException("밴드 수와 밴드당 행 수는 1 이상이어야 합니다.");
+        }
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.seeds = new long[bands * rowsPerBand];
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < seeds.length; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            seeds[i] = seed;
+        }
+    }
+
+    public synchronized void add(long id, String text) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            return;
+        }
+        remove(id);
+        signatures.put(id, signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), ignored -> new ArrayList<>()).add(id);
+        }
+    }
+
+    public synchronized void remove(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            List<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized OptionalLong findNearDuplicate(String text, double threshold) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            return OptionalLong.empty();
+        }
+
+        Set<Long> checked = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            List<Long> bucket = buckets.get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Long candidate : bucket) {
+                if (checked.add(candidate) && similarity(signature, signatures.get(candidate)) >= threshold) {
+                    return OptionalLong.of(candidate);
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    // 중복이 아니면 색인에 추가하고 true를 반환한다
+    public synchronized boolean addIfAbsent(long id, String text, double threshold) {
+        if (findNearDuplicate(text, threshold).isPresent()) {
+            return false;
+        }
+        add(id, text);
+        return true;
+    }
+
+    public synchronized int size() {
+        return signatures.size();
+    }
+
+    private int[] signature(String text) {
+        String normalized = TextSimilarityUtils.normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingleCount = Math.max(1, normalized.length() - 1);
+        for (int i = 0; i < shingleCount; i++) {
+            long shingle = normalized.length() == 1
+                    ? normalized.charAt(0)
+                    : ((long) normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+            for (int h = 0; h < seeds.length; h++) {
+                int value = (int) mix(shingle ^ seeds[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private double similarity(int[] left, int[] right) {
+        int matched = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                matched++;
+            }
+        }
+        return (double) matched / left.length;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        int hash = 1;
+        int from = band * rowsPerBand;
+        for (int i = from; i < from + rowsPerBand; i++) {
+            hash = 31 * hash + signature[i];
+        }
+        return ((long) band << 32) | (hash & 0xFFFFFFFFL);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.study_cards.common.util;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class TextSimilarityUtils {
+
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextSimilarityUtils() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    // 대소문자, 공백, 문장부호 차이는 같은 텍스트로 본다
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return NON_WORD_PATTERN.matcher(normalized).replaceAll("");
+    }
+
+    public static boolean isNearDuplicate(String left, String right, double threshold) {
+        String normalizedLeft = normalize(left);
+        String normalizedRight = normalize(right);
+        if (normalizedLeft.equals(normalizedRight)) {
+            return true;
+        }
+        return bigramJaccard(normalizedLeft, normalizedRight) >= threshold;
+    }
+
+    public static double bigramJaccard(String left, String right) {
+        Set<String> leftBigrams = bigrams(left);
+        Set<String> rightBigrams = bigrams(right);
+        if (leftBigrams.isEmpty() || rightBigrams.isEmpty()) {
+            return 0.0;
+        }
+
+        Set<String> intersection = new HashSet<>(leftBigrams);
+        intersection.retainAll(rightBigrams);
+        int union = leftBigrams.size() + rightBigrams.size() - intersection.size();
+        return (double) intersection.size() / union;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            bigrams.add(text.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.study_cards.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -28,6 +29,66 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // 관리자 AI 문제 생성 전용 풀 - 풀 크기가 곧 provider 동시 호출 상한
+    @Bean(name = "generationExecutor")
+    public Executor generationExecutor(
+            @Value("${app.generation.max-concurrency:4}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ai-generation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 사용자 SSE 생성 전용 풀 - 관리자 배치/문서 청크와 나누어 쓰고, 가득 차면 요청 스레드에서 돌리지 않고 거절한다
+    @Bean(name = "aiStreamExecutor")
+    public Executor aiStreamExecutor(
+            @Value("${app.ai.stream.max-concurrency:8}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 사용자 AI 생성 작업 전용 풀 - 풀 크기가 곧 서버별 동시 생성 상한이고, 대기열까지 차면 요청 스레드에서 돌리지 않고 거절한다
+    @Bean(name = "aiJobExecutor")
+    public Executor aiJobExecutor(
+            @Value("${app.ai.job.max-concurrency:4}") int maxConcurrency,
+            @Value("${app.ai.job.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 배포로 종료될 때 슬롯을 선점한 작업이 버려지지 않도록 남은 작업을 마치고 종료한다
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(120);
+        executor.initialize();
+        return executor;
+    }
+
+    // provider 호출과 hedge 요청 전용 풀 - 생성 풀 안에서 다시 제출되므로 별도 풀로 분리해 교착을 막는다
+    @Bean(name = "aiCallExecutor")
+    public Executor aiCallExecutor(
+            @Value("${app.generation.max-concurrency:4}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency * 4);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-call-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
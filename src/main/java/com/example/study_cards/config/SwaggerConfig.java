@@ -1,5 +1,6 @@
 package com.example.study_cards.config;
 
+import com.example.study_cards.infra.security.user.CurrentUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.jackson.ModelResolver;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +29,8 @@ public class SwaggerConfig {
     @PostConstruct
     public void init() {
         ModelConverters.getInstance().addConverter(new ModelResolver(objectMapper));
+        // @CurrentUser 파라미터는 요청 값이 아니므로 문서에서 뺀다
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUser.class);
     }
 
     @Bean
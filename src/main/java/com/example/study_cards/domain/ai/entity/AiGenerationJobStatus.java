@@ -0,0 +1,12 @@
+package com.example.study_cards.domain.ai.entity;
+
+public enum AiGenerationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
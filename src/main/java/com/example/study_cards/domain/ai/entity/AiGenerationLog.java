@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "ai_generation_logs", indexes = {
         @Index(name = "idx_ai_generation_logs_user_id", columnList = "user_id"),
         @Index(name = "idx_ai_generation_logs_type", columnList = "type"),
-        @Index(name = "idx_ai_generation_logs_created_at", columnList = "createdAt")
+        @Index(name = "idx_ai_generation_logs_created_at", columnList = "createdAt"),
+        @Index(name = "idx_ai_generation_logs_type_created_at", columnList = "type, createdAt")
 })
 public class AiGenerationLog extends BaseEntity {
 
@@ -30,11 +31,10 @@ public class AiGenerationLog extends BaseEntity {
     @Column(nullable = false, length = 50)
     private AiGenerationType type;
 
-    @Column(columnDefinition = "TEXT")
-    private String prompt;
-
-    @Column(columnDefinition = "TEXT")
-    private String response;
+    // 원문은 로그 id 를 키로 별도 저장하고, 필요한 조회에서만 id 로 따로 읽어 붙인다.
+    // mappedBy 쪽 @OneToOne 은 원문 유무를 알기 위해 항상 즉시 조회되므로 연관관계로 매핑하지 않는다
+    @Transient
+    private AiGenerationLogPayload payload;
 
     @Column(length = 100)
     private String model;
@@ -52,11 +52,24 @@ public class AiGenerationLog extends BaseEntity {
                            String model, Integer cardsGenerated, Boolean success, String errorMessage) {
         this.user = user;
         this.type = type;
-        this.prompt = prompt;
-        this.response = response;
+        if (prompt != null || response != null) {
+            this.payload = new AiGenerationLogPayload(this, prompt, response);
+        }
         this.model = model;
         this.cardsGenerated = cardsGenerated;
         this.success = success != null ? success : true;
         this.errorMessage = errorMessage;
     }
+
+    public void attachPayload(AiGenerationLogPayload payload) {
+        this.payload = payload;
+    }
+
+    public String getPrompt() {
+        return payload != null ? payload.getPrompt() : null;
+    }
+
+    public String getResponse() {
+        return payload != null ? payload.getResponse() : null;
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.study_cards.domain.ai.entity;
+
+import com.example.study_cards.common.util.CompressionUtils;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * AI 로그의 프롬프트와 응답 원문. 로그 테이블을 작게 유지하기 위해 분리하고 deflate 로 압축해 저장한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "ai_generation_log_payloads")
+public class AiGenerationLogPayload {
+
+    @Id
+    private Long id;
+
+    // 로그 삭제 시 DB 에서 함께 삭제되므로 보관 기간 정리는 로그만 지우면 된다
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "log_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private AiGenerationLog log;
+
+    private byte[] prompt;
+
+    private byte[] response;
+
+    AiGenerationLogPayload(AiGenerationLog log, String prompt, String response) {
+        this.log = log;
+        this.prompt = CompressionUtils.compress(prompt);
+        this.response = CompressionUtils.compress(response);
+    }
+
+    public Long getLogId() {
+        return id;
+    }
+
+    public String getPrompt() {
+        return CompressionUtils.decompress(prompt);
+    }
+
+    public String getResponse() {
+        return CompressionUtils.decompress(response);
+    }
+}
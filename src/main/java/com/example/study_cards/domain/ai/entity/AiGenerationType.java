@@ -3,5 +3,6 @@ package com.example.study_cards.domain.ai.entity;
 public enum AiGenerationType {
     USER_CARD,
     RECOMMENDATION,
-    WEAKNESS_ANALYSIS
+    WEAKNESS_ANALYSIS,
+    ADMIN_CARD
 }
@@ -0,0 +1,43 @@
+package com.example.study_cards.domain.ai.entity;
+
+import com.example.study_cards.domain.common.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 AI 사용량 집계. 한도 확인은 로그 대신 이 행 하나만 조회한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "ai_usages", indexes = {
+        @Index(name = "idx_ai_usage_user_type_period", columnList = "user_id, type, period, period_start", unique = true)
+})
+public class AiUsage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 슬롯 선점이 요청 트랜잭션과 분리되어 커밋되므로 사용자 FK 없이 id만 보관
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private AiGenerationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AiUsagePeriod period;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private int used;
+}
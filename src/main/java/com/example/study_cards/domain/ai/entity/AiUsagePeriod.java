@@ -0,0 +1,13 @@
+package com.example.study_cards.domain.ai.entity;
+
+import java.time.LocalDate;
+
+public enum AiUsagePeriod {
+    LIFETIME,
+    DAILY;
+
+    // 평생 한도는 하나의 구간으로 묶기 위해 고정된 시작일을 사용
+    public LocalDate startOf(LocalDate date) {
+        return this == LIFETIME ? LocalDate.EPOCH : date;
+    }
+}
@@ -12,7 +12,10 @@ public enum AiErrorCode implements ErrorCode {
     AI_FEATURE_NOT_AVAILABLE(HttpStatus.FORBIDDEN, "AI 기능을 사용할 수 없는 플랜입니다."),
     GENERATION_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "AI 생성 횟수 제한을 초과했습니다."),
     AI_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI 카드 생성에 실패했습니다."),
+    AI_PROVIDER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많아 잠시 후 다시 시도해주세요."),
     INVALID_AI_RESPONSE(HttpStatus.INTERNAL_SERVER_ERROR, "AI 응답을 파싱할 수 없습니다."),
+    DUPLICATE_CARDS(HttpStatus.CONFLICT, "생성된 카드가 모두 이미 있는 카드와 중복됩니다."),
+    GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI 생성 작업을 찾을 수 없습니다."),
     FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "파일 크기가 너무 큽니다."),
     UNSUPPORTED_FILE_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다."),
     FILE_TEXT_EXTRACTION_FAILED(HttpStatus.BAD_REQUEST, "파일에서 텍스트를 추출할 수 없습니다."),
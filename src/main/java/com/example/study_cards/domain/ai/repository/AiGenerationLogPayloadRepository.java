@@ -0,0 +1,7 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationLogPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AiGenerationLogPayloadRepository extends JpaRepository<AiGenerationLogPayload, Long> {
+}
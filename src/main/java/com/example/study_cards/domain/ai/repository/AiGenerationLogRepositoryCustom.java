@@ -0,0 +1,30 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationLog;
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AiGenerationLogRepositoryCustom {
+
+    // 페이지의 로그 id 로 프롬프트/응답 원문을 한 번에 조회해 붙인다
+    Page<AiGenerationLog> findByUserIdAndTypeInWithPayload(Long userId, List<AiGenerationType> types, Pageable pageable);
+
+    List<Long> findIdsByTypeInAndCreatedAtBefore(List<AiGenerationType> types, LocalDateTime createdAt, int limit);
+
+    // 원문은 FK ON DELETE CASCADE 로 함께 삭제된다
+    long deleteByIdIn(List<Long> ids);
+
+    // 원문 분리 이전 스키마의 ai_generation_logs.prompt/response 컬럼이 남아 있는지
+    boolean hasLegacyPayloadColumns();
+
+    // 이전 컬럼에 값이 남은 로그의 [id, prompt, response] 를 id 순으로 조회
+    List<Object[]> findLegacyPayloads(int limit);
+
+    int insertPayloadIfAbsent(Long logId, byte[] prompt, byte[] response);
+
+    long clearLegacyPayloads(List<Long> ids);
+}
@@ -0,0 +1,145 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationLog;
+import com.example.study_cards.domain.ai.entity.AiGenerationLogPayload;
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.study_cards.domain.ai.entity.QAiGenerationLog.aiGenerationLog;
+import static com.example.study_cards.domain.ai.entity.QAiGenerationLogPayload.aiGenerationLogPayload;
+
+@RequiredArgsConstructor
+public class AiGenerationLogRepositoryCustomImpl implements AiGenerationLogRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<AiGenerationLog> findByUserIdAndTypeInWithPayload(Long userId, List<AiGenerationType> types,
+                                                                  Pageable pageable) {
+        List<AiGenerationLog> content = queryFactory
+                .selectFrom(aiGenerationLog)
+                .where(
+                        aiGenerationLog.user.id.eq(userId),
+                        aiGenerationLog.type.in(types)
+                )
+                .orderBy(aiGenerationLog.createdAt.desc(), aiGenerationLog.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        attachPayloads(content);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = queryFactory
+                    .select(aiGenerationLog.count())
+                    .from(aiGenerationLog)
+                    .where(
+                            aiGenerationLog.user.id.eq(userId),
+                            aiGenerationLog.type.in(types)
+                    )
+                    .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    private void attachPayloads(List<AiGenerationLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        Map<Long, AiGenerationLogPayload> payloads = queryFactory
+                .selectFrom(aiGenerationLogPayload)
+                .where(aiGenerationLogPayload.id.in(logs.stream().map(AiGenerationLog::getId).toList()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(AiGenerationLogPayload::getLogId, Function.identity()));
+        logs.forEach(log -> {
+            AiGenerationLogPayload payload = payloads.get(log.getId());
+            if (payload != null) {
+                log.attachPayload(payload);
+            }
+        });
+    }
+
+    @Override
+    public List<Long> findIdsByTypeInAndCreatedAtBefore(List<AiGenerationType> types, LocalDateTime createdAt,
+                                                        int limit) {
+        return queryFactory
+                .select(aiGenerationLog.id)
+                .from(aiGenerationLog)
+                .where(
+                        aiGenerationLog.type.in(types),
+                        aiGenerationLog.createdAt.lt(createdAt)
+                )
+                .orderBy(aiGenerationLog.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long deleteByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .delete(aiGenerationLog)
+                .where(aiGenerationLog.id.in(ids))
+                .execute();
+    }
+
+    @Override
+    public boolean hasLegacyPayloadColumns() {
+        Number count = (Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM information_schema.columns"
+                                + " WHERE table_name = 'ai_generation_logs' AND column_name IN ('prompt', 'response')")
+                .getSingleResult();
+        return count.intValue() == 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findLegacyPayloads(int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT id, prompt, response FROM ai_generation_logs"
+                                + " WHERE prompt IS NOT NULL OR response IS NOT NULL"
+                                + " ORDER BY id LIMIT :limit")
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public int insertPayloadIfAbsent(Long logId, byte[] prompt, byte[] response) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO ai_generation_log_payloads (log_id, prompt, response)"
+                                + " VALUES (:logId, :prompt, :response)"
+                                + " ON CONFLICT (log_id) DO NOTHING")
+                .setParameter("logId", logId)
+                .setParameter("prompt", prompt)
+                .setParameter("response", response)
+                .executeUpdate();
+    }
+
+    @Override
+    public long clearLegacyPayloads(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return entityManager.createNativeQuery(
+                        "UPDATE ai_generation_logs SET prompt = NULL, response = NULL WHERE id IN (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
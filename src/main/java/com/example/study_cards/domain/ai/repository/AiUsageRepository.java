@@ -0,0 +1,7 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AiUsageRepository extends JpaRepository<AiUsage, Long>, AiUsageRepositoryCustom {
+}
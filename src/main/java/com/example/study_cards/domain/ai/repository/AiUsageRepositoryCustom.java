@@ -0,0 +1,20 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
+
+import java.time.LocalDate;
+
+public interface AiUsageRepositoryCustom {
+
+    // 집계 행이 없으면 null
+    Integer findUsed(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart);
+
+    // 사용량이 limit 미만일 때만 1 증가시키고 변경된 행 수를 반환
+    long incrementIfBelow(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart, int limit);
+
+    long decrement(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart);
+
+    // 동시에 같은 행을 만들어도 하나만 남도록 충돌 시 무시
+    int insertIfAbsent(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart, int used);
+}
@@ -0,0 +1,80 @@
+package com.example.study_cards.domain.ai.repository;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.example.study_cards.domain.ai.entity.QAiUsage.aiUsage;
+
+@RequiredArgsConstructor
+public class AiUsageRepositoryCustomImpl implements AiUsageRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public Integer findUsed(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart) {
+        return queryFactory
+                .select(aiUsage.used)
+                .from(aiUsage)
+                .where(usageOf(userId, type, period, periodStart))
+                .fetchOne();
+    }
+
+    @Override
+    public long incrementIfBelow(Long userId, AiGenerationType type, AiUsagePeriod period,
+                                 LocalDate periodStart, int limit) {
+        return queryFactory
+                .update(aiUsage)
+                .set(aiUsage.used, aiUsage.used.add(1))
+                .set(aiUsage.modifiedAt, LocalDateTime.now())
+                .where(
+                        usageOf(userId, type, period, periodStart),
+                        aiUsage.used.lt(limit)
+                )
+                .execute();
+    }
+
+    @Override
+    public long decrement(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart) {
+        return queryFactory
+                .update(aiUsage)
+                .set(aiUsage.used, aiUsage.used.subtract(1))
+                .set(aiUsage.modifiedAt, LocalDateTime.now())
+                .where(
+                        usageOf(userId, type, period, periodStart),
+                        aiUsage.used.gt(0)
+                )
+                .execute();
+    }
+
+    @Override
+    public int insertIfAbsent(Long userId, AiGenerationType type, AiUsagePeriod period,
+                              LocalDate periodStart, int used) {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.createNativeQuery(
+                        "INSERT INTO ai_usages (user_id, type, period, period_start, used, created_at, modified_at)"
+                                + " VALUES (:userId, :type, :period, :periodStart, :used, :now, :now)"
+                                + " ON CONFLICT (user_id, type, period, period_start) DO NOTHING")
+                .setParameter("userId", userId)
+                .setParameter("type", type.name())
+                .setParameter("period", period.name())
+                .setParameter("periodStart", periodStart)
+                .setParameter("used", used)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    private BooleanExpression usageOf(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart) {
+        return aiUsage.userId.eq(userId)
+                .and(aiUsage.type.eq(type))
+                .and(aiUsage.period.eq(period))
+                .and(aiUsage.periodStart.eq(periodStart));
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.study_cards.domain.ai.service;
 
+import com.example.study_cards.common.util.CompressionUtils;
 import com.example.study_cards.domain.ai.entity.AiGenerationLog;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.repository.AiGenerationLogPayloadRepository;
 import com.example.study_cards.domain.ai.repository.AiGenerationLogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -16,9 +20,16 @@ import java.util.List;
 public class AiGenerationLogDomainService {
 
     private final AiGenerationLogRepository aiGenerationLogRepository;
+    private final AiGenerationLogPayloadRepository aiGenerationLogPayloadRepository;
 
+    // 원문은 로그 id 를 키로 쓰므로 로그를 먼저 저장한 뒤 같은 트랜잭션에서 저장한다
+    @Transactional
     public AiGenerationLog save(AiGenerationLog log) {
-        return aiGenerationLogRepository.save(log);
+        AiGenerationLog saved = aiGenerationLogRepository.save(log);
+        if (log.getPayload() != null) {
+            aiGenerationLogPayloadRepository.save(log.getPayload());
+        }
+        return saved;
     }
 
     public long countByUserIdAndTypeAndSuccessTrue(Long userId, AiGenerationType type) {
@@ -30,14 +41,35 @@ public class AiGenerationLogDomainService {
             List<AiGenerationType> types,
             Pageable pageable
     ) {
-        return aiGenerationLogRepository.findByUserIdAndTypeInOrderByCreatedAtDesc(userId, types, pageable);
+        return aiGenerationLogRepository.findByUserIdAndTypeInWithPayload(userId, types, pageable);
     }
 
-    public long deleteByTypeAndCreatedAtBefore(AiGenerationType type, LocalDateTime createdAt) {
-        return aiGenerationLogRepository.deleteByTypeAndCreatedAtBefore(type, createdAt);
+    // 보관 기간이 지난 로그를 오래된 순으로 최대 chunkSize 개 삭제하고 삭제된 수를 반환
+    public long deleteChunkByTypeInAndCreatedAtBefore(List<AiGenerationType> types, LocalDateTime createdAt,
+                                                      int chunkSize) {
+        List<Long> ids = aiGenerationLogRepository.findIdsByTypeInAndCreatedAtBefore(types, createdAt, chunkSize);
+        return aiGenerationLogRepository.deleteByIdIn(ids);
     }
 
-    public long deleteByTypeInAndCreatedAtBefore(List<AiGenerationType> types, LocalDateTime createdAt) {
-        return aiGenerationLogRepository.deleteByTypeInAndCreatedAtBefore(types, createdAt);
+    /**
+     * 원문 분리 이전에 ai_generation_logs.prompt/response 에 저장된 값을 최대 chunkSize 개 압축해 원문 테이블로 옮기고,
+     * 옮긴 로그의 이전 컬럼은 비운다. 옮긴 수를 반환하며 이전 컬럼이 없으면 0 을 반환한다.
+     */
+    @Transactional
+    public int migrateLegacyPayloadChunk(int chunkSize) {
+        if (!aiGenerationLogRepository.hasLegacyPayloadColumns()) {
+            return 0;
+        }
+
+        List<Object[]> rows = aiGenerationLogRepository.findLegacyPayloads(chunkSize);
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long logId = ((Number) row[0]).longValue();
+            aiGenerationLogRepository.insertPayloadIfAbsent(logId,
+                    CompressionUtils.compress((String) row[1]), CompressionUtils.compress((String) row[2]));
+            ids.add(logId);
+        }
+        aiGenerationLogRepository.clearLegacyPayloads(ids);
+        return rows.size();
     }
 }
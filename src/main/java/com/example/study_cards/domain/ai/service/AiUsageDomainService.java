@@ -0,0 +1,53 @@
+package com.example.study_cards.domain.ai.service;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
+import com.example.study_cards.domain.ai.repository.AiUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.OptionalInt;
+import java.util.function.IntSupplier;
+
+/**
+ * 슬롯 선점과 해제는 호출자가 AI 호출 전후에 트랜잭션 밖에서 호출해 바로 커밋되게 한다.
+ * 요청 트랜잭션 안에서 새 트랜잭션을 열면 요청마다 커넥션을 두 개 잡으므로 REQUIRES_NEW 를 쓰지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AiUsageDomainService {
+
+    private final AiUsageRepository aiUsageRepository;
+
+    public Integer findUsed(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart) {
+        return aiUsageRepository.findUsed(userId, type, period, periodStart);
+    }
+
+    /**
+     * 한도 안이면 사용량을 1 늘리고 늘어난 사용량을 반환한다. 한도에 도달했으면 빈 값을 반환한다.
+     * 구간의 첫 선점이면 initialUsed 로 집계 행을 만든 뒤 다시 시도한다.
+     */
+    @Transactional
+    public OptionalInt tryAcquire(Long userId, AiGenerationType type, AiUsagePeriod period,
+                                  LocalDate periodStart, int limit, IntSupplier initialUsed) {
+        if (aiUsageRepository.incrementIfBelow(userId, type, period, periodStart, limit) == 0) {
+            if (aiUsageRepository.findUsed(userId, type, period, periodStart) != null) {
+                return OptionalInt.empty();
+            }
+            aiUsageRepository.insertIfAbsent(userId, type, period, periodStart, initialUsed.getAsInt());
+            if (aiUsageRepository.incrementIfBelow(userId, type, period, periodStart, limit) == 0) {
+                return OptionalInt.empty();
+            }
+        }
+        return OptionalInt.of(aiUsageRepository.findUsed(userId, type, period, periodStart));
+    }
+
+    @Transactional
+    public int release(Long userId, AiGenerationType type, AiUsagePeriod period, LocalDate periodStart) {
+        aiUsageRepository.decrement(userId, type, period, periodStart);
+        Integer used = aiUsageRepository.findUsed(userId, type, period, periodStart);
+        return used != null ? used : 0;
+    }
+}
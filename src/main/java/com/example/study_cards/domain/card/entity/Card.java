@@ -14,10 +14,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "cards", indexes = {
-        @Index(name = "idx_card_category", columnList = "category_id")
+        @Index(name = "idx_card_category", columnList = "category_id"),
+        @Index(name = "idx_card_modified_at", columnList = "modified_at, id")
 })
 public class Card extends BaseEntity {
 
+    public static final double DEFAULT_EF_FACTOR = 2.5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,7 +60,7 @@ public class Card extends BaseEntity {
         this.questionSub = questionSub;
         this.answer = answer;
         this.answerSub = answerSub;
-        this.efFactor = efFactor != null ? efFactor : 2.5;
+        this.efFactor = efFactor != null ? efFactor : DEFAULT_EF_FACTOR;
         this.aiGenerated = aiGenerated != null ? aiGenerated : false;
         this.category = category;
         this.status = CardStatus.ACTIVE;
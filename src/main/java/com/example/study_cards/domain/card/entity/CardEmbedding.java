@@ -0,0 +1,75 @@
+package com.example.study_cards.domain.card.entity;
+
+import com.example.study_cards.domain.common.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "card_embeddings", indexes = {
+        @Index(name = "idx_card_embedding_card", columnList = "card_id", unique = true)
+})
+public class CardEmbedding extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Card card;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(nullable = false)
+    private Integer dimension;
+
+    // float 배열을 little-endian 4바이트씩 이어 붙여 저장
+    @Column(nullable = false)
+    private byte[] vector;
+
+    @Column(nullable = false)
+    private LocalDateTime embeddedAt;
+
+    @Builder
+    public CardEmbedding(Card card, String model, float[] vector) {
+        this.card = card;
+        update(model, vector);
+    }
+
+    public void update(String model, float[] vector) {
+        this.model = model;
+        this.dimension = vector.length;
+        this.vector = encode(vector);
+        this.embeddedAt = LocalDateTime.now();
+    }
+
+    public float[] toVector() {
+        return decode(vector);
+    }
+
+    public static float[] decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        float[] values = new float[bytes.length / Float.BYTES];
+        buffer.asFloatBuffer().get(values);
+        return values;
+    }
+
+    private static byte[] encode(float[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(values);
+        return buffer.array();
+    }
+}
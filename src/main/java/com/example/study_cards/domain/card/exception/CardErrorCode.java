@@ -13,7 +13,9 @@ public enum CardErrorCode implements ErrorCode {
     INVALID_CATEGORY(HttpStatus.BAD_REQUEST, "유효하지 않은 카테고리입니다."),
     RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "일일 학습 한도를 초과했습니다."),
     CARD_HAS_STUDY_RECORDS(HttpStatus.CONFLICT, "학습 기록이 존재하는 카드는 삭제할 수 없습니다."),
-    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 2자 이상이어야 합니다.");
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 2자 이상이어야 합니다."),
+    SNAPSHOT_NOT_FOUND(HttpStatus.NOT_FOUND, "카드 스냅샷이 아직 준비되지 않았습니다."),
+    INVALID_CHANGES_CURSOR(HttpStatus.BAD_REQUEST, "변경 조회 기준(since 또는 cursor)이 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,24 @@
+package com.example.study_cards.domain.card.model;
+
+import java.time.LocalDateTime;
+
+public record MergedCard(
+        Source source,
+        Long id,
+        String question,
+        String questionSub,
+        String answer,
+        String answerSub,
+        Double efFactor,
+        Long categoryId,
+        String categoryCode,
+        String categoryName,
+        Long parentCategoryId,
+        String parentCategoryCode,
+        LocalDateTime createdAt
+) {
+    public enum Source {
+        USER,
+        PUBLIC
+    }
+}
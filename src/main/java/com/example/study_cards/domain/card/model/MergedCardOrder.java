@@ -0,0 +1,6 @@
+package com.example.study_cards.domain.card.model;
+
+public enum MergedCardOrder {
+    LATEST,
+    EF_FACTOR
+}
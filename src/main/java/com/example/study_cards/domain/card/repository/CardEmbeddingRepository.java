@@ -0,0 +1,11 @@
+package com.example.study_cards.domain.card.repository;
+
+import com.example.study_cards.domain.card.entity.CardEmbedding;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CardEmbeddingRepository extends JpaRepository<CardEmbedding, Long>, CardEmbeddingRepositoryCustom {
+
+    List<CardEmbedding> findByCardIdIn(List<Long> cardIds);
+}
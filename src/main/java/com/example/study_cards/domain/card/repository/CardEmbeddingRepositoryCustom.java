@@ -0,0 +1,17 @@
+package com.example.study_cards.domain.card.repository;
+
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.category.entity.Category;
+
+import java.util.List;
+
+public interface CardEmbeddingRepositoryCustom {
+
+    // 활성 카드 중 해당 모델의 임베딩이 없거나 임베딩 이후 수정된 카드를 id 순으로 조회
+    List<Card> findCardsNeedingEmbedding(String model, int limit);
+
+    // 카테고리 범위의 활성 카드 임베딩을 카드 id 키셋으로 조회
+    List<CardVector> findVectorsByCategoriesAfterCardId(String model, List<Category> categories, Long lastCardId, int limit);
+
+    record CardVector(Long cardId, byte[] vector) {}
+}
@@ -0,0 +1,57 @@
+package com.example.study_cards.domain.card.repository;
+
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardStatus;
+import com.example.study_cards.domain.category.entity.Category;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.example.study_cards.domain.card.entity.QCard.card;
+import static com.example.study_cards.domain.card.entity.QCardEmbedding.cardEmbedding;
+
+@RequiredArgsConstructor
+public class CardEmbeddingRepositoryCustomImpl implements CardEmbeddingRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Card> findCardsNeedingEmbedding(String model, int limit) {
+        return queryFactory
+                .selectFrom(card)
+                .leftJoin(cardEmbedding).on(cardEmbedding.card.eq(card), cardEmbedding.model.eq(model))
+                .where(
+                        card.status.eq(CardStatus.ACTIVE),
+                        cardEmbedding.id.isNull().or(cardEmbedding.embeddedAt.lt(card.modifiedAt))
+                )
+                .orderBy(card.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<CardVector> findVectorsByCategoriesAfterCardId(String model, List<Category> categories,
+                                                               Long lastCardId, int limit) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(card.id, cardEmbedding.vector)
+                .from(cardEmbedding)
+                .join(cardEmbedding.card, card)
+                .where(
+                        cardEmbedding.model.eq(model),
+                        card.category.in(categories),
+                        card.status.eq(CardStatus.ACTIVE),
+                        lastCardId != null ? card.id.gt(lastCardId) : null
+                )
+                .orderBy(card.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> new CardVector(tuple.get(card.id), tuple.get(cardEmbedding.vector)))
+                .toList();
+    }
+}
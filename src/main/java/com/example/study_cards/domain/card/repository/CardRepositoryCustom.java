@@ -1,10 +1,13 @@
 package com.example.study_cards.domain.card.repository;
 
 import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.model.MergedCard;
+import com.example.study_cards.domain.card.model.MergedCardOrder;
 import com.example.study_cards.domain.category.entity.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CardRepositoryCustom {
@@ -25,5 +28,20 @@ public interface CardRepositoryCustom {
 
     Page<Card> searchByKeyword(String keyword, List<Category> categories, Pageable pageable);
 
+    List<Card> findByCategoriesAfterIdWithCategory(List<Category> categories, Long lastId, int limit);
+
+    // (modifiedAt, id) 키셋 이후 until 이전에 변경된 카드를 삭제 상태까지 포함해 조회
+    List<Card> findChangedAfterWithCategory(LocalDateTime modifiedAt, Long id, LocalDateTime until, int limit);
+
+    // 카테고리 표시 정보가 바뀐 카드를 변경분 동기화에 포함시키도록 modifiedAt 만 갱신하고 갱신된 수를 반환
+    long touchByCategories(List<Category> categories, LocalDateTime modifiedAt);
+
+    // 사용자 카드 → 공용 카드 순서로 UNION ALL 한 결과를 페이지 조회 (categories, keyword 가 null 이면 조건 미적용)
+    Page<MergedCard> findMergedWithUserCards(Long userId, List<Category> categories, String keyword,
+                                             MergedCardOrder order, Pageable pageable);
+
+    // 승인 상태인 생성 카드를 한 번의 INSERT ... SELECT 로 공용 카드에 추가하고 추가된 행 수를 반환
+    int insertFromGeneratedCards(List<Long> generatedCardIds);
+
     record CategoryCount(Long categoryId, String categoryCode, Long count) {}
 }
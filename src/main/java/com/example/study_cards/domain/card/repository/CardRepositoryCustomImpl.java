@@ -2,17 +2,28 @@ package com.example.study_cards.domain.card.repository;
 
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.entity.CardStatus;
+import com.example.study_cards.domain.card.model.MergedCard;
+import com.example.study_cards.domain.card.model.MergedCardOrder;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.entity.CategoryStatus;
+import com.example.study_cards.domain.category.entity.QCategory;
+import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.study_cards.domain.card.entity.QCard.card;
 
@@ -20,6 +31,7 @@ import static com.example.study_cards.domain.card.entity.QCard.card;
 public class CardRepositoryCustomImpl implements CardRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public List<CategoryCount> countByCategory() {
@@ -217,6 +229,187 @@ public class CardRepositoryCustomImpl implements CardRepositoryCustom {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public List<Card> findByCategoriesAfterIdWithCategory(List<Category> categories, Long lastId, int limit) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+
+        QCategory cardCategory = new QCategory("cardCategory");
+        QCategory parentCategory = new QCategory("parentCategory");
+
+        return queryFactory
+                .selectFrom(card)
+                .join(card.category, cardCategory).fetchJoin()
+                .leftJoin(cardCategory.parent, parentCategory).fetchJoin()
+                .where(
+                        card.category.in(categories),
+                        card.status.eq(CardStatus.ACTIVE),
+                        cardCategory.status.eq(CategoryStatus.ACTIVE),
+                        lastId != null ? card.id.gt(lastId) : null
+                )
+                .orderBy(card.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Card> findChangedAfterWithCategory(LocalDateTime modifiedAt, Long id, LocalDateTime until, int limit) {
+        QCategory cardCategory = new QCategory("cardCategory");
+        QCategory parentCategory = new QCategory("parentCategory");
+
+        return queryFactory
+                .selectFrom(card)
+                .join(card.category, cardCategory).fetchJoin()
+                .leftJoin(cardCategory.parent, parentCategory).fetchJoin()
+                .where(
+                        card.modifiedAt.gt(modifiedAt)
+                                .or(card.modifiedAt.eq(modifiedAt).and(card.id.gt(id))),
+                        card.modifiedAt.lt(until)
+                )
+                .orderBy(card.modifiedAt.asc(), card.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long touchByCategories(List<Category> categories, LocalDateTime modifiedAt) {
+        if (categories.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(card)
+                .set(card.modifiedAt, modifiedAt)
+                .where(
+                        card.category.in(categories),
+                        card.status.eq(CardStatus.ACTIVE)
+                )
+                .execute();
+    }
+
+    @Override
+    public Page<MergedCard> findMergedWithUserCards(Long userId, List<Category> categories, String keyword,
+                                                    MergedCardOrder order, Pageable pageable) {
+        if (categories != null && categories.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        String mergedSql = buildMergedSql(userId, categories, keyword, parameters);
+
+        String orderBy = order == MergedCardOrder.EF_FACTOR
+                ? "m.source_order, m.ef_factor ASC, m.id ASC"
+                : "m.source_order, m.created_at DESC, m.id DESC";
+
+        Query contentQuery = entityManager.createNativeQuery(
+                "SELECT m.source_order, m.id, m.question, m.question_sub, m.answer, m.answer_sub, m.ef_factor,"
+                        + " cat.id, cat.code, cat.name, parent.id, parent.code, m.created_at"
+                        + " FROM (" + mergedSql + ") m"
+                        + " JOIN categories cat ON cat.id = m.category_id"
+                        + " LEFT JOIN categories parent ON parent.id = cat.parent_id"
+                        + " ORDER BY " + orderBy
+                        + " LIMIT :limit OFFSET :offset");
+        parameters.forEach(contentQuery::setParameter);
+        contentQuery.setParameter("limit", pageable.getPageSize());
+        contentQuery.setParameter("offset", pageable.getOffset());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = contentQuery.getResultList();
+        List<MergedCard> content = rows.stream()
+                .map(this::toMergedCard)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM (" + mergedSql + ") m");
+            parameters.forEach(countQuery::setParameter);
+            return toNullableLong(countQuery.getSingleResult());
+        });
+    }
+
+    @Override
+    public int insertFromGeneratedCards(List<Long> generatedCardIds) {
+        if (generatedCardIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.createNativeQuery(
+                        "INSERT INTO cards (question, question_sub, answer, answer_sub, ef_factor, ai_generated,"
+                                + " category_id, status, created_at, modified_at)"
+                                + " SELECT g.question, g.question_sub, g.answer, g.answer_sub, :efFactor, true,"
+                                + " g.category_id, :cardStatus, :now, :now"
+                                + " FROM generated_cards g"
+                                + " WHERE g.id IN (:ids) AND g.status = :generatedStatus"
+                                + " ORDER BY g.id")
+                .setParameter("efFactor", Card.DEFAULT_EF_FACTOR)
+                .setParameter("cardStatus", CardStatus.ACTIVE.name())
+                .setParameter("now", now)
+                .setParameter("ids", generatedCardIds)
+                .setParameter("generatedStatus", GenerationStatus.APPROVED.name())
+                .executeUpdate();
+    }
+
+    private String buildMergedSql(Long userId, List<Category> categories, String keyword, Map<String, Object> parameters) {
+        StringBuilder userCardWhere = new StringBuilder(" WHERE uc.user_id = :userId");
+        StringBuilder cardWhere = new StringBuilder(" WHERE c.status = :cardStatus AND pc.status = :categoryStatus");
+        parameters.put("userId", userId);
+        parameters.put("cardStatus", CardStatus.ACTIVE.name());
+        parameters.put("categoryStatus", CategoryStatus.ACTIVE.name());
+
+        if (categories != null) {
+            userCardWhere.append(" AND uc.category_id IN (:categoryIds)");
+            cardWhere.append(" AND c.category_id IN (:categoryIds)");
+            parameters.put("categoryIds", categories.stream().map(Category::getId).toList());
+        }
+
+        if (keyword != null) {
+            userCardWhere.append(" AND (LOWER(uc.question) LIKE :keyword ESCAPE '!' OR LOWER(uc.answer) LIKE :keyword ESCAPE '!')");
+            cardWhere.append(" AND (LOWER(c.question) LIKE :keyword ESCAPE '!' OR LOWER(c.answer) LIKE :keyword ESCAPE '!')");
+            parameters.put("keyword", "%" + escapeLike(keyword.toLowerCase()) + "%");
+        }
+
+        return "SELECT 0 AS source_order, uc.id, uc.question, uc.question_sub, uc.answer, uc.answer_sub,"
+                + " uc.ef_factor, uc.category_id, uc.created_at"
+                + " FROM user_cards uc" + userCardWhere
+                + " UNION ALL"
+                + " SELECT 1 AS source_order, c.id, c.question, c.question_sub, c.answer, c.answer_sub,"
+                + " c.ef_factor, c.category_id, c.created_at"
+                + " FROM cards c JOIN categories pc ON pc.id = c.category_id" + cardWhere;
+    }
+
+    private MergedCard toMergedCard(Object[] row) {
+        return new MergedCard(
+                ((Number) row[0]).intValue() == 0 ? MergedCard.Source.USER : MergedCard.Source.PUBLIC,
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                row[6] != null ? ((Number) row[6]).doubleValue() : null,
+                ((Number) row[7]).longValue(),
+                (String) row[8],
+                (String) row[9],
+                row[10] != null ? ((Number) row[10]).longValue() : null,
+                (String) row[11],
+                toLocalDateTime(row[12])
+        );
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
     private Long toNullableLong(Object value) {
         if (value == null) {
             return 0L;
@@ -2,17 +2,22 @@ package com.example.study_cards.domain.card.service;
 
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.entity.CardStatus;
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
 import com.example.study_cards.domain.card.exception.CardErrorCode;
 import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.model.MergedCard;
+import com.example.study_cards.domain.card.model.MergedCardOrder;
 import com.example.study_cards.domain.card.repository.CardRepository;
 import com.example.study_cards.domain.card.repository.CardRepositoryCustom.CategoryCount;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.study.repository.StudyRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class CardDomainService {
 
     private final CardRepository cardRepository;
     private final StudyRecordRepository studyRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Card createCard(String question, String questionSub, String answer, String answerSub, Category category, boolean aiGenerated) {
         Card card = Card.builder()
@@ -31,7 +37,17 @@ public class CardDomainService {
                 .category(category)
                 .aiGenerated(aiGenerated)
                 .build();
-        return cardRepository.save(card);
+        Card savedCard = cardRepository.save(card);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return savedCard;
+    }
+
+    public int createFromGeneratedCards(List<Long> generatedCardIds) {
+        int createdCount = cardRepository.insertFromGeneratedCards(generatedCardIds);
+        if (createdCount > 0) {
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        }
+        return createdCount;
     }
 
     public Card findById(Long id) {
@@ -47,6 +63,13 @@ public class CardDomainService {
         return cardRepository.findByCategoryAndStatus(category, CardStatus.ACTIVE);
     }
 
+    public List<Card> findByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return cardRepository.findByIdInAndStatus(ids, CardStatus.ACTIVE);
+    }
+
     public List<Card> findByIdsInCategory(List<Long> ids, Category category) {
         if (ids == null || ids.isEmpty()) {
             return List.of();
@@ -68,6 +91,7 @@ public class CardDomainService {
     public Card updateCard(Long id, String question, String questionSub, String answer, String answerSub, Category category) {
         Card card = findById(id);
         card.update(question, questionSub, answer, answerSub, category);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return card;
     }
 
@@ -77,6 +101,7 @@ public class CardDomainService {
             throw new CardException(CardErrorCode.CARD_HAS_STUDY_RECORDS);
         }
         card.delete();
+        eventPublisher.publishEvent(new CatalogChangedEvent());
     }
 
     public long count() {
@@ -110,6 +135,19 @@ public class CardDomainService {
         return cardRepository.searchByKeyword(keyword, categories, pageable);
     }
 
+    public List<Card> findByCategoriesAfterId(List<Category> categories, Long lastId, int limit) {
+        return cardRepository.findByCategoriesAfterIdWithCategory(categories, lastId, limit);
+    }
+
+    public List<Card> findChangedAfter(LocalDateTime modifiedAt, Long id, LocalDateTime until, int limit) {
+        return cardRepository.findChangedAfterWithCategory(modifiedAt, id, until, limit);
+    }
+
+    public Page<MergedCard> findMergedWithUserCards(Long userId, List<Category> categories, String keyword,
+                                                    MergedCardOrder order, Pageable pageable) {
+        return cardRepository.findMergedWithUserCards(userId, categories, keyword, order, pageable);
+    }
+
     public List<CategoryCount> countAllByCategory() {
         return cardRepository.countByCategory();
     }
@@ -0,0 +1,58 @@
+package com.example.study_cards.domain.card.service;
+
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardEmbedding;
+import com.example.study_cards.domain.card.repository.CardEmbeddingRepository;
+import com.example.study_cards.domain.card.repository.CardEmbeddingRepositoryCustom.CardVector;
+import com.example.study_cards.domain.category.entity.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class CardEmbeddingDomainService {
+
+    private final CardEmbeddingRepository cardEmbeddingRepository;
+
+    public List<Card> findCardsNeedingEmbedding(String model, int limit) {
+        return cardEmbeddingRepository.findCardsNeedingEmbedding(model, limit);
+    }
+
+    public boolean hasCardsNeedingEmbedding(String model) {
+        return !cardEmbeddingRepository.findCardsNeedingEmbedding(model, 1).isEmpty();
+    }
+
+    public List<CardVector> findVectorsByCategoriesAfterCardId(String model, List<Category> categories,
+                                                               Long lastCardId, int limit) {
+        return cardEmbeddingRepository.findVectorsByCategoriesAfterCardId(model, categories, lastCardId, limit);
+    }
+
+    // 카드당 임베딩은 한 건만 유지하고, 모델이 바뀌었거나 카드가 수정된 경우 기존 행을 갱신
+    public void saveAll(Map<Card, float[]> vectors, String model) {
+        if (vectors.isEmpty()) {
+            return;
+        }
+
+        List<Long> cardIds = vectors.keySet().stream().map(Card::getId).toList();
+        Map<Long, CardEmbedding> existing = cardEmbeddingRepository.findByCardIdIn(cardIds).stream()
+                .collect(Collectors.toMap(embedding -> embedding.getCard().getId(), Function.identity()));
+
+        List<CardEmbedding> embeddings = new ArrayList<>();
+        vectors.forEach((card, vector) -> {
+            CardEmbedding embedding = existing.get(card.getId());
+            if (embedding == null) {
+                embedding = CardEmbedding.builder().card(card).model(model).vector(vector).build();
+            } else {
+                embedding.update(model, vector);
+            }
+            embeddings.add(embedding);
+        });
+        cardEmbeddingRepository.saveAll(embeddings);
+    }
+}
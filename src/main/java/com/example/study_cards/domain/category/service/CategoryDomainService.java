@@ -2,6 +2,7 @@ package com.example.study_cards.domain.category.service;
 
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.entity.CardStatus;
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
 import com.example.study_cards.domain.card.repository.CardRepository;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.entity.CategoryStatus;
@@ -9,10 +10,12 @@ import com.example.study_cards.domain.category.exception.CategoryErrorCode;
 import com.example.study_cards.domain.category.exception.CategoryException;
 import com.example.study_cards.domain.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +30,7 @@ public class CategoryDomainService {
 
     private final CategoryRepository categoryRepository;
     private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Category findById(Long id) {
         return categoryRepository.findByIdAndStatus(id, CategoryStatus.ACTIVE)
@@ -100,7 +104,9 @@ public class CategoryDomainService {
                 .displayOrder(displayOrder)
                 .build();
 
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return savedCategory;
     }
 
     public Category updateCategory(Long id, String code, String name, Integer displayOrder) {
@@ -110,7 +116,12 @@ public class CategoryDomainService {
             validateCodeNotExists(code);
         }
 
+        boolean displayChanged = !category.getCode().equals(code) || !category.getName().equals(name);
         category.update(code, name, displayOrder);
+        if (displayChanged) {
+            touchCardsShowing(category);
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return category;
     }
 
@@ -124,6 +135,14 @@ public class CategoryDomainService {
         List<Card> cardsInCategory = cardRepository.findByCategoryAndStatus(category, CardStatus.ACTIVE);
         cardsInCategory.forEach(Card::delete);
         category.delete();
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+    }
+
+    // 카드 응답에는 카테고리와 상위 카테고리 코드가 들어가므로 해당 카테고리와 바로 아래 카테고리의 카드를 변경분에 포함시킨다
+    private void touchCardsShowing(Category category) {
+        List<Category> categories = new ArrayList<>(findByParent(category));
+        categories.add(category);
+        cardRepository.touchByCategories(categories, LocalDateTime.now());
     }
 
     public boolean existsByCode(String code) {
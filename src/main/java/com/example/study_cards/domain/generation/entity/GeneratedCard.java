@@ -56,6 +56,11 @@ public class GeneratedCard extends BaseEntity {
 
     private LocalDateTime approvedAt;
 
+    // 검토 대기열에서 카드를 가져간 관리자와 점유 만료 시각
+    private Long claimedBy;
+
+    private LocalDateTime claimExpiresAt;
+
     @Builder
     public GeneratedCard(String model, String sourceWord, String prompt, String question,
                          String questionSub, String answer, String answerSub, Category category) {
@@ -0,0 +1,41 @@
+package com.example.study_cards.domain.generation.entity;
+
+import com.example.study_cards.domain.common.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모델/상태별 생성 카드 수. 카드 저장과 상태 변경 시 같은 트랜잭션에서 증감한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "generation_stat_counters", indexes = {
+        @Index(name = "idx_generation_stat_counter_model_status", columnList = "model, status", unique = true)
+})
+public class GenerationStatCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String model;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private GenerationStatus status;
+
+    @Column(nullable = false)
+    private long count;
+
+    @Builder
+    public GenerationStatCounter(String model, GenerationStatus status, long count) {
+        this.model = model;
+        this.status = status;
+        this.count = count;
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.study_cards.domain.generation.event;
+
+public record GenerationStatsChangedEvent() {
+}
@@ -7,6 +7,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface GeneratedCardRepository extends JpaRepository<GeneratedCard, Long>, GeneratedCardRepositoryCustom {
 
     Page<GeneratedCard> findByStatus(GenerationStatus status, Pageable pageable);
@@ -17,6 +19,8 @@ public interface GeneratedCardRepository extends JpaRepository<GeneratedCard, Lo
 
     Page<GeneratedCard> findByModel(String model, Pageable pageable);
 
+    List<GeneratedCard> findByIdInAndStatus(List<Long> ids, GenerationStatus status);
+
     long countByStatus(GenerationStatus status);
 
     long countByModel(String model);
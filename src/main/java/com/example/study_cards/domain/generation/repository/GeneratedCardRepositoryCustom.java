@@ -5,7 +5,9 @@ import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface GeneratedCardRepositoryCustom {
 
@@ -14,4 +16,24 @@ public interface GeneratedCardRepositoryCustom {
     List<GeneratedCard> findByStatusWithCategory(GenerationStatus status);
 
     Page<GeneratedCard> findByStatusWithCategory(GenerationStatus status, Pageable pageable);
+
+    // id 순 키셋으로 조회하며, 다른 이동 작업과 겹치지 않도록 행 잠금을 건다
+    List<GeneratedCard> findByStatusAfterIdForUpdate(GenerationStatus status, Long lastId, int limit);
+
+    // 현재 상태가 from 인 카드만 to 로 변경하고 변경된 행 수를 반환
+    long updateStatus(List<Long> ids, GenerationStatus from, GenerationStatus to);
+
+    // 점유되지 않았거나 점유가 만료된 대기 카드를 조회하며, 다른 트랜잭션이 잠근 행은 건너뛴다
+    List<GeneratedCard> findClaimableForUpdate(LocalDateTime now, int limit);
+
+    // 상태가 status 인 카드를 잠그고 모델별 id 로 묶어 반환한다. 벌크 상태 변경 전에 통계 증감량을 구하는 데 사용
+    Map<String, List<Long>> findIdsByModelForUpdate(List<Long> ids, GenerationStatus status);
+
+    // 요청한 관리자가 점유 중이고 점유가 만료되지 않은 대기 카드를 잠그고 모델별 id 로 묶어 반환
+    Map<String, List<Long>> findClaimedIdsByModelForUpdate(List<Long> ids, Long claimedBy, LocalDateTime now);
+
+    long claim(List<Long> ids, Long claimedBy, LocalDateTime claimExpiresAt);
+
+    // 요청한 관리자가 점유 중이고 점유가 만료되지 않은 대기 카드만 to 로 변경하고 점유를 해제
+    long updateClaimedStatus(List<Long> ids, Long claimedBy, GenerationStatus to, LocalDateTime now);
 }
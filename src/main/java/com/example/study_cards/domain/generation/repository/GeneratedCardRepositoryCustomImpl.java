@@ -3,12 +3,21 @@ package com.example.study_cards.domain.generation.repository;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.example.study_cards.domain.generation.entity.QGeneratedCard.generatedCard;
 
@@ -16,6 +25,7 @@ import static com.example.study_cards.domain.generation.entity.QGeneratedCard.ge
 public class GeneratedCardRepositoryCustomImpl implements GeneratedCardRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public List<Object[]> countByModelGroupByStatus() {
@@ -60,4 +70,138 @@ public class GeneratedCardRepositoryCustomImpl implements GeneratedCardRepositor
 
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
+
+    @Override
+    public List<GeneratedCard> findByStatusAfterIdForUpdate(GenerationStatus status, Long lastId, int limit) {
+        return queryFactory
+                .selectFrom(generatedCard)
+                .where(
+                        generatedCard.status.eq(status),
+                        lastId != null ? generatedCard.id.gt(lastId) : null
+                )
+                .orderBy(generatedCard.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long updateStatus(List<Long> ids, GenerationStatus from, GenerationStatus to) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return statusUpdate(to, LocalDateTime.now())
+                .where(
+                        generatedCard.id.in(ids),
+                        generatedCard.status.eq(from)
+                )
+                .execute();
+    }
+
+    @Override
+    public List<GeneratedCard> findClaimableForUpdate(LocalDateTime now, int limit) {
+        return queryFactory
+                .selectFrom(generatedCard)
+                .where(
+                        generatedCard.status.eq(GenerationStatus.PENDING),
+                        generatedCard.claimExpiresAt.isNull().or(generatedCard.claimExpiresAt.lt(now))
+                )
+                .orderBy(generatedCard.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    @Override
+    public Map<String, List<Long>> findIdsByModelForUpdate(List<Long> ids, GenerationStatus status) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT id, model FROM generated_cards"
+                                + " WHERE id IN (:ids) AND status = :status"
+                                + " ORDER BY id FOR UPDATE")
+                .setParameter("ids", ids)
+                .setParameter("status", status.name())
+                .getResultList();
+        return groupByModel(rows);
+    }
+
+    @Override
+    public Map<String, List<Long>> findClaimedIdsByModelForUpdate(List<Long> ids, Long claimedBy, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT id, model FROM generated_cards"
+                                + " WHERE id IN (:ids) AND status = :status"
+                                + " AND claimed_by = :claimedBy AND claim_expires_at > :now"
+                                + " ORDER BY id FOR UPDATE")
+                .setParameter("ids", ids)
+                .setParameter("status", GenerationStatus.PENDING.name())
+                .setParameter("claimedBy", claimedBy)
+                .setParameter("now", now)
+                .getResultList();
+        return groupByModel(rows);
+    }
+
+    @Override
+    public long claim(List<Long> ids, Long claimedBy, LocalDateTime claimExpiresAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+                .update(generatedCard)
+                .set(generatedCard.claimedBy, claimedBy)
+                .set(generatedCard.claimExpiresAt, claimExpiresAt)
+                .where(generatedCard.id.in(ids))
+                .execute();
+    }
+
+    @Override
+    public long updateClaimedStatus(List<Long> ids, Long claimedBy, GenerationStatus to, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return statusUpdate(to, now)
+                .setNull(generatedCard.claimedBy)
+                .setNull(generatedCard.claimExpiresAt)
+                .where(
+                        generatedCard.id.in(ids),
+                        generatedCard.status.eq(GenerationStatus.PENDING),
+                        generatedCard.claimedBy.eq(claimedBy),
+                        generatedCard.claimExpiresAt.gt(now)
+                )
+                .execute();
+    }
+
+    private Map<String, List<Long>> groupByModel(List<?> rows) {
+        return rows.stream()
+                .map(Object[].class::cast)
+                .collect(Collectors.groupingBy(
+                        row -> (String) row[1],
+                        LinkedHashMap::new,
+                        Collectors.mapping(row -> ((Number) row[0]).longValue(), Collectors.toList())
+                ));
+    }
+
+    // 벌크 update 는 auditing 이 적용되지 않으므로 수정 시각과 승인 시각을 직접 갱신
+    private JPAUpdateClause statusUpdate(GenerationStatus to, LocalDateTime now) {
+        JPAUpdateClause update = queryFactory
+                .update(generatedCard)
+                .set(generatedCard.status, to)
+                .set(generatedCard.modifiedAt, now);
+        if (to == GenerationStatus.APPROVED) {
+            update.set(generatedCard.approvedAt, now);
+        } else if (to == GenerationStatus.REJECTED) {
+            update.setNull(generatedCard.approvedAt);
+        }
+        return update;
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.study_cards.domain.generation.repository;
+
+import com.example.study_cards.domain.generation.entity.GenerationStatCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GenerationStatCounterRepository
+        extends JpaRepository<GenerationStatCounter, Long>, GenerationStatCounterRepositoryCustom {
+}
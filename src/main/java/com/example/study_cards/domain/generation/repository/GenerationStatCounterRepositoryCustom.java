@@ -0,0 +1,12 @@
+package com.example.study_cards.domain.generation.repository;
+
+import com.example.study_cards.domain.generation.entity.GenerationStatus;
+
+public interface GenerationStatCounterRepositoryCustom {
+
+    // 행이 없으면 delta 로 생성하고, 있으면 delta 만큼 더한다
+    int increment(String model, GenerationStatus status, long delta);
+
+    // 카드 테이블을 다시 집계해 전체 카운터를 교체하고 생성된 행 수를 반환
+    int rebuild();
+}
@@ -0,0 +1,45 @@
+package com.example.study_cards.domain.generation.repository;
+
+import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class GenerationStatCounterRepositoryCustomImpl implements GenerationStatCounterRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int increment(String model, GenerationStatus status, long delta) {
+        LocalDateTime now = LocalDateTime.now();
+        return entityManager.createNativeQuery(
+                        "INSERT INTO generation_stat_counters (model, status, count, created_at, modified_at)"
+                                + " VALUES (:model, :status, :delta, :now, :now)"
+                                + " ON CONFLICT (model, status) DO UPDATE"
+                                + " SET count = generation_stat_counters.count + EXCLUDED.count,"
+                                + " modified_at = EXCLUDED.modified_at")
+                .setParameter("model", model)
+                .setParameter("status", status.name())
+                .setParameter("delta", delta)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    // 재집계 중 들어오는 증감은 테이블 잠금이 풀릴 때까지 기다렸다가 새 값 위에 반영된다
+    @Override
+    public int rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.createNativeQuery("LOCK TABLE generation_stat_counters IN EXCLUSIVE MODE")
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM generation_stat_counters")
+                .executeUpdate();
+        return entityManager.createNativeQuery(
+                        "INSERT INTO generation_stat_counters (model, status, count, created_at, modified_at)"
+                                + " SELECT model, status, COUNT(*), :now, :now"
+                                + " FROM generated_cards GROUP BY model, status")
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
@@ -2,29 +2,47 @@ package com.example.study_cards.domain.generation.service;
 
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
+import com.example.study_cards.domain.generation.entity.GenerationStatCounter;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import com.example.study_cards.domain.generation.event.GenerationStatsChangedEvent;
 import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
 import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.generation.repository.GeneratedCardRepository;
+import com.example.study_cards.domain.generation.repository.GenerationStatCounterRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class GeneratedCardDomainService {
 
     private final GeneratedCardRepository generatedCardRepository;
+    private final GenerationStatCounterRepository generationStatCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public GeneratedCard save(GeneratedCard generatedCard) {
-        return generatedCardRepository.save(generatedCard);
+        GeneratedCard saved = generatedCardRepository.save(generatedCard);
+        recordTransition(Map.of(saved.getModel(), 1L), null, GenerationStatus.PENDING);
+        return saved;
     }
 
+    @Transactional
     public List<GeneratedCard> saveAll(List<GeneratedCard> generatedCards) {
-        return generatedCardRepository.saveAll(generatedCards);
+        List<GeneratedCard> saved = generatedCardRepository.saveAll(generatedCards);
+        recordTransition(saved.stream()
+                .collect(Collectors.groupingBy(GeneratedCard::getModel, Collectors.counting())),
+                null, GenerationStatus.PENDING);
+        return saved;
     }
 
     public GeneratedCard findById(Long id) {
@@ -63,19 +81,61 @@ public class GeneratedCardDomainService {
     public GeneratedCard approve(Long id) {
         GeneratedCard generatedCard = findById(id);
         validateStatusForApproval(generatedCard);
+        GenerationStatus from = generatedCard.getStatus();
         generatedCard.approve();
+        recordTransition(Map.of(generatedCard.getModel(), 1L), from, GenerationStatus.APPROVED);
         return generatedCard;
     }
 
     public GeneratedCard reject(Long id) {
         GeneratedCard generatedCard = findById(id);
         validateStatusForRejection(generatedCard);
+        GenerationStatus from = generatedCard.getStatus();
         generatedCard.reject();
+        recordTransition(Map.of(generatedCard.getModel(), 1L), from, GenerationStatus.REJECTED);
         return generatedCard;
     }
 
-    public void markAsMigrated(GeneratedCard generatedCard) {
-        generatedCard.markAsMigrated();
+    public List<GeneratedCard> findApprovedCardsAfterIdForUpdate(Long lastId, int limit) {
+        return generatedCardRepository.findByStatusAfterIdForUpdate(GenerationStatus.APPROVED, lastId, limit);
+    }
+
+    // 대기 중인 카드만 승인하고, 요청한 카드 중 승인 상태인 카드를 반환
+    public List<GeneratedCard> approveAll(List<Long> ids) {
+        transition(ids, GenerationStatus.PENDING, GenerationStatus.APPROVED);
+        return generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.APPROVED);
+    }
+
+    public List<GeneratedCard> rejectAll(List<Long> ids) {
+        transition(ids, GenerationStatus.PENDING, GenerationStatus.REJECTED);
+        return generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.REJECTED);
+    }
+
+    // 대기 카드를 limit 개까지 잠그고 관리자에게 점유시킨다. 다른 관리자가 잠근 카드는 건너뛴다
+    public List<GeneratedCard> claimPending(Long adminId, int limit, LocalDateTime claimExpiresAt) {
+        List<GeneratedCard> claimable = generatedCardRepository.findClaimableForUpdate(LocalDateTime.now(), limit);
+        List<Long> ids = claimable.stream().map(GeneratedCard::getId).toList();
+        generatedCardRepository.claim(ids, adminId, claimExpiresAt);
+        return claimable;
+    }
+
+    public List<GeneratedCard> approveClaimed(Long adminId, List<Long> ids) {
+        transitionClaimed(adminId, ids, GenerationStatus.APPROVED);
+        return generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.APPROVED);
+    }
+
+    public List<GeneratedCard> rejectClaimed(Long adminId, List<Long> ids) {
+        transitionClaimed(adminId, ids, GenerationStatus.REJECTED);
+        return generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.REJECTED);
+    }
+
+    public long markAsMigrated(List<Long> ids) {
+        return transition(ids, GenerationStatus.APPROVED, GenerationStatus.MIGRATED);
+    }
+
+    // 이미 공용 카드에 있는 문제는 이동하지 않고 거부 상태로 정리
+    public long rejectAsDuplicate(List<Long> ids) {
+        return transition(ids, GenerationStatus.APPROVED, GenerationStatus.REJECTED);
     }
 
     public long countByStatus(GenerationStatus status) {
@@ -98,6 +158,57 @@ public class GeneratedCardDomainService {
         return generatedCardRepository.count();
     }
 
+    public List<GenerationStatCounter> findStatCounters() {
+        return generationStatCounterRepository.findAll();
+    }
+
+    @Transactional
+    public int rebuildStatCounters() {
+        int rebuilt = generationStatCounterRepository.rebuild();
+        eventPublisher.publishEvent(new GenerationStatsChangedEvent());
+        return rebuilt;
+    }
+
+    // 바뀔 카드를 먼저 잠가 모델별 수를 구하고, 잠근 카드만 변경해 카운터와 실제 변경 건수를 맞춘다
+    private long transition(List<Long> ids, GenerationStatus from, GenerationStatus to) {
+        Map<String, List<Long>> idsByModel = generatedCardRepository.findIdsByModelForUpdate(ids, from);
+        long updated = generatedCardRepository.updateStatus(flatten(idsByModel), from, to);
+        recordTransition(countByModel(idsByModel), from, to);
+        return updated;
+    }
+
+    private void transitionClaimed(Long adminId, List<Long> ids, GenerationStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<Long>> idsByModel = generatedCardRepository.findClaimedIdsByModelForUpdate(ids, adminId, now);
+        generatedCardRepository.updateClaimedStatus(flatten(idsByModel), adminId, to, now);
+        recordTransition(countByModel(idsByModel), GenerationStatus.PENDING, to);
+    }
+
+    // from 이 null 이면 새로 저장된 카드
+    private void recordTransition(Map<String, Long> countsByModel, GenerationStatus from, GenerationStatus to) {
+        if (countsByModel.isEmpty() || from == to) {
+            return;
+        }
+        countsByModel.forEach((model, count) -> {
+            if (from != null) {
+                generationStatCounterRepository.increment(model, from, -count);
+            }
+            generationStatCounterRepository.increment(model, to, count);
+        });
+        eventPublisher.publishEvent(new GenerationStatsChangedEvent());
+    }
+
+    private List<Long> flatten(Map<String, List<Long>> idsByModel) {
+        return idsByModel.values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private Map<String, Long> countByModel(Map<String, List<Long>> idsByModel) {
+        return idsByModel.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> (long) entry.getValue().size()));
+    }
+
     private void validateStatusForApproval(GeneratedCard generatedCard) {
         if (generatedCard.isApproved()) {
             throw new GenerationException(GenerationErrorCode.ALREADY_APPROVED);
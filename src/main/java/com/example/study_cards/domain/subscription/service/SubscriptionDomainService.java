@@ -24,7 +24,12 @@ public class SubscriptionDomainService {
         if (user.hasRole(Role.ROLE_ADMIN)) {
             return SubscriptionPlan.PRO;
         }
-        return subscriptionRepository.findActiveByUserId(user.getId())
+        return getSubscribedPlan(user.getId());
+    }
+
+    // 관리자 여부를 따로 확인한 호출자가 엔티티 없이 구독 플랜만 조회할 때 사용한다
+    public SubscriptionPlan getSubscribedPlan(Long userId) {
+        return subscriptionRepository.findActiveByUserId(userId)
                 .map(Subscription::getPlan)
                 .orElse(SubscriptionPlan.FREE);
     }
@@ -0,0 +1,4 @@
+package com.example.study_cards.domain.usercard.event;
+
+public record UserCardChangedEvent(Long userId) {
+}
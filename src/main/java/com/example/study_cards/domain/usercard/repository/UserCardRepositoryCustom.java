@@ -14,6 +14,8 @@ public interface UserCardRepositoryCustom {
 
     List<UserCard> findByUserOrderByEfFactorAsc(User user);
 
+    List<String> findQuestionsByUser(User user);
+
     List<UserCard> findByUserAndCategoriesOrderByEfFactorAsc(User user, List<Category> categories);
 
     Page<UserCard> findByUserWithCategory(User user, Pageable pageable);
@@ -30,6 +30,15 @@ public class UserCardRepositoryCustomImpl implements UserCardRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<String> findQuestionsByUser(User user) {
+        return queryFactory
+                .select(userCard.question)
+                .from(userCard)
+                .where(userCard.user.eq(user))
+                .fetch();
+    }
+
     @Override
     public List<UserCard> findByUserAndCategoriesOrderByEfFactorAsc(User user, List<Category> categories) {
         if (categories == null || categories.isEmpty()) {
@@ -3,11 +3,13 @@ package com.example.study_cards.domain.usercard.service;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.usercard.entity.UserCard;
+import com.example.study_cards.domain.usercard.event.UserCardChangedEvent;
 import com.example.study_cards.domain.usercard.exception.UserCardErrorCode;
 import com.example.study_cards.domain.usercard.exception.UserCardException;
 import com.example.study_cards.domain.usercard.repository.UserCardRepository;
 import com.example.study_cards.domain.usercard.repository.UserCardRepositoryCustom.CategoryCount;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.Objects;
 public class UserCardDomainService {
 
     private final UserCardRepository userCardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserCard createUserCard(User user, String question, String questionSub,
                                    String answer, String answerSub, Category category) {
@@ -35,7 +38,9 @@ public class UserCardDomainService {
                 .answerSub(answerSub)
                 .category(category)
                 .build();
-        return userCardRepository.save(userCard);
+        UserCard savedUserCard = userCardRepository.save(userCard);
+        eventPublisher.publishEvent(new UserCardChangedEvent(user.getId()));
+        return savedUserCard;
     }
 
     public UserCard findById(Long id) {
@@ -55,6 +60,10 @@ public class UserCardDomainService {
         return userCardRepository.findByUser(user);
     }
 
+    public List<String> findQuestionsByUser(User user) {
+        return userCardRepository.findQuestionsByUser(user);
+    }
+
     public List<UserCard> findByUserOrderByEfFactorAsc(User user) {
         return userCardRepository.findByUserOrderByEfFactorAsc(user);
     }
@@ -72,16 +81,23 @@ public class UserCardDomainService {
 
         UserCard userCard = findByIdAndValidateOwner(id, user);
         userCard.update(question, questionSub, answer, answerSub, category);
+        eventPublisher.publishEvent(new UserCardChangedEvent(user.getId()));
         return userCard;
     }
 
     public List<UserCard> saveAll(List<UserCard> userCards) {
-        return userCardRepository.saveAll(userCards);
+        List<UserCard> savedUserCards = userCardRepository.saveAll(userCards);
+        savedUserCards.stream()
+                .map(userCard -> userCard.getUser().getId())
+                .distinct()
+                .forEach(userId -> eventPublisher.publishEvent(new UserCardChangedEvent(userId)));
+        return savedUserCards;
     }
 
     public void deleteUserCard(Long id, User user) {
         UserCard userCard = findByIdAndValidateOwner(id, user);
         userCardRepository.delete(userCard);
+        eventPublisher.publishEvent(new UserCardChangedEvent(user.getId()));
     }
 
     public Page<UserCard> findByUser(User user, Pageable pageable) {
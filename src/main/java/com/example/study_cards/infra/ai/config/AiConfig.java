@@ -1,16 +1,121 @@
 package com.example.study_cards.infra.ai.config;
 
+import com.example.study_cards.infra.ai.service.AiProviderRouter;
+import com.example.study_cards.infra.ai.service.HashingTextEmbedder;
+import com.example.study_cards.infra.ai.service.SpringAiTextEmbedder;
+import com.example.study_cards.infra.ai.service.TextEmbedder;
+import com.example.study_cards.infra.redis.service.AiProviderRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.google.genai.GoogleGenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 @Slf4j
 @Configuration
 public class AiConfig {
 
+    // ChatModel이 provider별로 여러 개 등록되면 자동 구성 builder를 만들 수 없어 기본 provider 모델로 직접 생성
+    @Bean
+    public ChatClient.Builder primaryChatClientBuilder(
+            ObjectProvider<ChatModel> chatModels,
+            AiProviderProperties aiProviderProperties
+    ) {
+        String activeProvider = aiProviderProperties.getActiveProvider();
+        List<ChatModel> registered = chatModels.orderedStream().toList();
+        ChatModel chatModel = registered.stream()
+                .filter(model -> activeProvider.equals(resolveProvider(model)))
+                .findFirst()
+                .orElseGet(() -> registered.stream()
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("등록된 ChatModel이 없습니다.")));
+        return ChatClient.builder(chatModel);
+    }
+
     @Bean
     public ChatClient chatClient(ChatClient.Builder builder) {
         return builder.build();
     }
+
+    @Bean
+    public AiProviderRouter aiProviderRouter(
+            ChatClient chatClient,
+            ObjectProvider<ChatModel> chatModels,
+            AiProviderProperties aiProviderProperties,
+            GoogleGenAiChatOptionsProperties googleGenAiChatOptionsProperties,
+            OpenAiChatOptionsProperties openAiChatOptionsProperties,
+            AiRouterProperties aiRouterProperties,
+            AiProviderRateLimiter aiProviderRateLimiter,
+            @Qualifier("aiCallExecutor") Executor aiCallExecutor
+    ) {
+        String activeProvider = aiProviderProperties.getActiveProvider();
+        List<AiProviderEndpoint> endpoints = new ArrayList<>();
+        endpoints.add(new AiProviderEndpoint(activeProvider,
+                resolveModel(activeProvider, googleGenAiChatOptionsProperties, openAiChatOptionsProperties), chatClient));
+
+        // 기본 provider 외에 등록된 ChatModel은 장애 시 전환할 예비 provider로 사용
+        for (ChatModel chatModel : chatModels.orderedStream().toList()) {
+            String provider = resolveProvider(chatModel);
+            if (provider == null || provider.equals(activeProvider)) {
+                continue;
+            }
+            endpoints.add(new AiProviderEndpoint(provider,
+                    resolveModel(provider, googleGenAiChatOptionsProperties, openAiChatOptionsProperties),
+                    ChatClient.create(chatModel)));
+        }
+
+        log.info("[AI] provider 라우터 구성 - providers: {}",
+                endpoints.stream().map(AiProviderEndpoint::provider).toList());
+        return new AiProviderRouter(endpoints, aiRouterProperties, aiCallExecutor, aiProviderRateLimiter);
+    }
+
+    // 기본은 외부 호출이 없는 해싱 임베더, spring-ai로 지정하면 provider EmbeddingModel 사용
+    @Bean
+    public TextEmbedder textEmbedder(
+            ObjectProvider<EmbeddingModel> embeddingModels,
+            @Value("${app.ai.embedding.provider:hashing}") String provider,
+            @Value("${app.ai.embedding.dimension:256}") int dimension,
+            @Value("${app.ai.embedding.model:}") String model
+    ) {
+        if ("spring-ai".equals(provider)) {
+            EmbeddingModel embeddingModel = embeddingModels.getIfAvailable();
+            if (embeddingModel != null) {
+                log.info("[AI] 카드 임베더 구성 - provider: spring-ai, model: {}", model);
+                return new SpringAiTextEmbedder(embeddingModel, model.isBlank() ? "spring-ai" : model);
+            }
+            log.warn("[AI] EmbeddingModel이 등록되지 않아 해싱 임베더 사용");
+        }
+        return new HashingTextEmbedder(dimension);
+    }
+
+    private String resolveProvider(ChatModel chatModel) {
+        if (chatModel instanceof OpenAiChatModel) {
+            return AiProviderProperties.PROVIDER_OPENAI;
+        }
+        if (chatModel instanceof GoogleGenAiChatModel) {
+            return AiProviderProperties.PROVIDER_GOOGLE_GENAI;
+        }
+        return null;
+    }
+
+    private String resolveModel(
+            String provider,
+            GoogleGenAiChatOptionsProperties googleGenAiChatOptionsProperties,
+            OpenAiChatOptionsProperties openAiChatOptionsProperties
+    ) {
+        String model = AiProviderProperties.PROVIDER_OPENAI.equals(provider)
+                ? openAiChatOptionsProperties.getModel()
+                : googleGenAiChatOptionsProperties.getModel();
+        return (model == null || model.isBlank()) ? "unknown" : model;
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.study_cards.infra.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ai.pricing")
+public class AiPricingProperties {
+
+    private Map<String, Price> models = new HashMap<>();
+
+    // 단가가 등록되지 않은 모델은 0으로 계산한다
+    public double estimateCost(String model, long promptTokens, long completionTokens) {
+        Price price = model != null ? models.get(model) : null;
+        if (price == null) {
+            return 0.0;
+        }
+        return (promptTokens * price.getPromptPerMillion() + completionTokens * price.getCompletionPerMillion())
+                / 1_000_000.0;
+    }
+
+    @Getter
+    @Setter
+    public static class Price {
+
+        private double promptPerMillion;
+        private double completionPerMillion;
+    }
+}
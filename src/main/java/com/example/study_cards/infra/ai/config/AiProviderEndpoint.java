@@ -0,0 +1,10 @@
+package com.example.study_cards.infra.ai.config;
+
+import org.springframework.ai.chat.client.ChatClient;
+
+public record AiProviderEndpoint(
+        String provider,
+        String model,
+        ChatClient chatClient
+) {
+}
@@ -5,11 +5,23 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 @Getter
 @Setter
 @Component
 @ConfigurationProperties(prefix = "app.ai")
 public class AiProviderProperties {
 
+    public static final String PROVIDER_GOOGLE_GENAI = "google-genai";
+    public static final String PROVIDER_OPENAI = "openai";
+
     private String provider;
+
+    public String getActiveProvider() {
+        if (provider == null || provider.isBlank()) {
+            return PROVIDER_GOOGLE_GENAI;
+        }
+        return provider.trim().toLowerCase(Locale.ROOT);
+    }
 }
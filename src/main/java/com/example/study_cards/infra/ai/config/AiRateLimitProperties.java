@@ -0,0 +1,43 @@
+package com.example.study_cards.infra.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ai.rate-limit")
+public class AiRateLimitProperties {
+
+    private boolean enabled = true;
+    private long requestsPerMinute = 60;
+    private long tokensPerMinute = 200000;
+    private int maxQueueSize = 100;
+    private long maxWaitMs = 20000;
+    private long pollIntervalMs = 100;
+    private int estimatedOutputTokens = 1500;
+    private Map<String, Limit> providers = new HashMap<>();
+
+    public long requestsPerMinute(String provider) {
+        Limit limit = providers.get(provider);
+        return limit != null && limit.getRequestsPerMinute() != null ? limit.getRequestsPerMinute() : requestsPerMinute;
+    }
+
+    public long tokensPerMinute(String provider) {
+        Limit limit = providers.get(provider);
+        return limit != null && limit.getTokensPerMinute() != null ? limit.getTokensPerMinute() : tokensPerMinute;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private Long requestsPerMinute;
+        private Long tokensPerMinute;
+    }
+}
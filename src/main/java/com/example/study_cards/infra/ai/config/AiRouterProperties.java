@@ -0,0 +1,21 @@
+package com.example.study_cards.infra.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ai.router")
+public class AiRouterProperties {
+
+    private boolean failoverEnabled = true;
+    private long hedgeDelayMs = 8000;
+    private int windowSize = 50;
+    private int minimumCalls = 10;
+    private double failureRateThreshold = 0.5;
+    private long openDurationMs = 30000;
+    private long slowCallMs = 15000;
+}
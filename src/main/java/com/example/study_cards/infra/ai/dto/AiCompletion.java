@@ -0,0 +1,16 @@
+package com.example.study_cards.infra.ai.dto;
+
+public record AiCompletion(
+        String content,
+        boolean cached,
+        String model,
+        String provider,
+        long promptTokens,
+        long completionTokens
+) {
+
+    // 캐시 응답이나 여러 응답을 합친 결과처럼 provider 사용량이 없는 경우
+    public AiCompletion(String content, boolean cached, String model) {
+        this(content, cached, model, null, 0, 0);
+    }
+}
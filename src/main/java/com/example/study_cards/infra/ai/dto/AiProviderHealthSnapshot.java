@@ -0,0 +1,12 @@
+package com.example.study_cards.infra.ai.dto;
+
+public record AiProviderHealthSnapshot(
+        String provider,
+        String model,
+        String circuitState,
+        int calls,
+        double errorRate,
+        long p50LatencyMs,
+        long p99LatencyMs
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.study_cards.infra.ai.dto;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
+
+/**
+ * AI 호출 목적과 요청자 플랜. 대기열 우선순위와 호출 지표 태그에 사용한다.
+ * 관리자 생성처럼 플랜이 없는 호출은 plan 이 null 이다.
+ */
+public record AiRequestContext(
+        AiGenerationType type,
+        SubscriptionPlan plan,
+        AiRequestPriority priority
+) {
+
+    public static AiRequestContext of(AiGenerationType type, SubscriptionPlan plan, AiRequestPriority priority) {
+        return new AiRequestContext(type, plan, priority);
+    }
+}
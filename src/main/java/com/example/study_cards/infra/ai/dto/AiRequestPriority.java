@@ -0,0 +1,17 @@
+package com.example.study_cards.infra.ai.dto;
+
+import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
+
+/**
+ * provider 호출 대기열의 처리 순서. 선언 순서가 앞설수록 먼저 처리된다.
+ */
+public enum AiRequestPriority {
+
+    HIGH,
+    NORMAL,
+    LOW;
+
+    public static AiRequestPriority from(SubscriptionPlan plan) {
+        return plan == SubscriptionPlan.PRO ? HIGH : NORMAL;
+    }
+}
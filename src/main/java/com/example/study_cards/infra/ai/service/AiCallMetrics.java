@@ -0,0 +1,91 @@
+package com.example.study_cards.infra.ai.service;
+
+import com.example.study_cards.infra.ai.config.AiPricingProperties;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 호출 1건의 지연 시간, 토큰 수, 추정 비용을 provider/모델/기능/플랜별로 기록한다.
+ * 지연 시간은 histogram 으로 내보내 Prometheus 에서 p99 를 계산할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiCallMetrics {
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_CACHED = "cached";
+    static final String OUTCOME_RATE_LIMITED = "rate_limited";
+    static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+    private final AiPricingProperties pricingProperties;
+
+    public void recordSuccess(AiRequestContext context, AiCompletion completion, String defaultProvider, long startedAt) {
+        String provider = completion.provider() != null ? completion.provider() : defaultProvider;
+        Tags tags = tags(context, provider, completion.model());
+        recordLatency(tags.and("outcome", completion.cached() ? OUTCOME_CACHED : OUTCOME_SUCCESS), startedAt);
+        if (completion.cached()) {
+            return;
+        }
+
+        recordTokens(tags.and("direction", "prompt"), completion.promptTokens());
+        recordTokens(tags.and("direction", "completion"), completion.completionTokens());
+        double cost = pricingProperties.estimateCost(
+                completion.model(), completion.promptTokens(), completion.completionTokens());
+        if (cost > 0) {
+            Counter.builder("ai.generation.cost")
+                    .description("토큰 사용량과 모델 단가로 추정한 AI 호출 비용")
+                    .baseUnit("usd")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment(cost);
+        }
+    }
+
+    // 실패한 호출은 어느 provider 까지 시도했는지 알 수 없으므로 기본 provider/모델로 기록한다
+    public void recordFailure(AiRequestContext context, String provider, String model, boolean rateLimited,
+                              long startedAt) {
+        recordLatency(tags(context, provider, model)
+                .and("outcome", rateLimited ? OUTCOME_RATE_LIMITED : OUTCOME_FAILURE), startedAt);
+    }
+
+    private void recordLatency(Tags tags, long startedAt) {
+        Timer.builder("ai.generation.latency")
+                .description("AI 응답 생성 시간")
+                .publishPercentileHistogram()
+                .tags(tags)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private void recordTokens(Tags tags, long tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        DistributionSummary.builder("ai.generation.tokens")
+                .description("AI 호출 1건의 토큰 수")
+                .baseUnit("tokens")
+                .publishPercentileHistogram()
+                .tags(tags)
+                .register(meterRegistry)
+                .record(tokens);
+    }
+
+    private Tags tags(AiRequestContext context, String provider, String model) {
+        return Tags.of(
+                "provider", provider != null ? provider : "unknown",
+                "model", model != null ? model : "unknown",
+                "type", context.type() != null ? context.type().name() : "unknown",
+                "plan", context.plan() != null ? context.plan().name() : "none"
+        );
+    }
+}
@@ -5,48 +5,77 @@ import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.infra.ai.config.AiProviderProperties;
 import com.example.study_cards.infra.ai.config.GoogleGenAiChatOptionsProperties;
 import com.example.study_cards.infra.ai.config.OpenAiChatOptionsProperties;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.redis.service.AiResponseCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
 
-import java.util.Locale;
+import java.time.Duration;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiGenerationService {
 
-    private static final String PROVIDER_GOOGLE_GENAI = "google-genai";
-    private static final String PROVIDER_OPENAI = "openai";
-
-    private final ChatClient chatClient;
+    private final AiProviderRouter aiProviderRouter;
     private final AiProviderProperties aiProviderProperties;
     private final GoogleGenAiChatOptionsProperties googleGenAiChatOptionsProperties;
     private final OpenAiChatOptionsProperties openAiChatOptionsProperties;
+    private final AiResponseCacheService aiResponseCacheService;
+    private final AiCallMetrics aiCallMetrics;
 
-    public String generateContent(String prompt) {
-        String activeProvider = resolveProvider();
+    public String generateContent(String prompt, AiRequestContext context) {
+        return generate(prompt, context).content();
+    }
 
+    // 캐시 키는 기본 provider/모델 기준이고, 응답의 model에는 실제로 응답한 모델이 담긴다
+    // 캐시 적중은 provider를 호출하지 않으므로 호출 허용량도 차감하지 않는다
+    public AiCompletion generate(String prompt, AiRequestContext context) {
+        String activeProvider = resolveProvider();
+        String model = getDefaultModel();
+        long startedAt = System.nanoTime();
         try {
-            String response = chatClient.prompt(prompt).call().content();
-            if (response == null || response.isBlank()) {
-                log.error("[AI] 응답 생성 실패 - provider: {}, error: empty response", activeProvider);
-                throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
-            }
+            AiCompletion completion = aiResponseCacheService.getOrLoad(activeProvider, model, prompt,
+                    () -> aiProviderRouter.call(prompt, context.priority()));
+            aiCallMetrics.recordSuccess(context, completion, activeProvider, startedAt);
+            return completion;
+        } catch (RuntimeException e) {
+            aiCallMetrics.recordFailure(context, activeProvider, model, isRateLimited(e), startedAt);
+            throw e;
+        }
+    }
+
+    public AiCompletion streamContent(String prompt, AiRequestContext context, Consumer<String> onChunk) {
+        String activeProvider = resolveProvider();
+        String model = getDefaultModel();
+        long startedAt = System.nanoTime();
 
-            log.info("[AI] 응답 생성 완료 - provider: {}, length: {}",
-                    activeProvider,
-                    response.length());
-            return response;
-        } catch (GenerationException e) {
+        AiCompletion cached = aiResponseCacheService.find(activeProvider, model, prompt);
+        if (cached != null) {
+            onChunk.accept(cached.content());
+            aiCallMetrics.recordSuccess(context, cached, activeProvider, startedAt);
+            return cached;
+        }
+
+        AiCompletion completion;
+        try {
+            completion = aiProviderRouter.stream(prompt, context.priority(), onChunk);
+        } catch (RuntimeException e) {
+            aiCallMetrics.recordFailure(context, activeProvider, model, isRateLimited(e), startedAt);
             throw e;
-        } catch (Exception e) {
-            log.error("[AI] 응답 생성 실패 - provider: {}, error: {}",
-                    activeProvider,
-                    e.getMessage());
-            throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
         }
+        aiCallMetrics.recordSuccess(context, completion, activeProvider, startedAt);
+        aiResponseCacheService.store(activeProvider, model, prompt, completion,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return completion;
+    }
+
+    // 응답을 파싱할 수 없는 경우 같은 프롬프트가 캐시된 실패 응답을 재사용하지 않도록 제거
+    public void evictCachedContent(String prompt) {
+        aiResponseCacheService.evict(resolveProvider(), getDefaultModel(), prompt);
     }
 
     public String getDefaultModel() {
@@ -54,16 +83,17 @@ public class AiGenerationService {
         return (model == null || model.isBlank()) ? "unknown" : model;
     }
 
+    private boolean isRateLimited(RuntimeException e) {
+        return e instanceof GenerationException generationException
+                && generationException.getErrorCode() == GenerationErrorCode.AI_RATE_LIMITED;
+    }
+
     private String resolveProvider() {
-        String provider = aiProviderProperties.getProvider();
-        if (provider == null || provider.isBlank()) {
-            return PROVIDER_GOOGLE_GENAI;
-        }
-        return provider.trim().toLowerCase(Locale.ROOT);
+        return aiProviderProperties.getActiveProvider();
     }
 
     private String resolveModelByProvider(String activeProvider) {
-        if (PROVIDER_OPENAI.equals(activeProvider)) {
+        if (AiProviderProperties.PROVIDER_OPENAI.equals(activeProvider)) {
             return openAiChatOptionsProperties.getModel();
         }
         return googleGenAiChatOptionsProperties.getModel();
@@ -0,0 +1,137 @@
+package com.example.study_cards.infra.ai.service;
+
+import com.example.study_cards.infra.ai.config.AiRouterProperties;
+import com.example.study_cards.infra.ai.dto.AiProviderHealthSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * provider별 최근 호출 구간의 지연 시간과 실패율을 추적하고 서킷 상태를 관리한다.
+ */
+@Slf4j
+class AiProviderHealth {
+
+    enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String provider;
+    private final AiRouterProperties properties;
+    private final long[] latencies;
+    private final boolean[] failures;
+
+    private int size;
+    private int next;
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    AiProviderHealth(String provider, AiRouterProperties properties) {
+        this.provider = provider;
+        this.properties = properties;
+        int windowSize = Math.max(1, properties.getWindowSize());
+        this.latencies = new long[windowSize];
+        this.failures = new boolean[windowSize];
+    }
+
+    // OPEN 상태는 대기 시간이 지나면 시험 호출 1건만 통과시킨다
+    synchronized boolean tryAcquire() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (System.currentTimeMillis() - openedAt < properties.getOpenDurationMs()) {
+                    yield false;
+                }
+                state = CircuitState.HALF_OPEN;
+                trialInFlight = true;
+                yield true;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    // 호출 허용량 부족으로 실제 호출을 하지 않은 경우 시험 호출 기회를 되돌린다
+    synchronized void release() {
+        if (state == CircuitState.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    synchronized void recordSuccess(long latencyMs) {
+        record(latencyMs, false);
+        if (state == CircuitState.HALF_OPEN) {
+            log.info("[AI] provider 서킷 복구 - provider: {}", provider);
+            state = CircuitState.CLOSED;
+            trialInFlight = false;
+            size = 0;
+            next = 0;
+        }
+    }
+
+    synchronized void recordFailure(long latencyMs) {
+        record(latencyMs, true);
+        if (state == CircuitState.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == CircuitState.CLOSED
+                && size >= properties.getMinimumCalls()
+                && errorRate() >= properties.getFailureRateThreshold()) {
+            open();
+        }
+    }
+
+    // 최근 응답의 중앙값이 기준보다 느리면 다른 provider보다 뒤로 보낸다
+    synchronized boolean isSlow() {
+        return size >= properties.getMinimumCalls() && percentile(0.5) > properties.getSlowCallMs();
+    }
+
+    synchronized AiProviderHealthSnapshot snapshot(String model) {
+        return new AiProviderHealthSnapshot(
+                provider, model, state.name(), size, errorRate(), percentile(0.5), percentile(0.99));
+    }
+
+    private void open() {
+        log.warn("[AI] provider 서킷 차단 - provider: {}, errorRate: {}", provider, errorRate());
+        state = CircuitState.OPEN;
+        openedAt = System.currentTimeMillis();
+        trialInFlight = false;
+    }
+
+    private void record(long latencyMs, boolean failed) {
+        latencies[next] = latencyMs;
+        failures[next] = failed;
+        next = (next + 1) % latencies.length;
+        size = Math.min(size + 1, latencies.length);
+    }
+
+    private double errorRate() {
+        if (size == 0) {
+            return 0.0;
+        }
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            if (failures[i]) {
+                failed++;
+            }
+        }
+        return (double) failed / size;
+    }
+
+    private long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.study_cards.infra.ai.service;
+
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
+import com.example.study_cards.domain.generation.exception.GenerationException;
+import com.example.study_cards.infra.ai.config.AiProviderEndpoint;
+import com.example.study_cards.infra.ai.config.AiRouterProperties;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiProviderHealthSnapshot;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
+import com.example.study_cards.infra.redis.service.AiProviderRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 등록된 provider를 우선순위대로 호출하고, 서킷이 열린 provider는 건너뛴다.
+ * 응답이 hedge 지연 시간을 넘기면 다음 provider에 같은 요청을 보내 먼저 도착한 응답을 사용한다.
+ * 호출 전에 provider별 허용량을 확보하고, 허용량을 기다리다 시간이 지나면 다음 provider로 넘어간다.
+ */
+@Slf4j
+public class AiProviderRouter {
+
+    private final List<Route> routes;
+    private final AiRouterProperties properties;
+    private final Executor aiCallExecutor;
+    private final AiProviderRateLimiter rateLimiter;
+
+    public AiProviderRouter(List<AiProviderEndpoint> endpoints, AiRouterProperties properties,
+                            Executor aiCallExecutor, AiProviderRateLimiter rateLimiter) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("AI provider endpoint가 하나 이상 필요합니다.");
+        }
+        this.routes = endpoints.stream()
+                .map(endpoint -> new Route(endpoint, new AiProviderHealth(endpoint.provider(), properties)))
+                .toList();
+        this.properties = properties;
+        this.aiCallExecutor = aiCallExecutor;
+        this.rateLimiter = rateLimiter;
+    }
+
+    public AiCompletion call(String prompt, AiRequestPriority priority) {
+        long estimatedTokens = rateLimiter.estimateTokens(prompt);
+        Deque<Route> remaining = orderedRoutes();
+        boolean throttled = false;
+        Route primary;
+        while ((primary = pollAvailable(remaining)) != null) {
+            if (!acquirePermit(primary, estimatedTokens, priority)) {
+                throwIfInterrupted();
+                throttled = true;
+                continue;
+            }
+            try {
+                return awaitWithHedge(primary, invokeAsync(primary, prompt), remaining, prompt, estimatedTokens);
+            } catch (GenerationException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("[AI] 호출 스레드 중단으로 전환 없이 종료 - provider: {}", primary.endpoint().provider());
+                    throw e;
+                }
+                log.warn("[AI] provider 호출 실패, 다음 provider로 전환 - provider: {}", primary.endpoint().provider());
+            }
+        }
+
+        log.error("[AI] 사용 가능한 provider 없음 - providers: {}, throttled: {}", routes.size(), throttled);
+        throw unavailable(throttled);
+    }
+
+    // 이미 클라이언트에 전달한 조각이 있으면 다른 provider로 이어서 받을 수 없으므로 그대로 실패 처리
+    public AiCompletion stream(String prompt, AiRequestPriority priority, Consumer<String> onChunk) {
+        long estimatedTokens = rateLimiter.estimateTokens(prompt);
+        Deque<Route> remaining = orderedRoutes();
+        boolean throttled = false;
+        Route route;
+        while ((route = pollAvailable(remaining)) != null) {
+            if (!acquirePermit(route, estimatedTokens, priority)) {
+                throwIfInterrupted();
+                throttled = true;
+                continue;
+            }
+            StringBuilder content = new StringBuilder();
+            AtomicReference<RuntimeException> consumerFailure = new AtomicReference<>();
+            // 스트리밍 사용량은 보통 마지막 응답에만 담겨 오므로 가장 최근 값을 유지
+            AtomicReference<Usage> usage = new AtomicReference<>();
+            long startedAt = System.nanoTime();
+            try {
+                route.endpoint().chatClient().prompt(prompt).stream().chatResponse()
+                        .doOnNext(response -> {
+                            Usage responseUsage = usageOf(response);
+                            if (responseUsage != null) {
+                                usage.set(responseUsage);
+                            }
+                        })
+                        .mapNotNull(this::textOf)
+                        .doOnNext(chunk -> {
+                            content.append(chunk);
+                            try {
+                                onChunk.accept(chunk);
+                            } catch (RuntimeException e) {
+                                consumerFailure.set(e);
+                                throw e;
+                            }
+                        })
+                        .blockLast();
+            } catch (Exception e) {
+                if (consumerFailure.get() != null) {
+                    route.health().recordSuccess(elapsedMillis(startedAt));
+                    log.warn("[AI] 스트리밍 수신 중단 - provider: {}, received: {}",
+                            route.endpoint().provider(), content.length());
+                    throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+                }
+                // 클라이언트 연결 종료로 작업이 취소된 경우라 provider 실패로 기록하지 않는다
+                if (isInterruption(e)) {
+                    Thread.currentThread().interrupt();
+                    route.health().release();
+                    log.info("[AI] 스트리밍 호출 취소 - provider: {}, received: {}",
+                            route.endpoint().provider(), content.length());
+                    throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+                }
+                route.health().recordFailure(elapsedMillis(startedAt));
+                log.error("[AI] 스트리밍 응답 생성 실패 - provider: {}, received: {}, error: {}",
+                        route.endpoint().provider(), content.length(), e.getMessage());
+                if (!content.isEmpty()) {
+                    throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+                }
+                continue;
+            }
+
+            if (content.toString().isBlank()) {
+                route.health().recordFailure(elapsedMillis(startedAt));
+                log.error("[AI] 스트리밍 응답 생성 실패 - provider: {}, error: empty response", route.endpoint().provider());
+                continue;
+            }
+
+            route.health().recordSuccess(elapsedMillis(startedAt));
+            log.info("[AI] 스트리밍 응답 생성 완료 - provider: {}, model: {}, length: {}",
+                    route.endpoint().provider(), route.endpoint().model(), content.length());
+            return completion(route.endpoint(), content.toString(), usage.get());
+        }
+
+        throw unavailable(throttled);
+    }
+
+    public List<AiProviderHealthSnapshot> getHealthSnapshots() {
+        return routes.stream()
+                .map(route -> route.health().snapshot(route.endpoint().model()))
+                .toList();
+    }
+
+    private AiCompletion awaitWithHedge(Route primary, CompletableFuture<AiCompletion> primaryCall,
+                                        Deque<Route> remaining, String prompt, long estimatedTokens) {
+        if (properties.getHedgeDelayMs() <= 0 || remaining.isEmpty()) {
+            return await(primaryCall);
+        }
+
+        try {
+            return primaryCall.get(properties.getHedgeDelayMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Route hedge = pollAvailable(remaining);
+            if (hedge == null) {
+                return await(primaryCall);
+            }
+            // hedge는 부가 요청이므로 대기하지 않고 허용량이 남아 있을 때만 보낸다
+            if (!rateLimiter.tryAcquire(hedge.endpoint().provider(), hedge.endpoint().model(), estimatedTokens)) {
+                hedge.health().release();
+                return await(primaryCall);
+            }
+            log.info("[AI] 응답 지연으로 hedge 요청 시작 - primary: {}, hedge: {}",
+                    primary.endpoint().provider(), hedge.endpoint().provider());
+            return await(firstSuccessful(primaryCall, invokeAsync(hedge, prompt)));
+        } catch (ExecutionException e) {
+            throw toGenerationException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+        }
+    }
+
+    private CompletableFuture<AiCompletion> firstSuccessful(CompletableFuture<AiCompletion> first,
+                                                            CompletableFuture<AiCompletion> second) {
+        CompletableFuture<AiCompletion> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<AiCompletion, Throwable> handler = (completion, error) -> {
+            if (error == null) {
+                result.complete(completion);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        };
+        first.whenComplete(handler);
+        second.whenComplete(handler);
+        return result;
+    }
+
+    private CompletableFuture<AiCompletion> invokeAsync(Route route, String prompt) {
+        return CompletableFuture.supplyAsync(() -> invoke(route, prompt), aiCallExecutor);
+    }
+
+    private AiCompletion invoke(Route route, String prompt) {
+        AiProviderEndpoint endpoint = route.endpoint();
+        long startedAt = System.nanoTime();
+        try {
+            ChatResponse chatResponse = endpoint.chatClient().prompt(prompt).call().chatResponse();
+            String response = textOf(chatResponse);
+            if (response == null || response.isBlank()) {
+                log.error("[AI] 응답 생성 실패 - provider: {}, error: empty response", endpoint.provider());
+                throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+            }
+
+            long latencyMs = elapsedMillis(startedAt);
+            route.health().recordSuccess(latencyMs);
+            log.info("[AI] 응답 생성 완료 - provider: {}, model: {}, latency: {}ms, length: {}",
+                    endpoint.provider(), endpoint.model(), latencyMs, response.length());
+            return completion(endpoint, response, usageOf(chatResponse));
+        } catch (RuntimeException e) {
+            route.health().recordFailure(elapsedMillis(startedAt));
+            if (!(e instanceof GenerationException)) {
+                log.error("[AI] 응답 생성 실패 - provider: {}, error: {}", endpoint.provider(), e.getMessage());
+            }
+            throw toGenerationException(e);
+        }
+    }
+
+    private AiCompletion completion(AiProviderEndpoint endpoint, String content, Usage usage) {
+        long promptTokens = usage != null ? tokens(usage.getPromptTokens()) : 0;
+        long completionTokens = usage != null ? tokens(usage.getCompletionTokens()) : 0;
+        return new AiCompletion(content, false, endpoint.model(), endpoint.provider(), promptTokens, completionTokens);
+    }
+
+    private String textOf(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    // 사용량을 주지 않는 provider 는 빈 Usage(토큰 0)를 담아 보내므로 실제 값이 있을 때만 사용
+    private Usage usageOf(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        return usage != null && tokens(usage.getTotalTokens()) > 0 ? usage : null;
+    }
+
+    private long tokens(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    // 등록 순서를 기본 우선순위로 하되, 최근 응답이 느린 provider는 뒤로 보낸다
+    private Deque<Route> orderedRoutes() {
+        List<Route> candidates = properties.isFailoverEnabled() ? routes : routes.subList(0, 1);
+        return new ArrayDeque<>(candidates.stream()
+                .sorted(Comparator.comparing(route -> route.health().isSlow()))
+                .toList());
+    }
+
+    private boolean acquirePermit(Route route, long estimatedTokens, AiRequestPriority priority) {
+        AiProviderEndpoint endpoint = route.endpoint();
+        if (rateLimiter.acquire(endpoint.provider(), endpoint.model(), estimatedTokens, priority)) {
+            return true;
+        }
+        route.health().release();
+        log.warn("[AI] 호출 허용량 부족으로 provider 건너뜀 - provider: {}", endpoint.provider());
+        return false;
+    }
+
+    private GenerationException unavailable(boolean throttled) {
+        return new GenerationException(throttled
+                ? GenerationErrorCode.AI_RATE_LIMITED
+                : GenerationErrorCode.AI_GENERATION_FAILED);
+    }
+
+    private Route pollAvailable(Deque<Route> remaining) {
+        Route route;
+        while ((route = remaining.poll()) != null) {
+            if (route.health().tryAcquire()) {
+                return route;
+            }
+            log.debug("[AI] 서킷이 열린 provider 건너뜀 - provider: {}", route.endpoint().provider());
+        }
+        return null;
+    }
+
+    // 호출 스레드 중단을 알아챌 수 있도록 join 대신 get 으로 기다린다
+    private AiCompletion await(CompletableFuture<AiCompletion> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw toGenerationException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+        }
+    }
+
+    private void throwIfInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+        }
+    }
+
+    private boolean isInterruption(Throwable error) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private GenerationException toGenerationException(Throwable error) {
+        if (error instanceof GenerationException generationException) {
+            return generationException;
+        }
+        return new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    private record Route(AiProviderEndpoint endpoint, AiProviderHealth health) {
+    }
+}
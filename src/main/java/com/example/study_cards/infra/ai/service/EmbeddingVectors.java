@@ -0,0 +1,23 @@
+package com.example.study_cards.infra.ai.service;
+
+final class EmbeddingVectors {
+
+    private EmbeddingVectors() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    static float[] normalize(float[] vector) {
+        double sum = 0.0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        if (sum == 0.0) {
+            return vector;
+        }
+        float scale = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.study_cards.infra.ai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 단어와 글자 2~3-gram을 signed feature hashing으로 고정 차원에 누적하는 로컬 임베더.
+ * 외부 호출 없이 결정적으로 동작하므로 기본 임베더로 사용한다.
+ */
+public class HashingTextEmbedder implements TextEmbedder {
+
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float WORD_WEIGHT = 2.0f;
+
+    private final int dimension;
+
+    public HashingTextEmbedder(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("임베딩 차원은 1 이상이어야 합니다.");
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public String model() {
+        return "hashing-" + dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        String normalized = text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        for (String word : NON_WORD_PATTERN.split(normalized)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            add(vector, "w:" + word, WORD_WEIGHT);
+
+            // 한국어 조사/어미 변화에도 겹치도록 단어 안의 글자 n-gram을 함께 반영
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    add(vector, word.substring(i, i + n), 1.0f);
+                }
+            }
+        }
+        return EmbeddingVectors.normalize(vector);
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        int hash = hash(feature);
+        int index = Math.floorMod(hash, dimension);
+        // 해시 충돌이 한쪽으로 쌓이지 않도록 별도 비트로 부호를 정한다
+        vector[index] += ((hash >>> 31) == 0) ? weight : -weight;
+    }
+
+    private int hash(String feature) {
+        int hash = 0;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            hash = 31 * hash + b;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.study_cards.infra.ai.service;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+
+/**
+ * provider의 EmbeddingModel을 사용하는 임베더. 색인 작업에서만 호출되고 요청 처리 중에는 저장된 벡터를 사용한다.
+ */
+public class SpringAiTextEmbedder implements TextEmbedder {
+
+    private final EmbeddingModel embeddingModel;
+    private final String model;
+
+    public SpringAiTextEmbedder(EmbeddingModel embeddingModel, String model) {
+        this.embeddingModel = embeddingModel;
+        this.model = model;
+    }
+
+    @Override
+    public String model() {
+        return model;
+    }
+
+    @Override
+    public int dimension() {
+        return embeddingModel.dimensions();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return EmbeddingVectors.normalize(embeddingModel.embed(text));
+    }
+}
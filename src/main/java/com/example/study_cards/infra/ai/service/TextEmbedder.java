@@ -0,0 +1,19 @@
+package com.example.study_cards.infra.ai.service;
+
+/**
+ * 카드 텍스트를 고정 길이 벡터로 변환한다. 반환 벡터는 L2 정규화되어 내적이 곧 코사인 유사도가 된다.
+ */
+public interface TextEmbedder {
+
+    // 저장된 임베딩과 비교할 수 있는지 판단하는 식별자
+    String model();
+
+    int dimension();
+
+    float[] embed(String text);
+
+    // 외부 호출 없이 계산하는지 여부. 요청 처리 중에는 로컬 임베더만 호출한다
+    default boolean isLocal() {
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.infra.redis.vo.AiGenerationJobVo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 비동기 AI 카드 생성 작업의 상태와 결과를 보관한다.
+ * 작업을 실행한 서버가 아닌 서버로 조회해도 같은 상태를 보도록 Redis 에 두고, 찾아가지 않은 결과는 TTL 로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiGenerationJobStateService {
+
+    private static final String AI_GENERATION_JOB_PREFIX = "ai_generation_job:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.ai.job.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    // 값 직렬화에 타입 정보가 없어 객체로 두면 Map 으로 읽히므로 JSON 문자열로 저장한다
+    public void save(String jobId, AiGenerationJobVo job) {
+        try {
+            redisTemplate.opsForValue().set(buildKey(jobId), objectMapper.writeValueAsString(job),
+                    Duration.ofMinutes(ttlMinutes));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI 생성 작업 상태 직렬화 실패", e);
+        }
+    }
+
+    public Optional<AiGenerationJobVo> find(String jobId) {
+        Object value = redisTemplate.opsForValue().get(buildKey(jobId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value.toString(), AiGenerationJobVo.class));
+        } catch (JsonProcessingException e) {
+            log.warn("AI 생성 작업 상태 변환 실패, 없는 작업으로 처리 - jobId: {}, error: {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void delete(String jobId) {
+        redisTemplate.delete(buildKey(jobId));
+    }
+
+    private String buildKey(String jobId) {
+        return AI_GENERATION_JOB_PREFIX + jobId;
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.study_cards.infra.redis.service;
 
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
-import com.example.study_cards.domain.ai.service.AiGenerationLogDomainService;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
+import com.example.study_cards.domain.ai.service.AiUsageDomainService;
 import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -12,16 +14,24 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.OptionalInt;
 
+/**
+ * AI 생성 사용량은 ai_usages 집계 행을 기준으로 관리하고, Redis 에는 같은 값을 write-through 로 캐시한다.
+ * FREE 는 평생 구간, PRO 는 일일 구간 하나의 행만 보므로 로그가 쌓여도 조회 비용이 늘지 않는다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class AiLimitService {
 
     private static final String AI_DAILY_PREFIX = "ai_generation:";
+    private static final String AI_LIFETIME_PREFIX = "ai_generation:lifetime:";
+    private static final Duration LIFETIME_CACHE_TTL = Duration.ofDays(1);
+    private static final AiGenerationType LIMITED_TYPE = AiGenerationType.USER_CARD;
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final AiGenerationLogDomainService aiGenerationLogDomainService;
+    private final AiUsageDomainService aiUsageDomainService;
 
     public boolean canGenerate(Long userId, SubscriptionPlan plan) {
         int limit = plan.getAiGenerationDailyLimit();
@@ -30,21 +40,16 @@ public class AiLimitService {
     }
 
     public int getUsedCount(Long userId, SubscriptionPlan plan) {
-        if (plan == SubscriptionPlan.FREE) {
-            // FREE: DB에서 평생 사용량 조회 (유실 방지)
-            return (int) aiGenerationLogDomainService.countByUserIdAndTypeAndSuccessTrue(
-                    userId, AiGenerationType.USER_CARD);
+        Integer cached = readCache(userId, plan);
+        if (cached != null) {
+            return cached;
         }
 
-        // PRO: Redis에서 일일 사용량 조회
-        try {
-            String key = AI_DAILY_PREFIX + userId;
-            Integer count = (Integer) redisTemplate.opsForValue().get(key);
-            return count != null ? count : 0;
-        } catch (Exception e) {
-            log.warn("Redis AI 카운트 조회 실패: userId={}", userId);
-            return 0;
-        }
+        AiUsagePeriod period = periodOf(plan);
+        Integer used = aiUsageDomainService.findUsed(userId, LIMITED_TYPE, period, period.startOf(LocalDate.now()));
+        int result = used != null ? used : initialUsed(userId, plan);
+        writeCache(userId, plan, result);
+        return result;
     }
 
     public int getRemainingCount(Long userId, SubscriptionPlan plan) {
@@ -54,43 +59,69 @@ public class AiLimitService {
     }
 
     /**
-     * PRO 유저: Redis INCR로 슬롯 선점 후 한도 초과 시 DECR 롤백.
-     * FREE 유저: DB 기반 canGenerate()로 확인.
+     * DB 집계 행을 조건부로 증가시켜 슬롯을 선점하고, 증가된 값을 Redis 에 반영한다.
      */
     public boolean tryAcquireSlot(Long userId, SubscriptionPlan plan) {
-        if (plan == SubscriptionPlan.FREE) {
-            return canGenerate(userId, plan);
-        }
-
+        AiUsagePeriod period = periodOf(plan);
         try {
-            String key = AI_DAILY_PREFIX + userId;
-            Long count = redisTemplate.opsForValue().increment(key);
-            redisTemplate.expire(key, getTtlUntilMidnight());
-
-            if (count != null && count > plan.getAiGenerationDailyLimit()) {
-                redisTemplate.opsForValue().decrement(key);
-                return false;
-            }
-            return true;
-        } catch (Exception e) {
-            log.warn("Redis AI 슬롯 선점 실패: userId={}", userId);
+            OptionalInt used = aiUsageDomainService.tryAcquire(userId, LIMITED_TYPE, period,
+                    period.startOf(LocalDate.now()), plan.getAiGenerationDailyLimit(),
+                    () -> initialUsed(userId, plan));
+            used.ifPresent(count -> writeCache(userId, plan, count));
+            return used.isPresent();
+        } catch (DataAccessException e) {
+            log.warn("AI 슬롯 선점 실패: userId={}", userId);
             return false;
         }
     }
 
     public void releaseSlot(Long userId, SubscriptionPlan plan) {
+        AiUsagePeriod period = periodOf(plan);
+        try {
+            int used = aiUsageDomainService.release(userId, LIMITED_TYPE, period, period.startOf(LocalDate.now()));
+            writeCache(userId, plan, used);
+        } catch (DataAccessException e) {
+            log.warn("AI 슬롯 해제 실패: userId={}", userId);
+        }
+    }
+
+    // 집계 행이 생기기 전의 사용량. FREE 이전 사용량은 db/ai_usages.sql 이 미리 옮겨 두므로 0에서 시작하고,
+    // PRO 는 기존 Redis 일일 카운트에서 이어받는다
+    private int initialUsed(Long userId, SubscriptionPlan plan) {
         if (plan == SubscriptionPlan.FREE) {
-            return;
+            return 0;
         }
+        Integer cached = readCache(userId, plan);
+        return cached != null ? cached : 0;
+    }
 
+    private AiUsagePeriod periodOf(SubscriptionPlan plan) {
+        return plan == SubscriptionPlan.FREE ? AiUsagePeriod.LIFETIME : AiUsagePeriod.DAILY;
+    }
+
+    private Integer readCache(Long userId, SubscriptionPlan plan) {
         try {
-            String key = AI_DAILY_PREFIX + userId;
-            redisTemplate.opsForValue().decrement(key);
+            Object value = redisTemplate.opsForValue().get(cacheKey(userId, plan));
+            return value instanceof Number number ? number.intValue() : null;
         } catch (Exception e) {
-            log.warn("Redis AI 슬롯 해제 실패: userId={}", userId);
+            log.warn("Redis AI 카운트 조회 실패: userId={}", userId);
+            return null;
         }
     }
 
+    private void writeCache(Long userId, SubscriptionPlan plan, int used) {
+        try {
+            Duration ttl = plan == SubscriptionPlan.FREE ? LIFETIME_CACHE_TTL : getTtlUntilMidnight();
+            redisTemplate.opsForValue().set(cacheKey(userId, plan), used, ttl);
+        } catch (Exception e) {
+            log.warn("Redis AI 카운트 저장 실패: userId={}", userId);
+        }
+    }
+
+    private String cacheKey(Long userId, SubscriptionPlan plan) {
+        return (plan == SubscriptionPlan.FREE ? AI_LIFETIME_PREFIX : AI_DAILY_PREFIX) + userId;
+    }
+
     private Duration getTtlUntilMidnight() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime midnight = LocalDate.now().plusDays(1).atTime(LocalTime.MIDNIGHT);
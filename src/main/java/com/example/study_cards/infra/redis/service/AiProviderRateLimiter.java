@@ -0,0 +1,226 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.infra.ai.config.AiRateLimitProperties;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * provider/모델별 분당 요청 수와 토큰 수를 Redis 의 GCRA 버킷으로 제한해 모든 서버가 같은 한도를 나눠 쓴다.
+ * 두 버킷은 Lua 스크립트 한 번으로 함께 확인하고 둘 다 남았을 때만 차감하므로, 한쪽만 차감되어 허용량이 새지 않는다.
+ * 한도는 호출마다 인자로 넘기므로 Redis 에 설정을 따로 저장하지 않고, 설정을 바꾸면 다음 호출부터 반영된다.
+ * 한도를 넘은 요청은 바로 실패시키지 않고 서버별 대기열에서 플랜 우선순위, 도착 순서대로 기다린다.
+ */
+@Slf4j
+@Service
+public class AiProviderRateLimiter {
+
+    private static final String AI_RATE_PREFIX = "ai_rate:";
+    private static final Duration RATE_INTERVAL = Duration.ofMinutes(1);
+
+    // KEYS: 요청 수 버킷, 토큰 버킷 / ARGV: 분당 요청 수, 분당 토큰 수, 차감할 토큰 수, 구간(ms)
+    // 토큰 버킷은 회복 간격이 1ms 보다 짧으므로 시각을 μs 정수로 계산한다. 반환값: 1 허용, 0 거절
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local period = tonumber(ARGV[4]) * 1000
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local function nextTat(key, limit, cost)
+                local interval = math.ceil(period / limit)
+                local tat = tonumber(redis.call('GET', key))
+                if not tat or tat < now then
+                    tat = now
+                end
+                local newTat = tat + interval * cost
+                if newTat - interval * limit > now then
+                    return nil
+                end
+                return newTat
+            end
+            local requestTat = nextTat(KEYS[1], tonumber(ARGV[1]), 1)
+            local tokenTat = nextTat(KEYS[2], tonumber(ARGV[2]), tonumber(ARGV[3]))
+            if not requestTat or not tokenTat then
+                return 0
+            end
+            redis.call('SET', KEYS[1], string.format('%.0f', requestTat), 'PX', math.ceil((requestTat - now) / 1000))
+            redis.call('SET', KEYS[2], string.format('%.0f', tokenTat), 'PX', math.ceil((tokenTat - now) / 1000))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AiRateLimitProperties properties;
+    private final ConcurrentMap<String, WaitQueue> waitQueues = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter acquiredCounter;
+    private final Counter throttledCounter;
+    private final Counter rejectedCounter;
+
+    public AiProviderRateLimiter(RedisTemplate<String, Object> redisTemplate, AiRateLimitProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.acquiredCounter = resultCounter(meterRegistry, "acquired");
+        this.throttledCounter = resultCounter(meterRegistry, "throttled");
+        this.rejectedCounter = resultCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * 허용량이 생길 때까지 최대 max-wait-ms 동안 기다린다.
+     * 대기열이 가득 찼거나 대기 시간을 넘기면 false를 반환한다.
+     */
+    public boolean acquire(String provider, String model, long estimatedTokens, AiRequestPriority priority) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        WaitQueue queue = waitQueues.computeIfAbsent(key(provider, model), ignored -> new WaitQueue());
+        Waiter waiter = new Waiter(priority, sequence.incrementAndGet());
+        long deadline = System.currentTimeMillis() + properties.getMaxWaitMs();
+        try {
+            WaitResult result = queue.await(waiter, deadline, () -> tryConsume(provider, model, estimatedTokens));
+            return record(provider, model, priority, result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return record(provider, model, priority, WaitResult.TIMEOUT);
+        }
+    }
+
+    // hedge 요청처럼 기다릴 이유가 없는 호출은 대기열이 비어 있고 허용량이 남았을 때만 통과시킨다
+    public boolean tryAcquire(String provider, String model, long estimatedTokens) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        WaitQueue queue = waitQueues.get(key(provider, model));
+        if (queue != null && !queue.isEmpty()) {
+            return false;
+        }
+        return tryConsume(provider, model, estimatedTokens);
+    }
+
+    // 입력은 글자 3개당 1토큰 정도로, 출력은 설정한 예상치로 추정한다
+    public long estimateTokens(String prompt) {
+        int length = prompt == null ? 0 : prompt.length();
+        return (length + 2) / 3 + properties.getEstimatedOutputTokens();
+    }
+
+    private boolean tryConsume(String provider, String model, long estimatedTokens) {
+        try {
+            long requestsPerMinute = Math.max(1, properties.requestsPerMinute(provider));
+            long tokensPerMinute = Math.max(1, properties.tokensPerMinute(provider));
+            // 버킷 용량보다 큰 요청은 영원히 통과할 수 없으므로 용량만큼만 차감한다
+            long tokenPermits = Math.max(1, Math.min(estimatedTokens, tokensPerMinute));
+
+            String prefix = AI_RATE_PREFIX + key(provider, model);
+            Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(prefix + ":requests", prefix + ":tokens"),
+                    requestsPerMinute, tokensPerMinute, tokenPermits, RATE_INTERVAL.toMillis());
+            return acquired == null || acquired == 1L;
+        } catch (RuntimeException e) {
+            log.warn("AI 호출 허용량 확인 실패, 제한 없이 진행 - provider: {}, model: {}, error: {}",
+                    provider, model, e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean record(String provider, String model, AiRequestPriority priority, WaitResult result) {
+        switch (result) {
+            case ACQUIRED -> acquiredCounter.increment();
+            case TIMEOUT -> {
+                throttledCounter.increment();
+                log.warn("AI 호출 허용량 대기 시간 초과 - provider: {}, model: {}, priority: {}", provider, model, priority);
+            }
+            case QUEUE_FULL -> {
+                rejectedCounter.increment();
+                log.warn("AI 호출 대기열 초과 - provider: {}, model: {}, priority: {}", provider, model, priority);
+            }
+        }
+        return result == WaitResult.ACQUIRED;
+    }
+
+    private String key(String provider, String model) {
+        return provider + ":" + model;
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.rate.limit.requests")
+                .description("AI provider 호출 허용량 확인 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private enum WaitResult {
+        ACQUIRED, TIMEOUT, QUEUE_FULL
+    }
+
+    private record Waiter(AiRequestPriority priority, long sequence) {
+    }
+
+    private interface PermitSupplier {
+        boolean tryAcquire();
+    }
+
+    /**
+     * 맨 앞 대기자만 Redis에 허용량을 확인하고, 나머지는 poll 간격마다 깨어나 자기 차례인지 확인한다.
+     * Redis 호출은 모니터 밖에서 하므로 확인이 느려도 다른 대기자의 등록과 시간 초과 처리를 막지 않는다.
+     */
+    private class WaitQueue {
+
+        private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+                Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+        synchronized boolean isEmpty() {
+            return waiters.isEmpty();
+        }
+
+        WaitResult await(Waiter waiter, long deadline, PermitSupplier permit) throws InterruptedException {
+            synchronized (this) {
+                if (waiters.size() >= properties.getMaxQueueSize()) {
+                    return WaitResult.QUEUE_FULL;
+                }
+                waiters.add(waiter);
+            }
+
+            try {
+                while (true) {
+                    boolean head = isHead(waiter);
+                    if (head && permit.tryAcquire()) {
+                        return WaitResult.ACQUIRED;
+                    }
+                    synchronized (this) {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            return WaitResult.TIMEOUT;
+                        }
+                        // 확인하는 사이 앞 대기자가 빠져 맨 앞이 되었으면 기다리지 않고 바로 확인한다
+                        if (!head && waiters.peek() == waiter) {
+                            continue;
+                        }
+                        wait(Math.max(1, Math.min(remaining, properties.getPollIntervalMs())));
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                    notifyAll();
+                }
+            }
+        }
+
+        private synchronized boolean isHead(Waiter waiter) {
+            return waiters.peek() == waiter;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.common.util.HashUtils;
+import com.example.study_cards.infra.redis.vo.AiRecommendationVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 사용자별 마지막 AI 복습 분석 결과를 학습 상태 fingerprint와 함께 보관한다.
+ * 사용자당 한 건만 유지하며, fingerprint가 달라지면 덮어쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiRecommendationCacheService {
+
+    private static final String AI_RECOMMENDATION_PREFIX = "ai_recommendation:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.ai.recommendation.cache.enabled:true}")
+    private boolean enabled;
+
+    public Optional<AiRecommendationVo> find(Long userId, String studyState) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            Object value = redisTemplate.opsForValue().get(buildKey(userId));
+            if (value instanceof AiRecommendationVo cached && cached.fingerprint().equals(HashUtils.sha256Hex(studyState))) {
+                return Optional.of(cached);
+            }
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("AI 복습 분석 캐시 조회 실패: userId={}", userId);
+            return Optional.empty();
+        }
+    }
+
+    // 학습 상태에 날짜가 포함되므로 다음 날 0시까지만 보관한다
+    public void store(Long userId, String studyState, String content, String model) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            AiRecommendationVo value = new AiRecommendationVo(HashUtils.sha256Hex(studyState), content, model);
+            redisTemplate.opsForValue().set(buildKey(userId), value, ttlUntilTomorrow());
+        } catch (Exception e) {
+            log.warn("AI 복습 분석 캐시 저장 실패: userId={}", userId);
+        }
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(buildKey(userId));
+        } catch (Exception e) {
+            log.warn("AI 복습 분석 캐시 삭제 실패: userId={}", userId);
+        }
+    }
+
+    private String buildKey(Long userId) {
+        return AI_RECOMMENDATION_PREFIX + userId;
+    }
+
+    private Duration ttlUntilTomorrow() {
+        Duration ttl = Duration.between(LocalDateTime.now(), LocalDate.now().plusDays(1).atStartOfDay());
+        return ttl.isNegative() || ttl.isZero() ? Duration.ofSeconds(1) : ttl;
+    }
+}
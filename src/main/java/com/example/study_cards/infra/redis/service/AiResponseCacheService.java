@@ -0,0 +1,213 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.common.util.HashUtils;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.redis.vo.AiResponseVo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class AiResponseCacheService {
+
+    private static final String AI_RESPONSE_PREFIX = "ai_response:";
+    private static final String AI_RESPONSE_INDEX_KEY = "ai_response:index";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ConcurrentMap<String, CompletableFuture<AiCompletion>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sharedCounter;
+    private final DistributionSummary savedLatency;
+
+    @Value("${app.ai.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.response-cache.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.ai.response-cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${app.ai.response-cache.max-content-length:100000}")
+    private int maxContentLength;
+
+    public AiResponseCacheService(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.sharedCounter = requestCounter(meterRegistry, "shared");
+        this.savedLatency = DistributionSummary.builder("ai.response.cache.saved.latency")
+                .description("캐시 적중으로 생략된 AI 호출 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 loader로 생성해 저장한다.
+     * 같은 키로 동시에 들어온 요청은 하나의 upstream 호출 결과를 공유한다.
+     */
+    public AiCompletion getOrLoad(String provider, String model, String prompt, Supplier<AiCompletion> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = createKey(provider, model, prompt);
+        AiResponseVo cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            savedLatency.record(cached.latencyMs());
+            return toCachedCompletion(cached, model);
+        }
+
+        CompletableFuture<AiCompletion> leader = new CompletableFuture<>();
+        CompletableFuture<AiCompletion> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            sharedCounter.increment();
+            AiCompletion shared = join(existing);
+            return new AiCompletion(shared.content(), true, shared.model());
+        }
+
+        missCounter.increment();
+        try {
+            long startedAt = System.nanoTime();
+            AiCompletion completion = loader.get();
+            put(key, new AiResponseVo(completion.content(),
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), completion.model()));
+            leader.complete(completion);
+            return completion;
+        } catch (RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * 스트리밍 응답처럼 single-flight를 거치지 않는 호출에서 캐시를 직접 조회한다.
+     */
+    public AiCompletion find(String provider, String model, String prompt) {
+        if (!enabled) {
+            return null;
+        }
+
+        AiResponseVo cached = get(createKey(provider, model, prompt));
+        if (cached == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        savedLatency.record(cached.latencyMs());
+        return toCachedCompletion(cached, model);
+    }
+
+    public void store(String provider, String model, String prompt, AiCompletion completion, long latencyMs) {
+        if (!enabled) {
+            return;
+        }
+        put(createKey(provider, model, prompt), new AiResponseVo(completion.content(), latencyMs, completion.model()));
+    }
+
+    public void evict(String provider, String model, String prompt) {
+        String key = createKey(provider, model, prompt);
+        try {
+            redisTemplate.delete(key);
+            redisTemplate.opsForZSet().remove(AI_RESPONSE_INDEX_KEY, key);
+        } catch (Exception e) {
+            log.warn("Redis AI 응답 캐시 삭제 실패 - key: {}", key);
+        }
+    }
+
+    String createKey(String provider, String model, String prompt) {
+        String normalizedPrompt = WHITESPACE.matcher(
+                Normalizer.normalize(prompt, Normalizer.Form.NFC).trim()).replaceAll(" ");
+        return AI_RESPONSE_PREFIX + HashUtils.sha256Hex(provider + "\n" + model + "\n" + normalizedPrompt);
+    }
+
+    private AiResponseVo get(String key) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value instanceof AiResponseVo aiResponseVo) {
+                return aiResponseVo;
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("Redis AI 응답 캐시 조회 실패 - key: {}, 캐시 미스로 처리", key);
+            return null;
+        }
+    }
+
+    private void put(String key, AiResponseVo value) {
+        if (value.content().length() > maxContentLength) {
+            return;
+        }
+
+        try {
+            Duration ttl = Duration.ofHours(ttlHours);
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForValue().set(key, value, ttl);
+            redisTemplate.opsForZSet().add(AI_RESPONSE_INDEX_KEY, key, now);
+            redisTemplate.opsForZSet().removeRangeByScore(AI_RESPONSE_INDEX_KEY, 0, now - ttl.toMillis());
+            evictOverflow();
+        } catch (Exception e) {
+            log.warn("Redis AI 응답 캐시 저장 실패 - key: {}", key);
+        }
+    }
+
+    // 최대 개수를 넘으면 오래된 항목부터 삭제
+    private void evictOverflow() {
+        Long size = redisTemplate.opsForZSet().zCard(AI_RESPONSE_INDEX_KEY);
+        if (size == null || size <= maxEntries) {
+            return;
+        }
+
+        Set<Object> oldest = redisTemplate.opsForZSet().range(AI_RESPONSE_INDEX_KEY, 0, size - maxEntries - 1);
+        if (oldest == null || oldest.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(oldest.stream().map(String::valueOf).toList());
+        redisTemplate.opsForZSet().remove(AI_RESPONSE_INDEX_KEY, oldest.toArray());
+    }
+
+    // 실제 응답 모델이 없는 이전 형식의 항목은 요청 모델로 기록
+    private AiCompletion toCachedCompletion(AiResponseVo cached, String requestedModel) {
+        String model = cached.model() == null ? requestedModel : cached.model();
+        return new AiCompletion(cached.content(), true, model);
+    }
+
+    private AiCompletion join(CompletableFuture<AiCompletion> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.response.cache.requests")
+                .description("AI 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
+import com.example.study_cards.domain.usercard.event.UserCardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CatalogVersionService {
+
+    private static final String CATALOG_VERSION_KEY = "catalog:version";
+    private static final String USER_CARD_VERSION_PREFIX = "catalog:version:user:";
+    private static final Duration USER_CARD_VERSION_TTL = Duration.ofDays(30);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public Long getCatalogVersion() {
+        return getOrInitialize(CATALOG_VERSION_KEY, null);
+    }
+
+    public Long getUserCardVersion(Long userId) {
+        return getOrInitialize(USER_CARD_VERSION_PREFIX + userId, USER_CARD_VERSION_TTL);
+    }
+
+    // 공용 카탈로그(카드/카테고리) 응답용 strong ETag, Redis 장애 시 null
+    public String getCatalogETag() {
+        Long catalogVersion = getCatalogVersion();
+        return catalogVersion != null ? "\"c" + catalogVersion + "\"" : null;
+    }
+
+    // 개인 카드가 섞인 응답용 strong ETag, 카탈로그 버전과 사용자별 버전을 함께 반영
+    public String getUserCardETag(Long userId) {
+        Long catalogVersion = getCatalogVersion();
+        Long userCardVersion = getUserCardVersion(userId);
+        if (catalogVersion == null || userCardVersion == null) {
+            return null;
+        }
+        return "\"c" + catalogVersion + "-u" + userId + "." + userCardVersion + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        try {
+            redisTemplate.opsForValue().increment(CATALOG_VERSION_KEY);
+        } catch (Exception e) {
+            log.warn("Redis 장애로 카탈로그 버전 증가 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCardChanged(UserCardChangedEvent event) {
+        String key = USER_CARD_VERSION_PREFIX + event.userId();
+        try {
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, USER_CARD_VERSION_TTL);
+        } catch (Exception e) {
+            log.warn("Redis 장애로 사용자 카드 버전 증가 실패 - userId: {}", event.userId(), e);
+        }
+    }
+
+    private Long getOrInitialize(String key, Duration ttl) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                // 키가 유실돼도 이전에 발급한 ETag와 겹치지 않도록 현재 시각으로 초기화
+                if (ttl != null) {
+                    redisTemplate.opsForValue().setIfAbsent(key, System.currentTimeMillis(), ttl);
+                } else {
+                    redisTemplate.opsForValue().setIfAbsent(key, System.currentTimeMillis());
+                }
+                value = redisTemplate.opsForValue().get(key);
+            }
+            return value instanceof Number number ? number.longValue() : null;
+        } catch (Exception e) {
+            log.warn("Redis 장애로 버전 조회 실패 - key: {}", key, e);
+            return null;
+        }
+    }
+}
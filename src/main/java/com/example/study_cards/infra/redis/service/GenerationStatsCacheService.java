@@ -0,0 +1,115 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import com.example.study_cards.domain.generation.event.GenerationStatsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 관리자 생성 통계를 "모델:상태" → 카드 수 해시로 보관한다.
+ * 카운터가 바뀐 트랜잭션이 커밋되면 지우고, 다음 조회에서 카운터 테이블로 다시 채운다.
+ * 카운터 테이블이 한 번이라도 전체 재집계되었는지도 표시해 둔다. 그 전의 카운터는 재집계 이후 증감만 담고 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationStatsCacheService {
+
+    private static final String GENERATION_STATS_KEY = "generation_stats";
+    private static final String SEEDED_KEY = "generation_stats:seeded";
+    private static final String FIELD_DELIMITER = ":";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${app.generation.stats.cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private volatile boolean seeded;
+
+    public Optional<Map<String, Map<GenerationStatus, Long>>> find() {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(GENERATION_STATS_KEY);
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Map<String, Map<GenerationStatus, Long>> countsByModel = new HashMap<>();
+            entries.forEach((field, value) -> {
+                // 모델명에 구분자가 들어갈 수 있으므로 마지막 구분자 뒤를 상태로 본다
+                String key = (String) field;
+                int delimiter = key.lastIndexOf(FIELD_DELIMITER);
+                String model = key.substring(0, delimiter);
+                GenerationStatus status = GenerationStatus.valueOf(key.substring(delimiter + 1));
+                countsByModel.computeIfAbsent(model, k -> new EnumMap<>(GenerationStatus.class))
+                        .put(status, ((Number) value).longValue());
+            });
+            return Optional.of(countsByModel);
+        } catch (Exception e) {
+            log.warn("생성 통계 캐시 조회 실패, 캐시 미스로 처리");
+            return Optional.empty();
+        }
+    }
+
+    public void store(Map<String, Map<GenerationStatus, Long>> countsByModel) {
+        if (countsByModel.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> fields = new HashMap<>();
+        countsByModel.forEach((model, counts) -> counts.forEach((status, count) ->
+                fields.put(model + FIELD_DELIMITER + status.name(), count)));
+        try {
+            redisTemplate.opsForHash().putAll(GENERATION_STATS_KEY, fields);
+            redisTemplate.expire(GENERATION_STATS_KEY, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("생성 통계 캐시 저장 실패");
+        }
+    }
+
+    // 표시를 확인하지 못하면 재집계 전으로 보고 카드 테이블을 직접 집계하게 한다
+    public boolean isSeeded() {
+        if (seeded) {
+            return true;
+        }
+        try {
+            seeded = Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY));
+        } catch (Exception e) {
+            log.warn("생성 통계 재집계 표시 조회 실패, 재집계 전으로 처리");
+        }
+        return seeded;
+    }
+
+    // 재집계 트랜잭션이 커밋된 뒤에 호출한다
+    public void markSeeded() {
+        try {
+            redisTemplate.opsForValue().set(SEEDED_KEY, "1");
+            seeded = true;
+        } catch (Exception e) {
+            log.warn("생성 통계 재집계 표시 저장 실패");
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGenerationStatsChanged(GenerationStatsChangedEvent event) {
+        evict();
+    }
+
+    public void evict() {
+        try {
+            redisTemplate.delete(GENERATION_STATS_KEY);
+        } catch (Exception e) {
+            log.warn("생성 통계 캐시 삭제 실패");
+        }
+    }
+}
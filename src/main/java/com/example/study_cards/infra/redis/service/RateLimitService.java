@@ -3,13 +3,20 @@ package com.example.study_cards.infra.redis.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
+/**
+ * 모든 확인/기록은 Lua 스크립트 한 번으로 처리해 왕복 1회에 원자적으로 끝낸다.
+ * 요청 빈도 제한은 GCRA, 일일 카드 수와 실패 횟수는 첫 기록 시점에만 TTL 을 거는 고정 구간 카운터를 쓴다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -18,6 +25,35 @@ public class RateLimitService {
     private static final String RATE_LIMIT_PREFIX = "rate_limit:cards:";
     private static final int MAX_CARDS_PER_DAY = 15;
 
+    // 반환값: {허용 여부, 남은 요청 수, 모두 회복될 때까지 ms, 다시 시도 가능할 때까지 ms}
+    // 시각을 정수 ms 로 유지하도록 회복 간격을 올림하고, 그만큼 구간을 늘린다
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local interval = math.ceil(tonumber(ARGV[2]) / limit)
+            local window = interval * limit
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if not tat or tat < now then
+                tat = now
+            end
+            local newTat = tat + interval
+            local allowAt = newTat - window
+            if allowAt > now then
+                return {0, 0, math.ceil(tat - now), math.ceil(allowAt - now)}
+            end
+            redis.call('SET', KEYS[1], tostring(newTat), 'PX', math.ceil(newTat - now))
+            return {1, math.floor((window - (newTat - now)) / interval), math.ceil(newTat - now), 0}
+            """, List.class);
+
+    private static final RedisScript<Long> COUNTER_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return count
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     public int getRemainingCards(String ipAddress) {
@@ -37,30 +73,37 @@ public class RateLimitService {
         }
 
         try {
-            String key = RATE_LIMIT_PREFIX + ipAddress;
-            redisTemplate.opsForValue().increment(key, cardCount);
-            redisTemplate.expire(key, getTtlUntilMidnight());
+            increment(RATE_LIMIT_PREFIX + ipAddress, cardCount, getTtlUntilMidnight());
         } catch (Exception e) {
             log.warn("Redis 장애로 rate limit 증가 실패 - ip: {}", ipAddress, e);
         }
     }
 
-    public boolean isRateLimited(String action, String identifier, int maxAttempts, Duration window) {
+    /**
+     * limit 개를 window 동안 고르게 허용한다. 한 번에 limit 개까지 몰아 쓸 수 있고, window / limit 마다 1개씩 회복된다.
+     */
+    public RateLimitResult tryAcquire(String action, String identifier, int limit, Duration window) {
         try {
-            String key = "rate_limit:" + action + ":" + identifier;
-            Long count = redisTemplate.opsForValue().increment(key);
-            redisTemplate.expire(key, window);
-            return count != null && count > maxAttempts;
+            List<?> result = redisTemplate.execute(GCRA_SCRIPT, List.of(key(action, identifier)),
+                    limit, window.toMillis());
+            if (result == null || result.size() < 4) {
+                return RateLimitResult.unlimited(limit);
+            }
+            return new RateLimitResult(
+                    toLong(result.get(0)) == 1,
+                    limit,
+                    (int) toLong(result.get(1)),
+                    toLong(result.get(2)),
+                    toLong(result.get(3)));
         } catch (Exception e) {
             log.warn("Redis 장애로 rate limit 확인 실패 - action: {}, identifier: {}, 허용 처리", action, identifier, e);
-            return false;
+            return RateLimitResult.unlimited(limit);
         }
     }
 
     public boolean isBlocked(String action, String identifier, int maxAttempts) {
         try {
-            String key = "rate_limit:" + action + ":" + identifier;
-            Integer count = (Integer) redisTemplate.opsForValue().get(key);
+            Integer count = (Integer) redisTemplate.opsForValue().get(key(action, identifier));
             return count != null && count >= maxAttempts;
         } catch (Exception e) {
             log.warn("Redis 장애로 rate limit 확인 실패 - action: {}, identifier: {}, 허용 처리", action, identifier, e);
@@ -70,9 +113,7 @@ public class RateLimitService {
 
     public void recordFailedAttempt(String action, String identifier, Duration window) {
         try {
-            String key = "rate_limit:" + action + ":" + identifier;
-            redisTemplate.opsForValue().increment(key);
-            redisTemplate.expire(key, window);
+            increment(key(action, identifier), 1, window);
         } catch (Exception e) {
             log.warn("Redis 장애로 rate limit 기록 실패 - action: {}, identifier: {}", action, identifier, e);
         }
@@ -80,16 +121,35 @@ public class RateLimitService {
 
     public void resetAttempts(String action, String identifier) {
         try {
-            String key = "rate_limit:" + action + ":" + identifier;
-            redisTemplate.delete(key);
+            redisTemplate.delete(key(action, identifier));
         } catch (Exception e) {
             log.warn("Redis 장애로 rate limit 초기화 실패 - action: {}, identifier: {}", action, identifier, e);
         }
     }
 
+    // 구간은 첫 기록부터 시작하고, 이후 기록으로 TTL 이 늘어나지 않는다
+    private void increment(String key, long delta, Duration window) {
+        redisTemplate.execute(COUNTER_SCRIPT, List.of(key), delta, window.toMillis());
+    }
+
+    private String key(String action, String identifier) {
+        return "rate_limit:" + action + ":" + identifier;
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
     private Duration getTtlUntilMidnight() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime midnight = LocalDate.now().plusDays(1).atTime(LocalTime.MIDNIGHT);
         return Duration.between(now, midnight);
     }
+
+    public record RateLimitResult(boolean allowed, int limit, int remaining, long resetMs, long retryAfterMs) {
+
+        static RateLimitResult unlimited(int limit) {
+            return new RateLimitResult(true, limit, limit, 0, 0);
+        }
+    }
 }
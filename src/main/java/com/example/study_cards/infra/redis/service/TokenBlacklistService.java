@@ -1,28 +1,141 @@
 package com.example.study_cards.infra.redis.service;
 
+import com.example.study_cards.common.util.BloomFilter;
+import com.example.study_cards.common.util.HashUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
-@RequiredArgsConstructor
+/**
+ * 로그아웃/탈퇴한 액세스 토큰을 토큰 SHA-256 해시 키로 보관한다.
+ * 서버마다 블랙리스트 해시의 Bloom filter 를 두고, filter 에 걸린 토큰만 Redis 에서 확인한다.
+ * filter 는 Redis 를 스캔해 주기적으로 다시 만들고, 그 사이 등록된 토큰은 pub/sub 으로 전달받는다.
+ * 해시 키 도입 전에 쓰던 bl:<원문 토큰> 키는 만료될 때까지 함께 확인한다.
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class TokenBlacklistService {
 
     private static final String BLACKLIST_PREFIX = "bl:";
+    private static final String BLACKLIST_CHANNEL = "bl:events";
+    private static final int SCAN_COUNT = 1000;
+    private static final Pattern TOKEN_HASH = Pattern.compile("[0-9a-f]{64}");
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+
+    @Value("${app.security.blacklist.filter-expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${app.security.blacklist.filter-false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean subscribed;
+    private volatile boolean filterReady;
+
+    // 구독을 먼저 걸어 두어야 첫 재구성 중에 등록된 토큰도 놓치지 않는다
+    @PostConstruct
+    public void subscribe() {
+        filter = newFilter();
+        try {
+            topic().addListener(String.class, (channel, tokenHash) -> addToFilter(tokenHash));
+            subscribed = true;
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 채널 구독 실패, 모든 토큰을 Redis 에서 확인 - error: {}", e.getMessage());
+        }
+    }
 
     public void blacklistToken(String accessToken, long remainingMs) {
         if (remainingMs > 0) {
-            String key = BLACKLIST_PREFIX + accessToken;
-            redisTemplate.opsForValue().set(key, "blacklisted", remainingMs, TimeUnit.MILLISECONDS);
+            String tokenHash = HashUtils.sha256Hex(accessToken);
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenHash, "blacklisted", remainingMs, TimeUnit.MILLISECONDS);
+            addToFilter(tokenHash);
+            try {
+                topic().publish(tokenHash);
+            } catch (RuntimeException e) {
+                log.warn("블랙리스트 이벤트 발행 실패, 다른 서버는 다음 재구성 때 반영 - error: {}", e.getMessage());
+            }
         }
     }
 
     public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return redisTemplate.hasKey(key);
+        String tokenHash = HashUtils.sha256Hex(token);
+        if (filterReady && !filter.mightContain(tokenHash)) {
+            return false;
+        }
+        // 이전 형식(bl:<원문 토큰>) 키도 한 번에 확인한다
+        Long count = redisTemplate.countExistingKeys(List.of(BLACKLIST_PREFIX + tokenHash, BLACKLIST_PREFIX + token));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Redis 에 남아 있는 블랙리스트 키로 filter 를 새로 만든다. 만료된 토큰은 이때 filter 에서 빠진다.
+     * 구독이 없으면 filter 를 믿을 수 없으므로 만들지 않는다.
+     */
+    public int rebuildFilter() {
+        if (!subscribed) {
+            return 0;
+        }
+
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(SCAN_COUNT).build())) {
+            while (keys.hasNext()) {
+                next.add(toTokenHash(keys.next().substring(BLACKLIST_PREFIX.length())));
+                count++;
+            }
+            filter = next;
+            filterReady = true;
+            return count;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 재구성 중이면 새 filter 에도 넣는다. 스캔이 끝난 뒤 rebuilding 을 읽기 전에 교체가 일어나면
+     * 새 filter 에 빠질 수 있으므로, 넣은 뒤 filter 가 바뀌었으면 바뀐 filter 에 한 번 더 넣는다.
+     */
+    private void addToFilter(String tokenHash) {
+        BloomFilter current = filter;
+        current.add(tokenHash);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(tokenHash);
+        }
+        BloomFilter swapped = filter;
+        if (swapped != current) {
+            swapped.add(tokenHash);
+        }
+    }
+
+    // 이전 형식 키의 접미사는 원문 토큰이므로 해시로 바꿔 filter 에 넣는다
+    private static String toTokenHash(String suffix) {
+        return TOKEN_HASH.matcher(suffix).matches() ? suffix : HashUtils.sha256Hex(suffix);
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(BLACKLIST_CHANNEL, StringCodec.INSTANCE);
     }
 }
@@ -1,37 +1,150 @@
 package com.example.study_cards.infra.redis.service;
 
 import com.example.study_cards.infra.redis.vo.UserVo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 인증 주체(UserVo) 캐시. 서버 로컬(크기 제한, 짧은 TTL) → Redis 순으로 조회한다.
+ * 삭제는 Redis 와 로컬을 함께 비우고 pub/sub 으로 다른 서버의 로컬 캐시에도 전달한다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class UserCacheService {
 
     private static final String USER_CACHE_PREFIX = "user:";
+    private static final String EVICT_CHANNEL = "user:evict";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+
+    @Value("${app.security.principal-cache.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${app.security.principal-cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @PostConstruct
+    public void subscribe() {
+        try {
+            topic().addListener(String.class, (channel, userId) -> localCache.remove(Long.valueOf(userId)));
+        } catch (RuntimeException e) {
+            // 구독 없이 로컬 캐시를 쓰면 다른 서버의 탈퇴/정지가 TTL 동안 반영되지 않는다
+            localMaxSize = 0;
+            log.warn("사용자 캐시 삭제 채널 구독 실패, 로컬 캐시 사용 안 함 - error: {}", e.getMessage());
+        }
+    }
 
     public void cacheUser(UserVo userVo, long ttlMs) {
         String key = USER_CACHE_PREFIX + userVo.id();
         redisTemplate.opsForValue().set(key, userVo, ttlMs, TimeUnit.MILLISECONDS);
+        cacheLocally(userVo, ttlMs);
     }
 
     public Optional<UserVo> getCachedUser(Long userId) {
+        LocalEntry local = localCache.get(userId);
+        if (local != null) {
+            if (!local.isExpired(System.currentTimeMillis())) {
+                return Optional.of(local.user());
+            }
+            localCache.remove(userId, local);
+        }
+
         String key = USER_CACHE_PREFIX + userId;
         Object value = redisTemplate.opsForValue().get(key);
-        if (value instanceof UserVo userVo) {
-            return Optional.of(userVo);
+        UserVo userVo = toUserVo(value);
+        if (userVo == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        cacheLocally(userVo, TimeUnit.SECONDS.toMillis(localTtlSeconds));
+        return Optional.of(userVo);
     }
 
+    /**
+     * 지금 한 번, 트랜잭션 안이면 커밋 후 한 번 더 지운다.
+     * 커밋 전에 다른 요청이 아직 바뀌지 않은 행을 다시 캐시해도 커밋 후 삭제로 정리된다.
+     */
     public void evictUser(Long userId) {
-        String key = USER_CACHE_PREFIX + userId;
-        redisTemplate.delete(key);
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        localCache.remove(userId);
+        redisTemplate.delete(USER_CACHE_PREFIX + userId);
+        try {
+            topic().publish(String.valueOf(userId));
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 삭제 이벤트 발행 실패, 다른 서버는 로컬 TTL 후 반영 - userId: {}, error: {}",
+                    userId, e.getMessage());
+        }
+    }
+
+    // Redis 보다 오래 남지 않게 한다. 가득 차면 만료된 항목부터 비우고, 그래도 자리가 없으면 로컬에는 두지 않는다
+    private void cacheLocally(UserVo userVo, long ttlMs) {
+        if (localMaxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (localCache.size() >= localMaxSize) {
+            localCache.values().removeIf(entry -> entry.isExpired(now));
+            if (localCache.size() >= localMaxSize) {
+                return;
+            }
+        }
+        long localTtlMs = Math.min(ttlMs, TimeUnit.SECONDS.toMillis(localTtlSeconds));
+        localCache.put(userVo.id(), new LocalEntry(userVo, now + localTtlMs));
+    }
+
+    // 값 직렬화에 타입 정보가 없어 Map 으로 읽히므로 UserVo 로 변환한다
+    private UserVo toUserVo(Object value) {
+        if (value instanceof UserVo userVo) {
+            return userVo;
+        }
+        if (value instanceof Map<?, ?> map) {
+            try {
+                return objectMapper.convertValue(map, UserVo.class);
+            } catch (IllegalArgumentException e) {
+                log.warn("사용자 캐시 값 변환 실패, 캐시 미스로 처리 - error: {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(EVICT_CHANNEL, StringCodec.INSTANCE);
+    }
+
+    private record LocalEntry(UserVo user, long expiresAtMs) {
+
+        boolean isExpired(long nowMs) {
+            return nowMs >= expiresAtMs;
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.example.study_cards.infra.redis.vo;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationJobStatus;
+
+import java.io.Serializable;
+
+// result 는 생성 결과 JSON, 실패한 작업은 errorStatus/errorMessage 에 에러 응답과 같은 값을 담는다
+public record AiGenerationJobVo(
+        Long userId,
+        AiGenerationJobStatus status,
+        String result,
+        Integer errorStatus,
+        String errorMessage
+) implements Serializable {
+
+    public static AiGenerationJobVo pending(Long userId) {
+        return new AiGenerationJobVo(userId, AiGenerationJobStatus.PENDING, null, null, null);
+    }
+
+    public static AiGenerationJobVo running(Long userId) {
+        return new AiGenerationJobVo(userId, AiGenerationJobStatus.RUNNING, null, null, null);
+    }
+
+    public static AiGenerationJobVo completed(Long userId, String result) {
+        return new AiGenerationJobVo(userId, AiGenerationJobStatus.COMPLETED, result, null, null);
+    }
+
+    public static AiGenerationJobVo failed(Long userId, int errorStatus, String errorMessage) {
+        return new AiGenerationJobVo(userId, AiGenerationJobStatus.FAILED, null, errorStatus, errorMessage);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.study_cards.infra.redis.vo;
+
+import java.io.Serializable;
+
+public record AiRecommendationVo(
+        String fingerprint,
+        String content,
+        String model
+) implements Serializable {
+}
@@ -0,0 +1,10 @@
+package com.example.study_cards.infra.redis.vo;
+
+import java.io.Serializable;
+
+public record AiResponseVo(
+        String content,
+        long latencyMs,
+        String model
+) implements Serializable {
+}
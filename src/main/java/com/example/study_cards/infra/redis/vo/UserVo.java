@@ -21,4 +21,8 @@ public record UserVo(
                 user.getRoles()
         );
     }
+
+    public boolean hasRole(Role role) {
+        return roles != null && roles.contains(role);
+    }
 }
@@ -7,6 +7,7 @@ import com.example.study_cards.infra.security.oauth.CustomOAuth2UserService;
 import com.example.study_cards.infra.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.example.study_cards.infra.security.oauth.OAuth2FailureHandler;
 import com.example.study_cards.infra.security.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -67,10 +68,14 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 완료 시의 async dispatch는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PUBLIC_URLS).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/cards/all", "/api/cards/study/all").authenticated()
-                        .requestMatchers(HttpMethod.GET, "/api/cards", "/api/cards/study", "/api/cards/count").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/cards/{id:\\d+}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/cards", "/api/cards/study", "/api/cards/count", "/api/cards/changes").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/cards/{id:\\d+}", "/api/cards/{id:\\d+}/related").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/cards/snapshots/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/cards/snapshots/**").permitAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/user/**").authenticated()
                         .anyRequest().authenticated())
@@ -105,7 +110,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "ETag",
+                "RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
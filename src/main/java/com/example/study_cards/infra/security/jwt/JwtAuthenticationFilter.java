@@ -1,12 +1,12 @@
 package com.example.study_cards.infra.security.jwt;
 
-import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.domain.user.exception.UserException;
-import com.example.study_cards.domain.user.service.UserDomainService;
 import com.example.study_cards.infra.security.exception.JwtErrorCode;
 import com.example.study_cards.infra.security.exception.JwtException;
 import com.example.study_cards.infra.redis.service.TokenBlacklistService;
+import com.example.study_cards.infra.redis.vo.UserVo;
 import com.example.study_cards.infra.security.user.CustomUserDetails;
+import com.example.study_cards.infra.security.user.UserPrincipalService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +20,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
@@ -32,7 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
-    private final UserDomainService userDomainService;
+    private final UserPrincipalService userPrincipalService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -46,14 +45,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     throw new JwtException(JwtErrorCode.BLACKLISTED_TOKEN);
                 }
 
-                jwtTokenProvider.validateToken(token);
+                JwtClaims claims = jwtTokenProvider.verifyAccessToken(token);
+                UserVo principal = loadPrincipal(claims.userId());
 
-                Long userId = jwtTokenProvider.getUserId(token);
-                validateUser(userId);
-                String email = jwtTokenProvider.getEmail(token);
-                Set<Role> roles = jwtTokenProvider.getRoles(token);
-
-                CustomUserDetails userDetails = new CustomUserDetails(userId, email, roles);
+                // 권한 변경이 토큰 재발급 전에도 반영되도록 캐시된 사용자 정보의 roles 를 쓴다
+                CustomUserDetails userDetails = new CustomUserDetails(principal.id(), principal.email(), principal.roles());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -71,9 +67,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private void validateUser(Long userId) {
+    private UserVo loadPrincipal(Long userId) {
         try {
-            userDomainService.findById(userId);
+            return userPrincipalService.getPrincipal(userId);
         } catch (UserException e) {
             throw new JwtException(JwtErrorCode.INVALID_TOKEN);
         }
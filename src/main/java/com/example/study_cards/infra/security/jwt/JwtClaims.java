@@ -0,0 +1,19 @@
+package com.example.study_cards.infra.security.jwt;
+
+import com.example.study_cards.domain.user.entity.Role;
+
+import java.util.Set;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임. 리프레시 토큰은 email 이 null, roles 가 비어 있어 액세스 토큰으로 쓸 수 없다.
+ */
+public record JwtClaims(Long userId, String email, Set<Role> roles, long expiresAtMs) {
+
+    public boolean isExpired(long nowMs) {
+        return nowMs >= expiresAtMs;
+    }
+
+    public boolean isAccessToken() {
+        return email != null && !roles.isEmpty();
+    }
+}
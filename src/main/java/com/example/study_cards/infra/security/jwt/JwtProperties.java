@@ -13,4 +13,5 @@ public class JwtProperties {
     private String secret;
     private int accessTokenExpireMinutes;
     private int refreshTokenExpireDays;
+    private int verifiedCacheSize = 10000;
 }
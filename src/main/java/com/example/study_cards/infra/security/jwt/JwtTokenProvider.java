@@ -1,5 +1,6 @@
 package com.example.study_cards.infra.security.jwt;
 
+import com.example.study_cards.common.util.HashUtils;
 import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.infra.security.exception.JwtErrorCode;
 import com.example.study_cards.infra.security.exception.JwtException;
@@ -15,6 +16,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -22,11 +25,17 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    // 검증을 마친 토큰의 클레임. 키는 토큰 원문 대신 SHA-256 해시를 쓴다
+    private final ConcurrentMap<String, JwtClaims> verifiedClaims = new ConcurrentHashMap<>();
     private SecretKey secretKey;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String createAccessToken(Long userId, String email, Set<Role> roles) {
@@ -61,42 +70,57 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public void validateToken(String token) {
-        try {
-            parseToken(token);
-        } catch (ExpiredJwtException e) {
+    /**
+     * 토큰을 한 번만 검증/파싱해 클레임을 반환한다.
+     * 검증된 토큰은 만료 전까지 로컬 캐시에서 바로 꺼내 쓴다.
+     */
+    public JwtClaims verify(String token) {
+        String key = HashUtils.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        JwtClaims cached = verifiedClaims.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedClaims.remove(key);
             throw new JwtException(JwtErrorCode.EXPIRED_TOKEN);
-        } catch (MalformedJwtException e) {
-            throw new JwtException(JwtErrorCode.MALFORMED_TOKEN);
-        } catch (SignatureException e) {
-            throw new JwtException(JwtErrorCode.INVALID_SIGNATURE);
-        } catch (UnsupportedJwtException e) {
-            throw new JwtException(JwtErrorCode.UNSUPPORTED_TOKEN);
-        } catch (JwtException e) {
-            throw e;
-        } catch (Exception e) {
+        }
+
+        JwtClaims claims = toClaims(parseToken(token));
+        cache(key, claims, now);
+        return claims;
+    }
+
+    /**
+     * 액세스 토큰으로만 인증한다. email/roles 클레임이 없는 리프레시 토큰은 거부한다.
+     */
+    public JwtClaims verifyAccessToken(String token) {
+        JwtClaims claims = verify(token);
+        if (!claims.isAccessToken()) {
             throw new JwtException(JwtErrorCode.INVALID_TOKEN);
         }
+        return claims;
+    }
+
+    public void validateToken(String token) {
+        verify(token);
     }
 
     public Long getUserId(String token) {
-        return Long.parseLong(parseToken(token).getSubject());
+        return verify(token).userId();
     }
 
     public String getEmail(String token) {
-        return parseToken(token).get("email", String.class);
+        return verify(token).email();
     }
 
     public Set<Role> getRoles(String token) {
-        List<String> roleNames = parseToken(token).get("roles", List.class);
-        return roleNames.stream()
-                .map(Role::valueOf)
-                .collect(Collectors.toSet());
+        return verify(token).roles();
     }
 
     public long getRemainingExpiration(String token) {
-        Date expiration = parseToken(token).getExpiration();
-        return expiration.getTime() - System.currentTimeMillis();
+        return verify(token).expiresAtMs() - System.currentTimeMillis();
     }
 
     public long getAccessTokenExpirationMs() {
@@ -108,10 +132,46 @@ public class JwtTokenProvider {
     }
 
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new JwtException(JwtErrorCode.EXPIRED_TOKEN);
+        } catch (MalformedJwtException e) {
+            throw new JwtException(JwtErrorCode.MALFORMED_TOKEN);
+        } catch (SignatureException e) {
+            throw new JwtException(JwtErrorCode.INVALID_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            throw new JwtException(JwtErrorCode.UNSUPPORTED_TOKEN);
+        } catch (Exception e) {
+            throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private JwtClaims toClaims(Claims claims) {
+        try {
+            List<?> roleNames = claims.get("roles", List.class);
+            Set<Role> roles = roleNames == null ? Set.of() : roleNames.stream()
+                    .map(name -> Role.valueOf(String.valueOf(name)))
+                    .collect(Collectors.toUnmodifiableSet());
+            return new JwtClaims(Long.parseLong(claims.getSubject()), claims.get("email", String.class),
+                    roles, claims.getExpiration().getTime());
+        } catch (RuntimeException e) {
+            throw new JwtException(JwtErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    // 가득 차면 만료된 항목부터 비우고, 그래도 자리가 없으면 캐시하지 않는다
+    private void cache(String key, JwtClaims claims, long now) {
+        int maxSize = jwtProperties.getVerifiedCacheSize();
+        if (maxSize <= 0) {
+            return;
+        }
+        if (verifiedClaims.size() >= maxSize) {
+            verifiedClaims.values().removeIf(cached -> cached.isExpired(now));
+            if (verifiedClaims.size() >= maxSize) {
+                return;
+            }
+        }
+        verifiedClaims.put(key, claims);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.study_cards.infra.security.user;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자를 컨트롤러 파라미터로 주입한다.
+ * UserVo 타입이면 인증 주체 캐시에서 꺼내 DB 를 조회하지 않고, User 타입이면 엔티티를 한 번 조회한다.
+ * 식별자, 권한, 플랜만 쓰는 엔드포인트(구독 조회/해지/재개, 결제 승인/내역, AI 생성 한도/작업 조회)는 UserVo 를 받는다.
+ * 엔티티를 연관관계로 저장하거나 엔티티 기준으로 조회하는 엔드포인트(학습, 통계, 대시보드, 결제 시작, AI 카드 생성)만 User 를 받는다.
+ * 인증되지 않은 요청이면 null 이 주입된다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
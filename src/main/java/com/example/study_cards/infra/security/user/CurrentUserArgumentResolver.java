@@ -0,0 +1,45 @@
+package com.example.study_cards.infra.security.user;
+
+import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.domain.user.service.UserDomainService;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@RequiredArgsConstructor
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserPrincipalService userPrincipalService;
+    private final UserDomainService userDomainService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (User.class.equals(type) || UserVo.class.equals(type));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return null;
+        }
+
+        if (UserVo.class.equals(parameter.getParameterType())) {
+            return userPrincipalService.getPrincipal(userDetails.userId());
+        }
+        return userDomainService.findById(userDetails.userId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.study_cards.infra.security.user;
+
+import com.example.study_cards.domain.user.service.UserDomainService;
+import com.example.study_cards.infra.redis.service.UserCacheService;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.example.study_cards.infra.security.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 요청마다 필요한 인증 주체를 로컬 → Redis 캐시에서 찾고, 없을 때만 users 를 조회한다.
+ * 탈퇴/정지/닉네임 변경 시 UserCacheService.evictUser 로 모든 서버의 캐시가 비워진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class UserPrincipalService {
+
+    private final UserCacheService userCacheService;
+    private final UserDomainService userDomainService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 활성 사용자의 인증 주체를 반환한다. 없거나 탈퇴/정지된 사용자면 UserException 을 던진다.
+     */
+    public UserVo getPrincipal(Long userId) {
+        Optional<UserVo> cached = findCached(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        UserVo principal = UserVo.from(userDomainService.findById(userId));
+        try {
+            userCacheService.cacheUser(principal, jwtTokenProvider.getAccessTokenExpirationMs());
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return principal;
+    }
+
+    // Redis 장애 시에는 DB 조회로 넘어간다
+    private Optional<UserVo> findCached(Long userId) {
+        try {
+            return userCacheService.getCachedUser(userId);
+        } catch (RuntimeException e) {
+            log.warn("사용자 캐시 조회 실패, DB 에서 조회 - userId: {}, error: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -5,13 +5,19 @@ import com.example.study_cards.application.auth.dto.request.SignInRequest;
 import com.example.study_cards.application.auth.dto.request.SignUpRequest;
 import com.example.study_cards.application.auth.dto.response.TokenResult;
 import com.example.study_cards.application.auth.service.AuthService;
+import com.example.study_cards.domain.ai.repository.AiGenerationLogRepository;
+import com.example.study_cards.domain.ai.repository.AiUsageRepository;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.repository.CategoryRepository;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.user.repository.UserRepository;
+import com.example.study_cards.domain.usercard.repository.UserCardRepository;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
 import com.example.study_cards.support.BaseIntegrationTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,10 +29,28 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
-
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -56,13 +80,54 @@ class AiCardControllerTest extends BaseIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private UserCardRepository userCardRepository;
+
+    @Autowired
+    private AiGenerationLogRepository aiGenerationLogRepository;
+
+    @Autowired
+    private AiUsageRepository aiUsageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
     @MockitoBean
     private AiGenerationService aiGenerationService;
 
+    @MockitoBean(name = "generationExecutor")
+    private Executor generationExecutor;
+
+    @MockitoBean(name = "aiStreamExecutor")
+    private Executor aiStreamExecutor;
+
+    @MockitoBean(name = "aiJobExecutor")
+    private Executor aiJobExecutor;
+
     private String accessToken;
 
     @BeforeEach
     void setUp() {
+        // 비동기 작업을 요청 스레드에서 바로 실행해 응답이 끝난 뒤 바로 검증
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(generationExecutor).execute(any());
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(aiStreamExecutor).execute(any());
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(aiJobExecutor).execute(any());
+
         categoryRepository.deleteAll();
         userRepository.deleteAll();
 
@@ -84,6 +149,21 @@ class AiCardControllerTest extends BaseIntegrationTest {
                 .code("CS")
                 .name("Computer Science")
                 .build());
+
+        // 생성 서비스는 호출자 트랜잭션을 보류하고 짧은 트랜잭션으로 조회/저장하므로 픽스처를 커밋해 둔다
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userCardRepository.deleteAllInBatch();
+            aiGenerationLogRepository.deleteAllInBatch();
+            aiUsageRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
     }
 
     private void verifyUserEmail(String email) {
@@ -109,7 +189,7 @@ class AiCardControllerTest extends BaseIntegrationTest {
                       }
                     ]
                     """;
-            given(aiGenerationService.generateContent(anyString())).willReturn(aiResponse);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(aiResponse, false, "gemini-2.0-flash"));
 
             GenerateUserCardRequest request = new GenerateUserCardRequest(
                     "운영체제는 컴퓨터 하드웨어와 소프트웨어 자원을 관리하는 시스템 소프트웨어입니다.",
@@ -154,6 +234,31 @@ class AiCardControllerTest extends BaseIntegrationTest {
                     ));
         }
 
+        @Test
+        @DisplayName("AI 호출 동안에는 트랜잭션과 DB 커넥션을 잡지 않는다")
+        void generateCards_doesNotHoldConnectionDuringAiCall() throws Exception {
+            AtomicBoolean transactionActive = new AtomicBoolean(true);
+            AtomicBoolean resourceBound = new AtomicBoolean(true);
+            given(aiGenerationService.generate(anyString(), any())).willAnswer(invocation -> {
+                transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+                resourceBound.set(TransactionSynchronizationManager.hasResource(entityManagerFactory)
+                        || TransactionSynchronizationManager.hasResource(dataSource));
+                return new AiCompletion("[{\"question\": \"운영체제란?\", \"answer\": \"자원 관리\"}]",
+                        false, "gemini-2.0-flash");
+            });
+
+            GenerateUserCardRequest request = new GenerateUserCardRequest("운영체제는 자원을 관리한다.", "CS", 1, "보통");
+
+            mockMvc.perform(post("/api/ai/generate-cards")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+
+            assertThat(transactionActive).isFalse();
+            assertThat(resourceBound).isFalse();
+        }
+
         @Test
         @DisplayName("유효성 검증 실패 시 400을 반환한다")
         void generateCards_validationFail_returns400() throws Exception {
@@ -188,6 +293,172 @@ class AiCardControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/ai/generate-cards/stream")
+    class GenerateCardsStreamTest {
+
+        @Test
+        @DisplayName("생성된 카드를 SSE 이벤트로 하나씩 전송한 뒤 저장 결과를 전송한다")
+        void generateCardsStream_success() throws Exception {
+            given(aiGenerationService.streamContent(anyString(), any(), any())).willAnswer(invocation -> {
+                Consumer<String> onChunk = invocation.getArgument(2);
+                onChunk.accept("```json\n[{\"question\": \"운영체제란?\", \"answer\": \"자원 관리");
+                onChunk.accept(" 소프트웨어\"}, {\"question\": \"프로세스란?\", \"answer\": \"실행 중인 프로그램\"}]\n```");
+                return new AiCompletion("[...]", false, "gemini-2.0-flash");
+            });
+
+            GenerateUserCardRequest request = new GenerateUserCardRequest(
+                    "운영체제는 자원을 관리하고 프로세스는 실행 중인 프로그램입니다.",
+                    "CS",
+                    2,
+                    "보통"
+            );
+
+            MvcResult mvcResult = mockMvc.perform(post("/api/ai/generate-cards/stream")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mvcResult.getAsyncResult(5000);
+
+            String body = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            assertThat(body.split("event:card", -1)).hasSize(3);
+            assertThat(body).contains("event:complete");
+            assertThat(body).contains("운영체제란?").contains("프로세스란?");
+        }
+
+        @Test
+        @DisplayName("스트리밍 풀이 가득 차면 503을 반환하고 사용량을 돌려준다")
+        void generateCardsStream_executorFull_returns503() throws Exception {
+            willThrow(new RejectedExecutionException("full")).given(aiStreamExecutor).execute(any());
+
+            GenerateUserCardRequest request = new GenerateUserCardRequest("운영체제", "CS", 1, "보통");
+
+            mockMvc.perform(post("/api/ai/generate-cards/stream")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable());
+
+            mockMvc.perform(get("/api/ai/generation-limit")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.used").value(0));
+        }
+
+        @Test
+        @DisplayName("인증 없이 요청하면 401을 반환한다")
+        void generateCardsStream_unauthorized() throws Exception {
+            GenerateUserCardRequest request = new GenerateUserCardRequest("운영체제", "CS", 1, "보통");
+
+            mockMvc.perform(post("/api/ai/generate-cards/stream")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/ai/generation-jobs")
+    class GenerationJobTest {
+
+        private static final String AI_RESPONSE = """
+                [{"question": "운영체제란?", "answer": "자원을 관리하는 시스템 소프트웨어"}]
+                """;
+
+        @Test
+        @DisplayName("작업 ID를 바로 반환하고 작업이 끝나면 조회로 생성 결과를 받는다")
+        void submitGenerationJob_thenPollResult() throws Exception {
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+
+            String jobId = submitJob();
+
+            mockMvc.perform(get("/api/ai/generation-jobs/{jobId}", jobId)
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.result.count").value(1))
+                    .andExpect(jsonPath("$.result.generatedCards[0].question").value("운영체제란?"));
+            assertThat(userCardRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("SSE 로 구독하면 작업이 끝난 뒤 결과 이벤트를 받는다")
+        void subscribeGenerationJob_sendsCompleteEvent() throws Exception {
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            String jobId = submitJob();
+
+            MvcResult mvcResult = mockMvc.perform(get("/api/ai/generation-jobs/{jobId}/events", jobId)
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mvcResult.getAsyncResult(5000);
+
+            String body = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            assertThat(body).contains("event:complete").contains("운영체제란?");
+        }
+
+        @Test
+        @DisplayName("생성에 실패하면 작업 상태에 에러 응답과 같은 상태 코드를 담는다")
+        void submitGenerationJob_generationFails_reportsError() throws Exception {
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion("invalid", false, "gemini-2.0-flash"));
+
+            String jobId = submitJob();
+
+            mockMvc.perform(get("/api/ai/generation-jobs/{jobId}", jobId)
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("FAILED"))
+                    .andExpect(jsonPath("$.errorStatus").value(500));
+            mockMvc.perform(get("/api/ai/generation-limit")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(jsonPath("$.used").value(0));
+        }
+
+        @Test
+        @DisplayName("작업 풀이 가득 차면 503을 반환하고 사용량을 돌려준다")
+        void submitGenerationJob_executorFull_returns503() throws Exception {
+            willThrow(new RejectedExecutionException("full")).given(aiJobExecutor).execute(any());
+
+            GenerateUserCardRequest request = new GenerateUserCardRequest("운영체제", "CS", 1, "보통");
+
+            mockMvc.perform(post("/api/ai/generation-jobs")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable());
+
+            mockMvc.perform(get("/api/ai/generation-limit")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.used").value(0));
+        }
+
+        @Test
+        @DisplayName("없는 작업을 조회하면 404를 반환한다")
+        void getGenerationJob_notFound_returns404() throws Exception {
+            mockMvc.perform(get("/api/ai/generation-jobs/{jobId}", "unknown")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isNotFound());
+        }
+
+        private String submitJob() throws Exception {
+            GenerateUserCardRequest request = new GenerateUserCardRequest(
+                    "운영체제는 컴퓨터 자원을 관리하는 시스템 소프트웨어입니다.", "CS", 1, "보통");
+
+            MvcResult result = mockMvc.perform(post("/api/ai/generation-jobs")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.jobId").isString())
+                    .andExpect(jsonPath("$.status").value("PENDING"))
+                    .andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("jobId").asText();
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/ai/generate-cards/upload")
     class GenerateCardsByUploadTest {
@@ -205,7 +476,7 @@ class AiCardControllerTest extends BaseIntegrationTest {
                       }
                     ]
                     """;
-            given(aiGenerationService.generateContent(anyString())).willReturn(aiResponse);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(aiResponse, false, "gemini-2.0-flash"));
 
             MockMultipartFile file = new MockMultipartFile(
                     "file",
@@ -226,6 +497,38 @@ class AiCardControllerTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.count").value(1));
         }
 
+        @Test
+        @DisplayName("긴 문서는 청크별로 생성한 뒤 중복 카드를 제외하고 저장한다")
+        void generateCardsByUpload_longDocument_generatesPerChunk() throws Exception {
+            String aiResponse = """
+                    [
+                      {
+                        "question": "운영체제란 무엇인가?",
+                        "answer": "컴퓨터 자원을 관리하는 시스템 소프트웨어"
+                      }
+                    ]
+                    """;
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(aiResponse, false, "gemini-2.0-flash"));
+
+            String paragraph = "운영체제는 컴퓨터 자원을 관리하는 시스템 소프트웨어다. ".repeat(60);
+            MockMultipartFile file = new MockMultipartFile(
+                    "file",
+                    "chapter.md",
+                    "text/markdown",
+                    (paragraph + "\n\n" + paragraph + "\n\n" + paragraph).getBytes(StandardCharsets.UTF_8)
+            );
+
+            mockMvc.perform(multipart("/api/ai/generate-cards/upload")
+                            .file(file)
+                            .param("categoryCode", "CS")
+                            .param("count", "3")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.generatedCards.length()").value(1));
+
+            verify(aiGenerationService, times(2)).generate(anyString(), any());
+        }
+
         @Test
         @DisplayName("지원하지 않는 파일 형식이면 400을 반환한다")
         void generateCardsByUpload_unsupportedFile_returns400() throws Exception {
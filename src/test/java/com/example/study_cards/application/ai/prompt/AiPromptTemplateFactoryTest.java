@@ -7,6 +7,9 @@ import com.example.study_cards.support.BaseUnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -157,6 +160,43 @@ class AiPromptTemplateFactoryTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("buildBatchPrompt(cards, category)")
+    class BuildAdminBatchPromptTest {
+
+        @Test
+        @DisplayName("여러 원본 카드를 ID와 함께 하나의 프롬프트에 담는다")
+        void buildBatchPrompt_includesAllSourceCardsWithIds() {
+            Card first = createCard("abandon", "포기하다");
+            Card second = createCard("acquire", "얻다");
+            ReflectionTestUtils.setField(first, "id", 10L);
+            ReflectionTestUtils.setField(second, "id", 11L);
+            Category category = createCategory("TOEIC", "영어 > TOEIC");
+
+            String prompt = AiPromptTemplateFactory.buildBatchPrompt(List.of(first, second), category);
+
+            assertThat(prompt).contains("TOEIC 출제 전문가");
+            assertThat(prompt).contains("2개의 단어/문장");
+            assertThat(prompt).contains("[10] 원본 질문: abandon");
+            assertThat(prompt).contains("[11] 원본 질문: acquire");
+            assertThat(prompt).contains("\"sourceId\"");
+        }
+
+        @Test
+        @DisplayName("CS 카테고리는 sourceId가 포함된 질문-답변 배열 형식을 요구한다")
+        void buildBatchPrompt_csCategory_returnsQaArrayFormat() {
+            Card sourceCard = createCard("운영체제란?", "자원 관리 소프트웨어");
+            ReflectionTestUtils.setField(sourceCard, "id", 1L);
+            Category category = createCategory("CS", "컴퓨터 과학");
+
+            String prompt = AiPromptTemplateFactory.buildBatchPrompt(List.of(sourceCard, sourceCard), category);
+
+            assertThat(prompt).contains("컴퓨터 공학(CS) 교육 전문가");
+            assertThat(prompt).contains("sourceId, question, answer");
+            assertThat(prompt).doesNotContain("\"options\"");
+        }
+    }
+
     private Category createCategory(String code, String name) {
         return Category.builder()
                 .code(code)
@@ -0,0 +1,81 @@
+package com.example.study_cards.application.ai.prompt;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiSourceTextChunkerTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("split")
+    class SplitTest {
+
+        @Test
+        @DisplayName("빈 텍스트는 빈 목록을 반환한다")
+        void split_blankText_returnsEmpty() {
+            List<String> result = AiSourceTextChunker.split("  ", 100, 10);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("청크 크기 이하 텍스트는 하나의 청크로 반환한다")
+        void split_shortText_returnsSingleChunk() {
+            List<String> result = AiSourceTextChunker.split("  운영체제 개요  ", 100, 10);
+
+            assertThat(result).containsExactly("운영체제 개요");
+        }
+
+        @Test
+        @DisplayName("문단 경계에서 나누고 다음 청크에 앞 청크의 끝부분을 겹쳐 붙인다")
+        void split_paragraphs_overlapsPreviousTail() {
+            String first = "프로세스는 실행 중인 프로그램이다. 각 프로세스는 독립된 주소 공간을 가진다.";
+            String second = "스레드는 프로세스 안의 실행 단위이다. 스레드는 주소 공간을 공유한다.";
+
+            List<String> result = AiSourceTextChunker.split(first + "\n\n" + second, 60, 15);
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0)).isEqualTo(first);
+            assertThat(result.get(1)).endsWith(second);
+            String overlap = result.get(1).substring(0, result.get(1).indexOf("\n\n"));
+            assertThat(overlap).isNotBlank().hasSizeLessThanOrEqualTo(15);
+            assertThat(first).endsWith(overlap);
+            assertThat(result).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(60));
+        }
+
+        @Test
+        @DisplayName("청크가 절반 이상 찼다면 제목부터 새 청크를 시작하고 겹침을 붙이지 않는다")
+        void split_heading_startsNewChunk() {
+            String text = """
+                    # 1장 프로세스
+                    프로세스는 실행 중인 프로그램이다.
+
+                    # 2장 메모리
+                    가상 메모리는 주소 공간을 추상화한다.
+                    """;
+
+            List<String> result = AiSourceTextChunker.split(text, 60, 15);
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0)).startsWith("# 1장 프로세스");
+            assertThat(result.get(1)).startsWith("# 2장 메모리");
+        }
+
+        @Test
+        @DisplayName("청크보다 긴 문단은 문장과 글자 수 기준으로 나눈다")
+        void split_longParagraph_splitsWithinLimit() {
+            String text = "가".repeat(150) + ". " + "나".repeat(30) + ".";
+
+            List<String> result = AiSourceTextChunker.split(text, 50, 0);
+
+            assertThat(result).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(50));
+            assertThat(String.join("", result).replace(" ", "").replace("\n", ""))
+                    .isEqualTo(text.replace(" ", ""));
+        }
+    }
+}
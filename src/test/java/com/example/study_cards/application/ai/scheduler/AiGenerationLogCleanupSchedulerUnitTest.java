@@ -3,6 +3,7 @@ package com.example.study_cards.application.ai.scheduler;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.ai.service.AiGenerationLogDomainService;
 import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,23 +11,41 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class AiGenerationLogCleanupSchedulerUnitTest extends BaseUnitTest {
 
+    private static final List<AiGenerationType> RECOMMENDATION_TYPES =
+            List.of(AiGenerationType.RECOMMENDATION, AiGenerationType.WEAKNESS_ANALYSIS);
+    private static final List<AiGenerationType> USER_CARD_TYPES = List.of(AiGenerationType.USER_CARD);
+
     @Mock
     private AiGenerationLogDomainService aiGenerationLogDomainService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AiGenerationLogCleanupScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 100);
+        ReflectionTestUtils.setField(scheduler, "chunkPauseMs", 0L);
+        ReflectionTestUtils.setField(scheduler, "maxRuntimeMinutes", 20L);
+    }
+
     @Nested
     @DisplayName("cleanupOldLogs")
     class CleanupOldLogsTest {
@@ -37,8 +56,8 @@ class AiGenerationLogCleanupSchedulerUnitTest extends BaseUnitTest {
             // given
             ReflectionTestUtils.setField(scheduler, "recommendationRetentionDays", 90L);
             ReflectionTestUtils.setField(scheduler, "userCardRetentionDays", 30L);
-            given(aiGenerationLogDomainService.deleteByTypeInAndCreatedAtBefore(any(), any())).willReturn(10L);
-            given(aiGenerationLogDomainService.deleteByTypeAndCreatedAtBefore(any(), any())).willReturn(5L);
+            given(aiGenerationLogDomainService.deleteChunkByTypeInAndCreatedAtBefore(any(), any(), anyInt()))
+                    .willReturn(10L);
 
             LocalDateTime before = LocalDateTime.now();
 
@@ -47,25 +66,13 @@ class AiGenerationLogCleanupSchedulerUnitTest extends BaseUnitTest {
 
             // then
             LocalDateTime after = LocalDateTime.now();
-
-            @SuppressWarnings("unchecked")
-            ArgumentCaptor<List<AiGenerationType>> recommendationTypesCaptor = ArgumentCaptor.forClass(List.class);
             ArgumentCaptor<LocalDateTime> recommendationCutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-            ArgumentCaptor<AiGenerationType> userCardTypeCaptor = ArgumentCaptor.forClass(AiGenerationType.class);
             ArgumentCaptor<LocalDateTime> userCardCutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
 
-            verify(aiGenerationLogDomainService).deleteByTypeInAndCreatedAtBefore(
-                    recommendationTypesCaptor.capture(),
-                    recommendationCutoffCaptor.capture()
-            );
-            verify(aiGenerationLogDomainService).deleteByTypeAndCreatedAtBefore(
-                    userCardTypeCaptor.capture(),
-                    userCardCutoffCaptor.capture()
-            );
-
-            assertThat(recommendationTypesCaptor.getValue())
-                    .containsExactly(AiGenerationType.RECOMMENDATION, AiGenerationType.WEAKNESS_ANALYSIS);
-            assertThat(userCardTypeCaptor.getValue()).isEqualTo(AiGenerationType.USER_CARD);
+            verify(aiGenerationLogDomainService).deleteChunkByTypeInAndCreatedAtBefore(
+                    eq(RECOMMENDATION_TYPES), recommendationCutoffCaptor.capture(), eq(100));
+            verify(aiGenerationLogDomainService).deleteChunkByTypeInAndCreatedAtBefore(
+                    eq(USER_CARD_TYPES), userCardCutoffCaptor.capture(), eq(100));
 
             assertThat(recommendationCutoffCaptor.getValue())
                     .isBetween(before.minusDays(90).minusSeconds(1), after.minusDays(90).plusSeconds(1));
@@ -73,14 +80,52 @@ class AiGenerationLogCleanupSchedulerUnitTest extends BaseUnitTest {
                     .isBetween(before.minusDays(30).minusSeconds(1), after.minusDays(30).plusSeconds(1));
         }
 
+        @Test
+        @DisplayName("청크가 가득 차면 다음 청크를 별도 트랜잭션으로 이어서 삭제한다")
+        void cleanupOldLogs_fullChunk_deletesNextChunk() {
+            // given
+            ReflectionTestUtils.setField(scheduler, "recommendationRetentionDays", 90L);
+            ReflectionTestUtils.setField(scheduler, "userCardRetentionDays", 30L);
+            given(aiGenerationLogDomainService.deleteChunkByTypeInAndCreatedAtBefore(eq(RECOMMENDATION_TYPES), any(), anyInt()))
+                    .willReturn(100L, 100L, 20L);
+            given(aiGenerationLogDomainService.deleteChunkByTypeInAndCreatedAtBefore(eq(USER_CARD_TYPES), any(), anyInt()))
+                    .willReturn(0L);
+
+            // when
+            scheduler.cleanupOldLogs();
+
+            // then
+            verify(aiGenerationLogDomainService, times(3))
+                    .deleteChunkByTypeInAndCreatedAtBefore(eq(RECOMMENDATION_TYPES), any(), eq(100));
+            // 원문 이관 1회 + 추천 로그 3회 + 카드 로그 1회
+            verify(transactionManager, times(5)).commit(any());
+        }
+
+        @Test
+        @DisplayName("이전 컬럼에 남은 원문을 청크 단위로 이관한 뒤 로그를 정리한다")
+        void cleanupOldLogs_legacyPayloads_migratesInChunks() {
+            // given
+            ReflectionTestUtils.setField(scheduler, "recommendationRetentionDays", 90L);
+            ReflectionTestUtils.setField(scheduler, "userCardRetentionDays", 30L);
+            given(aiGenerationLogDomainService.migrateLegacyPayloadChunk(100)).willReturn(100, 30);
+
+            // when
+            scheduler.cleanupOldLogs();
+
+            // then
+            verify(aiGenerationLogDomainService, times(2)).migrateLegacyPayloadChunk(100);
+            verify(aiGenerationLogDomainService, times(2))
+                    .deleteChunkByTypeInAndCreatedAtBefore(any(), any(), eq(100));
+        }
+
         @Test
         @DisplayName("보관 기간이 1일 미만이면 1일로 보정한다")
         void cleanupOldLogs_withInvalidRetention_clampsToMinimumOneDay() {
             // given
             ReflectionTestUtils.setField(scheduler, "recommendationRetentionDays", 0L);
             ReflectionTestUtils.setField(scheduler, "userCardRetentionDays", -5L);
-            given(aiGenerationLogDomainService.deleteByTypeInAndCreatedAtBefore(any(), any())).willReturn(1L);
-            given(aiGenerationLogDomainService.deleteByTypeAndCreatedAtBefore(any(), any())).willReturn(1L);
+            given(aiGenerationLogDomainService.deleteChunkByTypeInAndCreatedAtBefore(any(), any(), anyInt()))
+                    .willReturn(1L);
 
             LocalDateTime before = LocalDateTime.now();
 
@@ -89,16 +134,13 @@ class AiGenerationLogCleanupSchedulerUnitTest extends BaseUnitTest {
 
             // then
             LocalDateTime after = LocalDateTime.now();
-            ArgumentCaptor<LocalDateTime> recommendationCutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-            ArgumentCaptor<LocalDateTime> userCardCutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+            ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
 
-            verify(aiGenerationLogDomainService).deleteByTypeInAndCreatedAtBefore(any(), recommendationCutoffCaptor.capture());
-            verify(aiGenerationLogDomainService).deleteByTypeAndCreatedAtBefore(any(), userCardCutoffCaptor.capture());
+            verify(aiGenerationLogDomainService, times(2))
+                    .deleteChunkByTypeInAndCreatedAtBefore(any(), cutoffCaptor.capture(), anyInt());
 
-            assertThat(recommendationCutoffCaptor.getValue())
-                    .isBetween(before.minusDays(1).minusSeconds(1), after.minusDays(1).plusSeconds(1));
-            assertThat(userCardCutoffCaptor.getValue())
-                    .isBetween(before.minusDays(1).minusSeconds(1), after.minusDays(1).plusSeconds(1));
+            assertThat(cutoffCaptor.getAllValues()).allSatisfy(cutoff -> assertThat(cutoff)
+                    .isBetween(before.minusDays(1).minusSeconds(1), after.minusDays(1).plusSeconds(1)));
         }
     }
 }
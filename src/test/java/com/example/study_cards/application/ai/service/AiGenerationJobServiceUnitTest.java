@@ -0,0 +1,194 @@
+package com.example.study_cards.application.ai.service;
+
+import com.example.study_cards.application.ai.dto.request.GenerateUserCardRequest;
+import com.example.study_cards.application.ai.dto.response.AiCardResponse;
+import com.example.study_cards.application.ai.dto.response.AiGenerationJobResponse;
+import com.example.study_cards.application.ai.dto.response.UserAiGenerationResponse;
+import com.example.study_cards.domain.ai.entity.AiGenerationJobStatus;
+import com.example.study_cards.domain.ai.exception.AiErrorCode;
+import com.example.study_cards.domain.ai.exception.AiException;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
+import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.infra.redis.service.AiGenerationJobStateService;
+import com.example.study_cards.infra.redis.vo.AiGenerationJobVo;
+import com.example.study_cards.support.BaseUnitTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AiGenerationJobServiceUnitTest extends BaseUnitTest {
+
+    @Mock
+    private UserAiCardService userAiCardService;
+
+    @Mock
+    private AiGenerationJobStateService aiGenerationJobStateService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Executor aiJobExecutor;
+
+    @InjectMocks
+    private AiGenerationJobService aiGenerationJobService;
+
+    private static final Long USER_ID = 1L;
+
+    private User testUser;
+    private GenerateUserCardRequest testRequest;
+    private UserAiCardService.GenerationSession session;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .email("test@example.com")
+                .password("password123")
+                .nickname("테스트유저")
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", USER_ID);
+
+        Category category = Category.builder()
+                .code("CS")
+                .name("컴퓨터과학")
+                .build();
+        testRequest = new GenerateUserCardRequest("REST API는 웹 서비스를 위한 아키텍처 스타일입니다.", "CS", 1, "보통");
+        session = new UserAiCardService.GenerationSession(
+                testUser, testRequest, SubscriptionPlan.PRO, false, true, category, "prompt");
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("슬롯을 선점한 뒤 작업 ID를 반환하고 작업 풀에서 생성한 결과를 저장한다")
+        void submit_runsJobAndStoresResult() {
+            // given
+            given(userAiCardService.prepareGeneration(testUser, testRequest)).willReturn(session);
+            runInline();
+            UserAiGenerationResponse result = new UserAiGenerationResponse(
+                    List.of(new AiCardResponse(1L, "REST API란?", null, "아키텍처 스타일", null, "CS", true)), 1, 29);
+            given(userAiCardService.generateCards(session)).willReturn(result);
+
+            // when
+            AiGenerationJobResponse response = aiGenerationJobService.submit(testUser, testRequest);
+
+            // then
+            assertThat(response.jobId()).isNotBlank();
+            assertThat(response.status()).isEqualTo(AiGenerationJobStatus.PENDING);
+
+            ArgumentCaptor<AiGenerationJobVo> captor = ArgumentCaptor.forClass(AiGenerationJobVo.class);
+            verify(aiGenerationJobStateService, times(3)).save(eq(response.jobId()), captor.capture());
+            assertThat(captor.getAllValues()).extracting(AiGenerationJobVo::status).containsExactly(
+                    AiGenerationJobStatus.PENDING, AiGenerationJobStatus.RUNNING, AiGenerationJobStatus.COMPLETED);
+            assertThat(captor.getValue().result()).contains("REST API란?");
+        }
+
+        @Test
+        @DisplayName("생성에 실패하면 에러 응답과 같은 상태 코드와 메시지로 실패 상태를 저장한다")
+        void submit_generationFails_storesFailure() {
+            // given
+            given(userAiCardService.prepareGeneration(testUser, testRequest)).willReturn(session);
+            runInline();
+            given(userAiCardService.generateCards(session)).willThrow(new AiException(AiErrorCode.DUPLICATE_CARDS));
+
+            // when
+            AiGenerationJobResponse response = aiGenerationJobService.submit(testUser, testRequest);
+
+            // then
+            ArgumentCaptor<AiGenerationJobVo> captor = ArgumentCaptor.forClass(AiGenerationJobVo.class);
+            verify(aiGenerationJobStateService, times(3)).save(eq(response.jobId()), captor.capture());
+            AiGenerationJobVo finished = captor.getValue();
+            assertThat(finished.status()).isEqualTo(AiGenerationJobStatus.FAILED);
+            assertThat(finished.errorStatus()).isEqualTo(AiErrorCode.DUPLICATE_CARDS.getStatus().value());
+            assertThat(finished.errorMessage()).isEqualTo(AiErrorCode.DUPLICATE_CARDS.getMessage());
+        }
+
+        @Test
+        @DisplayName("작업 풀이 가득 차면 슬롯을 반환하고 혼잡 예외가 발생한다")
+        void submit_executorFull_releasesSlotAndThrows() {
+            // given
+            given(userAiCardService.prepareGeneration(testUser, testRequest)).willReturn(session);
+            willThrow(new RejectedExecutionException("full")).given(aiJobExecutor).execute(any());
+
+            // when & then
+            assertThatThrownBy(() -> aiGenerationJobService.submit(testUser, testRequest))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.AI_PROVIDER_BUSY);
+            verify(userAiCardService).abandonGeneration(session);
+            verify(aiGenerationJobStateService).delete(anyString());
+            verify(userAiCardService, never()).generateCards(any(UserAiCardService.GenerationSession.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getJob")
+    class GetJobTest {
+
+        @Test
+        @DisplayName("완료된 작업은 생성 결과와 함께 반환한다")
+        void getJob_completed_returnsResult() {
+            // given
+            String result = """
+                    {"generatedCards": [], "count": 0, "remainingLimit": 29}
+                    """;
+            given(aiGenerationJobStateService.find("job-1"))
+                    .willReturn(Optional.of(AiGenerationJobVo.completed(USER_ID, result)));
+
+            // when
+            AiGenerationJobResponse response = aiGenerationJobService.getJob(USER_ID, "job-1");
+
+            // then
+            assertThat(response.status()).isEqualTo(AiGenerationJobStatus.COMPLETED);
+            assertThat(response.result().remainingLimit()).isEqualTo(29);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 작업은 없는 작업과 같게 예외가 발생한다")
+        void getJob_otherUser_throwsNotFound() {
+            // given
+            given(aiGenerationJobStateService.find("job-1"))
+                    .willReturn(Optional.of(AiGenerationJobVo.pending(2L)));
+
+            // when & then
+            assertThatThrownBy(() -> aiGenerationJobService.getJob(USER_ID, "job-1"))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.GENERATION_JOB_NOT_FOUND);
+        }
+    }
+
+    private void runInline() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(aiJobExecutor).execute(any());
+    }
+}
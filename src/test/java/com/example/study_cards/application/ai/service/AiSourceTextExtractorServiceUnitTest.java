@@ -7,6 +7,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,11 @@ class AiSourceTextExtractorServiceUnitTest extends BaseUnitTest {
 
     private final AiSourceTextExtractorService extractorService = new AiSourceTextExtractorService();
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(extractorService, "maxDocumentLength", 40000);
+    }
+
     @Nested
     @DisplayName("extractText")
     class ExtractTextTest {
@@ -86,6 +92,22 @@ class AiSourceTextExtractorServiceUnitTest extends BaseUnitTest {
             assertThat(result).contains("PDF sample text");
         }
 
+        @Test
+        @DisplayName("문서 추출은 5000자를 넘는 본문도 문서 길이 한도까지 반환한다")
+        void extractDocumentText_longText_returnsUpToDocumentLimit() {
+            ReflectionTestUtils.setField(extractorService, "maxDocumentLength", 12000);
+            MockMultipartFile file = new MockMultipartFile(
+                    "file",
+                    "chapter.txt",
+                    "text/plain",
+                    "a".repeat(15000).getBytes()
+            );
+
+            String result = extractorService.extractDocumentText(file);
+
+            assertThat(result).hasSize(12000);
+        }
+
         @Test
         @DisplayName("입력 길이가 5000자를 넘으면 잘라서 반환한다")
         void extractText_tooLong_returnsTruncatedText() {
@@ -102,6 +124,39 @@ class AiSourceTextExtractorServiceUnitTest extends BaseUnitTest {
             assertThat(result).hasSize(5000);
         }
 
+        @Test
+        @DisplayName("여러 페이지 PDF는 앞 페이지부터 5000자까지만 추출한다")
+        void extractText_multiPagePdf_returnsTextWithinBudget() throws Exception {
+            MockMultipartFile file = new MockMultipartFile(
+                    "file",
+                    "book.pdf",
+                    "application/pdf",
+                    createMultiPagePdfBytes(30, 8)
+            );
+
+            String result = extractorService.extractText(file);
+
+            assertThat(result).hasSize(5000);
+            assertThat(result).startsWith("page1-");
+            assertThat(result).doesNotContain("page30-");
+        }
+
+        @Test
+        @DisplayName("앞쪽 공백은 글자 수 예산에 포함하지 않는다")
+        void extractText_leadingWhitespace_notCountedInBudget() {
+            String text = " ".repeat(6000) + "b".repeat(5100);
+            MockMultipartFile file = new MockMultipartFile(
+                    "file",
+                    "note.txt",
+                    "text/plain",
+                    text.getBytes(StandardCharsets.UTF_8)
+            );
+
+            String result = extractorService.extractText(file);
+
+            assertThat(result).isEqualTo("b".repeat(5000));
+        }
+
         @Test
         @DisplayName("지원하지 않는 파일 형식이면 예외를 던진다")
         void extractText_unsupportedFile_throwsException() {
@@ -143,7 +198,7 @@ class AiSourceTextExtractorServiceUnitTest extends BaseUnitTest {
             given(file.isEmpty()).willReturn(false);
             given(file.getContentType()).willReturn("text/plain");
             given(file.getOriginalFilename()).willReturn("note.txt");
-            given(file.getBytes()).willThrow(new IOException("read fail"));
+            given(file.getInputStream()).willThrow(new IOException("read fail"));
 
             assertThatThrownBy(() -> extractorService.extractText(file))
                     .isInstanceOf(AiException.class)
@@ -152,6 +207,32 @@ class AiSourceTextExtractorServiceUnitTest extends BaseUnitTest {
         }
     }
 
+    private byte[] createMultiPagePdfBytes(int pageCount, int linesPerPage) throws Exception {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            for (int i = 1; i <= pageCount; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(PDType1Font.HELVETICA, 10);
+                    contentStream.setLeading(14);
+                    contentStream.newLineAtOffset(50, 700);
+                    contentStream.showText("page" + i + "-" + "x".repeat(50));
+                    for (int line = 1; line < linesPerPage; line++) {
+                        contentStream.newLine();
+                        contentStream.showText("x".repeat(60));
+                    }
+                    contentStream.endText();
+                }
+            }
+
+            document.save(output);
+            return output.toByteArray();
+        }
+    }
+
     private byte[] createPdfBytes(String text) throws Exception {
         try (PDDocument document = new PDDocument();
              ByteArrayOutputStream output = new ByteArrayOutputStream()) {
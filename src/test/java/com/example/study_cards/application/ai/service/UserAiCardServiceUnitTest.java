@@ -1,21 +1,32 @@
 package com.example.study_cards.application.ai.service;
 
 import com.example.study_cards.application.ai.dto.request.GenerateUserCardRequest;
+import com.example.study_cards.application.ai.dto.response.AiCardResponse;
 import com.example.study_cards.application.ai.dto.response.AiLimitResponse;
 import com.example.study_cards.application.ai.dto.response.UserAiGenerationResponse;
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.ai.exception.AiErrorCode;
 import com.example.study_cards.domain.ai.exception.AiException;
 import com.example.study_cards.domain.ai.service.AiGenerationLogDomainService;
 import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.exception.CategoryErrorCode;
+import com.example.study_cards.domain.category.exception.CategoryException;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
+import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import com.example.study_cards.domain.subscription.service.SubscriptionDomainService;
 import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.usercard.entity.UserCard;
 import com.example.study_cards.domain.usercard.service.UserCardDomainService;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
 import com.example.study_cards.infra.redis.service.AiLimitService;
+import com.example.study_cards.infra.redis.vo.UserVo;
 import com.example.study_cards.support.BaseUnitTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,20 +34,28 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class UserAiCardServiceUnitTest extends BaseUnitTest {
@@ -59,9 +78,15 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
     @Mock
     private CategoryDomainService categoryDomainService;
 
+    @Mock
+    private CardDuplicateDetector cardDuplicateDetector;
+
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private UserAiCardService userAiCardService;
 
@@ -117,6 +142,13 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
                 .set("count", 2)
                 .set("difficulty", "보통")
                 .sample();
+
+        ReflectionTestUtils.setField(userAiCardService, "generationExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(userAiCardService, "cacheHitFreePlans", EnumSet.noneOf(SubscriptionPlan.class));
+        ReflectionTestUtils.setField(userAiCardService, "documentChunkSize", 5000);
+        ReflectionTestUtils.setField(userAiCardService, "documentChunkOverlap", 300);
+        ReflectionTestUtils.setField(userAiCardService, "documentMaxChunks", 8);
+        ReflectionTestUtils.setField(userAiCardService, "duplicateThreshold", 0.8);
     }
 
     @Nested
@@ -130,7 +162,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn(AI_RESPONSE);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> {
                 List<UserCard> cards = invocation.getArgument(0);
                 for (int i = 0; i < cards.size(); i++) {
@@ -154,6 +186,96 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             verify(aiGenerationLogDomainService).save(any());
         }
 
+        @Test
+        @DisplayName("한 응답 안에서 거의 같은 질문이 반복되면 한 번만 저장한다")
+        void generateCards_duplicateQuestionsInResponse_savesOnce() {
+            // given
+            String duplicatedResponse = """
+                    [
+                      {"question": "REST API란 무엇인가?", "answer": "웹 서비스 아키텍처 스타일"},
+                      {"question": "REST API란 무엇인가요?", "answer": "HTTP 기반 아키텍처 스타일"},
+                      {"question": "HTTP GET 메서드의 역할은?", "answer": "리소스 조회"}
+                    ]
+                    """;
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(aiGenerationService.generate(anyString(), any()))
+                    .willReturn(new AiCompletion(duplicatedResponse, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.generateCards(testUser, testRequest);
+
+            // then
+            assertThat(response.generatedCards())
+                    .extracting(AiCardResponse::question)
+                    .containsExactly("REST API란 무엇인가?", "HTTP GET 메서드의 역할은?");
+        }
+
+        @Test
+        @DisplayName("공용 카드나 사용자의 기존 카드와 질문이 거의 같은 카드는 저장하지 않는다")
+        void generateCards_knownQuestions_skipped() {
+            // given
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(userCardDomainService.findQuestionsByUser(testUser)).willReturn(List.of("REST API란 무엇인가요?"));
+            given(cardDuplicateDetector.isCatalogDuplicate(anyString())).willReturn(false);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.generateCards(testUser, testRequest);
+
+            // then
+            assertThat(response.generatedCards())
+                    .extracting(AiCardResponse::question)
+                    .containsExactly("HTTP GET 메서드의 역할은?");
+            verify(cardDuplicateDetector).isCatalogDuplicate("HTTP GET 메서드의 역할은?");
+        }
+
+        @Test
+        @DisplayName("생성된 카드가 모두 기존 카드와 중복이면 슬롯을 반환하고 중복 예외가 발생한다")
+        void generateCards_allKnownQuestions_throwsDuplicateCards() {
+            // given
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(cardDuplicateDetector.isCatalogDuplicate(anyString())).willReturn(true);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.generateCards(testUser, testRequest))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.DUPLICATE_CARDS);
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+            verify(userCardDomainService, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("캐시 적중 시 사용량 제외 플랜이면 선점한 슬롯을 반환한다")
+        void generateCards_cacheHitOnFreeHitPlan_releasesSlot() {
+            // given
+            ReflectionTestUtils.setField(userAiCardService, "cacheHitFreePlans", EnumSet.of(SubscriptionPlan.PRO));
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, true, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(30);
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.generateCards(testUser, testRequest);
+
+            // then
+            assertThat(response.remainingLimit()).isEqualTo(30);
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+        }
+
         @Test
         @DisplayName("FREE 플랜 사용자도 생성 가능 (평생 5회)")
         void generateCards_freePlan_success() {
@@ -161,7 +283,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.FREE);
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.FREE)).willReturn(true);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn(AI_RESPONSE);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> {
                 List<UserCard> cards = invocation.getArgument(0);
                 for (int i = 0; i < cards.size(); i++) {
@@ -202,7 +324,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             User adminUser = createAdminUser();
             given(subscriptionDomainService.getEffectivePlan(adminUser)).willReturn(SubscriptionPlan.PRO);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn(AI_RESPONSE);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> {
                 List<UserCard> cards = invocation.getArgument(0);
                 for (int i = 0; i < cards.size(); i++) {
@@ -228,7 +350,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString()))
+            given(aiGenerationService.generate(anyString(), any()))
                     .willThrow(new RuntimeException("API 호출 실패"));
 
             // when & then
@@ -243,6 +365,52 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             verify(aiGenerationLogDomainService).save(any());
         }
 
+        @Test
+        @DisplayName("AI 호출 허용량이 부족하면 혼잡 예외가 발생하고 PRO 플랜은 우선 처리된다")
+        void generateCards_rateLimited_throwsProviderBusy() {
+            // given
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(aiGenerationService.generate(anyString(), eq(AiRequestContext.of(
+                    AiGenerationType.USER_CARD, SubscriptionPlan.PRO, AiRequestPriority.HIGH))))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_RATE_LIMITED));
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.generateCards(testUser, testRequest))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.AI_PROVIDER_BUSY);
+
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+        }
+
+        @Test
+        @DisplayName("슬롯은 트랜잭션을 열기 전에 선점하고 AI 호출은 트랜잭션 밖에서 수행한다")
+        void generateCards_acquiresSlotBeforeTransaction() {
+            // given
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            userAiCardService.generateCards(testUser, testRequest);
+
+            // then
+            InOrder inOrder = inOrder(aiLimitService, transactionManager, categoryDomainService,
+                    aiGenerationService, userCardDomainService);
+            inOrder.verify(aiLimitService).tryAcquireSlot(USER_ID, SubscriptionPlan.PRO);
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(categoryDomainService).findByCode("CS");
+            inOrder.verify(transactionManager).commit(any());
+            inOrder.verify(aiGenerationService).generate(anyString(), any());
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(userCardDomainService).saveAll(anyList());
+            inOrder.verify(transactionManager).commit(any());
+        }
+
         @Test
         @DisplayName("AI 응답 파싱 실패 시 예외 발생")
         void generateCards_invalidResponse_throwsException() {
@@ -250,7 +418,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn("invalid json response");
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion("invalid json response", false, "gemini-2.0-flash"));
 
             // when & then
             assertThatThrownBy(() -> userAiCardService.generateCards(testUser, testRequest))
@@ -270,7 +438,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
             given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn(wrappedResponse);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(wrappedResponse, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> {
                 List<UserCard> cards = invocation.getArgument(0);
                 for (int i = 0; i < cards.size(); i++) {
@@ -309,7 +477,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
             given(categoryDomainService.findByCode("JN_N3")).willReturn(jlptCategory);
             given(categoryDomainService.findByCodeOrNull("JN_MISC")).willReturn(jlptFallbackCategory);
-            given(aiGenerationService.generateContent(anyString())).willReturn(AI_RESPONSE);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
             given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
 
@@ -353,7 +521,7 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             given(categoryDomainService.isLeafCategory(englishRoot)).willReturn(false);
             given(categoryDomainService.findByCodeOrNull("EN_MISC")).willReturn(englishMisc);
             given(categoryDomainService.isLeafCategory(englishMisc)).willReturn(true);
-            given(aiGenerationService.generateContent(anyString())).willReturn(AI_RESPONSE);
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
             given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
             given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
 
@@ -368,6 +536,224 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("generateCardsFromDocument")
+    class GenerateCardsFromDocumentTest {
+
+        private GenerateUserCardRequest documentRequest;
+
+        @BeforeEach
+        void setUpDocument() {
+            ReflectionTestUtils.setField(userAiCardService, "documentChunkSize", 100);
+            ReflectionTestUtils.setField(userAiCardService, "documentChunkOverlap", 20);
+
+            String firstSection = "REST API는 웹 서비스를 위한 아키텍처 스타일입니다. ".repeat(2);
+            String secondSection = "HTTP GET 메서드는 서버로부터 리소스를 조회합니다. ".repeat(2);
+            documentRequest = new GenerateUserCardRequest(firstSection + "\n\n" + secondSection, "CS", 4, "보통");
+
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+        }
+
+        @Test
+        @DisplayName("청크별로 생성하고 겹치는 카드는 제외한 뒤 한 번에 저장한다")
+        void generateCardsFromDocument_success_deduplicatesAcrossChunks() {
+            // given
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.generateCardsFromDocument(testUser, documentRequest);
+
+            // then
+            assertThat(response.generatedCards()).hasSize(2);
+            assertThat(response.generatedCards())
+                    .extracting(AiCardResponse::question)
+                    .containsExactly("REST API란 무엇인가?", "HTTP GET 메서드의 역할은?");
+            verify(aiGenerationService, times(2)).generate(anyString(), any());
+            verify(userCardDomainService).saveAll(anyList());
+            verify(aiGenerationLogDomainService).save(any());
+            verify(aiLimitService, never()).releaseSlot(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("청크 생성은 트랜잭션 밖에서 하고 조회와 저장만 각각 짧은 트랜잭션으로 수행한다")
+        void generateCardsFromDocument_callsAiOutsideTransaction() {
+            // given
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+
+            // when
+            userAiCardService.generateCardsFromDocument(testUser, documentRequest);
+
+            // then
+            InOrder inOrder = inOrder(transactionManager, categoryDomainService, aiGenerationService, userCardDomainService);
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(categoryDomainService).findByCode("CS");
+            inOrder.verify(transactionManager).commit(any());
+            inOrder.verify(aiGenerationService, times(2)).generate(anyString(), any());
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(userCardDomainService).saveAll(anyList());
+            inOrder.verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 롤백 후 슬롯을 반환하고 예외가 발생한다")
+        void generateCardsFromDocument_saveFailed_releasesSlot() {
+            // given
+            given(aiGenerationService.generate(anyString(), any())).willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willThrow(new RuntimeException("db down"));
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.generateCardsFromDocument(testUser, documentRequest))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.AI_GENERATION_FAILED);
+
+            verify(transactionManager).rollback(any());
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+        }
+
+        @Test
+        @DisplayName("일부 청크가 실패해도 성공한 청크의 카드는 저장한다")
+        void generateCardsFromDocument_partialFailure_savesSucceededCards() {
+            // given
+            given(aiGenerationService.generate(anyString(), any()))
+                    .willThrow(new RuntimeException("timeout"))
+                    .willReturn(new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash"));
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.generateCardsFromDocument(testUser, documentRequest);
+
+            // then
+            assertThat(response.generatedCards()).hasSize(2);
+            verify(aiGenerationLogDomainService).save(any());
+        }
+
+        @Test
+        @DisplayName("모든 청크가 실패하면 슬롯을 반환하고 예외가 발생한다")
+        void generateCardsFromDocument_allChunksFailed_throwsException() {
+            // given
+            given(aiGenerationService.generate(anyString(), any())).willThrow(new RuntimeException("timeout"));
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.generateCardsFromDocument(testUser, documentRequest))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.AI_GENERATION_FAILED);
+
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+            verify(userCardDomainService, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("streamCards")
+    class StreamCardsTest {
+
+        private UserAiCardService.GenerationSession session;
+
+        @BeforeEach
+        void setUp() {
+            session = new UserAiCardService.GenerationSession(
+                    testUser, testRequest, SubscriptionPlan.PRO, false, true, testCategory, "prompt");
+        }
+
+        @Test
+        @DisplayName("스트리밍 응답에서 카드가 완성될 때마다 전달하고 마지막에 한 번에 저장한다")
+        void streamCards_emitsEachCardAndSavesOnce() {
+            // given
+            int half = AI_RESPONSE.indexOf("HTTP GET");
+            given(aiGenerationService.streamContent(eq("prompt"), any(), any())).willAnswer(invocation -> {
+                Consumer<String> onChunk = invocation.getArgument(2);
+                onChunk.accept(AI_RESPONSE.substring(0, half));
+                onChunk.accept(AI_RESPONSE.substring(half));
+                return new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash");
+            });
+            given(userCardDomainService.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(aiLimitService.getRemainingCount(USER_ID, SubscriptionPlan.PRO)).willReturn(29);
+            List<AiCardResponse> emitted = new ArrayList<>();
+
+            // when
+            UserAiGenerationResponse response = userAiCardService.streamCards(session, emitted::add);
+
+            // then
+            assertThat(emitted).extracting(AiCardResponse::question)
+                    .containsExactly("REST API란 무엇인가?", "HTTP GET 메서드의 역할은?");
+            assertThat(response.count()).isEqualTo(2);
+            assertThat(response.remainingLimit()).isEqualTo(29);
+            verify(userCardDomainService).saveAll(anyList());
+            verify(aiGenerationLogDomainService).save(any());
+        }
+
+        @Test
+        @DisplayName("유효한 카드가 하나도 없으면 슬롯을 반환하고 예외를 던진다")
+        void streamCards_noValidCards_releasesSlotAndThrows() {
+            // given
+            given(aiGenerationService.streamContent(eq("prompt"), any(), any())).willAnswer(invocation -> {
+                Consumer<String> onChunk = invocation.getArgument(2);
+                onChunk.accept("[{\"question\": \"답변 없음\"}]");
+                return new AiCompletion("[]", false, "gemini-2.0-flash");
+            });
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.streamCards(session, card -> {}))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.INVALID_AI_RESPONSE);
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+            verify(aiGenerationService).evictCachedContent("prompt");
+            verify(userCardDomainService, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("기존 카드와 중복인 카드는 전달하지 않고 모두 중복이면 중복 예외를 던진다")
+        void streamCards_allKnownQuestions_throwsDuplicateCards() {
+            // given
+            given(cardDuplicateDetector.isCatalogDuplicate(anyString())).willReturn(true);
+            given(aiGenerationService.streamContent(eq("prompt"), any(), any())).willAnswer(invocation -> {
+                Consumer<String> onChunk = invocation.getArgument(2);
+                onChunk.accept(AI_RESPONSE);
+                return new AiCompletion(AI_RESPONSE, false, "gemini-2.0-flash");
+            });
+            List<AiCardResponse> emitted = new ArrayList<>();
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.streamCards(session, emitted::add))
+                    .isInstanceOf(AiException.class)
+                    .extracting(e -> ((AiException) e).getErrorCode())
+                    .isEqualTo(AiErrorCode.DUPLICATE_CARDS);
+            assertThat(emitted).isEmpty();
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+            verify(userCardDomainService, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("prepareGeneration")
+    class PrepareGenerationTest {
+
+        @Test
+        @DisplayName("카테고리 결정에 실패하면 선점한 슬롯을 반환한다")
+        void prepareGeneration_categoryNotFound_releasesSlot() {
+            // given
+            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(aiLimitService.tryAcquireSlot(USER_ID, SubscriptionPlan.PRO)).willReturn(true);
+            given(categoryDomainService.findByCode("CS"))
+                    .willThrow(new CategoryException(CategoryErrorCode.CATEGORY_NOT_FOUND));
+
+            // when & then
+            assertThatThrownBy(() -> userAiCardService.prepareGeneration(testUser, testRequest))
+                    .isInstanceOf(CategoryException.class);
+            verify(aiLimitService).releaseSlot(USER_ID, SubscriptionPlan.PRO);
+        }
+    }
+
     @Nested
     @DisplayName("getGenerationLimit")
     class GetGenerationLimitTest {
@@ -376,11 +762,11 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
         @DisplayName("FREE 플랜의 제한 정보 조회")
         void getGenerationLimit_freePlan() {
             // given
-            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.FREE);
+            given(subscriptionDomainService.getSubscribedPlan(USER_ID)).willReturn(SubscriptionPlan.FREE);
             given(aiLimitService.getUsedCount(USER_ID, SubscriptionPlan.FREE)).willReturn(3);
 
             // when
-            AiLimitResponse response = userAiCardService.getGenerationLimit(testUser);
+            AiLimitResponse response = userAiCardService.getGenerationLimit(UserVo.from(testUser));
 
             // then
             assertThat(response.limit()).isEqualTo(5);
@@ -393,11 +779,11 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
         @DisplayName("PRO 플랜의 제한 정보 조회")
         void getGenerationLimit_proPlan() {
             // given
-            given(subscriptionDomainService.getEffectivePlan(testUser)).willReturn(SubscriptionPlan.PRO);
+            given(subscriptionDomainService.getSubscribedPlan(USER_ID)).willReturn(SubscriptionPlan.PRO);
             given(aiLimitService.getUsedCount(USER_ID, SubscriptionPlan.PRO)).willReturn(10);
 
             // when
-            AiLimitResponse response = userAiCardService.getGenerationLimit(testUser);
+            AiLimitResponse response = userAiCardService.getGenerationLimit(UserVo.from(testUser));
 
             // then
             assertThat(response.limit()).isEqualTo(30);
@@ -413,14 +799,14 @@ class UserAiCardServiceUnitTest extends BaseUnitTest {
             User adminUser = createAdminUser();
 
             // when
-            AiLimitResponse response = userAiCardService.getGenerationLimit(adminUser);
+            AiLimitResponse response = userAiCardService.getGenerationLimit(UserVo.from(adminUser));
 
             // then
             assertThat(response.limit()).isEqualTo(Integer.MAX_VALUE);
             assertThat(response.used()).isZero();
             assertThat(response.remaining()).isEqualTo(Integer.MAX_VALUE);
             assertThat(response.isLifetime()).isFalse();
-            verify(subscriptionDomainService, never()).getEffectivePlan(adminUser);
+            verify(subscriptionDomainService, never()).getSubscribedPlan(anyLong());
         }
     }
 
@@ -1,5 +1,6 @@
 package com.example.study_cards.application.auth.controller;
 
+import com.example.study_cards.application.auth.dto.request.PasswordResetRequest;
 import com.example.study_cards.application.auth.dto.request.SignInRequest;
 import com.example.study_cards.application.auth.dto.request.SignUpRequest;
 import com.example.study_cards.application.auth.dto.response.TokenResult;
@@ -309,4 +310,32 @@ class AuthControllerTest extends BaseIntegrationTest {
                     ));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/auth/password-reset/request")
+    class PasswordResetRequestEndpointTest {
+
+        @Test
+        @DisplayName("요청 제한을 넘으면 429 Too Many Requests와 Retry-After 헤더를 반환한다")
+        void requestPasswordReset_overLimit_returns429() throws Exception {
+            String content = objectMapper.writeValueAsString(
+                    new PasswordResetRequest("rate-" + System.nanoTime() + "@example.com"));
+
+            for (int i = 0; i < 5; i++) {
+                mockMvc.perform(post("/api/auth/password-reset/request")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string("RateLimit-Limit", "5"))
+                        .andExpect(header().string("RateLimit-Remaining", String.valueOf(4 - i)));
+            }
+
+            mockMvc.perform(post("/api/auth/password-reset/request")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(content))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("RateLimit-Remaining", "0"))
+                    .andExpect(header().exists("Retry-After"));
+        }
+    }
 }
@@ -153,6 +153,7 @@ class CardControllerTest extends BaseIntegrationTest {
                             .param("category", "CS"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.content").isArray())
+                    .andExpect(header().exists("RateLimit-Limit"))
                     .andDo(document("card/get-cards-for-study",
                             preprocessRequest(prettyPrint()),
                             preprocessResponse(prettyPrint()),
@@ -208,7 +209,8 @@ class CardControllerTest extends BaseIntegrationTest {
                             .header("Authorization", "Bearer " + accessToken)
                             .param("category", "CS"))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.content").isArray());
+                    .andExpect(jsonPath("$.content").isArray())
+                    .andExpect(header().doesNotExist("RateLimit-Limit"));
         }
     }
 
@@ -275,6 +277,21 @@ class CardControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/cards/changes")
+    class GetCardChangesTest {
+
+        @Test
+        @DisplayName("인증 없이 변경분을 조회한다")
+        void getCardChanges_withoutAuth_success() throws Exception {
+            mockMvc.perform(get("/api/cards/changes")
+                            .param("since", "2020-01-01T00:00:00"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changes").isArray())
+                    .andExpect(jsonPath("$.hasNext").value(false));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/cards/count")
     class GetCardCountTest {
@@ -0,0 +1,151 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CardDuplicateDetectorUnitTest extends BaseUnitTest {
+
+    @Mock
+    private CardDomainService cardDomainService;
+
+    @Mock
+    private CategoryDomainService categoryDomainService;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CardDuplicateDetector cardDuplicateDetector;
+
+    private Category csCategory;
+    private Card gcCard;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardDuplicateDetector, "threshold", 0.8);
+        ReflectionTestUtils.setField(cardDuplicateDetector, "checkIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(cardDuplicateDetector, "maxIncrementalVersions", 1000L);
+        ReflectionTestUtils.setField(cardDuplicateDetector, "settleSeconds", 0L);
+
+        csCategory = Category.builder()
+                .code("CS")
+                .name("CS")
+                .displayOrder(1)
+                .build();
+        ReflectionTestUtils.setField(csCategory, "id", 1L);
+
+        gcCard = createCard(1L, "자바 가비지 컬렉션이란 무엇인가?");
+        given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+        given(cardDomainService.findByCategoriesAfterId(anyList(), any(), anyInt())).willReturn(List.of(gcCard));
+    }
+
+    @Nested
+    @DisplayName("isCatalogDuplicate")
+    class IsCatalogDuplicateTest {
+
+        @Test
+        @DisplayName("처음 확인할 때 공용 카드 전체로 색인을 만든다")
+        void isCatalogDuplicate_firstCall_buildsIndex() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(1L);
+
+            // when
+            boolean result = cardDuplicateDetector.isCatalogDuplicate("자바 가비지 컬렉션이란 무엇인가");
+
+            // then
+            assertThat(result).isTrue();
+            verify(cardDomainService, times(1)).findByCategoriesAfterId(anyList(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("카탈로그 버전이 바뀌면 변경된 카드만 색인에 추가하거나 제거한다")
+        void isCatalogDuplicate_versionChanged_appliesChangesOnly() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(1L, 2L);
+            cardDuplicateDetector.isCatalogDuplicate("아무 질문");
+
+            Card tcpCard = createCard(2L, "TCP 3-way handshake 과정은?");
+            gcCard.delete();
+            given(cardDomainService.findChangedAfter(any(), anyLong(), any(), anyInt()))
+                    .willReturn(List.of(gcCard, tcpCard));
+            cardDuplicateDetector.onCatalogChanged(new CatalogChangedEvent());
+
+            // when
+            boolean tcpDuplicate = cardDuplicateDetector.isCatalogDuplicate("TCP 3-way handshake 과정은");
+            boolean gcDuplicate = cardDuplicateDetector.isCatalogDuplicate("자바 가비지 컬렉션이란 무엇인가");
+
+            // then
+            assertThat(tcpDuplicate).isTrue();
+            assertThat(gcDuplicate).isFalse();
+            verify(cardDomainService, times(1)).findByCategoriesAfterId(anyList(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("카탈로그 버전 키가 초기화되면 색인을 전체 다시 만든다")
+        void isCatalogDuplicate_versionReset_rebuildsIndex() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(5L, 1L);
+            cardDuplicateDetector.isCatalogDuplicate("아무 질문");
+            cardDuplicateDetector.onCatalogChanged(new CatalogChangedEvent());
+
+            // when
+            cardDuplicateDetector.isCatalogDuplicate("아무 질문");
+
+            // then
+            verify(cardDomainService, times(2)).findByCategoriesAfterId(anyList(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("확인 간격 안에서는 카탈로그 버전을 다시 조회하지 않는다")
+        void isCatalogDuplicate_withinInterval_skipsVersionCheck() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(1L);
+            cardDuplicateDetector.isCatalogDuplicate("아무 질문");
+
+            // when
+            cardDuplicateDetector.isCatalogDuplicate("다른 질문");
+
+            // then
+            verify(catalogVersionService, times(1)).getCatalogVersion();
+        }
+    }
+
+    private Card createCard(Long id, String question) {
+        Card card = Card.builder()
+                .question(question)
+                .answer("답변")
+                .category(csCategory)
+                .build();
+        ReflectionTestUtils.setField(card, "id", id);
+        ReflectionTestUtils.setField(card, "modifiedAt", LocalDateTime.now().minusMinutes(1));
+        return card;
+    }
+}
@@ -2,19 +2,20 @@ package com.example.study_cards.application.card.service;
 
 import com.example.study_cards.application.card.dto.request.CardCreateRequest;
 import com.example.study_cards.application.card.dto.request.CardUpdateRequest;
+import com.example.study_cards.application.card.dto.response.CardChangesResponse;
 import com.example.study_cards.application.card.dto.response.CardResponse;
+import com.example.study_cards.application.card.dto.response.CardType;
 import com.example.study_cards.application.notification.service.NotificationService;
 import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardStatus;
 import com.example.study_cards.domain.card.exception.CardErrorCode;
 import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.model.MergedCard;
+import com.example.study_cards.domain.card.model.MergedCardOrder;
 import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
 import com.example.study_cards.domain.notification.entity.NotificationType;
-import com.example.study_cards.domain.user.entity.User;
-import com.example.study_cards.domain.user.service.UserDomainService;
-import com.example.study_cards.domain.usercard.entity.UserCard;
-import com.example.study_cards.domain.usercard.service.UserCardDomainService;
 import com.example.study_cards.infra.redis.service.RateLimitService;
 import com.example.study_cards.support.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +31,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,12 +48,6 @@ class CardServiceUnitTest extends BaseUnitTest {
     @Mock
     private CardDomainService cardDomainService;
 
-    @Mock
-    private UserCardDomainService userCardDomainService;
-
-    @Mock
-    private UserDomainService userDomainService;
-
     @Mock
     private CategoryDomainService categoryDomainService;
 
@@ -67,8 +63,8 @@ class CardServiceUnitTest extends BaseUnitTest {
     private Card testCard;
     private Category csCategory;
     private Category englishCategory;
-    private User testUser;
-    private UserCard testUserCard;
+    private MergedCard mergedUserCard;
+    private MergedCard mergedPublicCard;
 
     private static final Long CARD_ID = 1L;
     private static final Long USER_ID = 1L;
@@ -79,31 +75,26 @@ class CardServiceUnitTest extends BaseUnitTest {
         csCategory = createCategory("CS", "CS", 1L);
         englishCategory = createCategory("ENGLISH", "영어", 2L);
         testCard = createTestCard();
-        testUser = createTestUser();
-        testUserCard = createTestUserCard();
-    }
-
-    private User createTestUser() {
-        User user = User.builder()
-                .email("test@example.com")
-                .password("password123")
-                .nickname("테스트유저")
-                .build();
-        ReflectionTestUtils.setField(user, "id", USER_ID);
-        return user;
+        mergedUserCard = createMergedCard(MergedCard.Source.USER, USER_CARD_ID, "나만의 자바 질문");
+        mergedPublicCard = createMergedCard(MergedCard.Source.PUBLIC, CARD_ID, "자바란 무엇인가?");
     }
 
-    private UserCard createTestUserCard() {
-        UserCard userCard = UserCard.builder()
-                .user(testUser)
-                .question("나만의 자바 질문")
-                .answer("나만의 자바 답변")
-                .efFactor(2.5)
-                .aiGenerated(false)
-                .category(csCategory)
-                .build();
-        ReflectionTestUtils.setField(userCard, "id", USER_CARD_ID);
-        return userCard;
+    private MergedCard createMergedCard(MergedCard.Source source, Long id, String question) {
+        return new MergedCard(
+                source,
+                id,
+                question,
+                null,
+                "답변",
+                null,
+                2.5,
+                csCategory.getId(),
+                csCategory.getCode(),
+                csCategory.getName(),
+                null,
+                null,
+                LocalDateTime.now()
+        );
     }
 
     private Category createCategory(String code, String name, Long id) {
@@ -394,6 +385,146 @@ class CardServiceUnitTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAllCardsWithUserCards")
+    class GetAllCardsWithUserCardsTest {
+
+        @Test
+        @DisplayName("개인 카드와 공용 카드를 한 번의 병합 조회로 가져온다")
+        void getAllCardsWithUserCards_returnsMergedPage() {
+            // given
+            Pageable pageable = PageRequest.of(0, 20);
+            Page<MergedCard> mergedPage = new PageImpl<>(List.of(mergedUserCard, mergedPublicCard), pageable, 2);
+            given(cardDomainService.findMergedWithUserCards(USER_ID, null, null, MergedCardOrder.LATEST, pageable))
+                    .willReturn(mergedPage);
+
+            // when
+            Page<CardResponse> result = cardService.getAllCardsWithUserCards(USER_ID, null, pageable);
+
+            // then
+            assertThat(result.getContent()).extracting(CardResponse::id).containsExactly(USER_CARD_ID, CARD_ID);
+            assertThat(result.getContent().get(0).category().code()).isEqualTo("CS");
+            assertThat(result.getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("깊은 페이지도 오프셋 그대로 병합 조회에 위임한다")
+        void getAllCardsWithUserCards_deepPage_delegatesPageable() {
+            // given
+            Pageable pageable = PageRequest.of(3, 7);
+            given(categoryDomainService.findByCodeOrNull("CS")).willReturn(csCategory);
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardDomainService.findMergedWithUserCards(USER_ID, List.of(csCategory), null, MergedCardOrder.LATEST, pageable))
+                    .willReturn(new PageImpl<>(List.of(mergedPublicCard), pageable, 22));
+
+            // when
+            Page<CardResponse> result = cardService.getAllCardsWithUserCards(USER_ID, "CS", pageable);
+
+            // then
+            assertThat(result.getNumber()).isEqualTo(3);
+            assertThat(result.getTotalElements()).isEqualTo(22);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCardsForStudyWithUserCards")
+    class GetCardsForStudyWithUserCardsTest {
+
+        @Test
+        @DisplayName("efFactor 정렬로 개인 카드와 공용 카드를 병합 조회한다")
+        void getCardsForStudyWithUserCards_usesEfFactorOrder() {
+            // given
+            Pageable pageable = PageRequest.of(0, 20);
+            given(cardDomainService.findMergedWithUserCards(USER_ID, null, null, MergedCardOrder.EF_FACTOR, pageable))
+                    .willReturn(new PageImpl<>(List.of(mergedUserCard), pageable, 1));
+
+            // when
+            Page<CardResponse> result = cardService.getCardsForStudyWithUserCards(USER_ID, null, pageable);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).cardType()).isEqualTo(CardType.CUSTOM);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCardChanges")
+    class GetCardChangesTest {
+
+        private final LocalDateTime since = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        @Test
+        @DisplayName("since 이후 변경된 카드와 삭제된 카드를 반환한다")
+        void getCardChanges_since_returnsActiveAndDeletedCards() {
+            // given
+            Card deletedCard = createTestCard();
+            ReflectionTestUtils.setField(deletedCard, "id", 2L);
+            deletedCard.delete();
+            given(cardDomainService.findChangedAfter(eq(since), eq(0L), any(LocalDateTime.class), eq(3)))
+                    .willReturn(List.of(testCard, deletedCard));
+
+            // when
+            CardChangesResponse result = cardService.getCardChanges(since, null, 2);
+
+            // then
+            assertThat(result.changes()).hasSize(2);
+            assertThat(result.changes().get(0).status()).isEqualTo(CardStatus.ACTIVE);
+            assertThat(result.changes().get(0).card().question()).isEqualTo("자바란 무엇인가?");
+            assertThat(result.changes().get(1).status()).isEqualTo(CardStatus.DELETED);
+            assertThat(result.changes().get(1).card()).isNull();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.nextSince()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 커서를 반환하고 커서로 이어서 조회한다")
+        void getCardChanges_hasNext_returnsCursorThatResumesAfterLastCard() {
+            // given
+            LocalDateTime modifiedAt = since.plusMinutes(1);
+            ReflectionTestUtils.setField(testCard, "modifiedAt", modifiedAt);
+            Card nextCard = createTestCard();
+            ReflectionTestUtils.setField(nextCard, "id", 2L);
+            given(cardDomainService.findChangedAfter(eq(since), eq(0L), any(LocalDateTime.class), eq(2)))
+                    .willReturn(List.of(testCard, nextCard));
+            given(cardDomainService.findChangedAfter(eq(modifiedAt), eq(CARD_ID), any(LocalDateTime.class), eq(2)))
+                    .willReturn(List.of(nextCard));
+
+            // when
+            CardChangesResponse firstPage = cardService.getCardChanges(since, null, 1);
+            CardChangesResponse secondPage = cardService.getCardChanges(null, firstPage.nextCursor(), 1);
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.changes()).extracting(change -> change.id()).containsExactly(CARD_ID);
+            assertThat(firstPage.nextSince()).isNull();
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.changes()).extracting(change -> change.id()).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("since와 cursor가 모두 없으면 예외를 발생시킨다")
+        void getCardChanges_noSinceAndCursor_throwsException() {
+            assertThatThrownBy(() -> cardService.getCardChanges(null, null, 10))
+                    .isInstanceOf(CardException.class)
+                    .satisfies(exception -> {
+                        CardException ex = (CardException) exception;
+                        assertThat(ex.getErrorCode()).isEqualTo(CardErrorCode.INVALID_CHANGES_CURSOR);
+                    });
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외를 발생시킨다")
+        void getCardChanges_invalidCursor_throwsException() {
+            assertThatThrownBy(() -> cardService.getCardChanges(null, "not-a-cursor", 10))
+                    .isInstanceOf(CardException.class)
+                    .satisfies(exception -> {
+                        CardException ex = (CardException) exception;
+                        assertThat(ex.getErrorCode()).isEqualTo(CardErrorCode.INVALID_CHANGES_CURSOR);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("searchCards")
     class SearchCardsTest {
@@ -424,24 +555,17 @@ class CardServiceUnitTest extends BaseUnitTest {
         @DisplayName("인증 사용자는 개인카드 우선으로 검색한다")
         void searchCards_인증_개인카드우선() {
             // given
-            Page<UserCard> userCardPage = new PageImpl<>(List.of(testUserCard), PageRequest.of(0, 1), 1);
-            Page<Card> publicCountPage = new PageImpl<>(List.of(testCard), PageRequest.of(0, 1), 1);
-            Page<UserCard> userCardSearchPage = new PageImpl<>(List.of(testUserCard), PageRequest.of(0, 20), 1);
-            Page<Card> publicSearchPage = new PageImpl<>(List.of(testCard), PageRequest.of(0, 19), 1);
-
-            given(userDomainService.findById(USER_ID)).willReturn(testUser);
-            given(userCardDomainService.searchByKeyword(eq(testUser), eq("자바"), eq(null), any(Pageable.class)))
-                    .willReturn(userCardPage)
-                    .willReturn(userCardSearchPage);
-            given(cardDomainService.searchByKeyword(eq("자바"), eq(null), any(Pageable.class)))
-                    .willReturn(publicCountPage)
-                    .willReturn(publicSearchPage);
+            Page<MergedCard> mergedPage = new PageImpl<>(List.of(mergedUserCard, mergedPublicCard), pageable, 2);
+            given(cardDomainService.findMergedWithUserCards(USER_ID, null, "자바", MergedCardOrder.LATEST, pageable))
+                    .willReturn(mergedPage);
 
             // when
             Page<CardResponse> result = cardService.searchCards(USER_ID, "자바", null, pageable);
 
             // then
             assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent().get(0).cardType()).isEqualTo(CardType.CUSTOM);
+            assertThat(result.getContent().get(1).cardType()).isEqualTo(CardType.PUBLIC);
             assertThat(result.getTotalElements()).isEqualTo(2);
         }
 
@@ -0,0 +1,214 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.application.card.service.CardSnapshotService.CardSnapshot;
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.exception.CardErrorCode;
+import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.example.study_cards.support.BaseUnitTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CardSnapshotServiceUnitTest extends BaseUnitTest {
+
+    @Mock
+    private CardDomainService cardDomainService;
+
+    @Mock
+    private CategoryDomainService categoryDomainService;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @InjectMocks
+    private CardSnapshotService cardSnapshotService;
+
+    @TempDir
+    Path tempDir;
+
+    private Category csCategory;
+    private Card firstCard;
+    private Card secondCard;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardSnapshotService, "snapshotDirectory", tempDir.toString());
+        ReflectionTestUtils.setField(cardSnapshotService, "retiredRetentionSeconds", 600L);
+
+        csCategory = Category.builder()
+                .code("CS")
+                .name("CS")
+                .displayOrder(1)
+                .build();
+        ReflectionTestUtils.setField(csCategory, "id", 1L);
+
+        firstCard = createCard(1L, "자바란 무엇인가?");
+        secondCard = createCard(2L, "JVM이란?");
+    }
+
+    private Card createCard(Long id, String question) {
+        Card card = Card.builder()
+                .question(question)
+                .answer("답변")
+                .category(csCategory)
+                .build();
+        ReflectionTestUtils.setField(card, "id", id);
+        return card;
+    }
+
+    private List<String> readLines(Path path) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildIfStale")
+    class RebuildIfStaleTest {
+
+        @Test
+        @DisplayName("루트 카테고리별 gzip NDJSON 스냅샷을 생성한다")
+        void rebuildIfStale_writesGzipNdjsonPerRootCategory() throws IOException {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(7L);
+            given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardDomainService.findByCategoriesAfterId(anyList(), any(), anyInt()))
+                    .willReturn(List.of(firstCard, secondCard));
+
+            // when
+            cardSnapshotService.rebuildIfStale();
+
+            // then
+            CardSnapshot snapshot = cardSnapshotService.getSnapshot("CS");
+            assertThat(snapshot.version()).isEqualTo(7L);
+            assertThat(snapshot.cardCount()).isEqualTo(2);
+            assertThat(snapshot.fileName()).isEqualTo("CS-7.ndjson.gz");
+            assertThat(snapshot.size()).isEqualTo(Files.size(snapshot.path()));
+
+            List<String> lines = readLines(snapshot.path());
+            assertThat(lines).hasSize(2);
+            assertThat(lines.get(0)).contains("자바란 무엇인가?");
+            assertThat(lines.get(1)).contains("JVM이란?");
+        }
+
+        @Test
+        @DisplayName("카탈로그 버전이 그대로면 다시 생성하지 않는다")
+        void rebuildIfStale_sameVersion_skips() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(7L);
+            given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardDomainService.findByCategoriesAfterId(anyList(), any(), anyInt())).willReturn(List.of(firstCard));
+            cardSnapshotService.rebuildIfStale();
+
+            // when
+            cardSnapshotService.rebuildIfStale();
+
+            // then
+            verify(categoryDomainService).findAll();
+        }
+
+        @Test
+        @DisplayName("교체된 스냅샷 파일은 보관 시간 동안 지우지 않는다")
+        void rebuildIfStale_retiredWithinRetention_keepsFile() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(7L, 8L, 9L);
+            given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardDomainService.findByCategoriesAfterId(anyList(), any(), anyInt())).willReturn(List.of(firstCard));
+
+            // when
+            cardSnapshotService.rebuildIfStale();
+            cardSnapshotService.rebuildIfStale();
+            cardSnapshotService.rebuildIfStale();
+
+            // then
+            assertThat(tempDir.resolve("CS-7.ndjson.gz")).exists();
+            assertThat(tempDir.resolve("CS-8.ndjson.gz")).exists();
+            assertThat(cardSnapshotService.getSnapshot("CS").version()).isEqualTo(9L);
+        }
+
+        @Test
+        @DisplayName("보관 시간이 지난 교체된 스냅샷 파일은 지운다")
+        void rebuildIfStale_retiredAfterRetention_deletesFile() {
+            // given
+            ReflectionTestUtils.setField(cardSnapshotService, "retiredRetentionSeconds", 0L);
+            given(catalogVersionService.getCatalogVersion()).willReturn(7L, 8L);
+            given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardDomainService.findByCategoriesAfterId(anyList(), any(), anyInt())).willReturn(List.of(firstCard));
+            cardSnapshotService.rebuildIfStale();
+
+            // when
+            cardSnapshotService.rebuildIfStale();
+
+            // then
+            assertThat(tempDir.resolve("CS-7.ndjson.gz")).doesNotExist();
+            assertThat(tempDir.resolve("CS-8.ndjson.gz")).exists();
+        }
+
+        @Test
+        @DisplayName("카탈로그 버전을 알 수 없으면 생성하지 않는다")
+        void rebuildIfStale_versionUnavailable_skips() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(null);
+
+            // when
+            cardSnapshotService.rebuildIfStale();
+
+            // then
+            verify(categoryDomainService, never()).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("getSnapshot")
+    class GetSnapshotTest {
+
+        @Test
+        @DisplayName("스냅샷이 없으면 예외를 발생시킨다")
+        void getSnapshot_notBuilt_throwsException() {
+            assertThatThrownBy(() -> cardSnapshotService.getSnapshot("CS"))
+                    .isInstanceOf(CardException.class)
+                    .satisfies(exception -> {
+                        CardException ex = (CardException) exception;
+                        assertThat(ex.getErrorCode()).isEqualTo(CardErrorCode.SNAPSHOT_NOT_FOUND);
+                    });
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.study_cards.application.card.service;
+
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
+import com.example.study_cards.domain.card.entity.Card;
+import com.example.study_cards.domain.card.entity.CardEmbedding;
+import com.example.study_cards.domain.card.exception.CardErrorCode;
+import com.example.study_cards.domain.card.exception.CardException;
+import com.example.study_cards.domain.card.repository.CardEmbeddingRepositoryCustom.CardVector;
+import com.example.study_cards.domain.card.service.CardDomainService;
+import com.example.study_cards.domain.card.service.CardEmbeddingDomainService;
+import com.example.study_cards.domain.category.entity.Category;
+import com.example.study_cards.domain.category.service.CategoryDomainService;
+import com.example.study_cards.infra.ai.service.HashingTextEmbedder;
+import com.example.study_cards.infra.ai.service.TextEmbedder;
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.example.study_cards.infra.redis.service.DistributedLockService;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RelatedCardServiceUnitTest extends BaseUnitTest {
+
+    @Mock
+    private CardDomainService cardDomainService;
+
+    @Mock
+    private CardEmbeddingDomainService cardEmbeddingDomainService;
+
+    @Mock
+    private CategoryDomainService categoryDomainService;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Spy
+    private TextEmbedder textEmbedder = new HashingTextEmbedder(128);
+
+    @InjectMocks
+    private RelatedCardService relatedCardService;
+
+    private Category csCategory;
+    private Card gcCard;
+    private Card gcDetailCard;
+    private Card networkCard;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relatedCardService, "embedBatchSize", 100);
+        ReflectionTestUtils.setField(relatedCardService, "maxBatchesPerRun", 5);
+        ReflectionTestUtils.setField(relatedCardService, "minSimilarity", -1.0);
+        ReflectionTestUtils.setField(relatedCardService, "hintLimit", 3);
+        ReflectionTestUtils.setField(relatedCardService, "hintMinSimilarity", 0.3);
+
+        csCategory = Category.builder()
+                .code("CS")
+                .name("CS")
+                .displayOrder(1)
+                .build();
+        ReflectionTestUtils.setField(csCategory, "id", 1L);
+
+        gcCard = createCard(1L, "자바 가비지 컬렉션이란?", "힙 메모리를 자동으로 정리하는 기능");
+        gcDetailCard = createCard(2L, "자바 가비지 컬렉션 동작 방식은?", "Mark and Sweep으로 힙 메모리를 정리한다");
+        networkCard = createCard(3L, "TCP 3-way handshake란?", "SYN, SYN-ACK, ACK 순서로 연결을 맺는다");
+    }
+
+    @Nested
+    @DisplayName("getRelatedCards")
+    class GetRelatedCardsTest {
+
+        @Test
+        @DisplayName("같은 루트 카테고리에서 유사도가 높은 카드 순으로 반환하고 자기 자신은 제외한다")
+        void getRelatedCards_ordersBySimilarity() {
+            // given
+            buildIndex(gcCard, gcDetailCard, networkCard);
+            given(cardDomainService.findByIds(anyList())).willReturn(List.of(networkCard, gcDetailCard));
+
+            // when
+            List<RelatedCardResponse> result = relatedCardService.getRelatedCards(1L, 2);
+
+            // then
+            assertThat(result).extracting(response -> response.card().id()).containsExactly(2L, 3L);
+            assertThat(result.get(0).similarity()).isGreaterThan(result.get(1).similarity());
+        }
+
+        @Test
+        @DisplayName("색인되지 않은 카드는 존재 여부만 확인하고 빈 목록을 반환한다")
+        void getRelatedCards_notIndexed() {
+            // given
+            given(cardDomainService.findById(99L)).willReturn(gcCard);
+
+            // when
+            List<RelatedCardResponse> result = relatedCardService.getRelatedCards(99L, 5);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(cardDomainService, never()).findByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 카드면 예외가 발생한다")
+        void getRelatedCards_notFound() {
+            // given
+            given(cardDomainService.findById(99L)).willThrow(new CardException(CardErrorCode.CARD_NOT_FOUND));
+
+            // when & then
+            assertThatThrownBy(() -> relatedCardService.getRelatedCards(99L, 5))
+                    .isInstanceOf(CardException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("findSimilarCards")
+    class FindSimilarCardsTest {
+
+        @Test
+        @DisplayName("작성한 카드와 비슷한 공용 카드를 찾는다")
+        void findSimilarCards_success() {
+            // given
+            buildIndex(gcCard, networkCard);
+            given(cardDomainService.findByIds(List.of(1L))).willReturn(List.of(gcCard));
+
+            // when
+            List<RelatedCardResponse> result = relatedCardService.findSimilarCards(
+                    "자바 가비지 컬렉션이란?", "힙 메모리를 자동으로 정리", csCategory);
+
+            // then
+            assertThat(result).extracting(response -> response.card().id()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("색인이 없으면 빈 목록을 반환한다")
+        void findSimilarCards_emptyIndex() {
+            // when
+            List<RelatedCardResponse> result = relatedCardService.findSimilarCards("질문", "답변", csCategory);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("provider를 호출하는 임베더면 요청 중에 임베딩하지 않고 빈 목록을 반환한다")
+        void findSimilarCards_remoteEmbedder_skipsEmbedding() {
+            // given
+            buildIndex(gcCard, networkCard);
+            clearInvocations(textEmbedder);
+            willReturn(false).given(textEmbedder).isLocal();
+
+            // when
+            List<RelatedCardResponse> result = relatedCardService.findSimilarCards(
+                    "자바 가비지 컬렉션이란?", "힙 메모리를 자동으로 정리", csCategory);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(textEmbedder, never()).embed(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("embedPendingCards")
+    class EmbedPendingCardsTest {
+
+        @Test
+        @DisplayName("임베딩이 필요한 카드를 임베딩해 저장한다")
+        void embedPendingCards_success() {
+            // given
+            given(distributedLockService.tryLock(eq("card-embedding"), any())).willReturn(true);
+            given(cardEmbeddingDomainService.findCardsNeedingEmbedding("hashing-128", 100))
+                    .willReturn(List.of(gcCard, networkCard));
+
+            // when
+            int result = relatedCardService.embedPendingCards();
+
+            // then
+            assertThat(result).isEqualTo(2);
+            verify(cardEmbeddingDomainService).saveAll(anyMap(), eq("hashing-128"));
+            verify(distributedLockService).unlock("card-embedding");
+        }
+
+        @Test
+        @DisplayName("다른 노드가 임베딩 중이면 건너뛴다")
+        void embedPendingCards_locked() {
+            // given
+            given(distributedLockService.tryLock(eq("card-embedding"), any())).willReturn(false);
+
+            // when
+            int result = relatedCardService.embedPendingCards();
+
+            // then
+            assertThat(result).isZero();
+            verify(cardEmbeddingDomainService, never()).findCardsNeedingEmbedding(anyString(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildIfStale")
+    class RebuildIfStaleTest {
+
+        @Test
+        @DisplayName("카탈로그 버전이 같고 밀린 임베딩이 없으면 다시 생성하지 않는다")
+        void rebuildIfStale_skipsSameVersion() {
+            // given
+            buildIndex(gcCard);
+
+            // when
+            relatedCardService.rebuildIfStale();
+
+            // then
+            verify(categoryDomainService).findAll();
+        }
+
+        @Test
+        @DisplayName("밀린 임베딩이 남아 있으면 같은 버전이어도 다음 주기에 다시 생성한다")
+        void rebuildIfStale_rebuildsWhilePending() {
+            // given
+            given(catalogVersionService.getCatalogVersion()).willReturn(3L);
+            given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+            given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+            given(cardEmbeddingDomainService.findVectorsByCategoriesAfterCardId(anyString(), anyList(), any(), anyInt()))
+                    .willReturn(List.of());
+            given(cardEmbeddingDomainService.hasCardsNeedingEmbedding("hashing-128")).willReturn(true);
+
+            // when
+            relatedCardService.rebuildIfStale();
+            relatedCardService.rebuildIfStale();
+
+            // then
+            verify(categoryDomainService, times(2)).findAll();
+        }
+    }
+
+    private void buildIndex(Card... cards) {
+        List<CardVector> vectors = Arrays.stream(cards)
+                .map(card -> new CardVector(card.getId(), encode(card)))
+                .toList();
+        given(catalogVersionService.getCatalogVersion()).willReturn(1L);
+        given(categoryDomainService.findAll()).willReturn(List.of(csCategory));
+        given(categoryDomainService.findSelfAndDescendants(csCategory)).willReturn(List.of(csCategory));
+        given(cardEmbeddingDomainService.findVectorsByCategoriesAfterCardId(eq("hashing-128"), anyList(), any(), anyInt()))
+                .willReturn(vectors);
+        given(cardEmbeddingDomainService.hasCardsNeedingEmbedding("hashing-128")).willReturn(false);
+        relatedCardService.rebuildIfStale();
+    }
+
+    private byte[] encode(Card card) {
+        float[] vector = textEmbedder.embed(card.getQuestion() + "\n" + card.getAnswer());
+        return CardEmbedding.builder().card(card).model(textEmbedder.model()).vector(vector).build().getVector();
+    }
+
+    private Card createCard(Long id, String question, String answer) {
+        Card card = Card.builder()
+                .question(question)
+                .answer(answer)
+                .category(csCategory)
+                .build();
+        ReflectionTestUtils.setField(card, "id", id);
+        return card;
+    }
+}
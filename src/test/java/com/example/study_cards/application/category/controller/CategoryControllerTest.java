@@ -148,6 +148,24 @@ class CategoryControllerTest extends BaseIntegrationTest {
                             )
                     ));
         }
+
+        @Test
+        @DisplayName("카탈로그가 변경되지 않았으면 If-None-Match 요청에 304를 반환한다")
+        void getAllCategories_ifNoneMatch_returns304() throws Exception {
+            String eTag = mockMvc.perform(get("/api/categories")
+                            .header("Authorization", "Bearer " + accessToken))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+
+            mockMvc.perform(get("/api/categories")
+                            .header("Authorization", "Bearer " + accessToken)
+                            .header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
     }
 
     @Nested
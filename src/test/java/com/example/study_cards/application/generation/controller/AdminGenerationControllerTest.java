@@ -351,6 +351,124 @@ class AdminGenerationControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/admin/generation/cards/batch-reject")
+    class BatchRejectTest {
+
+        @Test
+        @DisplayName("관리자가 여러 카드를 일괄 거부한다")
+        void batchReject_admin_success() throws Exception {
+            ApprovalRequest request = new ApprovalRequest(List.of(generatedCard.getId()));
+
+            mockMvc.perform(post("/api/admin/generation/cards/batch-reject")
+                            .header("Authorization", "Bearer " + adminAccessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").isArray())
+                    .andExpect(jsonPath("$[0].status").value("REJECTED"))
+                    .andDo(document("admin-generation/batch-reject",
+                            preprocessRequest(prettyPrint()),
+                            preprocessResponse(prettyPrint()),
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer 액세스 토큰 (ADMIN 권한 필요)")
+                            ),
+                            requestFields(
+                                    fieldWithPath("ids").type(JsonFieldType.ARRAY).description("거부할 카드 ID 목록")
+                            )
+                    ));
+        }
+
+        @Test
+        @DisplayName("일반 사용자가 요청하면 403을 반환한다")
+        void batchReject_user_returns403() throws Exception {
+            ApprovalRequest request = new ApprovalRequest(List.of(generatedCard.getId()));
+
+            mockMvc.perform(post("/api/admin/generation/cards/batch-reject")
+                            .header("Authorization", "Bearer " + userAccessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/admin/generation/claim")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("관리자가 대기 중인 카드를 검토용으로 점유한다")
+        void claim_admin_success() throws Exception {
+            mockMvc.perform(post("/api/admin/generation/claim")
+                            .header("Authorization", "Bearer " + adminAccessToken)
+                            .param("n", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cards[0].id").value(generatedCard.getId()))
+                    .andExpect(jsonPath("$.leaseExpiresAt").exists())
+                    .andDo(document("admin-generation/claim",
+                            preprocessRequest(prettyPrint()),
+                            preprocessResponse(prettyPrint()),
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer 액세스 토큰 (ADMIN 권한 필요)")
+                            ),
+                            queryParameters(
+                                    parameterWithName("n").description("점유할 카드 수 (1~100, 기본값: 20)")
+                            ),
+                            relaxedResponseFields(
+                                    fieldWithPath("cards").type(JsonFieldType.ARRAY).description("점유한 카드 목록"),
+                                    fieldWithPath("cards[].id").type(JsonFieldType.NUMBER).description("생성 카드 ID"),
+                                    fieldWithPath("cards[].status").type(JsonFieldType.STRING).description("상태"),
+                                    fieldWithPath("leaseExpiresAt").type(JsonFieldType.STRING).description("점유 만료 시각")
+                            )
+                    ));
+        }
+
+        @Test
+        @DisplayName("점유한 카드를 일괄 승인한다")
+        void approveClaimed_admin_success() throws Exception {
+            mockMvc.perform(post("/api/admin/generation/claim")
+                            .header("Authorization", "Bearer " + adminAccessToken)
+                            .param("n", "10"))
+                    .andExpect(status().isOk());
+
+            ApprovalRequest request = new ApprovalRequest(List.of(generatedCard.getId()));
+
+            mockMvc.perform(post("/api/admin/generation/claim/approve")
+                            .header("Authorization", "Bearer " + adminAccessToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                    .andDo(document("admin-generation/claim-approve",
+                            preprocessRequest(prettyPrint()),
+                            preprocessResponse(prettyPrint()),
+                            requestHeaders(
+                                    headerWithName("Authorization").description("Bearer 액세스 토큰 (ADMIN 권한 필요)")
+                            ),
+                            requestFields(
+                                    fieldWithPath("ids").type(JsonFieldType.ARRAY).description("승인할 점유 카드 ID 목록")
+                            )
+                    ));
+        }
+
+        @Test
+        @DisplayName("점유 수가 범위를 벗어나면 400을 반환한다")
+        void claim_invalidCount_returns400() throws Exception {
+            mockMvc.perform(post("/api/admin/generation/claim")
+                            .header("Authorization", "Bearer " + adminAccessToken)
+                            .param("n", "101"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("일반 사용자가 요청하면 403을 반환한다")
+        void claim_user_returns403() throws Exception {
+            mockMvc.perform(post("/api/admin/generation/claim")
+                            .header("Authorization", "Bearer " + userAccessToken))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/admin/generation/migrate")
     class MigrateTest {
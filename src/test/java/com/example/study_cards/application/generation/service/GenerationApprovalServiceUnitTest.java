@@ -1,32 +1,41 @@
 package com.example.study_cards.application.generation.service;
 
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
 import com.example.study_cards.application.generation.dto.request.ApprovalRequest;
 import com.example.study_cards.application.generation.dto.response.GeneratedCardResponse;
+import com.example.study_cards.application.generation.dto.response.GenerationClaimResponse;
 import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.example.study_cards.domain.generation.service.GeneratedCardDomainService;
 import com.example.study_cards.support.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +47,15 @@ class GenerationApprovalServiceUnitTest extends BaseUnitTest {
     @Mock
     private CardDomainService cardDomainService;
 
+    @Mock
+    private CardDuplicateDetector cardDuplicateDetector;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private GenerationApprovalService approvalService;
 
@@ -50,6 +68,8 @@ class GenerationApprovalServiceUnitTest extends BaseUnitTest {
     void setUp() {
         testCategory = createTestCategory();
         testGeneratedCard = createTestGeneratedCard();
+        ReflectionTestUtils.setField(approvalService, "duplicateThreshold", 0.8);
+        ReflectionTestUtils.setField(approvalService, "claimLeaseMinutes", 15L);
     }
 
     private Category createTestCategory() {
@@ -212,7 +232,7 @@ class GenerationApprovalServiceUnitTest extends BaseUnitTest {
     class BatchApproveTest {
 
         @Test
-        @DisplayName("여러 카드를 일괄 승인한다")
+        @DisplayName("여러 카드를 한 번에 승인하고 승인된 카드를 반환한다")
         void batchApprove_approvesMultipleCards() {
             // given
             ApprovalRequest request = new ApprovalRequest(List.of(1L, 2L, 3L));
@@ -222,23 +242,81 @@ class GenerationApprovalServiceUnitTest extends BaseUnitTest {
             GeneratedCard card2 = createTestGeneratedCard();
             ReflectionTestUtils.setField(card2, "id", 2L);
             card2.approve();
-            GeneratedCard card3 = createTestGeneratedCard();
-            ReflectionTestUtils.setField(card3, "id", 3L);
-            card3.approve();
 
-            given(generatedCardDomainService.approve(1L)).willReturn(card1);
-            given(generatedCardDomainService.approve(2L)).willReturn(card2);
-            given(generatedCardDomainService.approve(3L)).willReturn(card3);
+            given(generatedCardDomainService.approveAll(List.of(1L, 2L, 3L))).willReturn(List.of(card1, card2));
 
             // when
             List<GeneratedCardResponse> result = approvalService.batchApprove(request);
 
             // then
-            assertThat(result).hasSize(3);
+            assertThat(result).hasSize(2);
             assertThat(result).allMatch(card -> card.status() == GenerationStatus.APPROVED);
         }
     }
 
+    @Nested
+    @DisplayName("batchReject")
+    class BatchRejectTest {
+
+        @Test
+        @DisplayName("여러 카드를 한 번에 거부하고 거부된 카드를 반환한다")
+        void batchReject_rejectsMultipleCards() {
+            // given
+            ApprovalRequest request = new ApprovalRequest(List.of(1L, 2L));
+
+            GeneratedCard card1 = createTestGeneratedCard();
+            card1.reject();
+            GeneratedCard card2 = createTestGeneratedCard();
+            ReflectionTestUtils.setField(card2, "id", 2L);
+            card2.reject();
+
+            given(generatedCardDomainService.rejectAll(List.of(1L, 2L))).willReturn(List.of(card1, card2));
+
+            // when
+            List<GeneratedCardResponse> result = approvalService.batchReject(request);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result).allMatch(card -> card.status() == GenerationStatus.REJECTED);
+        }
+    }
+
+    @Nested
+    @DisplayName("claim")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("대기 카드를 점유 만료 시각과 함께 반환한다")
+        void claim_returnsClaimedCardsWithLease() {
+            // given
+            given(generatedCardDomainService.claimPending(eq(10L), eq(20), any(LocalDateTime.class)))
+                    .willReturn(List.of(testGeneratedCard));
+
+            // when
+            GenerationClaimResponse result = approvalService.claim(10L, 20);
+
+            // then
+            assertThat(result.cards()).extracting(GeneratedCardResponse::id).containsExactly(CARD_ID);
+            assertThat(result.leaseExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(14));
+        }
+
+        @Test
+        @DisplayName("점유한 카드만 일괄 승인한다")
+        void approveClaimed_approvesOwnClaims() {
+            // given
+            ApprovalRequest request = new ApprovalRequest(List.of(CARD_ID));
+            testGeneratedCard.approve();
+            given(generatedCardDomainService.approveClaimed(10L, List.of(CARD_ID))).willReturn(List.of(testGeneratedCard));
+
+            // when
+            List<GeneratedCardResponse> result = approvalService.approveClaimed(10L, request);
+
+            // then
+            assertThat(result).singleElement()
+                    .satisfies(card -> assertThat(card.status()).isEqualTo(GenerationStatus.APPROVED));
+        }
+    }
+
     @Nested
     @DisplayName("migrateApprovedToCards")
     class MigrateApprovedToCardsTest {
@@ -249,40 +327,102 @@ class GenerationApprovalServiceUnitTest extends BaseUnitTest {
             // given
             GeneratedCard approvedCard = createTestGeneratedCard();
             approvedCard.approve();
-            Page<GeneratedCard> pageWithData = new PageImpl<>(List.of(approvedCard), PageRequest.of(0, 100), 1);
-            Page<GeneratedCard> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 100), 0);
-            given(generatedCardDomainService.findApprovedCards(any(Pageable.class)))
-                    .willReturn(pageWithData)
-                    .willReturn(emptyPage);
+            given(generatedCardDomainService.findApprovedCardsAfterIdForUpdate(null, 500))
+                    .willReturn(List.of(approvedCard));
+            given(cardDomainService.createFromGeneratedCards(List.of(CARD_ID))).willReturn(1);
+
+            // when
+            int result = approvalService.migrateApprovedToCards();
+
+            // then
+            assertThat(result).isEqualTo(1);
+            verify(generatedCardDomainService).markAsMigrated(List.of(CARD_ID));
+            verify(generatedCardDomainService).rejectAsDuplicate(List.<Long>of());
+            assertThat(meterRegistry.get("generation.migration.cards").tag("result", "migrated").counter().count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("청크가 가득 차면 마지막 id 이후로 다음 청크를 조회한다")
+        void migrateApprovedToCards_readsNextChunk() {
+            // given
+            List<GeneratedCard> firstChunk = new ArrayList<>();
+            for (long id = 1; id <= 500; id++) {
+                GeneratedCard card = GeneratedCard.builder()
+                        .model("gpt-5-mini")
+                        .sourceWord("word" + id)
+                        .prompt("Test prompt")
+                        .question("Question " + id)
+                        .answer("A")
+                        .category(testCategory)
+                        .build();
+                ReflectionTestUtils.setField(card, "id", id);
+                card.approve();
+                firstChunk.add(card);
+            }
+            given(generatedCardDomainService.findApprovedCardsAfterIdForUpdate(null, 500)).willReturn(firstChunk);
+            given(generatedCardDomainService.findApprovedCardsAfterIdForUpdate(500L, 500)).willReturn(List.of());
+            given(cardDomainService.createFromGeneratedCards(anyList()))
+                    .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+            // when
+            int result = approvalService.migrateApprovedToCards();
+
+            // then
+            assertThat(result).isPositive();
+            verify(generatedCardDomainService).findApprovedCardsAfterIdForUpdate(500L, 500);
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("공용 카드나 먼저 이동한 카드와 중복된 문제는 이동하지 않고 거부 처리한다")
+        void migrateApprovedToCards_skipsDuplicates() {
+            // given
+            GeneratedCard approvedCard = createTestGeneratedCard();
+            approvedCard.approve();
+            GeneratedCard sameQuestionCard = createTestGeneratedCard();
+            ReflectionTestUtils.setField(sameQuestionCard, "id", 2L);
+            sameQuestionCard.approve();
+            GeneratedCard catalogDuplicateCard = GeneratedCard.builder()
+                    .model("gpt-5-mini")
+                    .sourceWord("scarce")
+                    .prompt("Test prompt")
+                    .question("Water is _____ here.")
+                    .answer("A")
+                    .category(testCategory)
+                    .build();
+            ReflectionTestUtils.setField(catalogDuplicateCard, "id", 3L);
+            catalogDuplicateCard.approve();
+
+            given(generatedCardDomainService.findApprovedCardsAfterIdForUpdate(null, 500))
+                    .willReturn(List.of(approvedCard, sameQuestionCard, catalogDuplicateCard));
+            given(cardDuplicateDetector.isCatalogDuplicate(anyString()))
+                    .willAnswer(invocation -> "Water is _____ here.".equals(invocation.getArgument(0)));
+            given(cardDomainService.createFromGeneratedCards(List.of(CARD_ID))).willReturn(1);
 
             // when
             int result = approvalService.migrateApprovedToCards();
 
             // then
             assertThat(result).isEqualTo(1);
-            verify(cardDomainService).createCard(
-                    eq("The company has _____ resources."),
-                    eq("(A) abundant (B) abundance (C) abundantly (D) abound"),
-                    eq("A"),
-                    eq("형용사 자리이므로 abundant가 정답입니다."),
-                    eq(testCategory),
-                    eq(true)
-            );
-            verify(generatedCardDomainService).markAsMigrated(approvedCard);
+            verify(generatedCardDomainService).markAsMigrated(List.of(CARD_ID));
+            verify(generatedCardDomainService).rejectAsDuplicate(List.of(2L, 3L));
+            assertThat(meterRegistry.get("generation.migration.cards").tag("result", "duplicate").counter().count())
+                    .isEqualTo(2.0);
         }
 
         @Test
         @DisplayName("승인된 카드가 없으면 0을 반환한다")
         void migrateApprovedToCards_withNoCards_returnsZero() {
             // given
-            Page<GeneratedCard> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 100), 0);
-            given(generatedCardDomainService.findApprovedCards(any(Pageable.class))).willReturn(emptyPage);
+            given(generatedCardDomainService.findApprovedCardsAfterIdForUpdate(null, 500)).willReturn(List.of());
 
             // when
             int result = approvalService.migrateApprovedToCards();
 
             // then
             assertThat(result).isEqualTo(0);
+            verify(cardDomainService, never()).createFromGeneratedCards(anyList());
         }
     }
 }
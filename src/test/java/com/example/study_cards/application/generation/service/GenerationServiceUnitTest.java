@@ -1,5 +1,6 @@
 package com.example.study_cards.application.generation.service;
 
+import com.example.study_cards.application.card.service.CardDuplicateDetector;
 import com.example.study_cards.application.generation.dto.request.GenerationRequest;
 import com.example.study_cards.application.generation.dto.response.GenerationResultResponse;
 import com.example.study_cards.application.generation.dto.response.GenerationStatsResponse;
@@ -8,11 +9,13 @@ import com.example.study_cards.domain.card.service.CardDomainService;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.category.service.CategoryDomainService;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
+import com.example.study_cards.domain.generation.entity.GenerationStatCounter;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
 import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
 import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.generation.service.GeneratedCardDomainService;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
+import com.example.study_cards.infra.redis.service.GenerationStatsCacheService;
 import com.example.study_cards.support.BaseUnitTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,16 +27,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class GenerationServiceUnitTest extends BaseUnitTest {
@@ -53,6 +62,15 @@ class GenerationServiceUnitTest extends BaseUnitTest {
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CardDuplicateDetector cardDuplicateDetector;
+
+    @Mock
+    private GenerationStatsCacheService generationStatsCacheService;
+
     @InjectMocks
     private GenerationService generationService;
 
@@ -74,6 +92,8 @@ class GenerationServiceUnitTest extends BaseUnitTest {
         toeicCategory = createCategory("TOEIC", "토익", 1L);
         jlptCategory = createCategory("JN_N3", "JLPT N3", 2L);
         testCard = createTestCard();
+        ReflectionTestUtils.setField(generationService, "generationExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(generationService, "duplicateThreshold", 0.8);
     }
 
     private Category createCategory(String code, String name, Long id) {
@@ -87,15 +107,19 @@ class GenerationServiceUnitTest extends BaseUnitTest {
     }
 
     private Card createTestCard() {
+        return createCard(1L, "abundant", "풍부한");
+    }
+
+    private Card createCard(Long id, String word, String meaning) {
         Card card = Card.builder()
-                .question("abundant")
-                .questionSub("풍부한")
-                .answer("abundant")
-                .answerSub("형용사, 많은, 풍부한")
+                .question(word)
+                .questionSub(meaning)
+                .answer(word)
+                .answerSub("형용사, " + meaning)
                 .efFactor(2.5)
                 .category(toeicCategory)
                 .build();
-        ReflectionTestUtils.setField(card, "id", 1L);
+        ReflectionTestUtils.setField(card, "id", id);
         return card;
     }
 
@@ -112,7 +136,7 @@ class GenerationServiceUnitTest extends BaseUnitTest {
             given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
             given(cardDomainService.findByCategory(toeicCategory)).willReturn(List.of(testCard));
             given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
-            given(aiGenerationService.generateContent(anyString())).willReturn(STUB_RESPONSE);
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(STUB_RESPONSE);
 
             GeneratedCard savedCard = GeneratedCard.builder()
                     .model("gpt-5-mini")
@@ -166,7 +190,7 @@ class GenerationServiceUnitTest extends BaseUnitTest {
             given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
             given(cardDomainService.findByCategory(toeicCategory)).willReturn(List.of(testCard));
             given(aiGenerationService.getDefaultModel()).willReturn("gemini-2.0-flash");
-            given(aiGenerationService.generateContent(anyString())).willReturn(STUB_RESPONSE);
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(STUB_RESPONSE);
 
             GeneratedCard savedCard = GeneratedCard.builder()
                     .model("gemini-2.0-flash")
@@ -198,7 +222,7 @@ class GenerationServiceUnitTest extends BaseUnitTest {
             given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
             given(cardDomainService.findByIdsInCategory(List.of(1L), toeicCategory)).willReturn(List.of(testCard));
             given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
-            given(aiGenerationService.generateContent(anyString())).willReturn(STUB_RESPONSE);
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(STUB_RESPONSE);
 
             GeneratedCard savedCard = GeneratedCard.builder()
                     .model("gpt-5-mini")
@@ -240,6 +264,201 @@ class GenerationServiceUnitTest extends BaseUnitTest {
                                 .isEqualTo(GenerationErrorCode.INVALID_SOURCE_CARD_SELECTION);
                     });
         }
+
+        @Test
+        @DisplayName("일부 카드 생성이 실패해도 성공한 카드만 저장하고 실패 내역을 함께 반환한다")
+        void generateCards_withPartialFailure_savesSuccessfulCards() {
+            // given
+            Card scarceCard = createCard(2L, "scarce", "부족한");
+            GenerationRequest request = new GenerationRequest("TOEIC", 2, List.of(1L, 2L));
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L, 2L), toeicCategory))
+                    .willReturn(List.of(testCard, scarceCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(contains("abundant"), any())).willReturn(STUB_RESPONSE);
+            given(aiGenerationService.generateContent(contains("scarce"), any()))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED));
+            given(generatedCardDomainService.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            GenerationResultResponse result = generationService.generateCards(request);
+
+            // then
+            ArgumentCaptor<List<GeneratedCard>> captor = ArgumentCaptor.forClass(List.class);
+            verify(generatedCardDomainService).saveAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(1);
+            assertThat(captor.getValue().get(0).getSourceWord()).isEqualTo("abundant");
+
+            assertThat(result.totalGenerated()).isEqualTo(1);
+            assertThat(result.totalFailed()).isEqualTo(1);
+            assertThat(result.failures().get(0).sourceCardId()).isEqualTo(2L);
+            assertThat(result.failures().get(0).reason())
+                    .isEqualTo(GenerationErrorCode.AI_GENERATION_FAILED.getMessage());
+        }
+
+        @Test
+        @DisplayName("같은 요청에서 거의 같은 문제가 생성되면 하나만 저장하고 나머지는 중복 실패로 반환한다")
+        void generateCards_withDuplicateQuestions_savesOnlyFirst() {
+            // given
+            Card scarceCard = createCard(2L, "scarce", "부족한");
+            GenerationRequest request = new GenerationRequest("TOEIC", 2, List.of(1L, 2L));
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L, 2L), toeicCategory))
+                    .willReturn(List.of(testCard, scarceCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(STUB_RESPONSE);
+            given(generatedCardDomainService.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            GenerationResultResponse result = generationService.generateCards(request);
+
+            // then
+            assertThat(result.totalGenerated()).isEqualTo(1);
+            assertThat(result.failures()).singleElement()
+                    .satisfies(failure -> assertThat(failure.reason())
+                            .isEqualTo(GenerationErrorCode.DUPLICATE_CARD.getMessage()));
+        }
+
+        @Test
+        @DisplayName("공용 카드와 중복된 문제만 생성되면 저장하지 않고 예외를 발생시킨다")
+        void generateCards_withCatalogDuplicate_throwsException() {
+            // given
+            GenerationRequest request = new GenerationRequest("TOEIC", 1, List.of(1L));
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L), toeicCategory)).willReturn(List.of(testCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(STUB_RESPONSE);
+            given(cardDuplicateDetector.isCatalogDuplicate("The company has _____ resources.")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> generationService.generateCards(request))
+                    .isInstanceOf(GenerationException.class)
+                    .satisfies(exception -> assertThat(((GenerationException) exception).getErrorCode())
+                            .isEqualTo(GenerationErrorCode.DUPLICATE_CARD));
+            verify(generatedCardDomainService, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("모든 카드 생성이 실패하면 저장하지 않고 예외를 발생시킨다")
+        void generateCards_withAllFailures_throwsException() {
+            // given
+            GenerationRequest request = new GenerationRequest("TOEIC", 1, List.of(1L));
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L), toeicCategory)).willReturn(List.of(testCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn("not a json");
+
+            // when & then
+            assertThatThrownBy(() -> generationService.generateCards(request))
+                    .isInstanceOf(GenerationException.class)
+                    .satisfies(exception -> {
+                        GenerationException generationException = (GenerationException) exception;
+                        assertThat(generationException.getErrorCode())
+                                .isEqualTo(GenerationErrorCode.INVALID_AI_RESPONSE);
+                    });
+            verify(generatedCardDomainService, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("generateCards - 배치 프롬프트")
+    class GenerateCardsBatchTest {
+
+        private Card scarceCard;
+
+        @BeforeEach
+        void setUp() {
+            scarceCard = createCard(2L, "scarce", "부족한");
+            ReflectionTestUtils.setField(generationService, "batchSize", 5);
+        }
+
+        @Test
+        @DisplayName("여러 원본 카드를 한 번의 AI 호출로 생성하고 sourceId로 매핑한다")
+        void generateCards_withBatch_callsAiOnce() {
+            // given
+            GenerationRequest request = new GenerationRequest("TOEIC", 2, List.of(1L, 2L));
+            String batchResponse = """
+                    [
+                      {"sourceId": 2, "question": "Water is _____ here.", "options": ["scarce", "scarcity", "scarcely", "scare"], "answer": "A", "explanation": "형용사"},
+                      {"sourceId": 1, "question": "The company has _____ resources.", "options": ["abundant", "abundance", "abundantly", "abound"], "answer": "A", "explanation": "형용사"}
+                    ]
+                    """;
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L, 2L), toeicCategory))
+                    .willReturn(List.of(testCard, scarceCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(batchResponse);
+            given(generatedCardDomainService.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            GenerationResultResponse result = generationService.generateCards(request);
+
+            // then
+            verify(aiGenerationService, times(1)).generateContent(anyString(), any());
+            assertThat(result.totalGenerated()).isEqualTo(2);
+            assertThat(result.generatedCards())
+                    .extracting(card -> card.sourceWord() + ":" + card.question())
+                    .containsExactly(
+                            "abundant:The company has _____ resources.",
+                            "scarce:Water is _____ here.");
+        }
+
+        @Test
+        @DisplayName("배치 응답에서 누락된 항목은 단건 프롬프트로 다시 생성한다")
+        void generateCards_withMissingBatchItem_fallsBackToSinglePrompt() {
+            // given
+            GenerationRequest request = new GenerationRequest("TOEIC", 2, List.of(1L, 2L));
+            String partialBatchResponse = """
+                    [
+                      {"sourceId": 1, "question": "The company has _____ resources.", "options": ["abundant", "abundance", "abundantly", "abound"], "answer": "A", "explanation": "형용사"},
+                      {"sourceId": 2, "question": "누락된 answer"}
+                    ]
+                    """;
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L, 2L), toeicCategory))
+                    .willReturn(List.of(testCard, scarceCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            String scarceResponse = """
+                    {"question": "Water is _____ here.", "options": ["scarce", "scarcity", "scarcely", "scare"], "answer": "A", "explanation": "형용사"}
+                    """;
+            given(aiGenerationService.generateContent(anyString(), any())).willReturn(partialBatchResponse, scarceResponse);
+            given(generatedCardDomainService.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            GenerationResultResponse result = generationService.generateCards(request);
+
+            // then
+            verify(aiGenerationService, times(2)).generateContent(anyString(), any());
+            assertThat(result.totalGenerated()).isEqualTo(2);
+            assertThat(result.totalFailed()).isZero();
+            assertThat(result.generatedCards().get(1).sourceWord()).isEqualTo("scarce");
+        }
+
+        @Test
+        @DisplayName("배치 호출 자체가 실패하면 해당 배치의 카드를 모두 실패로 반환한다")
+        void generateCards_withBatchCallFailure_marksAllFailed() {
+            // given
+            GenerationRequest request = new GenerationRequest("TOEIC", 2, List.of(1L, 2L));
+
+            given(categoryDomainService.findByCode("TOEIC")).willReturn(toeicCategory);
+            given(cardDomainService.findByIdsInCategory(List.of(1L, 2L), toeicCategory))
+                    .willReturn(List.of(testCard, scarceCard));
+            given(aiGenerationService.getDefaultModel()).willReturn("gpt-5-mini");
+            given(aiGenerationService.generateContent(anyString(), any()))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED));
+
+            // when & then
+            assertThatThrownBy(() -> generationService.generateCards(request))
+                    .isInstanceOf(GenerationException.class);
+            verify(aiGenerationService, times(1)).generateContent(anyString(), any());
+            verify(generatedCardDomainService, never()).saveAll(any());
+        }
     }
 
     @Nested
@@ -247,21 +466,44 @@ class GenerationServiceUnitTest extends BaseUnitTest {
     class GetStatsTest {
 
         @Test
-        @DisplayName("생성 통계를 조회한다")
-        void getStats_returnsStatistics() {
+        @DisplayName("카운터 테이블에서 생성 통계를 조회하고 캐시에 저장한다")
+        void getStats_fromCounters_returnsStatistics() {
+            // given
+            given(generationStatsCacheService.find()).willReturn(Optional.empty());
+            given(generationStatsCacheService.isSeeded()).willReturn(true);
+            given(generatedCardDomainService.findStatCounters()).willReturn(List.of(
+                    counter("gpt-5-mini", GenerationStatus.PENDING, 5L),
+                    counter("gpt-5-mini", GenerationStatus.APPROVED, 10L),
+                    counter("gpt-5-mini", GenerationStatus.REJECTED, 2L),
+                    counter("gemini-2.5-flash", GenerationStatus.MIGRATED, 3L)
+            ));
+
+            // when
+            GenerationStatsResponse result = generationService.getStats();
+
+            // then
+            assertThat(result.overall().totalGenerated()).isEqualTo(20L);
+            assertThat(result.overall().approved()).isEqualTo(10L);
+            assertThat(result.overall().rejected()).isEqualTo(2L);
+            assertThat(result.overall().pending()).isEqualTo(5L);
+            assertThat(result.overall().migrated()).isEqualTo(3L);
+            assertThat(result.byModel()).extracting("model").containsExactly("gemini-2.5-flash", "gpt-5-mini");
+            verify(generatedCardDomainService, never()).countByModelGroupByStatus();
+            verify(generationStatsCacheService).store(any());
+        }
+
+        @Test
+        @DisplayName("카운터가 한 번도 재집계되지 않았으면 모델/상태별 집계 쿼리 한 번으로 통계를 만든다")
+        void getStats_notSeeded_usesGroupedQuery() {
             // given
             List<Object[]> rawStats = List.of(
                     new Object[]{"gpt-5-mini", GenerationStatus.PENDING, 5L},
                     new Object[]{"gpt-5-mini", GenerationStatus.APPROVED, 10L},
                     new Object[]{"gpt-5-mini", GenerationStatus.REJECTED, 2L}
             );
-
+            given(generationStatsCacheService.find()).willReturn(Optional.empty());
+            given(generationStatsCacheService.isSeeded()).willReturn(false);
             given(generatedCardDomainService.countByModelGroupByStatus()).willReturn(rawStats);
-            given(generatedCardDomainService.count()).willReturn(17L);
-            given(generatedCardDomainService.countByStatus(GenerationStatus.APPROVED)).willReturn(10L);
-            given(generatedCardDomainService.countByStatus(GenerationStatus.REJECTED)).willReturn(2L);
-            given(generatedCardDomainService.countByStatus(GenerationStatus.PENDING)).willReturn(5L);
-            given(generatedCardDomainService.countByStatus(GenerationStatus.MIGRATED)).willReturn(0L);
 
             // when
             GenerationStatsResponse result = generationService.getStats();
@@ -269,10 +511,36 @@ class GenerationServiceUnitTest extends BaseUnitTest {
             // then
             assertThat(result.overall().totalGenerated()).isEqualTo(17L);
             assertThat(result.overall().approved()).isEqualTo(10L);
-            assertThat(result.overall().rejected()).isEqualTo(2L);
-            assertThat(result.overall().pending()).isEqualTo(5L);
+            assertThat(result.overall().approvalRate()).isEqualTo(83.3);
             assertThat(result.byModel()).hasSize(1);
             assertThat(result.byModel().get(0).model()).isEqualTo("gpt-5-mini");
+            verify(generatedCardDomainService, never()).findStatCounters();
+            verify(generatedCardDomainService, never()).count();
+            verify(generatedCardDomainService, never()).countByStatus(any());
+        }
+
+        @Test
+        @DisplayName("캐시된 통계가 있으면 DB를 조회하지 않는다")
+        void getStats_withCache_skipsDatabase() {
+            // given
+            given(generationStatsCacheService.find()).willReturn(Optional.of(
+                    Map.of("gpt-5-mini", Map.of(GenerationStatus.PENDING, 4L))));
+
+            // when
+            GenerationStatsResponse result = generationService.getStats();
+
+            // then
+            assertThat(result.overall().totalGenerated()).isEqualTo(4L);
+            assertThat(result.overall().approvalRate()).isZero();
+            verify(generatedCardDomainService, never()).findStatCounters();
+        }
+
+        private GenerationStatCounter counter(String model, GenerationStatus status, long count) {
+            return GenerationStatCounter.builder()
+                    .model(model)
+                    .status(status)
+                    .count(count)
+                    .build();
         }
     }
 }
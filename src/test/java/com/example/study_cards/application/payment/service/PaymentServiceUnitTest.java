@@ -241,7 +241,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
                     .willReturn(testSubscription);
 
             // when
-            SubscriptionResponse result = paymentService.confirmPayment(testUser, request);
+            SubscriptionResponse result = paymentService.confirmPayment(testUser.getId(), request);
 
             // then
             assertThat(result.plan()).isEqualTo(SubscriptionPlan.PRO);
@@ -268,7 +268,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(testPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment(anotherUser, request))
+            assertThatThrownBy(() -> paymentService.confirmPayment(anotherUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_NOT_FOUND);
@@ -298,7 +298,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(yearlyPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment(testUser, request))
+            assertThatThrownBy(() -> paymentService.confirmPayment(testUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_AMOUNT_MISMATCH);
@@ -329,7 +329,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.findActiveByUserId(USER_ID)).willReturn(Optional.of(testSubscription));
 
             // when
-            SubscriptionResponse result = paymentService.confirmPayment(testUser, request);
+            SubscriptionResponse result = paymentService.confirmPayment(testUser.getId(), request);
 
             // then
             assertThat(result.plan()).isEqualTo(SubscriptionPlan.PRO);
@@ -348,7 +348,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
                     .sample();
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment(testUser, request))
+            assertThatThrownBy(() -> paymentService.confirmPayment(testUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_NOT_SUPPORTED_FOR_CYCLE);
@@ -385,7 +385,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
                     .willReturn(testSubscription);
 
             // when
-            SubscriptionResponse result = paymentService.confirmBilling(testUser, request);
+            SubscriptionResponse result = paymentService.confirmBilling(testUser.getId(), request);
 
             // then
             assertThat(result.plan()).isEqualTo(SubscriptionPlan.PRO);
@@ -412,7 +412,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(testPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmBilling(anotherUser, request))
+            assertThatThrownBy(() -> paymentService.confirmBilling(anotherUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_NOT_FOUND);
@@ -430,7 +430,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(testPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmBilling(testUser, request))
+            assertThatThrownBy(() -> paymentService.confirmBilling(testUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_CUSTOMER_KEY_MISMATCH);
@@ -463,7 +463,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.findActiveByUserId(USER_ID)).willReturn(Optional.of(testSubscription));
 
             // when
-            SubscriptionResponse result = paymentService.confirmBilling(testUser, request);
+            SubscriptionResponse result = paymentService.confirmBilling(testUser.getId(), request);
 
             // then
             assertThat(result.plan()).isEqualTo(SubscriptionPlan.PRO);
@@ -494,7 +494,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(canceledPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmBilling(testUser, request))
+            assertThatThrownBy(() -> paymentService.confirmBilling(testUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.PAYMENT_ALREADY_PROCESSED);
@@ -524,7 +524,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.getPaymentByOrderIdForUpdate(ORDER_ID)).willReturn(yearlyPayment);
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmBilling(testUser, request))
+            assertThatThrownBy(() -> paymentService.confirmBilling(testUser.getId(), request))
                     .isInstanceOf(PaymentException.class)
                     .extracting(e -> ((PaymentException) e).getErrorCode())
                     .isEqualTo(PaymentErrorCode.BILLING_NOT_SUPPORTED_FOR_CYCLE);
@@ -557,7 +557,7 @@ class PaymentServiceUnitTest extends BaseUnitTest {
             given(paymentDomainService.findCompletedByUserId(USER_ID, pageable)).willReturn(paymentPage);
 
             // when
-            Page<PaymentHistoryResponse> result = paymentService.getPaymentHistory(testUser, pageable);
+            Page<PaymentHistoryResponse> result = paymentService.getPaymentHistory(testUser.getId(), pageable);
 
             // then
             assertThat(result.getContent()).hasSize(1);
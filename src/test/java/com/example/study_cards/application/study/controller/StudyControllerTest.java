@@ -9,6 +9,7 @@ import com.example.study_cards.application.study.dto.request.StudyAnswerRequest;
 import com.example.study_cards.domain.ai.entity.AiGenerationLog;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
 import com.example.study_cards.domain.ai.repository.AiGenerationLogRepository;
+import com.example.study_cards.domain.ai.service.AiGenerationLogDomainService;
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.repository.CardRepository;
 import com.example.study_cards.domain.category.entity.Category;
@@ -19,6 +20,7 @@ import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.user.repository.UserRepository;
 import com.example.study_cards.support.BaseIntegrationTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -69,6 +71,12 @@ class StudyControllerTest extends BaseIntegrationTest {
     @Autowired
     private AiGenerationLogRepository aiGenerationLogRepository;
 
+    @Autowired
+    private AiGenerationLogDomainService aiGenerationLogDomainService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private String accessToken;
     private User user;
     private Category category;
@@ -471,7 +479,7 @@ class StudyControllerTest extends BaseIntegrationTest {
         @DisplayName("AI 추천 내역을 조회한다")
         void getAiRecommendationHistory_success() throws Exception {
             // given
-            aiGenerationLogRepository.save(AiGenerationLog.builder()
+            aiGenerationLogDomainService.save(AiGenerationLog.builder()
                     .user(user)
                     .type(AiGenerationType.RECOMMENDATION)
                     .prompt("추천 프롬프트")
@@ -481,7 +489,7 @@ class StudyControllerTest extends BaseIntegrationTest {
                     .success(true)
                     .build());
 
-            aiGenerationLogRepository.save(AiGenerationLog.builder()
+            aiGenerationLogDomainService.save(AiGenerationLog.builder()
                     .user(user)
                     .type(AiGenerationType.WEAKNESS_ANALYSIS)
                     .prompt("분석 프롬프트")
@@ -490,6 +498,9 @@ class StudyControllerTest extends BaseIntegrationTest {
                     .success(false)
                     .errorMessage("파싱 실패")
                     .build());
+            // 원문이 영속성 컨텍스트가 아닌 별도 조회로 채워지는지 확인
+            entityManager.flush();
+            entityManager.clear();
 
             // when & then
             mockMvc.perform(get("/api/study/recommendations/ai/history")
@@ -498,7 +509,9 @@ class StudyControllerTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$.content").isArray())
                     .andExpect(jsonPath("$.content.length()").value(2))
                     .andExpect(jsonPath("$.content[0].type").exists())
-                    .andExpect(jsonPath("$.content[0].success").exists());
+                    .andExpect(jsonPath("$.content[0].success").exists())
+                    .andExpect(jsonPath("$.content[?(@.type == 'RECOMMENDATION')].prompt").value("추천 프롬프트"))
+                    .andExpect(jsonPath("$.content[?(@.type == 'WEAKNESS_ANALYSIS')].prompt").value("분석 프롬프트"));
         }
 
         @Test
@@ -18,8 +18,11 @@ import com.example.study_cards.domain.subscription.entity.SubscriptionStatus;
 import com.example.study_cards.domain.subscription.service.SubscriptionDomainService;
 import com.example.study_cards.domain.user.entity.Role;
 import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
 import com.example.study_cards.infra.ai.service.AiGenerationService;
+import com.example.study_cards.infra.redis.service.AiRecommendationCacheService;
 import com.example.study_cards.infra.redis.service.AiReviewQuotaService;
+import com.example.study_cards.infra.redis.vo.AiRecommendationVo;
 import com.example.study_cards.support.BaseUnitTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,12 +37,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -56,6 +62,8 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
     private AiGenerationService aiGenerationService;
     @Mock
     private AiGenerationLogDomainService aiGenerationLogDomainService;
+    @Mock
+    private AiRecommendationCacheService aiRecommendationCacheService;
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
 
@@ -66,6 +74,7 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
     void setUp() {
         ReflectionTestUtils.setField(studyAiRecommendationService, "minStudiedCards", 1);
         ReflectionTestUtils.setField(studyAiRecommendationService, "minRecommendationCards", 1);
+        ReflectionTestUtils.setField(studyAiRecommendationService, "accuracyBucketSize", 10);
     }
 
     @Nested
@@ -113,13 +122,13 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             given(aiReviewQuotaService.tryAcquireSlot(anyLong(), any())).willReturn(true);
             given(aiReviewQuotaService.getQuota(anyLong(), any()))
                     .willReturn(new AiReviewQuotaService.ReviewQuota(100, 1, 99, LocalDateTime.now().plusDays(20)));
-            given(aiGenerationService.generateContent(any()))
-                    .willReturn("""
+            given(aiGenerationService.generate(any(), any()))
+                    .willReturn(new AiCompletion("""
                             {
                               "weakConcepts":[{"concept":"운영체제","reason":"정답률이 낮습니다."}],
                               "reviewStrategy":"운영체제 개념을 10분 복습한 뒤 추천 카드를 풀어보세요."
                             }
-                            """);
+                            """, false, "gemini-2.0-flash"));
             // when
             AiRecommendationResponse response = studyAiRecommendationService.getAiRecommendations(user, 20);
 
@@ -130,6 +139,50 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             assertThat(response.recommendations()).hasSize(1);
             assertThat(response.weakConcepts()).isNotEmpty();
             assertThat(response.reviewStrategy()).isNotBlank();
+            verify(aiRecommendationCacheService).store(eq(user.getId()), anyString(), anyString(), eq("gemini-2.0-flash"));
+        }
+
+        @Test
+        @DisplayName("학습 상태가 같으면 캐시된 분석 결과를 반환하고 사용량을 차감하지 않는다")
+        void getAiRecommendations_sameStudyState_returnsCachedResultWithoutQuota() {
+            // given
+            User user = createUser();
+            Subscription subscription = createSubscription(user);
+
+            Card card = createCard();
+            StudyRecord record = StudyRecord.builder()
+                    .user(user)
+                    .card(card)
+                    .isCorrect(false)
+                    .nextReviewDate(LocalDate.now())
+                    .efFactor(1.8)
+                    .build();
+
+            given(subscriptionDomainService.getEffectivePlan(user)).willReturn(SubscriptionPlan.PRO);
+            given(subscriptionDomainService.getSubscription(user.getId())).willReturn(subscription);
+            given(studyRecordDomainService.findPrioritizedDueRecords(user, 20))
+                    .willReturn(List.of(new ScoredRecord(record, 900)));
+            given(studyRecordDomainService.calculateCategoryAccuracy(user))
+                    .willReturn(List.of(new CategoryAccuracy(1L, "CS", "컴퓨터 과학", 20L, 10L, 50.0)));
+            given(studyRecordDomainService.countTotalAndCorrect(user))
+                    .willReturn(new TotalAndCorrect(20L, 10L));
+            given(aiRecommendationCacheService.find(eq(user.getId()), anyString()))
+                    .willReturn(Optional.of(new AiRecommendationVo("fingerprint", """
+                            {"weakConcepts":[{"concept":"운영체제","reason":"정답률이 낮습니다."}],"reviewStrategy":"캐시된 전략"}
+                            """, "gemini-2.0-flash")));
+            given(aiReviewQuotaService.getQuota(anyLong(), any()))
+                    .willReturn(new AiReviewQuotaService.ReviewQuota(100, 1, 99, LocalDateTime.now().plusDays(20)));
+
+            // when
+            AiRecommendationResponse response = studyAiRecommendationService.getAiRecommendations(user, 20);
+
+            // then
+            assertThat(response.aiUsed()).isTrue();
+            assertThat(response.reviewStrategy()).isEqualTo("캐시된 전략");
+            assertThat(response.quota().used()).isEqualTo(1);
+            verify(aiReviewQuotaService, never()).tryAcquireSlot(anyLong(), any());
+            verify(aiGenerationService, never()).generate(any(), any());
+            verify(aiGenerationLogDomainService).save(any());
         }
 
         @Test
@@ -193,13 +246,13 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
                     .willReturn(List.of(new CategoryAccuracy(1L, "CS", "컴퓨터 과학", 20L, 10L, 50.0)));
             given(studyRecordDomainService.countTotalAndCorrect(adminUser))
                     .willReturn(new TotalAndCorrect(20L, 10L));
-            given(aiGenerationService.generateContent(any()))
-                    .willReturn("""
+            given(aiGenerationService.generate(any(), any()))
+                    .willReturn(new AiCompletion("""
                             {
                               "weakConcepts":[{"concept":"운영체제","reason":"정답률이 낮습니다."}],
                               "reviewStrategy":"운영체제 개념을 10분 복습한 뒤 추천 카드를 풀어보세요."
                             }
-                            """);
+                            """, false, "gemini-2.0-flash"));
 
             // when
             AiRecommendationResponse response = studyAiRecommendationService.getAiRecommendations(adminUser, 20);
@@ -242,7 +295,8 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             given(aiReviewQuotaService.tryAcquireSlot(anyLong(), any())).willReturn(true);
             given(aiReviewQuotaService.getQuota(anyLong(), any()))
                     .willReturn(new AiReviewQuotaService.ReviewQuota(100, 2, 98, LocalDateTime.now().plusDays(20)));
-            given(aiGenerationService.generateContent(any())).willReturn("not-json-response");
+            given(aiGenerationService.generate(any(), any()))
+                    .willReturn(new AiCompletion("not-json-response", false, "gemini-2.0-flash"));
 
             // when
             AiRecommendationResponse response = studyAiRecommendationService.getAiRecommendations(user, 20);
@@ -282,7 +336,7 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             given(aiReviewQuotaService.tryAcquireSlot(anyLong(), any())).willReturn(true);
             given(aiReviewQuotaService.getQuota(anyLong(), any()))
                     .willReturn(new AiReviewQuotaService.ReviewQuota(100, 3, 97, LocalDateTime.now().plusDays(20)));
-            given(aiGenerationService.generateContent(any())).willThrow(new RuntimeException("AI timeout"));
+            given(aiGenerationService.generate(any(), any())).willThrow(new RuntimeException("AI timeout"));
 
             // when
             AiRecommendationResponse response = studyAiRecommendationService.getAiRecommendations(user, 20);
@@ -318,7 +372,7 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             assertThat(response.fallbackReason()).isEqualTo(AiRecommendationResponse.FallbackReason.NO_DUE_CARDS);
             assertThat(response.recommendations()).isEmpty();
             verify(aiReviewQuotaService, never()).tryAcquireSlot(anyLong(), any());
-            verify(aiGenerationService, never()).generateContent(any());
+            verify(aiGenerationService, never()).generateContent(any(), any());
             verify(aiGenerationLogDomainService).save(any());
         }
 
@@ -358,7 +412,7 @@ class StudyAiRecommendationServiceUnitTest extends BaseUnitTest {
             assertThat(response.algorithmFallback()).isFalse();
             assertThat(response.fallbackReason()).isEqualTo(AiRecommendationResponse.FallbackReason.INSUFFICIENT_STUDY_DATA);
             verify(aiReviewQuotaService, never()).tryAcquireSlot(anyLong(), any());
-            verify(aiGenerationService, never()).generateContent(any());
+            verify(aiGenerationService, never()).generateContent(any(), any());
             verify(aiGenerationLogDomainService).save(any());
         }
     }
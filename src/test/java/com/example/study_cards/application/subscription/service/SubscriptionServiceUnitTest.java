@@ -119,7 +119,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when
-            SubscriptionResponse result = subscriptionService.getMySubscription(testUser);
+            SubscriptionResponse result = subscriptionService.getMySubscription(testUser.getId());
 
             // then
             assertThat(result.plan()).isEqualTo(SubscriptionPlan.PRO);
@@ -133,7 +133,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.findActiveByUserId(USER_ID)).willReturn(Optional.empty());
 
             // when
-            SubscriptionResponse result = subscriptionService.getMySubscriptionOrNull(testUser);
+            SubscriptionResponse result = subscriptionService.getMySubscriptionOrNull(testUser.getId());
 
             // then
             assertThat(result).isNull();
@@ -162,7 +162,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(canceledSubscription);
 
             // when & then
-            assertThatThrownBy(() -> subscriptionService.cancelSubscription(testUser, null))
+            assertThatThrownBy(() -> subscriptionService.cancelSubscription(testUser.getId(), null))
                     .isInstanceOf(SubscriptionException.class)
                     .extracting(e -> ((SubscriptionException) e).getErrorCode())
                     .isEqualTo(SubscriptionErrorCode.SUBSCRIPTION_NOT_ACTIVE);
@@ -182,7 +182,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when
-            subscriptionService.resumeSubscription(testUser);
+            subscriptionService.resumeSubscription(testUser.getId());
 
             // then
             verify(subscriptionDomainService).enableAutoRenewal(testSubscription);
@@ -196,7 +196,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when & then
-            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser))
+            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser.getId()))
                     .isInstanceOf(SubscriptionException.class)
                     .extracting(e -> ((SubscriptionException) e).getErrorCode())
                     .isEqualTo(SubscriptionErrorCode.AUTO_RENEWAL_ALREADY_ENABLED);
@@ -213,7 +213,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when & then
-            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser))
+            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser.getId()))
                     .isInstanceOf(SubscriptionException.class)
                     .extracting(e -> ((SubscriptionException) e).getErrorCode())
                     .isEqualTo(SubscriptionErrorCode.AUTO_RENEWAL_CANNOT_BE_RESUMED);
@@ -238,7 +238,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
                     ));
 
             // when
-            subscriptionService.resumeSubscription(testUser, new ResumeSubscriptionRequest("auth_key_123"));
+            subscriptionService.resumeSubscription(testUser.getId(), new ResumeSubscriptionRequest("auth_key_123"));
 
             // then
             verify(subscriptionDomainService).updateBillingKey(testSubscription, "new_billing_key_123");
@@ -254,7 +254,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when & then
-            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser, new ResumeSubscriptionRequest(null)))
+            assertThatThrownBy(() -> subscriptionService.resumeSubscription(testUser.getId(), new ResumeSubscriptionRequest(null)))
                     .isInstanceOf(SubscriptionException.class)
                     .extracting(e -> ((SubscriptionException) e).getErrorCode())
                     .isEqualTo(SubscriptionErrorCode.AUTO_RENEWAL_CANNOT_BE_RESUMED);
@@ -277,7 +277,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when
-            ResumeSubscriptionPrepareResponse result = subscriptionService.prepareResumeSubscription(testUser);
+            ResumeSubscriptionPrepareResponse result = subscriptionService.prepareResumeSubscription(testUser.getId());
 
             // then
             assertThat(result.customerKey()).isEqualTo(CUSTOMER_KEY);
@@ -291,7 +291,7 @@ class SubscriptionServiceUnitTest extends BaseUnitTest {
             given(subscriptionDomainService.getSubscription(USER_ID)).willReturn(testSubscription);
 
             // when & then
-            assertThatThrownBy(() -> subscriptionService.prepareResumeSubscription(testUser))
+            assertThatThrownBy(() -> subscriptionService.prepareResumeSubscription(testUser.getId()))
                     .isInstanceOf(SubscriptionException.class)
                     .extracting(e -> ((SubscriptionException) e).getErrorCode())
                     .isEqualTo(SubscriptionErrorCode.AUTO_RENEWAL_ALREADY_ENABLED);
@@ -1,5 +1,9 @@
 package com.example.study_cards.application.usercard.service;
 
+import com.example.study_cards.application.card.dto.response.CardResponse;
+import com.example.study_cards.application.card.dto.response.CardType;
+import com.example.study_cards.application.card.dto.response.RelatedCardResponse;
+import com.example.study_cards.application.card.service.RelatedCardService;
 import com.example.study_cards.application.usercard.dto.request.UserCardCreateRequest;
 import com.example.study_cards.application.usercard.dto.request.UserCardUpdateRequest;
 import com.example.study_cards.application.usercard.dto.response.UserCardResponse;
@@ -42,6 +46,9 @@ class UserCardServiceUnitTest extends BaseUnitTest {
     @Mock
     private CategoryDomainService categoryDomainService;
 
+    @Mock
+    private RelatedCardService relatedCardService;
+
     @InjectMocks
     private UserCardService userCardService;
 
@@ -194,6 +201,26 @@ class UserCardServiceUnitTest extends BaseUnitTest {
                     eq(testUser), eq(QUESTION), eq(QUESTION_SUB), eq(ANSWER), eq(ANSWER_SUB), eq(testCategory));
             verify(categoryDomainService).validateLeafCategory(testCategory);
         }
+
+        @Test
+        @DisplayName("비슷한 공용 카드가 있으면 응답에 함께 안내한다")
+        void createUserCard_withSimilarCards() {
+            // given
+            RelatedCardResponse similarCard = new RelatedCardResponse(
+                    new CardResponse(10L, QUESTION, null, ANSWER, null, 2.5, null, CardType.PUBLIC, null), 0.9);
+            given(userDomainService.findById(USER_ID)).willReturn(testUser);
+            given(categoryDomainService.findByCode("CS")).willReturn(testCategory);
+            given(userCardDomainService.createUserCard(
+                    eq(testUser), eq(QUESTION), eq(QUESTION_SUB), eq(ANSWER), eq(ANSWER_SUB), eq(testCategory)))
+                    .willReturn(testUserCard);
+            given(relatedCardService.findSimilarCards(QUESTION, ANSWER, testCategory)).willReturn(List.of(similarCard));
+
+            // when
+            UserCardResponse result = userCardService.createUserCard(USER_ID, createRequest);
+
+            // then
+            assertThat(result.similarCards()).containsExactly(similarCard);
+        }
     }
 
     @Nested
@@ -0,0 +1,95 @@
+package com.example.study_cards.common.response;
+
+import com.example.study_cards.infra.redis.service.CatalogVersionService;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CatalogETagResponderTest extends BaseUnitTest {
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @InjectMocks
+    private CatalogETagResponder catalogETagResponder;
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cards/count");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Nested
+    @DisplayName("catalog")
+    class CatalogTest {
+
+        @Test
+        @DisplayName("ETag 가 일치하면 본문을 만들지 않고 304 를 반환한다")
+        void catalog_matchingETag_returnsNotModified() {
+            // given
+            given(catalogVersionService.getCatalogETag()).willReturn("\"c7\"");
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            ResponseEntity<Long> response = catalogETagResponder.catalog(webRequest("\"c7\""),
+                    () -> (long) calls.incrementAndGet());
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"c7\"");
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("ETag 가 다르면 본문과 no-cache 로 200 을 반환한다")
+        void catalog_staleETag_returnsBody() {
+            // given
+            given(catalogVersionService.getCatalogETag()).willReturn("\"c8\"");
+
+            // when
+            ResponseEntity<Long> response = catalogETagResponder.catalog(webRequest("\"c7\""), () -> 3L);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(3L);
+            assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        }
+    }
+
+    @Nested
+    @DisplayName("forUser")
+    class ForUserTest {
+
+        @Test
+        @DisplayName("사용자가 없으면 카탈로그 ETag 로 비교하고 private 으로 응답한다")
+        void forUser_withoutUser_usesCatalogETag() {
+            // given
+            given(catalogVersionService.getCatalogETag()).willReturn("\"c8\"");
+
+            // when
+            ResponseEntity<Long> response = catalogETagResponder.forUser(null, webRequest(null), () -> 3L);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getCacheControl()).contains("private");
+            verify(catalogVersionService, never()).getUserCardETag(null);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiJsonSalvagerTest extends BaseUnitTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("salvageArray")
+    class SalvageArrayTest {
+
+        @Test
+        @DisplayName("끝에 남은 쉼표와 둥근 따옴표가 있어도 원소를 읽는다")
+        void salvageArray_trailingCommaAndSmartQuotes_recovered() {
+            // given
+            String response = "[{\"question\": \"Q1\", \"answer\": \"A1\",}, {“question”: “Q2”, “answer”: “A2”}]";
+
+            // when
+            AiJsonSalvager.Result result = AiJsonSalvager.salvageArray(objectMapper, response);
+
+            // then
+            assertThat(result.nodes()).hasSize(2);
+            assertThat(result.nodes().get(1).get("question").asText()).isEqualTo("Q2");
+            assertThat(result.dropped()).isZero();
+        }
+
+        @Test
+        @DisplayName("깨진 원소와 잘린 마지막 원소는 버리고 나머지를 반환한다")
+        void salvageArray_brokenAndTruncated_dropsOnlyBadElements() {
+            // given
+            String response = """
+                    ```json
+                    [
+                      {"question": "Q1", "answer": "A1"},
+                      {"question": "Q2" "answer": "A2"},
+                      {"question": "Q3", "answer": "A3"},
+                      {"question": "Q4", "answ
+                    """;
+
+            // when
+            AiJsonSalvager.Result result = AiJsonSalvager.salvageArray(objectMapper, response);
+
+            // then
+            assertThat(result.nodes()).extracting(node -> node.get("question").asText())
+                    .containsExactly("Q1", "Q3");
+            assertThat(result.dropped()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("JSON 이 없으면 빈 결과를 반환한다")
+        void salvageArray_noJson_returnsEmpty() {
+            // when
+            AiJsonSalvager.Result result = AiJsonSalvager.salvageArray(objectMapper, "not a json");
+
+            // then
+            assertThat(result.nodes()).isEmpty();
+            assertThat(result.dropped()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("salvageObject")
+    class SalvageObjectTest {
+
+        @Test
+        @DisplayName("앞뒤 설명 문장이 붙어 있어도 객체를 읽는다")
+        void salvageObject_surroundingText_success() {
+            // given
+            String response = "결과입니다: {\"question\": \"Q\", \"answer\": \"A\"} 참고하세요.";
+
+            // when
+            JsonNode node = AiJsonSalvager.salvageObject(objectMapper, response);
+
+            // then
+            assertThat(node.get("answer").asText()).isEqualTo("A");
+        }
+
+        @Test
+        @DisplayName("중간에 잘린 객체는 마지막으로 완성된 값까지 복구한다")
+        void salvageObject_truncated_keepsCompletedValues() {
+            // given
+            String response = "{\"weakConcepts\": [{\"concept\": \"TCP\", \"reason\": \"혼동\"}, "
+                    + "{\"concept\": \"UD";
+
+            // when
+            JsonNode node = AiJsonSalvager.salvageObject(objectMapper, response);
+
+            // then
+            assertThat(node.get("weakConcepts")).hasSize(1);
+            assertThat(node.get("weakConcepts").get(0).get("concept").asText()).isEqualTo("TCP");
+        }
+
+        @Test
+        @DisplayName("복구할 객체가 없으면 예외를 던진다")
+        void salvageObject_noObject_throwsException() {
+            // when & then
+            assertThatThrownBy(() -> AiJsonSalvager.salvageObject(objectMapper, "invalid json response"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("mightContain")
+    class MightContainTest {
+
+        @Test
+        @DisplayName("추가한 값은 항상 true 를 반환한다")
+        void mightContain_addedValues_returnsTrue() {
+            // given
+            BloomFilter filter = new BloomFilter(1000, 0.01);
+            for (int i = 0; i < 1000; i++) {
+                filter.add("token-" + i);
+            }
+
+            // when & then
+            for (int i = 0; i < 1000; i++) {
+                assertThat(filter.mightContain("token-" + i)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처에 머문다")
+        void mightContain_absentValues_falsePositiveRateIsBounded() {
+            // given
+            BloomFilter filter = new BloomFilter(1000, 0.01);
+            for (int i = 0; i < 1000; i++) {
+                filter.add("token-" + i);
+            }
+
+            // when
+            int falsePositives = 0;
+            for (int i = 0; i < 10000; i++) {
+                if (filter.mightContain("other-" + i)) {
+                    falsePositives++;
+                }
+            }
+
+            // then
+            assertThat(falsePositives).isLessThan(300);
+        }
+
+        @Test
+        @DisplayName("빈 filter 는 false 를 반환한다")
+        void mightContain_emptyFilter_returnsFalse() {
+            // given
+            BloomFilter filter = new BloomFilter(100, 0.01);
+
+            // when & then
+            assertThat(filter.mightContain("token")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("생성자")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("예상 원소 수나 오탐률이 범위를 벗어나면 예외를 던진다")
+        void constructor_invalidArguments_throwsException() {
+            // when & then
+            assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpUtilsTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("resolve")
+    class ResolveTest {
+
+        @Test
+        @DisplayName("외부에서 직접 연결하면 X-Forwarded-For 를 무시하고 연결 주소를 반환한다")
+        void resolve_directConnection_ignoresForwardedFor() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr("203.0.113.10");
+            request.addHeader("X-Forwarded-For", "1.2.3.4");
+
+            // when
+            String ip = ClientIpUtils.resolve(request);
+
+            // then
+            assertThat(ip).isEqualTo("203.0.113.10");
+        }
+
+        @Test
+        @DisplayName("내부 프록시를 거치면 오른쪽부터 내부 주소를 건너뛴 첫 주소를 반환한다")
+        void resolve_trustedProxy_returnsRightmostUntrustedHop() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr("10.0.0.5");
+            request.addHeader("X-Forwarded-For", "1.2.3.4, 198.51.100.7, 10.0.0.9");
+
+            // when
+            String ip = ClientIpUtils.resolve(request);
+
+            // then
+            assertThat(ip).isEqualTo("198.51.100.7");
+        }
+
+        @Test
+        @DisplayName("형식이 깨진 X-Forwarded-For 값은 믿지 않고 연결 주소를 반환한다")
+        void resolve_malformedForwardedFor_returnsRemoteAddr() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr("127.0.0.1");
+            request.addHeader("X-Forwarded-For", "unknown");
+
+            // when
+            String ip = ClientIpUtils.resolve(request);
+
+            // then
+            assertThat(ip).isEqualTo("127.0.0.1");
+        }
+
+        @Test
+        @DisplayName("내부 프록시가 X-Real-IP 만 보내면 그 값을 반환한다")
+        void resolve_trustedProxyWithRealIp_returnsRealIp() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr("192.168.0.2");
+            request.addHeader("X-Real-IP", "198.51.100.7");
+
+            // when
+            String ip = ClientIpUtils.resolve(request);
+
+            // then
+            assertThat(ip).isEqualTo("198.51.100.7");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressionUtilsTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("compress / decompress")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("압축한 텍스트를 원문 그대로 복원한다")
+        void roundTrip_restoresText() {
+            String text = "다음 문장의 빈칸에 알맞은 단어를 고르시오. The company has _____ resources.\n".repeat(50);
+
+            byte[] compressed = CompressionUtils.compress(text);
+
+            assertThat(compressed.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+            assertThat(CompressionUtils.decompress(compressed)).isEqualTo(text);
+        }
+
+        @Test
+        @DisplayName("null 은 null 로 유지한다")
+        void roundTrip_null_returnsNull() {
+            assertThat(CompressionUtils.compress(null)).isNull();
+            assertThat(CompressionUtils.decompress(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("손상된 데이터는 예외를 던진다")
+        void decompress_corrupted_throwsException() {
+            assertThatThrownBy(() -> CompressionUtils.decompress(new byte[]{1, 2, 3}))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashUtilsTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("sha256Hex")
+    class Sha256HexTest {
+
+        @Test
+        @DisplayName("SHA-256 을 소문자 16진수 64자로 반환한다")
+        void sha256Hex_returnsLowercaseHex() {
+            // when
+            String hash = HashUtils.sha256Hex("abc");
+
+            // then
+            assertThat(hash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonArrayStreamParserTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("feed")
+    class FeedTest {
+
+        @Test
+        @DisplayName("원소 객체가 닫히는 즉시 전달한다")
+        void feed_emitsObjectAsSoonAsClosed() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("[{\"question\": \"Q1\", \"answer\": \"A1\"}, {\"question\": \"Q2\"");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q1\", \"answer\": \"A1\"}");
+
+            // when
+            parser.feed(", \"answer\": \"A2\"}]");
+
+            // then
+            assertThat(emitted).hasSize(2);
+            assertThat(emitted.get(1)).isEqualTo("{\"question\": \"Q2\", \"answer\": \"A2\"}");
+            assertThat(parser.getEmittedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("코드 펜스와 설명 문장은 무시한다")
+        void feed_ignoresFenceAndPreamble() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("```json\n");
+            parser.feed("[\n  {\"question\": \"Q\", \"answer\": \"A\"}\n]\n```");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q\", \"answer\": \"A\"}");
+        }
+
+        @Test
+        @DisplayName("문자열 안의 괄호와 이스케이프된 따옴표는 구조로 취급하지 않는다")
+        void feed_handlesBracesAndEscapesInsideStrings() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+            String element = "{\"question\": \"map.get(\\\"}\\\") 결과는?\", \"answer\": \"[null]\"}";
+
+            // when
+            for (char c : ("[" + element + "]").toCharArray()) {
+                parser.feed(String.valueOf(c));
+            }
+
+            // then
+            assertThat(emitted).containsExactly(element);
+        }
+
+        @Test
+        @DisplayName("중첩된 객체와 배열을 포함한 원소도 하나로 전달한다")
+        void feed_nestedStructures_emittedAsSingleElement() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("[{\"question\": \"Q\", \"options\": [\"a\", \"b\"], \"meta\": {\"level\": 1}}]");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q\", \"options\": [\"a\", \"b\"], \"meta\": {\"level\": 1}}");
+        }
+
+        @Test
+        @DisplayName("배열 없이 단일 객체만 응답해도 원소 하나로 전달한다")
+        void feed_singleObject_emitted() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("{\"question\": \"Q\", \"answer\": \"A\"}");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q\", \"answer\": \"A\"}");
+        }
+
+        @Test
+        @DisplayName("배열이 닫힌 뒤의 내용은 무시한다")
+        void feed_afterArrayClosed_ignored() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("[{\"question\": \"Q\"}] 추가 설명 {\"question\": \"ignored\"}");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q\"}");
+        }
+
+        @Test
+        @DisplayName("닫히지 않은 원소가 남아 있으면 hasPendingObject 가 true 다")
+        void feed_truncatedElement_hasPendingObject() {
+            // given
+            List<String> emitted = new ArrayList<>();
+            JsonArrayStreamParser parser = new JsonArrayStreamParser(emitted::add);
+
+            // when
+            parser.feed("[{\"question\": \"Q1\"}, {\"question\": \"Q2");
+
+            // then
+            assertThat(emitted).containsExactly("{\"question\": \"Q1\"}");
+            assertThat(parser.hasPendingObject()).isTrue();
+        }
+    }
+}
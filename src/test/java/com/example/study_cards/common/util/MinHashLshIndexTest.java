@@ -0,0 +1,89 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashLshIndexTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("findNearDuplicate")
+    class FindNearDuplicateTest {
+
+        @Test
+        @DisplayName("공백과 문장부호만 다른 질문은 중복으로 찾는다")
+        void findNearDuplicate_punctuationOnly() {
+            // given
+            MinHashLshIndex index = new MinHashLshIndex();
+            index.add(1L, "REST API란 무엇인가?");
+
+            // when & then
+            assertThat(index.findNearDuplicate("rest api란  무엇인가", 0.8)).hasValue(1L);
+        }
+
+        @Test
+        @DisplayName("대부분 겹치는 질문은 중복으로 찾는다")
+        void findNearDuplicate_similarText() {
+            // given
+            MinHashLshIndex index = new MinHashLshIndex();
+            index.add(1L, "프로세스와 스레드의 차이점은 무엇인가?");
+            index.add(2L, "TCP와 UDP의 차이점은?");
+
+            // when & then
+            assertThat(index.findNearDuplicate("프로세스와 스레드의 차이점은 무엇인가요?", 0.8)).hasValue(1L);
+        }
+
+        @Test
+        @DisplayName("다른 질문은 중복이 아니다")
+        void findNearDuplicate_differentText() {
+            // given
+            MinHashLshIndex index = new MinHashLshIndex();
+            index.add(1L, "프로세스란?");
+
+            // when & then
+            assertThat(index.findNearDuplicate("가상 메모리란?", 0.8)).isEmpty();
+            assertThat(index.findNearDuplicate("  ?! ", 0.8)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("삭제한 항목은 더 이상 찾지 않는다")
+        void findNearDuplicate_afterRemove() {
+            // given
+            MinHashLshIndex index = new MinHashLshIndex();
+            index.add(1L, "JVM의 구조를 설명하시오.");
+
+            // when
+            index.remove(1L);
+
+            // then
+            assertThat(index.findNearDuplicate("JVM의 구조를 설명하시오.", 0.8)).isEmpty();
+            assertThat(index.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("addIfAbsent")
+    class AddIfAbsentTest {
+
+        @Test
+        @DisplayName("중복이 아닌 경우에만 추가한다")
+        void addIfAbsent_skipsDuplicate() {
+            // given
+            MinHashLshIndex index = new MinHashLshIndex();
+
+            // when
+            boolean first = index.addIfAbsent(1L, "HTTP GET 메서드의 역할은 무엇인가?", 0.8);
+            boolean second = index.addIfAbsent(2L, "HTTP GET 메서드의 역할은 무엇인가요?", 0.8);
+            boolean third = index.addIfAbsent(3L, "HTTP POST 요청 본문 형식", 0.8);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(third).isTrue();
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+}
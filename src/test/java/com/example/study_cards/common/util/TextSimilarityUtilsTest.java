@@ -0,0 +1,41 @@
+package com.example.study_cards.common.util;
+
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextSimilarityUtilsTest extends BaseUnitTest {
+
+    @Nested
+    @DisplayName("isNearDuplicate")
+    class IsNearDuplicateTest {
+
+        @Test
+        @DisplayName("공백과 문장부호만 다르면 중복으로 판단한다")
+        void isNearDuplicate_punctuationOnly_returnsTrue() {
+            boolean result = TextSimilarityUtils.isNearDuplicate("REST API란 무엇인가?", "rest api란  무엇인가", 0.8);
+
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("대부분 겹치는 질문은 중복으로 판단한다")
+        void isNearDuplicate_similarText_returnsTrue() {
+            boolean result = TextSimilarityUtils.isNearDuplicate(
+                    "HTTP GET 메서드의 역할은 무엇인가?", "HTTP GET 메서드의 역할은 무엇인가요?", 0.8);
+
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 질문은 중복이 아니다")
+        void isNearDuplicate_differentText_returnsFalse() {
+            boolean result = TextSimilarityUtils.isNearDuplicate("프로세스란?", "가상 메모리란?", 0.8);
+
+            assertThat(result).isFalse();
+        }
+    }
+}
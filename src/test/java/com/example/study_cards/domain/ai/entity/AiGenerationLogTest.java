@@ -58,4 +58,42 @@ class AiGenerationLogTest {
             assertThat(log.getErrorMessage()).isEqualTo("API 호출 실패");
         }
     }
+
+    @Nested
+    @DisplayName("payload")
+    class PayloadTest {
+
+        @Test
+        @DisplayName("프롬프트와 응답은 압축 저장되고 원문으로 조회된다")
+        void payload_roundTrip() {
+            // given
+            String response = "[{\"question\": \"질문\", \"answer\": \"답변\"}]".repeat(20);
+
+            // when
+            AiGenerationLog log = AiGenerationLog.builder()
+                    .user(testUser)
+                    .type(AiGenerationType.USER_CARD)
+                    .prompt("테스트 프롬프트")
+                    .response(response)
+                    .build();
+
+            // then
+            assertThat(log.getPrompt()).isEqualTo("테스트 프롬프트");
+            assertThat(log.getResponse()).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("프롬프트와 응답이 없으면 원문을 저장하지 않는다")
+        void payload_withoutText_returnsNull() {
+            // when
+            AiGenerationLog log = AiGenerationLog.builder()
+                    .user(testUser)
+                    .type(AiGenerationType.RECOMMENDATION)
+                    .build();
+
+            // then
+            assertThat(log.getPrompt()).isNull();
+            assertThat(log.getResponse()).isNull();
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.example.study_cards.domain.ai.service;
+
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
+import com.example.study_cards.domain.ai.repository.AiUsageRepository;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AiUsageDomainServiceTest extends BaseUnitTest {
+
+    @Mock
+    private AiUsageRepository aiUsageRepository;
+
+    @InjectMocks
+    private AiUsageDomainService aiUsageDomainService;
+
+    private static final Long USER_ID = 1L;
+    private static final AiGenerationType TYPE = AiGenerationType.USER_CARD;
+    private static final AiUsagePeriod PERIOD = AiUsagePeriod.LIFETIME;
+    private static final LocalDate START = LocalDate.EPOCH;
+
+    @Nested
+    @DisplayName("tryAcquire")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("한도 안이면 증가된 사용량을 반환한다")
+        void tryAcquire_belowLimit_returnsUsed() {
+            // given
+            given(aiUsageRepository.incrementIfBelow(USER_ID, TYPE, PERIOD, START, 5)).willReturn(1L);
+            given(aiUsageRepository.findUsed(USER_ID, TYPE, PERIOD, START)).willReturn(3);
+
+            // when
+            OptionalInt result = aiUsageDomainService.tryAcquire(USER_ID, TYPE, PERIOD, START, 5, () -> 0);
+
+            // then
+            assertThat(result).hasValue(3);
+            verify(aiUsageRepository, never()).insertIfAbsent(USER_ID, TYPE, PERIOD, START, 0);
+        }
+
+        @Test
+        @DisplayName("한도에 도달했으면 빈 값을 반환한다")
+        void tryAcquire_atLimit_returnsEmpty() {
+            // given
+            given(aiUsageRepository.incrementIfBelow(USER_ID, TYPE, PERIOD, START, 5)).willReturn(0L);
+            given(aiUsageRepository.findUsed(USER_ID, TYPE, PERIOD, START)).willReturn(5);
+
+            // when
+            OptionalInt result = aiUsageDomainService.tryAcquire(USER_ID, TYPE, PERIOD, START, 5, () -> 0);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("집계 행이 없으면 초기 사용량으로 만든 뒤 선점한다")
+        void tryAcquire_noRow_insertsWithInitialUsed() {
+            // given
+            given(aiUsageRepository.incrementIfBelow(USER_ID, TYPE, PERIOD, START, 5)).willReturn(0L, 1L);
+            given(aiUsageRepository.findUsed(USER_ID, TYPE, PERIOD, START)).willReturn(null, 3);
+
+            // when
+            OptionalInt result = aiUsageDomainService.tryAcquire(USER_ID, TYPE, PERIOD, START, 5, () -> 2);
+
+            // then
+            assertThat(result).hasValue(3);
+            verify(aiUsageRepository).insertIfAbsent(USER_ID, TYPE, PERIOD, START, 2);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.study_cards.domain.card.service;
 
 import com.example.study_cards.domain.card.entity.Card;
 import com.example.study_cards.domain.card.entity.CardStatus;
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
 import com.example.study_cards.domain.card.exception.CardErrorCode;
 import com.example.study_cards.domain.card.exception.CardException;
 import com.example.study_cards.domain.card.repository.CardRepository;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -34,6 +36,9 @@ class CardDomainServiceTest extends BaseUnitTest {
     @Mock
     private StudyRecordRepository studyRecordRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CardDomainService cardDomainService;
 
@@ -100,6 +105,7 @@ class CardDomainServiceTest extends BaseUnitTest {
             assertThat(result).isNotNull();
             assertThat(result.getQuestion()).isEqualTo("자바란 무엇인가?");
             verify(cardRepository).save(any(Card.class));
+            verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
         }
     }
 
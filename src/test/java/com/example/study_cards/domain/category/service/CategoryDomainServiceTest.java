@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
@@ -35,6 +37,9 @@ class CategoryDomainServiceTest extends BaseUnitTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryDomainService categoryDomainService;
 
@@ -328,6 +333,34 @@ class CategoryDomainServiceTest extends BaseUnitTest {
             verify(categoryRepository).existsByCode("CS_NEW");
         }
 
+        @Test
+        @DisplayName("이름이 바뀌면 해당 카테고리와 하위 카테고리 카드의 수정 시각을 갱신한다")
+        void updateCategory_withNewName_touchesCards() {
+            // given
+            given(categoryRepository.findByIdAndStatus(ROOT_CATEGORY_ID, CategoryStatus.ACTIVE)).willReturn(Optional.of(rootCategory));
+            given(categoryRepository.findByParentAndStatusOrderByDisplayOrder(rootCategory, CategoryStatus.ACTIVE))
+                    .willReturn(List.of(childCategory));
+
+            // when
+            categoryDomainService.updateCategory(ROOT_CATEGORY_ID, "CS", "컴퓨터 공학", 1);
+
+            // then
+            verify(cardRepository).touchByCategories(eq(List.of(childCategory, rootCategory)), any());
+        }
+
+        @Test
+        @DisplayName("표시 순서만 바뀌면 카드 수정 시각을 갱신하지 않는다")
+        void updateCategory_displayOrderOnly_doesNotTouchCards() {
+            // given
+            given(categoryRepository.findByIdAndStatus(ROOT_CATEGORY_ID, CategoryStatus.ACTIVE)).willReturn(Optional.of(rootCategory));
+
+            // when
+            categoryDomainService.updateCategory(ROOT_CATEGORY_ID, "CS", "컴퓨터 과학", 3);
+
+            // then
+            verify(cardRepository, never()).touchByCategories(any(), any());
+        }
+
         @Test
         @DisplayName("이미 존재하는 코드로 변경 시 예외를 발생시킨다")
         void updateCategory_withExistingCode_throwsException() {
@@ -3,9 +3,11 @@ package com.example.study_cards.domain.generation.service;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.generation.entity.GeneratedCard;
 import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import com.example.study_cards.domain.generation.event.GenerationStatsChangedEvent;
 import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
 import com.example.study_cards.domain.generation.exception.GenerationException;
 import com.example.study_cards.domain.generation.repository.GeneratedCardRepository;
+import com.example.study_cards.domain.generation.repository.GenerationStatCounterRepository;
 import com.example.study_cards.support.BaseUnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,19 +15,26 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class GeneratedCardDomainServiceTest extends BaseUnitTest {
@@ -33,6 +42,12 @@ class GeneratedCardDomainServiceTest extends BaseUnitTest {
     @Mock
     private GeneratedCardRepository generatedCardRepository;
 
+    @Mock
+    private GenerationStatCounterRepository generationStatCounterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GeneratedCardDomainService generatedCardDomainService;
 
@@ -91,6 +106,21 @@ class GeneratedCardDomainServiceTest extends BaseUnitTest {
             assertThat(result.getModel()).isEqualTo("gpt-5-mini");
             verify(generatedCardRepository).save(any(GeneratedCard.class));
         }
+
+        @Test
+        @DisplayName("저장한 카드 수만큼 모델별 대기 카운터를 증가시킨다")
+        void saveAll_incrementsPendingCounter() {
+            // given
+            List<GeneratedCard> cards = List.of(testGeneratedCard, createTestGeneratedCard());
+            given(generatedCardRepository.saveAll(cards)).willReturn(cards);
+
+            // when
+            generatedCardDomainService.saveAll(cards);
+
+            // then
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.PENDING, 2L);
+            verify(eventPublisher).publishEvent(any(GenerationStatsChangedEvent.class));
+        }
     }
 
     @Nested
@@ -165,6 +195,8 @@ class GeneratedCardDomainServiceTest extends BaseUnitTest {
             // then
             assertThat(result.getStatus()).isEqualTo(GenerationStatus.APPROVED);
             assertThat(result.getApprovedAt()).isNotNull();
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.PENDING, -1L);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.APPROVED, 1L);
         }
 
         @Test
@@ -289,6 +321,119 @@ class GeneratedCardDomainServiceTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("approveAll")
+    class ApproveAllTest {
+
+        @Test
+        @DisplayName("대기 중인 카드만 일괄 승인하고 승인된 카드를 조회한다")
+        void approveAll_updatesPendingCards() {
+            // given
+            List<Long> ids = List.of(CARD_ID, 2L);
+            testGeneratedCard.approve();
+            given(generatedCardRepository.findIdsByModelForUpdate(ids, GenerationStatus.PENDING))
+                    .willReturn(Map.of("gpt-5-mini", List.of(CARD_ID)));
+            given(generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.APPROVED))
+                    .willReturn(List.of(testGeneratedCard));
+
+            // when
+            List<GeneratedCard> result = generatedCardDomainService.approveAll(ids);
+
+            // then
+            verify(generatedCardRepository).updateStatus(List.of(CARD_ID), GenerationStatus.PENDING, GenerationStatus.APPROVED);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.PENDING, -1L);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.APPROVED, 1L);
+            assertThat(result).containsExactly(testGeneratedCard);
+        }
+
+        @Test
+        @DisplayName("대기 중인 카드가 없으면 카운터를 변경하지 않는다")
+        void approveAll_withoutPendingCards_keepsCounters() {
+            // given
+            List<Long> ids = List.of(CARD_ID);
+            given(generatedCardRepository.findIdsByModelForUpdate(ids, GenerationStatus.PENDING)).willReturn(Map.of());
+            given(generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.APPROVED)).willReturn(List.of());
+
+            // when
+            List<GeneratedCard> result = generatedCardDomainService.approveAll(ids);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(generationStatCounterRepository, never()).increment(anyString(), any(), anyLong());
+            verify(eventPublisher, never()).publishEvent(any(GenerationStatsChangedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("claimPending")
+    class ClaimPendingTest {
+
+        @Test
+        @DisplayName("잠글 수 있는 대기 카드를 조회해 관리자에게 점유시킨다")
+        void claimPending_claimsLockedCards() {
+            // given
+            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+            given(generatedCardRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(20)))
+                    .willReturn(List.of(testGeneratedCard));
+
+            // when
+            List<GeneratedCard> result = generatedCardDomainService.claimPending(10L, 20, expiresAt);
+
+            // then
+            assertThat(result).containsExactly(testGeneratedCard);
+            verify(generatedCardRepository).claim(List.of(CARD_ID), 10L, expiresAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("markAsMigrated")
+    class MarkAsMigratedTest {
+
+        @Test
+        @DisplayName("승인 상태인 카드만 이동 상태로 변경한다")
+        void markAsMigrated_updatesApprovedCards() {
+            // given
+            List<Long> ids = List.of(CARD_ID, 2L);
+            given(generatedCardRepository.findIdsByModelForUpdate(ids, GenerationStatus.APPROVED))
+                    .willReturn(Map.of("gpt-5-mini", ids));
+            given(generatedCardRepository.updateStatus(ids, GenerationStatus.APPROVED, GenerationStatus.MIGRATED))
+                    .willReturn(2L);
+
+            // when
+            long result = generatedCardDomainService.markAsMigrated(ids);
+
+            // then
+            assertThat(result).isEqualTo(2L);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.APPROVED, -2L);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.MIGRATED, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("approveClaimed")
+    class ApproveClaimedTest {
+
+        @Test
+        @DisplayName("점유 중인 카드만 잠가 승인하고 카운터를 옮긴다")
+        void approveClaimed_updatesLockedClaimedCards() {
+            // given
+            List<Long> ids = List.of(CARD_ID, 2L);
+            given(generatedCardRepository.findClaimedIdsByModelForUpdate(eq(ids), eq(10L), any(LocalDateTime.class)))
+                    .willReturn(Map.of("gpt-5-mini", List.of(CARD_ID)));
+            given(generatedCardRepository.findByIdInAndStatus(ids, GenerationStatus.APPROVED))
+                    .willReturn(List.of(testGeneratedCard));
+
+            // when
+            generatedCardDomainService.approveClaimed(10L, ids);
+
+            // then
+            verify(generatedCardRepository).updateClaimedStatus(
+                    eq(List.of(CARD_ID)), eq(10L), eq(GenerationStatus.APPROVED), any(LocalDateTime.class));
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.PENDING, -1L);
+            verify(generationStatCounterRepository).increment("gpt-5-mini", GenerationStatus.APPROVED, 1L);
+        }
+    }
+
     @Nested
     @DisplayName("countByStatus")
     class CountByStatusTest {
@@ -3,6 +3,7 @@ package com.example.study_cards.domain.usercard.service;
 import com.example.study_cards.domain.category.entity.Category;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.usercard.entity.UserCard;
+import com.example.study_cards.domain.usercard.event.UserCardChangedEvent;
 import com.example.study_cards.domain.usercard.exception.UserCardErrorCode;
 import com.example.study_cards.domain.usercard.exception.UserCardException;
 import com.example.study_cards.domain.usercard.repository.UserCardRepository;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -29,6 +31,9 @@ class UserCardDomainServiceTest extends BaseUnitTest {
     @Mock
     private UserCardRepository userCardRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserCardDomainService userCardDomainService;
 
@@ -234,6 +239,7 @@ class UserCardDomainServiceTest extends BaseUnitTest {
 
             // then
             verify(userCardRepository).delete(testUserCard);
+            verify(eventPublisher).publishEvent(new UserCardChangedEvent(USER_ID));
         }
 
         @Test
@@ -1,103 +1,278 @@
 package com.example.study_cards.infra.ai.service;
 
+import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
 import com.example.study_cards.domain.generation.exception.GenerationException;
+import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
+import com.example.study_cards.infra.ai.config.AiPricingProperties;
 import com.example.study_cards.infra.ai.config.AiProviderProperties;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiRequestContext;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
 import com.example.study_cards.infra.ai.config.GoogleGenAiChatOptionsProperties;
 import com.example.study_cards.infra.ai.config.OpenAiChatOptionsProperties;
+import com.example.study_cards.infra.redis.service.AiResponseCacheService;
 import com.example.study_cards.support.BaseUnitTest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
-import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class AiGenerationServiceUnitTest extends BaseUnitTest {
 
+    private static final AiRequestContext CONTEXT =
+            AiRequestContext.of(AiGenerationType.USER_CARD, SubscriptionPlan.PRO, AiRequestPriority.NORMAL);
+
+    @Mock
+    private AiProviderRouter aiProviderRouter;
     @Mock
-    private ChatClient chatClient;
+    private AiResponseCacheService aiResponseCacheService;
     private AiGenerationService aiGenerationService;
     private AiProviderProperties aiProviderProperties;
     private GoogleGenAiChatOptionsProperties googleGenAiChatOptionsProperties;
     private OpenAiChatOptionsProperties openAiChatOptionsProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AiPricingProperties aiPricingProperties;
 
     @BeforeEach
     void setUp() {
         aiProviderProperties = new AiProviderProperties();
         googleGenAiChatOptionsProperties = new GoogleGenAiChatOptionsProperties();
         openAiChatOptionsProperties = new OpenAiChatOptionsProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        aiPricingProperties = new AiPricingProperties();
         aiGenerationService = new AiGenerationService(
-                chatClient,
+                aiProviderRouter,
                 aiProviderProperties,
                 googleGenAiChatOptionsProperties,
-                openAiChatOptionsProperties
+                openAiChatOptionsProperties,
+                aiResponseCacheService,
+                new AiCallMetrics(meterRegistry, aiPricingProperties)
         );
     }
 
+    private void givenCacheMiss(String prompt) {
+        given(aiResponseCacheService.getOrLoad(anyString(), anyString(), eq(prompt), any()))
+                .willAnswer(invocation -> {
+                    Supplier<AiCompletion> loader = invocation.getArgument(3);
+                    return loader.get();
+                });
+    }
+
     @Nested
     @DisplayName("generateContent")
     class GenerateContentTest {
 
         @Test
-        @DisplayName("AI 응답을 생성한다")
+        @DisplayName("라우터를 통해 AI 응답을 생성한다")
         void generateContent_success() {
             // given
             String prompt = "Test prompt";
+            givenCacheMiss(prompt);
             String expectedResponse = "{\"question\": \"test\"}";
+            given(aiProviderRouter.call(prompt, AiRequestPriority.NORMAL)).willReturn(new AiCompletion(expectedResponse, false, "gpt-5-mini"));
 
-            ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
-            ChatClient.CallResponseSpec responseSpec = mock(ChatClient.CallResponseSpec.class);
+            // when
+            String result = aiGenerationService.generateContent(prompt, CONTEXT);
+
+            // then
+            assertThat(result).isEqualTo(expectedResponse);
+        }
 
-            given(chatClient.prompt(prompt)).willReturn(requestSpec);
-            given(requestSpec.call()).willReturn(responseSpec);
-            given(responseSpec.content()).willReturn(expectedResponse);
+        @Test
+        @DisplayName("실제로 응답한 모델을 함께 반환한다")
+        void generate_returnsServedModel() {
+            // given
+            String prompt = "Test prompt";
+            aiProviderProperties.setProvider("google-genai");
+            googleGenAiChatOptionsProperties.setModel("gemini-2.0-flash");
+            givenCacheMiss(prompt);
+            given(aiProviderRouter.call(prompt, AiRequestPriority.NORMAL)).willReturn(new AiCompletion("response", false, "gpt-5-mini"));
 
             // when
-            String result = aiGenerationService.generateContent(prompt);
+            AiCompletion result = aiGenerationService.generate(prompt, CONTEXT);
 
             // then
-            assertThat(result).isEqualTo(expectedResponse);
+            assertThat(result.model()).isEqualTo("gpt-5-mini");
+            verify(aiResponseCacheService).getOrLoad(eq("google-genai"), eq("gemini-2.0-flash"), eq(prompt), any());
         }
 
         @Test
-        @DisplayName("AI 호출 실패 시 예외를 던진다")
+        @DisplayName("모든 provider 호출이 실패하면 예외를 던진다")
         void generateContent_whenFailed_throwsException() {
             // given
             String prompt = "Test prompt";
+            givenCacheMiss(prompt);
+            given(aiProviderRouter.call(prompt, AiRequestPriority.NORMAL))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED));
+
+            // when & then
+            assertThatThrownBy(() -> aiGenerationService.generateContent(prompt, CONTEXT))
+                    .isInstanceOf(GenerationException.class);
+        }
+
+        @Test
+        @DisplayName("캐시에 저장된 응답이 있으면 AI를 호출하지 않는다")
+        void generate_whenCached_skipsRouter() {
+            // given
+            String prompt = "Test prompt";
+            given(aiResponseCacheService.getOrLoad(anyString(), anyString(), eq(prompt), any()))
+                    .willReturn(new AiCompletion("cached response", true, "gemini-2.0-flash"));
+
+            // when
+            AiCompletion result = aiGenerationService.generate(prompt, CONTEXT);
+
+            // then
+            assertThat(result.content()).isEqualTo("cached response");
+            assertThat(result.cached()).isTrue();
+            verifyNoInteractions(aiProviderRouter);
+        }
+    }
+
+    @Nested
+    @DisplayName("streamContent")
+    class StreamContentTest {
+
+        @Test
+        @DisplayName("라우터가 전달한 조각을 넘기고 전체 응답을 캐시에 저장한다")
+        void streamContent_forwardsChunksAndStores() {
+            // given
+            String prompt = "Test prompt";
+            AiCompletion streamed = new AiCompletion("[{\"question\": \"Q\"}]", false, "gemini-2.0-flash");
+            given(aiProviderRouter.stream(eq(prompt), eq(AiRequestPriority.NORMAL), any())).willAnswer(invocation -> {
+                Consumer<String> onChunk = invocation.getArgument(2);
+                onChunk.accept("[{\"question\"");
+                onChunk.accept(": \"Q\"}]");
+                return streamed;
+            });
+            List<String> chunks = new ArrayList<>();
 
-            ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
+            // when
+            AiCompletion result = aiGenerationService.streamContent(prompt, CONTEXT, chunks::add);
+
+            // then
+            assertThat(chunks).containsExactly("[{\"question\"", ": \"Q\"}]");
+            assertThat(result).isEqualTo(streamed);
+            verify(aiResponseCacheService).store(anyString(), anyString(), eq(prompt), eq(streamed), anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시에 저장된 응답이 있으면 한 번에 전달한다")
+        void streamContent_whenCached_replaysCachedContent() {
+            // given
+            String prompt = "Test prompt";
+            given(aiResponseCacheService.find(anyString(), anyString(), eq(prompt)))
+                    .willReturn(new AiCompletion("cached", true, "gemini-2.0-flash"));
+            List<String> chunks = new ArrayList<>();
+
+            // when
+            AiCompletion result = aiGenerationService.streamContent(prompt, CONTEXT, chunks::add);
 
-            given(chatClient.prompt(prompt)).willReturn(requestSpec);
-            given(requestSpec.call()).willThrow(new RuntimeException("API error"));
+            // then
+            assertThat(chunks).containsExactly("cached");
+            assertThat(result.cached()).isTrue();
+            verifyNoInteractions(aiProviderRouter);
+        }
+
+        @Test
+        @DisplayName("스트리밍이 실패하면 캐시에 저장하지 않고 예외를 던진다")
+        void streamContent_whenStreamFails_throwsException() {
+            // given
+            String prompt = "Test prompt";
+            given(aiProviderRouter.stream(eq(prompt), eq(AiRequestPriority.NORMAL), any()))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED));
 
             // when & then
-            assertThatThrownBy(() -> aiGenerationService.generateContent(prompt))
+            assertThatThrownBy(() -> aiGenerationService.streamContent(prompt, CONTEXT, chunk -> {}))
                     .isInstanceOf(GenerationException.class);
+            verify(aiResponseCacheService, never()).store(anyString(), anyString(), anyString(), any(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("응답한 provider/모델 기준으로 지연 시간, 토큰 수, 추정 비용을 기록한다")
+        void generate_recordsLatencyTokensAndCost() {
+            // given
+            String prompt = "Test prompt";
+            givenCacheMiss(prompt);
+            AiPricingProperties.Price price = new AiPricingProperties.Price();
+            price.setPromptPerMillion(0.25);
+            price.setCompletionPerMillion(2.0);
+            aiPricingProperties.getModels().put("gpt-5-mini", price);
+            given(aiProviderRouter.call(prompt, AiRequestPriority.NORMAL))
+                    .willReturn(new AiCompletion("response", false, "gpt-5-mini", "openai", 1000, 500));
+
+            // when
+            aiGenerationService.generate(prompt, CONTEXT);
+
+            // then
+            Timer timer = meterRegistry.get("ai.generation.latency")
+                    .tags("provider", "openai", "model", "gpt-5-mini", "type", "USER_CARD",
+                            "plan", "PRO", "outcome", "success")
+                    .timer();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(meterRegistry.get("ai.generation.tokens").tag("direction", "prompt")
+                    .summary().totalAmount()).isEqualTo(1000);
+            assertThat(meterRegistry.get("ai.generation.tokens").tag("direction", "completion")
+                    .summary().totalAmount()).isEqualTo(500);
+            assertThat(meterRegistry.get("ai.generation.cost").counter().count()).isEqualTo(0.00125);
         }
 
         @Test
-        @DisplayName("AI 응답이 비어있으면 예외를 던진다")
-        void generateContent_whenEmptyResponse_throwsException() {
+        @DisplayName("캐시 적중은 토큰을 기록하지 않는다")
+        void generate_whenCached_recordsCachedOutcomeOnly() {
             // given
             String prompt = "Test prompt";
+            given(aiResponseCacheService.getOrLoad(anyString(), anyString(), eq(prompt), any()))
+                    .willReturn(new AiCompletion("cached response", true, "gemini-2.0-flash"));
 
-            ChatClient.ChatClientRequestSpec requestSpec = mock(ChatClient.ChatClientRequestSpec.class);
-            ChatClient.CallResponseSpec responseSpec = mock(ChatClient.CallResponseSpec.class);
+            // when
+            aiGenerationService.generate(prompt, CONTEXT);
 
-            given(chatClient.prompt(prompt)).willReturn(requestSpec);
-            given(requestSpec.call()).willReturn(responseSpec);
-            given(responseSpec.content()).willReturn("   ");
+            // then
+            assertThat(meterRegistry.get("ai.generation.latency").tag("outcome", "cached").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.find("ai.generation.tokens").summary()).isNull();
+        }
+
+        @Test
+        @DisplayName("허용량 부족으로 실패하면 rate_limited 로 기록한다")
+        void generate_whenRateLimited_recordsRateLimitedOutcome() {
+            // given
+            String prompt = "Test prompt";
+            givenCacheMiss(prompt);
+            given(aiProviderRouter.call(prompt, AiRequestPriority.NORMAL))
+                    .willThrow(new GenerationException(GenerationErrorCode.AI_RATE_LIMITED));
 
             // when & then
-            assertThatThrownBy(() -> aiGenerationService.generateContent(prompt))
+            assertThatThrownBy(() -> aiGenerationService.generate(prompt, CONTEXT))
                     .isInstanceOf(GenerationException.class);
+            assertThat(meterRegistry.get("ai.generation.latency").tag("outcome", "rate_limited").timer().count())
+                    .isEqualTo(1);
         }
-
     }
 
     @Nested
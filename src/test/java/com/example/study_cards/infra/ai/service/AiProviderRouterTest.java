@@ -0,0 +1,410 @@
+package com.example.study_cards.infra.ai.service;
+
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
+import com.example.study_cards.domain.generation.exception.GenerationException;
+import com.example.study_cards.infra.ai.config.AiProviderEndpoint;
+import com.example.study_cards.infra.ai.config.AiRouterProperties;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.infra.ai.dto.AiProviderHealthSnapshot;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
+import com.example.study_cards.infra.redis.service.AiProviderRateLimiter;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+class AiProviderRouterTest extends BaseUnitTest {
+
+    private static final String PROMPT = "운영체제 스케줄링을 요약해줘";
+
+    private ExecutorService executor;
+    private AiRouterProperties properties;
+
+    @Mock
+    private AiProviderRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(rateLimiter.acquire(anyString(), anyString(), anyLong(), any())).thenReturn(true);
+        lenient().when(rateLimiter.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(true);
+        executor = Executors.newCachedThreadPool();
+        properties = new AiRouterProperties();
+        properties.setHedgeDelayMs(0);
+        properties.setMinimumCalls(2);
+        properties.setFailureRateThreshold(0.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private AiProviderRouter router(StubChatModel primary, StubChatModel fallback) {
+        return new AiProviderRouter(List.of(
+                new AiProviderEndpoint("google-genai", "gemini-2.0-flash", ChatClient.create(primary)),
+                new AiProviderEndpoint("openai", "gpt-5-mini", ChatClient.create(fallback))
+        ), properties, executor, rateLimiter);
+    }
+
+    @Nested
+    @DisplayName("call")
+    class CallTest {
+
+        @Test
+        @DisplayName("기본 provider가 응답하면 예비 provider는 호출하지 않는다")
+        void call_primarySucceeds_returnsPrimaryModel() {
+            // given
+            StubChatModel primary = StubChatModel.responding("primary");
+            StubChatModel fallback = StubChatModel.responding("fallback");
+
+            // when
+            AiCompletion result = router(primary, fallback).call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.content()).isEqualTo("primary");
+            assertThat(result.model()).isEqualTo("gemini-2.0-flash");
+            assertThat(result.cached()).isFalse();
+            assertThat(fallback.calls()).isZero();
+        }
+
+        @Test
+        @DisplayName("기본 provider가 실패하면 예비 provider 응답과 실제 모델을 반환한다")
+        void call_primaryFails_failsOverToFallback() {
+            // given
+            StubChatModel primary = StubChatModel.failing();
+            StubChatModel fallback = StubChatModel.responding("fallback");
+
+            // when
+            AiCompletion result = router(primary, fallback).call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.content()).isEqualTo("fallback");
+            assertThat(result.model()).isEqualTo("gpt-5-mini");
+        }
+
+        @Test
+        @DisplayName("응답 메타데이터의 토큰 사용량과 응답한 provider를 함께 반환한다")
+        void call_returnsTokenUsage() {
+            // given
+            StubChatModel primary = StubChatModel.responding("primary").withUsage(120, 30);
+            StubChatModel fallback = StubChatModel.responding("fallback");
+
+            // when
+            AiCompletion result = router(primary, fallback).call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.provider()).isEqualTo("google-genai");
+            assertThat(result.promptTokens()).isEqualTo(120);
+            assertThat(result.completionTokens()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("실패율이 기준을 넘으면 서킷을 열어 기본 provider 호출을 건너뛴다")
+        void call_failureRateExceeded_opensCircuit() {
+            // given
+            StubChatModel primary = StubChatModel.failing();
+            StubChatModel fallback = StubChatModel.responding("fallback");
+            AiProviderRouter router = router(primary, fallback);
+            router.call(PROMPT, AiRequestPriority.NORMAL);
+            router.call(PROMPT, AiRequestPriority.NORMAL);
+
+            // when
+            AiCompletion result = router.call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.model()).isEqualTo("gpt-5-mini");
+            assertThat(primary.calls()).isEqualTo(2);
+            assertThat(router.getHealthSnapshots())
+                    .extracting(AiProviderHealthSnapshot::circuitState)
+                    .containsExactly("OPEN", "CLOSED");
+        }
+
+        @Test
+        @DisplayName("차단 시간이 지나면 시험 호출이 성공할 때 서킷을 닫는다")
+        void call_afterOpenDuration_closesCircuitOnSuccessfulTrial() {
+            // given
+            properties.setOpenDurationMs(0);
+            StubChatModel primary = StubChatModel.failing();
+            StubChatModel fallback = StubChatModel.responding("fallback");
+            AiProviderRouter router = router(primary, fallback);
+            router.call(PROMPT, AiRequestPriority.NORMAL);
+            router.call(PROMPT, AiRequestPriority.NORMAL);
+            primary.recover("primary");
+
+            // when
+            AiCompletion result = router.call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.content()).isEqualTo("primary");
+            assertThat(router.getHealthSnapshots().get(0).circuitState()).isEqualTo("CLOSED");
+        }
+
+        @Test
+        @DisplayName("기본 provider 응답이 hedge 지연 시간을 넘기면 먼저 도착한 예비 provider 응답을 사용한다")
+        void call_slowPrimary_usesHedgedResponse() {
+            // given
+            properties.setHedgeDelayMs(50);
+            StubChatModel primary = StubChatModel.responding("primary").delayed(2000);
+            StubChatModel fallback = StubChatModel.responding("fallback");
+
+            // when
+            AiCompletion result = router(primary, fallback).call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result.content()).isEqualTo("fallback");
+            assertThat(fallback.calls()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("호출 스레드가 중단되면 예비 provider로 전환하지 않고 예외를 던진다")
+        void call_interrupted_doesNotFailOver() {
+            // given
+            StubChatModel primary = StubChatModel.responding("primary").delayed(2000);
+            StubChatModel fallback = StubChatModel.responding("fallback");
+            AiProviderRouter router = router(primary, fallback);
+            Thread.currentThread().interrupt();
+
+            // when & then
+            try {
+                assertThatThrownBy(() -> router.call(PROMPT, AiRequestPriority.NORMAL))
+                        .isInstanceOf(GenerationException.class);
+                assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(fallback.calls()).isZero();
+        }
+
+        @Test
+        @DisplayName("모든 provider가 실패하면 예외를 던진다")
+        void call_allProvidersFail_throwsException() {
+            // given
+            AiProviderRouter router = router(StubChatModel.failing(), StubChatModel.failing());
+
+            // when & then
+            assertThatThrownBy(() -> router.call(PROMPT, AiRequestPriority.NORMAL))
+                    .isInstanceOf(GenerationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("호출 허용량")
+    class RateLimitTest {
+
+        @Test
+        @DisplayName("기본 provider 허용량을 기다리다 시간이 지나면 예비 provider로 전환한다")
+        void call_primaryThrottled_usesFallback() {
+            // given
+            StubChatModel primary = StubChatModel.responding("primary");
+            StubChatModel fallback = StubChatModel.responding("fallback");
+            given(rateLimiter.acquire(eq("google-genai"), anyString(), anyLong(), eq(AiRequestPriority.HIGH)))
+                    .willReturn(false);
+
+            // when
+            AiCompletion result = router(primary, fallback).call(PROMPT, AiRequestPriority.HIGH);
+
+            // then
+            assertThat(result.model()).isEqualTo("gpt-5-mini");
+            assertThat(primary.calls()).isZero();
+        }
+
+        @Test
+        @DisplayName("허용량 부족은 provider 실패로 기록하지 않는다")
+        void call_throttled_doesNotOpenCircuit() {
+            // given
+            properties.setMinimumCalls(1);
+            given(rateLimiter.acquire(eq("google-genai"), anyString(), anyLong(), any())).willReturn(false);
+            AiProviderRouter router = router(StubChatModel.responding("primary"), StubChatModel.responding("fallback"));
+
+            // when
+            router.call(PROMPT, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(router.getHealthSnapshots().get(0).circuitState()).isEqualTo("CLOSED");
+            assertThat(router.getHealthSnapshots().get(0).calls()).isZero();
+        }
+
+        @Test
+        @DisplayName("모든 provider의 허용량이 부족하면 혼잡 예외를 던진다")
+        void call_allThrottled_throwsRateLimited() {
+            // given
+            given(rateLimiter.acquire(anyString(), anyString(), anyLong(), any())).willReturn(false);
+            AiProviderRouter router = router(StubChatModel.responding("primary"), StubChatModel.responding("fallback"));
+
+            // when & then
+            assertThatThrownBy(() -> router.call(PROMPT, AiRequestPriority.LOW))
+                    .isInstanceOf(GenerationException.class)
+                    .extracting(e -> ((GenerationException) e).getErrorCode())
+                    .isEqualTo(GenerationErrorCode.AI_RATE_LIMITED);
+        }
+    }
+
+    @Nested
+    @DisplayName("stream")
+    class StreamTest {
+
+        @Test
+        @DisplayName("조각을 전달하기 전에 실패하면 예비 provider로 전환한다")
+        void stream_failsBeforeFirstChunk_failsOver() {
+            // given
+            StubChatModel primary = StubChatModel.failing();
+            StubChatModel fallback = StubChatModel.responding("[{\"question\": \"Q\"}]");
+            List<String> chunks = new ArrayList<>();
+
+            // when
+            AiCompletion result = router(primary, fallback).stream(PROMPT, AiRequestPriority.NORMAL, chunks::add);
+
+            // then
+            assertThat(chunks).containsExactly("[{\"question\": \"Q\"}]");
+            assertThat(result.model()).isEqualTo("gpt-5-mini");
+        }
+
+        @Test
+        @DisplayName("조각을 전달한 뒤 실패하면 전환하지 않고 예외를 던진다")
+        void stream_failsAfterChunk_throwsException() {
+            // given
+            StubChatModel primary = StubChatModel.responding("[{").failingAfterFirstChunk();
+            StubChatModel fallback = StubChatModel.responding("fallback");
+
+            // when & then
+            assertThatThrownBy(() -> router(primary, fallback).stream(PROMPT, AiRequestPriority.NORMAL, chunk -> {}))
+                    .isInstanceOf(GenerationException.class);
+            assertThat(fallback.calls()).isZero();
+        }
+
+        @Test
+        @DisplayName("연결 종료로 호출 스레드가 중단되면 실패로 기록하지 않고 전환하지 않는다")
+        void stream_interrupted_doesNotRecordFailureOrFailOver() {
+            // given
+            StubChatModel primary = StubChatModel.responding("[{").delayed(2000);
+            StubChatModel fallback = StubChatModel.responding("fallback");
+            AiProviderRouter router = router(primary, fallback);
+            Thread.currentThread().interrupt();
+
+            // when & then
+            try {
+                assertThatThrownBy(() -> router.stream(PROMPT, AiRequestPriority.NORMAL, chunk -> {}))
+                        .isInstanceOf(GenerationException.class);
+            } finally {
+                Thread.interrupted();
+            }
+            assertThat(fallback.calls()).isZero();
+            assertThat(router.getHealthSnapshots().get(0).calls()).isZero();
+        }
+    }
+
+    private static class StubChatModel implements ChatModel {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile String response;
+        private volatile long delayMs;
+        private volatile boolean failAfterFirstChunk;
+        private volatile DefaultUsage usage;
+
+        private StubChatModel(String response) {
+            this.response = response;
+        }
+
+        static StubChatModel responding(String response) {
+            return new StubChatModel(response);
+        }
+
+        static StubChatModel failing() {
+            return new StubChatModel(null);
+        }
+
+        StubChatModel delayed(long delayMs) {
+            this.delayMs = delayMs;
+            return this;
+        }
+
+        StubChatModel withUsage(int promptTokens, int completionTokens) {
+            this.usage = new DefaultUsage(promptTokens, completionTokens);
+            return this;
+        }
+
+        StubChatModel failingAfterFirstChunk() {
+            this.failAfterFirstChunk = true;
+            return this;
+        }
+
+        void recover(String response) {
+            this.response = response;
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            calls.incrementAndGet();
+            sleep();
+            if (response == null) {
+                throw new IllegalStateException("provider unavailable");
+            }
+            return toResponse(response, usage);
+        }
+
+        @Override
+        public Flux<ChatResponse> stream(Prompt prompt) {
+            calls.incrementAndGet();
+            if (response == null) {
+                return Flux.error(new IllegalStateException("provider unavailable"));
+            }
+            if (failAfterFirstChunk) {
+                return Flux.concat(Flux.just(toResponse(response, usage)),
+                        Flux.error(new IllegalStateException("connection reset")));
+            }
+            Flux<ChatResponse> responses = Flux.just(toResponse(response, usage));
+            return delayMs > 0 ? responses.delaySubscription(Duration.ofMillis(delayMs)) : responses;
+        }
+
+        private void sleep() {
+            if (delayMs <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private static ChatResponse toResponse(String text, DefaultUsage usage) {
+            List<Generation> generations = List.of(new Generation(new AssistantMessage(text)));
+            if (usage == null) {
+                return new ChatResponse(generations);
+            }
+            return new ChatResponse(generations, ChatResponseMetadata.builder().usage(usage).build());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.study_cards.infra.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HashingTextEmbedderTest {
+
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder(256);
+
+    @Test
+    @DisplayName("같은 텍스트는 항상 같은 정규화 벡터로 변환된다")
+    void embed_deterministicAndNormalized() {
+        // when
+        float[] first = embedder.embed("JVM의 가비지 컬렉션이란?");
+        float[] second = embedder.embed("JVM의 가비지 컬렉션이란?");
+
+        // then
+        assertThat(first).hasSize(256).containsExactly(second);
+        assertThat(dot(first, first)).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("주제가 비슷한 텍스트가 관련 없는 텍스트보다 유사도가 높다")
+    void embed_similarTextScoresHigher() {
+        // given
+        float[] query = embedder.embed("자바 가비지 컬렉션 동작 방식");
+        float[] similar = embedder.embed("자바의 가비지 컬렉션은 어떻게 동작하나요?");
+        float[] unrelated = embedder.embed("TCP 3-way handshake 과정");
+
+        // when & then
+        assertThat(dot(query, similar)).isGreaterThan(dot(query, unrelated));
+    }
+
+    @Test
+    @DisplayName("빈 텍스트는 0 벡터를 반환한다")
+    void embed_blankText() {
+        // when
+        float[] vector = embedder.embed("  ");
+
+        // then
+        assertThat(dot(vector, vector)).isZero();
+        assertThat(embedder.model()).isEqualTo("hashing-256");
+    }
+
+    private double dot(float[] left, float[] right) {
+        double sum = 0.0;
+        for (int i = 0; i < left.length; i++) {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+}
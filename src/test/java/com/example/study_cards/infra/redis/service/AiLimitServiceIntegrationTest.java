@@ -2,7 +2,9 @@ package com.example.study_cards.infra.redis.service;
 
 import com.example.study_cards.domain.ai.entity.AiGenerationLog;
 import com.example.study_cards.domain.ai.entity.AiGenerationType;
+import com.example.study_cards.domain.ai.entity.AiUsagePeriod;
 import com.example.study_cards.domain.ai.repository.AiGenerationLogRepository;
+import com.example.study_cards.domain.ai.repository.AiUsageRepository;
 import com.example.study_cards.domain.subscription.entity.SubscriptionPlan;
 import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.user.repository.UserRepository;
@@ -14,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.LocalDate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
@@ -27,6 +31,9 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private AiGenerationLogRepository aiGenerationLogRepository;
 
+    @Autowired
+    private AiUsageRepository aiUsageRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -46,13 +53,9 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
                 .build());
     }
 
-    private void insertAiGenerationLogs(int count) {
+    private void acquireFreeSlots(int count) {
         for (int i = 0; i < count; i++) {
-            aiGenerationLogRepository.save(AiGenerationLog.builder()
-                    .user(testUser)
-                    .type(AiGenerationType.USER_CARD)
-                    .success(true)
-                    .build());
+            aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
         }
     }
 
@@ -83,8 +86,8 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
         @Test
         @DisplayName("FREE 플랜 - 평생 5회 초과 시 생성 불가")
         void canGenerate_freePlan_exceedLifetimeLimit_returnsFalse() {
-            // given - DB에 5개의 성공 로그 삽입
-            insertAiGenerationLogs(5);
+            // given - 평생 한도 5회 선점
+            acquireFreeSlots(5);
 
             // when
             boolean result = aiLimitService.canGenerate(testUser.getId(), SubscriptionPlan.FREE);
@@ -153,10 +156,11 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
         }
 
         @Test
-        @DisplayName("FREE 플랜 - DB 로그 기반으로 사용량 조회")
+        @DisplayName("FREE 플랜 - DB 집계 행 기반으로 사용량 조회")
         void getUsedCount_freePlan_fromDatabase() {
             // given
-            insertAiGenerationLogs(3);
+            acquireFreeSlots(3);
+            redisTemplate.delete("ai_generation:lifetime:" + testUser.getId());
 
             // when
             int count = aiLimitService.getUsedCount(testUser.getId(), SubscriptionPlan.FREE);
@@ -193,8 +197,8 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
         @Test
         @DisplayName("FREE 플랜 - 3회 사용 후 2회 남음")
         void getRemainingCount_freePlan_afterUsage() {
-            // given - DB에 3개의 성공 로그 삽입
-            insertAiGenerationLogs(3);
+            // given - 3회 선점
+            acquireFreeSlots(3);
 
             // when
             int remaining = aiLimitService.getRemainingCount(testUser.getId(), SubscriptionPlan.FREE);
@@ -256,8 +260,8 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
         @Test
         @DisplayName("FREE는 DB, PRO는 Redis로 별도 관리")
         void tryAcquireSlot_separateSources() {
-            // given - FREE: DB에 로그 1건 삽입
-            insertAiGenerationLogs(1);
+            // given - FREE: 평생 집계 행에 1회 선점
+            acquireFreeSlots(1);
             // PRO: Redis에 슬롯 1 선점
             aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.PRO);
 
@@ -270,4 +274,72 @@ class AiLimitServiceIntegrationTest extends BaseIntegrationTest {
             assertThat(proCount).isEqualTo(1);
         }
     }
+
+    @Nested
+    @DisplayName("사용량 집계")
+    class UsageLedgerTest {
+
+        @Test
+        @DisplayName("FREE 플랜 - 슬롯 선점이 집계 행에 반영되고 평생 한도에서 멈춘다")
+        void tryAcquireSlot_freePlan_updatesLedger() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+            }
+
+            // when
+            boolean result = aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(aiUsageRepository.findUsed(testUser.getId(), AiGenerationType.USER_CARD,
+                    AiUsagePeriod.LIFETIME, LocalDate.EPOCH)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("캐시가 없으면 집계 행에서 사용량을 조회한다")
+        void getUsedCount_cacheMiss_readsLedger() {
+            // given
+            aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+            aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+            redisTemplate.delete("ai_generation:lifetime:" + testUser.getId());
+
+            // when
+            int count = aiLimitService.getUsedCount(testUser.getId(), SubscriptionPlan.FREE);
+
+            // then
+            assertThat(count).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("FREE 플랜 - 집계 행이 없으면 생성 로그가 있어도 0에서 시작한다")
+        void tryAcquireSlot_freePlan_ignoresLogs() {
+            // given - 이전 사용량은 마이그레이션 스크립트가 집계 행으로 옮기므로 로그는 보지 않는다
+            aiGenerationLogRepository.save(AiGenerationLog.builder()
+                    .user(testUser)
+                    .type(AiGenerationType.USER_CARD)
+                    .success(true)
+                    .build());
+
+            // when
+            aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+
+            // then
+            assertThat(aiUsageRepository.findUsed(testUser.getId(), AiGenerationType.USER_CARD,
+                    AiUsagePeriod.LIFETIME, LocalDate.EPOCH)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("FREE 플랜 - 슬롯 해제 시 집계 행도 감소한다")
+        void releaseSlot_freePlan_decrementsLedger() {
+            // given
+            aiLimitService.tryAcquireSlot(testUser.getId(), SubscriptionPlan.FREE);
+
+            // when
+            aiLimitService.releaseSlot(testUser.getId(), SubscriptionPlan.FREE);
+
+            // then
+            assertThat(aiLimitService.getUsedCount(testUser.getId(), SubscriptionPlan.FREE)).isEqualTo(0);
+        }
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.infra.ai.config.AiRateLimitProperties;
+import com.example.study_cards.infra.ai.dto.AiRequestPriority;
+import com.example.study_cards.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiProviderRateLimiterIntegrationTest extends BaseIntegrationTest {
+
+    private static final String PROVIDER = "test-provider";
+
+    @Autowired
+    private AiProviderRateLimiter aiProviderRateLimiter;
+
+    @Autowired
+    private AiRateLimitProperties properties;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private String model;
+    private long originalRequestsPerMinute;
+    private long originalTokensPerMinute;
+    private long originalMaxWaitMs;
+
+    @BeforeEach
+    void setUp() {
+        model = "model-" + UUID.randomUUID();
+        originalRequestsPerMinute = properties.getRequestsPerMinute();
+        originalTokensPerMinute = properties.getTokensPerMinute();
+        originalMaxWaitMs = properties.getMaxWaitMs();
+        properties.setRequestsPerMinute(2);
+        properties.setTokensPerMinute(1000);
+        properties.setMaxWaitMs(200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setRequestsPerMinute(originalRequestsPerMinute);
+        properties.setTokensPerMinute(originalTokensPerMinute);
+        properties.setMaxWaitMs(originalMaxWaitMs);
+        properties.setEnabled(true);
+        Set<String> keys = redisTemplate.keys("*ai_rate:" + PROVIDER + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Nested
+    @DisplayName("acquire")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("분당 요청 수 안에서는 바로 통과하고 넘으면 대기 후 실패한다")
+        void acquire_requestLimitExceeded_returnsFalse() {
+            // when
+            boolean first = aiProviderRateLimiter.acquire(PROVIDER, model, 10, AiRequestPriority.NORMAL);
+            boolean second = aiProviderRateLimiter.acquire(PROVIDER, model, 10, AiRequestPriority.NORMAL);
+            boolean third = aiProviderRateLimiter.acquire(PROVIDER, model, 10, AiRequestPriority.HIGH);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isFalse();
+        }
+
+        @Test
+        @DisplayName("추정 토큰 합이 분당 한도를 넘으면 통과시키지 않는다")
+        void acquire_tokenLimitExceeded_returnsFalse() {
+            // when
+            boolean first = aiProviderRateLimiter.acquire(PROVIDER, model, 800, AiRequestPriority.NORMAL);
+            boolean second = aiProviderRateLimiter.acquire(PROVIDER, model, 800, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        @DisplayName("토큰 한도로 거절된 요청은 요청 수 허용량을 차감하지 않는다")
+        void acquire_tokenLimitExceeded_keepsRequestPermit() {
+            // given
+            aiProviderRateLimiter.acquire(PROVIDER, model, 800, AiRequestPriority.NORMAL);
+            aiProviderRateLimiter.acquire(PROVIDER, model, 800, AiRequestPriority.NORMAL);
+
+            // when
+            boolean result = aiProviderRateLimiter.acquire(PROVIDER, model, 100, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("한도보다 큰 요청도 한도만큼만 차감해 통과시킨다")
+        void acquire_requestLargerThanBucket_isClamped() {
+            // when
+            boolean result = aiProviderRateLimiter.acquire(PROVIDER, model, 5000, AiRequestPriority.NORMAL);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있으면 한도와 관계없이 통과한다")
+        void acquire_disabled_alwaysPasses() {
+            // given
+            properties.setEnabled(false);
+
+            // when & then
+            for (int i = 0; i < 5; i++) {
+                assertThat(aiProviderRateLimiter.acquire(PROVIDER, model, 800, AiRequestPriority.LOW)).isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("tryAcquire")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("허용량이 없으면 기다리지 않고 실패한다")
+        void tryAcquire_noPermits_returnsFalseImmediately() {
+            // given
+            properties.setMaxWaitMs(60000);
+            aiProviderRateLimiter.tryAcquire(PROVIDER, model, 10);
+            aiProviderRateLimiter.tryAcquire(PROVIDER, model, 10);
+
+            // when
+            long startedAt = System.currentTimeMillis();
+            boolean result = aiProviderRateLimiter.tryAcquire(PROVIDER, model, 10);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(System.currentTimeMillis() - startedAt).isLessThan(1000);
+        }
+    }
+
+    @Nested
+    @DisplayName("estimateTokens")
+    class EstimateTokensTest {
+
+        @Test
+        @DisplayName("프롬프트 길이와 예상 응답 토큰으로 추정한다")
+        void estimateTokens_addsExpectedOutput() {
+            // when
+            long tokens = aiProviderRateLimiter.estimateTokens("a".repeat(300));
+
+            // then
+            assertThat(tokens).isEqualTo(100 + properties.getEstimatedOutputTokens());
+        }
+    }
+}
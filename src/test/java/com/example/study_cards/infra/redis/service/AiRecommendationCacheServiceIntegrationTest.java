@@ -0,0 +1,110 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.infra.redis.vo.AiRecommendationVo;
+import com.example.study_cards.support.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiRecommendationCacheServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private AiRecommendationCacheService aiRecommendationCacheService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private static final Long USER_ID = 1L;
+    private static final String STUDY_STATE = "2026-10-19|cards:c1,c2,|accuracy:CS=5,";
+    private static final String CONTENT = "{\"weakConcepts\":[],\"reviewStrategy\":\"복습하세요\"}";
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("ai_recommendation:" + USER_ID);
+    }
+
+    @Nested
+    @DisplayName("find")
+    class FindTest {
+
+        @Test
+        @DisplayName("같은 학습 상태로 저장된 분석 결과를 반환한다")
+        void find_sameStudyState_returnsCached() {
+            // given
+            aiRecommendationCacheService.store(USER_ID, STUDY_STATE, CONTENT, "gemini-2.0-flash");
+
+            // when
+            Optional<AiRecommendationVo> result = aiRecommendationCacheService.find(USER_ID, STUDY_STATE);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().content()).isEqualTo(CONTENT);
+            assertThat(result.get().model()).isEqualTo("gemini-2.0-flash");
+        }
+
+        @Test
+        @DisplayName("학습 상태가 달라지면 빈 결과를 반환한다")
+        void find_differentStudyState_returnsEmpty() {
+            // given
+            aiRecommendationCacheService.store(USER_ID, STUDY_STATE, CONTENT, "gemini-2.0-flash");
+
+            // when
+            Optional<AiRecommendationVo> result =
+                    aiRecommendationCacheService.find(USER_ID, STUDY_STATE.replace("CS=5", "CS=6"));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("저장된 결과가 없으면 빈 결과를 반환한다")
+        void find_notStored_returnsEmpty() {
+            // when
+            Optional<AiRecommendationVo> result = aiRecommendationCacheService.find(USER_ID, STUDY_STATE);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("store")
+    class StoreTest {
+
+        @Test
+        @DisplayName("다음 날 0시 전에 만료되도록 TTL을 설정한다")
+        void store_setsTtlUntilTomorrow() {
+            // when
+            aiRecommendationCacheService.store(USER_ID, STUDY_STATE, CONTENT, "gemini-2.0-flash");
+
+            // then
+            Long ttl = redisTemplate.getExpire("ai_recommendation:" + USER_ID);
+            assertThat(ttl).isPositive().isLessThanOrEqualTo(24 * 60 * 60L);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class EvictTest {
+
+        @Test
+        @DisplayName("저장된 분석 결과를 삭제한다")
+        void evict_removesCached() {
+            // given
+            aiRecommendationCacheService.store(USER_ID, STUDY_STATE, CONTENT, "gemini-2.0-flash");
+
+            // when
+            aiRecommendationCacheService.evict(USER_ID);
+
+            // then
+            assertThat(aiRecommendationCacheService.find(USER_ID, STUDY_STATE)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.domain.generation.exception.GenerationErrorCode;
+import com.example.study_cards.domain.generation.exception.GenerationException;
+import com.example.study_cards.infra.ai.dto.AiCompletion;
+import com.example.study_cards.support.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiResponseCacheServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private AiResponseCacheService aiResponseCacheService;
+
+    private static final String PROVIDER = "openai";
+    private static final String MODEL = "gpt-5-mini";
+    private static final String PROMPT = "운영체제 스케줄링을 요약해줘";
+
+    @BeforeEach
+    void setUp() {
+        aiResponseCacheService.evict(PROVIDER, MODEL, PROMPT);
+    }
+
+    @Nested
+    @DisplayName("getOrLoad")
+    class GetOrLoadTest {
+
+        @Test
+        @DisplayName("같은 프롬프트는 두 번째 호출부터 캐시된 응답을 반환한다")
+        void getOrLoad_samePrompt_returnsCachedResponse() {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            AiCompletion first = aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT,
+                    () -> completion("response-" + calls.incrementAndGet()));
+            AiCompletion second = aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT,
+                    () -> completion("response-" + calls.incrementAndGet()));
+
+            // then
+            assertThat(first.cached()).isFalse();
+            assertThat(second.cached()).isTrue();
+            assertThat(second.content()).isEqualTo("response-1");
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("캐시 적중 시 처음 응답한 모델을 함께 반환한다")
+        void getOrLoad_cachedFallbackResponse_keepsServedModel() {
+            // given
+            aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT,
+                    () -> new AiCompletion("response", false, "gemini-2.0-flash"));
+
+            // when
+            AiCompletion result = aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("other"));
+
+            // then
+            assertThat(result.cached()).isTrue();
+            assertThat(result.model()).isEqualTo("gemini-2.0-flash");
+        }
+
+        @Test
+        @DisplayName("공백만 다른 프롬프트는 같은 키로 취급한다")
+        void getOrLoad_whitespaceVariant_hitsSameEntry() {
+            // given
+            aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("response"));
+
+            // when
+            AiCompletion result = aiResponseCacheService.getOrLoad(PROVIDER, MODEL,
+                    "  운영체제   스케줄링을\n요약해줘 ", () -> completion("other"));
+
+            // then
+            assertThat(result.cached()).isTrue();
+            assertThat(result.content()).isEqualTo("response");
+        }
+
+        @Test
+        @DisplayName("모델이 다르면 캐시를 공유하지 않는다")
+        void getOrLoad_differentModel_missesCache() {
+            // given
+            aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("response"));
+            aiResponseCacheService.evict(PROVIDER, "gpt-5", PROMPT);
+
+            // when
+            AiCompletion result = aiResponseCacheService.getOrLoad(PROVIDER, "gpt-5", PROMPT, () -> completion("other"));
+
+            // then
+            assertThat(result.cached()).isFalse();
+            assertThat(result.content()).isEqualTo("other");
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 같은 프롬프트는 upstream 호출을 한 번만 한다")
+        void getOrLoad_concurrentSamePrompt_sharesSingleCall() throws Exception {
+            // given
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<AiCompletion> leader = CompletableFuture.supplyAsync(() ->
+                    aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return completion("response");
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            CompletableFuture<AiCompletion> follower = CompletableFuture.supplyAsync(() ->
+                    aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> {
+                        calls.incrementAndGet();
+                        return completion("other");
+                    }));
+            release.countDown();
+
+            // then
+            List<AiCompletion> results = List.of(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+            assertThat(results).extracting(AiCompletion::content).containsOnly("response");
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("upstream 호출이 실패하면 캐시에 저장하지 않는다")
+        void getOrLoad_whenLoaderFails_doesNotCache() {
+            // when & then
+            assertThatThrownBy(() -> aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> {
+                throw new GenerationException(GenerationErrorCode.AI_GENERATION_FAILED);
+            })).isInstanceOf(GenerationException.class);
+
+            AiCompletion result = aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("response"));
+            assertThat(result.cached()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class EvictTest {
+
+        @Test
+        @DisplayName("캐시된 응답을 삭제한다")
+        void evict_removesCachedResponse() {
+            // given
+            aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("response"));
+
+            // when
+            aiResponseCacheService.evict(PROVIDER, MODEL, PROMPT);
+
+            // then
+            AiCompletion result = aiResponseCacheService.getOrLoad(PROVIDER, MODEL, PROMPT, () -> completion("other"));
+            assertThat(result.cached()).isFalse();
+            assertThat(result.content()).isEqualTo("other");
+        }
+    }
+
+    private static AiCompletion completion(String content) {
+        return new AiCompletion(content, false, MODEL);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
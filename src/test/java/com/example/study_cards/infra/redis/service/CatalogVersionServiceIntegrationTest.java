@@ -0,0 +1,95 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.domain.card.event.CatalogChangedEvent;
+import com.example.study_cards.domain.usercard.event.UserCardChangedEvent;
+import com.example.study_cards.support.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogVersionServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CatalogVersionService catalogVersionService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("catalog:version");
+        redisTemplate.delete("catalog:version:user:" + USER_ID);
+        redisTemplate.delete("catalog:version:user:" + OTHER_USER_ID);
+    }
+
+    @Nested
+    @DisplayName("getCatalogETag")
+    class GetCatalogETagTest {
+
+        @Test
+        @DisplayName("변경이 없으면 같은 ETag를 반환한다")
+        void getCatalogETag_unchanged_returnsSameETag() {
+            // when
+            String first = catalogVersionService.getCatalogETag();
+            String second = catalogVersionService.getCatalogETag();
+
+            // then
+            assertThat(first).isNotNull().startsWith("\"c").endsWith("\"");
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("카탈로그가 변경되면 ETag가 바뀐다")
+        void getCatalogETag_afterCatalogChanged_returnsNewETag() {
+            // given
+            String before = catalogVersionService.getCatalogETag();
+
+            // when
+            catalogVersionService.onCatalogChanged(new CatalogChangedEvent());
+
+            // then
+            assertThat(catalogVersionService.getCatalogETag()).isNotEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("getUserCardETag")
+    class GetUserCardETagTest {
+
+        @Test
+        @DisplayName("사용자 카드가 변경되면 해당 사용자의 ETag만 바뀐다")
+        void getUserCardETag_afterUserCardChanged_changesOnlyThatUser() {
+            // given
+            String userBefore = catalogVersionService.getUserCardETag(USER_ID);
+            String otherBefore = catalogVersionService.getUserCardETag(OTHER_USER_ID);
+
+            // when
+            catalogVersionService.onUserCardChanged(new UserCardChangedEvent(USER_ID));
+
+            // then
+            assertThat(catalogVersionService.getUserCardETag(USER_ID)).isNotEqualTo(userBefore);
+            assertThat(catalogVersionService.getUserCardETag(OTHER_USER_ID)).isEqualTo(otherBefore);
+        }
+
+        @Test
+        @DisplayName("카탈로그가 변경되면 사용자 ETag도 바뀐다")
+        void getUserCardETag_afterCatalogChanged_returnsNewETag() {
+            // given
+            String before = catalogVersionService.getUserCardETag(USER_ID);
+
+            // when
+            catalogVersionService.onCatalogChanged(new CatalogChangedEvent());
+
+            // then
+            assertThat(catalogVersionService.getUserCardETag(USER_ID)).isNotEqualTo(before);
+        }
+    }
+}
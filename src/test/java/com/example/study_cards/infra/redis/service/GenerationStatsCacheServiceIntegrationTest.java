@@ -0,0 +1,99 @@
+package com.example.study_cards.infra.redis.service;
+
+import com.example.study_cards.domain.generation.entity.GenerationStatus;
+import com.example.study_cards.domain.generation.event.GenerationStatsChangedEvent;
+import com.example.study_cards.support.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationStatsCacheServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private GenerationStatsCacheService generationStatsCacheService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("generation_stats");
+    }
+
+    @Nested
+    @DisplayName("find")
+    class FindTest {
+
+        @Test
+        @DisplayName("저장한 모델/상태별 카드 수를 그대로 반환한다")
+        void find_stored_returnsCounts() {
+            // given
+            generationStatsCacheService.store(Map.of(
+                    "gpt-5-mini", Map.of(GenerationStatus.PENDING, 5L, GenerationStatus.APPROVED, 10L),
+                    "openrouter:llama", Map.of(GenerationStatus.REJECTED, 2L)
+            ));
+
+            // when
+            Optional<Map<String, Map<GenerationStatus, Long>>> result = generationStatsCacheService.find();
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().get("gpt-5-mini"))
+                    .containsEntry(GenerationStatus.PENDING, 5L)
+                    .containsEntry(GenerationStatus.APPROVED, 10L);
+            assertThat(result.get().get("openrouter:llama")).containsEntry(GenerationStatus.REJECTED, 2L);
+        }
+
+        @Test
+        @DisplayName("저장된 통계가 없으면 빈 결과를 반환한다")
+        void find_notStored_returnsEmpty() {
+            // when
+            Optional<Map<String, Map<GenerationStatus, Long>>> result = generationStatsCacheService.find();
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("markSeeded")
+    class MarkSeededTest {
+
+        @Test
+        @DisplayName("재집계 표시를 남기면 재집계된 것으로 본다")
+        void markSeeded_thenIsSeeded_returnsTrue() {
+            // when
+            generationStatsCacheService.markSeeded();
+
+            // then
+            assertThat(generationStatsCacheService.isSeeded()).isTrue();
+            assertThat(redisTemplate.hasKey("generation_stats:seeded")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("onGenerationStatsChanged")
+    class OnGenerationStatsChangedTest {
+
+        @Test
+        @DisplayName("카운터가 바뀌면 캐시를 삭제한다")
+        void onGenerationStatsChanged_evictsCache() {
+            // given
+            generationStatsCacheService.store(Map.of("gpt-5-mini", Map.of(GenerationStatus.PENDING, 5L)));
+
+            // when
+            generationStatsCacheService.onGenerationStatsChanged(new GenerationStatsChangedEvent());
+
+            // then
+            assertThat(generationStatsCacheService.find()).isEmpty();
+        }
+    }
+}
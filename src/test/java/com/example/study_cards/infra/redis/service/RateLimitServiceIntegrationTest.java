@@ -151,11 +151,11 @@ class RateLimitServiceIntegrationTest extends BaseIntegrationTest {
     }
 
     @Nested
-    @DisplayName("isRateLimited")
-    class IsRateLimitedTest {
+    @DisplayName("tryAcquire")
+    class TryAcquireTest {
 
-        private static final String TEST_ACTION = "test-action";
-        private static final String TEST_IDENTIFIER = "test-user";
+        private static final String TEST_ACTION = "test-acquire";
+        private static final String TEST_IDENTIFIER = "acquire-user";
 
         @BeforeEach
         void cleanUp() {
@@ -166,43 +166,49 @@ class RateLimitServiceIntegrationTest extends BaseIntegrationTest {
         }
 
         @Test
-        @DisplayName("제한 이하 요청은 허용한다")
-        void isRateLimited_underLimit_returnsNotLimited() {
+        @DisplayName("허용할 때마다 남은 요청 수가 줄어든다")
+        void tryAcquire_underLimit_decreasesRemaining() {
             // when
-            boolean limited = rateLimitService.isRateLimited(TEST_ACTION, TEST_IDENTIFIER, 5, Duration.ofMinutes(1));
+            RateLimitService.RateLimitResult first = rateLimitService.tryAcquire(TEST_ACTION, TEST_IDENTIFIER, 3, Duration.ofMinutes(1));
+            RateLimitService.RateLimitResult second = rateLimitService.tryAcquire(TEST_ACTION, TEST_IDENTIFIER, 3, Duration.ofMinutes(1));
 
             // then
-            assertThat(limited).isFalse();
+            assertThat(first.allowed()).isTrue();
+            assertThat(first.remaining()).isEqualTo(2);
+            assertThat(second.allowed()).isTrue();
+            assertThat(second.remaining()).isEqualTo(1);
+            assertThat(second.resetMs()).isPositive();
         }
 
         @Test
-        @DisplayName("제한 초과 요청은 차단한다")
-        void isRateLimited_overLimit_returnsLimited() {
+        @DisplayName("한도를 모두 쓰면 거부하고 다시 시도할 수 있는 시간을 알려준다")
+        void tryAcquire_overLimit_returnsRetryAfter() {
             // given
-            int maxAttempts = 3;
-            for (int i = 0; i < maxAttempts; i++) {
-                rateLimitService.isRateLimited(TEST_ACTION, TEST_IDENTIFIER, maxAttempts, Duration.ofMinutes(1));
+            for (int i = 0; i < 3; i++) {
+                rateLimitService.tryAcquire(TEST_ACTION, TEST_IDENTIFIER, 3, Duration.ofMinutes(1));
             }
 
             // when
-            boolean limited = rateLimitService.isRateLimited(TEST_ACTION, TEST_IDENTIFIER, maxAttempts, Duration.ofMinutes(1));
+            RateLimitService.RateLimitResult result = rateLimitService.tryAcquire(TEST_ACTION, TEST_IDENTIFIER, 3, Duration.ofMinutes(1));
 
             // then
-            assertThat(limited).isTrue();
+            assertThat(result.allowed()).isFalse();
+            assertThat(result.remaining()).isZero();
+            assertThat(result.retryAfterMs()).isPositive();
+            assertThat(result.retryAfterMs()).isLessThanOrEqualTo(Duration.ofSeconds(20).toMillis());
         }
 
         @Test
-        @DisplayName("다른 action은 독립적으로 카운트한다")
-        void isRateLimited_differentAction_independent() {
+        @DisplayName("다른 action은 독립적으로 제한한다")
+        void tryAcquire_differentAction_independent() {
             // given
-            int maxAttempts = 1;
-            rateLimitService.isRateLimited("action-a", TEST_IDENTIFIER, maxAttempts, Duration.ofMinutes(1));
+            rateLimitService.tryAcquire(TEST_ACTION, TEST_IDENTIFIER, 1, Duration.ofMinutes(1));
 
             // when
-            boolean limited = rateLimitService.isRateLimited("action-b", TEST_IDENTIFIER, maxAttempts, Duration.ofMinutes(1));
+            RateLimitService.RateLimitResult result = rateLimitService.tryAcquire(TEST_ACTION + "-other", TEST_IDENTIFIER, 1, Duration.ofMinutes(1));
 
             // then
-            assertThat(limited).isFalse();
+            assertThat(result.allowed()).isTrue();
         }
     }
 
@@ -261,6 +267,23 @@ class RateLimitServiceIntegrationTest extends BaseIntegrationTest {
             assertThat(blocked).isTrue();
         }
 
+        @Test
+        @DisplayName("실패를 다시 기록해도 첫 기록 시점의 만료 시간은 늘어나지 않는다")
+        void recordFailedAttempt_keepsFirstTtl() {
+            // given
+            rateLimitService.recordFailedAttempt(TEST_ACTION, TEST_IDENTIFIER, Duration.ofMinutes(1));
+            String key = "rate_limit:" + TEST_ACTION + ":" + TEST_IDENTIFIER;
+            redisTemplate.expire(key, Duration.ofSeconds(10));
+
+            // when
+            rateLimitService.recordFailedAttempt(TEST_ACTION, TEST_IDENTIFIER, Duration.ofMinutes(1));
+
+            // then
+            Long ttl = redisTemplate.getExpire(key);
+            assertThat(ttl).isNotNull();
+            assertThat(ttl).isLessThanOrEqualTo(10);
+        }
+
         @Test
         @DisplayName("resetAttempts 호출 후 차단이 해제된다")
         void resetAttempts_clearsBlock() {
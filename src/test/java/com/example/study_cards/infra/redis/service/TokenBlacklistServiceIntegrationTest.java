@@ -1,10 +1,13 @@
 package com.example.study_cards.infra.redis.service;
 
+import com.example.study_cards.common.util.HashUtils;
 import com.example.study_cards.support.BaseIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -21,12 +24,21 @@ class TokenBlacklistServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private RedissonClient redissonClient;
+
     private static final String ACCESS_TOKEN = "test.access.token";
     private static final long REMAINING_MS = 5000L;
+    private static final String LEGACY_KEY = "bl:" + ACCESS_TOKEN;
 
     @BeforeEach
     void setUp() {
-        redisTemplate.delete("bl:" + ACCESS_TOKEN);
+        redisTemplate.delete(blacklistKey(ACCESS_TOKEN));
+        redisTemplate.delete(LEGACY_KEY);
+    }
+
+    private static String blacklistKey(String token) {
+        return "bl:" + HashUtils.sha256Hex(token);
     }
 
     @Nested
@@ -51,7 +63,7 @@ class TokenBlacklistServiceIntegrationTest extends BaseIntegrationTest {
             tokenBlacklistService.blacklistToken(ACCESS_TOKEN, REMAINING_MS);
 
             // then
-            String key = "bl:" + ACCESS_TOKEN;
+            String key = blacklistKey(ACCESS_TOKEN);
             Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
             assertThat(ttl).isNotNull();
             assertThat(ttl).isPositive();
@@ -88,6 +100,19 @@ class TokenBlacklistServiceIntegrationTest extends BaseIntegrationTest {
             assertThat(result).isTrue();
         }
 
+        @Test
+        @DisplayName("이전 형식(원문 토큰) 키로 등록된 토큰도 true를 반환한다")
+        void isBlacklisted_withLegacyKey_returnsTrue() {
+            // given
+            redisTemplate.opsForValue().set(LEGACY_KEY, "blacklisted", REMAINING_MS, TimeUnit.MILLISECONDS);
+
+            // when
+            boolean result = tokenBlacklistService.isBlacklisted(ACCESS_TOKEN);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
         @Test
         @DisplayName("블랙리스트에 없는 토큰은 false를 반환한다")
         void isBlacklisted_withNonBlacklistedToken_returnsFalse() {
@@ -99,6 +124,56 @@ class TokenBlacklistServiceIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("rebuildFilter")
+    class RebuildFilterTest {
+
+        @Test
+        @DisplayName("Redis 에 남아 있는 블랙리스트 키로 filter 를 다시 만든다")
+        void rebuildFilter_loadsExistingKeys() {
+            // given
+            redisTemplate.opsForValue().set(blacklistKey(ACCESS_TOKEN), "blacklisted",
+                    REMAINING_MS, TimeUnit.MILLISECONDS);
+
+            // when
+            int count = tokenBlacklistService.rebuildFilter();
+
+            // then
+            assertThat(count).isPositive();
+            assertThat(tokenBlacklistService.isBlacklisted(ACCESS_TOKEN)).isTrue();
+        }
+
+        @Test
+        @DisplayName("이전 형식 키는 토큰 해시로 바꿔 filter 에 넣는다")
+        void rebuildFilter_legacyKey_hashedIntoFilter() {
+            // given
+            redisTemplate.opsForValue().set(LEGACY_KEY, "blacklisted", REMAINING_MS, TimeUnit.MILLISECONDS);
+
+            // when
+            tokenBlacklistService.rebuildFilter();
+
+            // then
+            assertThat(tokenBlacklistService.isBlacklisted(ACCESS_TOKEN)).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 서버에서 등록한 토큰은 채널 메시지를 받은 뒤 filter 에 반영된다")
+        void blacklistedOnOtherNode_reflectedAfterMessage() {
+            // given
+            tokenBlacklistService.rebuildFilter();
+            String key = blacklistKey(ACCESS_TOKEN);
+            redisTemplate.opsForValue().set(key, "blacklisted", REMAINING_MS, TimeUnit.MILLISECONDS);
+            assertThat(tokenBlacklistService.isBlacklisted(ACCESS_TOKEN)).isFalse();
+
+            // when
+            redissonClient.getTopic("bl:events", StringCodec.INSTANCE).publish(key.substring("bl:".length()));
+
+            // then
+            await().atMost(3, TimeUnit.SECONDS)
+                    .untilAsserted(() -> assertThat(tokenBlacklistService.isBlacklisted(ACCESS_TOKEN)).isTrue());
+        }
+    }
+
     @Nested
     @DisplayName("TTL 만료")
     class TTLExpirationTest {
@@ -1,14 +1,14 @@
 package com.example.study_cards.infra.security.jwt;
 
 import com.example.study_cards.domain.user.entity.Role;
-import com.example.study_cards.domain.user.entity.User;
 import com.example.study_cards.domain.user.exception.UserErrorCode;
 import com.example.study_cards.domain.user.exception.UserException;
-import com.example.study_cards.domain.user.service.UserDomainService;
 import com.example.study_cards.infra.redis.service.TokenBlacklistService;
+import com.example.study_cards.infra.redis.vo.UserVo;
 import com.example.study_cards.infra.security.exception.JwtErrorCode;
 import com.example.study_cards.infra.security.exception.JwtException;
 import com.example.study_cards.infra.security.user.CustomUserDetails;
+import com.example.study_cards.infra.security.user.UserPrincipalService;
 import com.example.study_cards.support.BaseUnitTest;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -44,7 +44,7 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
     @Mock
-    private UserDomainService userDomainService;
+    private UserPrincipalService userPrincipalService;
 
     @Mock
     private FilterChain filterChain;
@@ -53,12 +53,14 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
 
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
-    private User testUser;
 
     private static final String VALID_TOKEN = "valid.jwt.token";
     private static final Long USER_ID = 1L;
     private static final String EMAIL = "test@example.com";
     private static final Set<Role> ROLES = Set.of(Role.ROLE_USER);
+    private static final JwtClaims CLAIMS =
+            new JwtClaims(USER_ID, EMAIL, ROLES, System.currentTimeMillis() + 60_000L);
+    private static final UserVo PRINCIPAL = new UserVo(USER_ID, EMAIL, "tester", ROLES);
 
     @BeforeEach
     void setUp() {
@@ -66,14 +68,9 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
                 jwtTokenProvider,
                 tokenBlacklistService,
                 jwtAuthenticationEntryPoint,
-                userDomainService);
+                userPrincipalService);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
-        testUser = User.builder()
-                .email(EMAIL)
-                .password("encoded-password")
-                .nickname("tester")
-                .build();
         SecurityContextHolder.clearContext();
     }
 
@@ -87,16 +84,14 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
             given(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).willReturn(false);
-            given(jwtTokenProvider.getUserId(VALID_TOKEN)).willReturn(USER_ID);
-            given(userDomainService.findById(USER_ID)).willReturn(testUser);
-            given(jwtTokenProvider.getEmail(VALID_TOKEN)).willReturn(EMAIL);
-            given(jwtTokenProvider.getRoles(VALID_TOKEN)).willReturn(ROLES);
+            given(jwtTokenProvider.verifyAccessToken(VALID_TOKEN)).willReturn(CLAIMS);
+            given(userPrincipalService.getPrincipal(USER_ID)).willReturn(PRINCIPAL);
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
-            verify(jwtTokenProvider).validateToken(VALID_TOKEN);
+            verify(jwtTokenProvider).verifyAccessToken(VALID_TOKEN);
             verify(filterChain).doFilter(request, response);
 
             var authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -109,6 +104,26 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
             assertThat(userDetails.roles()).isEqualTo(ROLES);
         }
 
+        @Test
+        @DisplayName("권한은 토큰 대신 캐시된 사용자 정보를 따른다")
+        void doFilterInternal_withChangedRoles_usesCachedRoles() throws ServletException, IOException {
+            // given
+            Set<Role> changedRoles = Set.of(Role.ROLE_USER, Role.ROLE_ADMIN);
+            request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+            given(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).willReturn(false);
+            given(jwtTokenProvider.verifyAccessToken(VALID_TOKEN)).willReturn(CLAIMS);
+            given(userPrincipalService.getPrincipal(USER_ID))
+                    .willReturn(new UserVo(USER_ID, EMAIL, "tester", changedRoles));
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            CustomUserDetails userDetails =
+                    (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            assertThat(userDetails.roles()).isEqualTo(changedRoles);
+        }
+
         @Test
         @DisplayName("토큰이 없으면 인증 없이 필터 체인을 계속한다")
         void doFilterInternal_withoutToken_continuesFilterChain() throws ServletException, IOException {
@@ -155,8 +170,7 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
             given(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).willReturn(false);
-            org.mockito.Mockito.doThrow(new JwtException(JwtErrorCode.INVALID_TOKEN))
-                    .when(jwtTokenProvider).validateToken(VALID_TOKEN);
+            given(jwtTokenProvider.verifyAccessToken(VALID_TOKEN)).willThrow(new JwtException(JwtErrorCode.INVALID_TOKEN));
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -166,14 +180,44 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
             verify(filterChain, never()).doFilter(request, response);
         }
 
+        @Test
+        @DisplayName("리프레시 토큰을 Bearer 로 보내면 entry point로 위임한다")
+        void doFilterInternal_withRefreshToken_delegatesToEntryPoint() throws ServletException, IOException {
+            // given
+            JwtProperties jwtProperties = new JwtProperties();
+            jwtProperties.setIssuer("test-issuer");
+            jwtProperties.setSecret("test-secret-key-for-jwt-authentication-filter-test-256-bits");
+            jwtProperties.setAccessTokenExpireMinutes(15);
+            jwtProperties.setRefreshTokenExpireDays(14);
+            JwtTokenProvider realTokenProvider = new JwtTokenProvider(jwtProperties);
+            realTokenProvider.init();
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                    realTokenProvider,
+                    tokenBlacklistService,
+                    jwtAuthenticationEntryPoint,
+                    userPrincipalService);
+
+            String refreshToken = realTokenProvider.createRefreshToken(USER_ID);
+            request.addHeader("Authorization", "Bearer " + refreshToken);
+            given(tokenBlacklistService.isBlacklisted(refreshToken)).willReturn(false);
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(jwtAuthenticationEntryPoint).commence(eq(request), eq(response), any(BadCredentialsException.class));
+            verify(filterChain, never()).doFilter(request, response);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
         @Test
         @DisplayName("탈퇴한 사용자의 토큰이면 entry point로 위임한다")
         void doFilterInternal_withWithdrawnUserToken_delegatesToEntryPoint() throws ServletException, IOException {
             // given
             request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
             given(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).willReturn(false);
-            given(jwtTokenProvider.getUserId(VALID_TOKEN)).willReturn(USER_ID);
-            given(userDomainService.findById(USER_ID))
+            given(jwtTokenProvider.verifyAccessToken(VALID_TOKEN)).willReturn(CLAIMS);
+            given(userPrincipalService.getPrincipal(USER_ID))
                     .willThrow(new UserException(UserErrorCode.USER_NOT_FOUND));
 
             // when
@@ -196,16 +240,14 @@ class JwtAuthenticationFilterTest extends BaseUnitTest {
             String expectedToken = "my.jwt.token";
             request.addHeader("Authorization", "Bearer " + expectedToken);
             given(tokenBlacklistService.isBlacklisted(expectedToken)).willReturn(false);
-            given(jwtTokenProvider.getUserId(expectedToken)).willReturn(USER_ID);
-            given(userDomainService.findById(USER_ID)).willReturn(testUser);
-            given(jwtTokenProvider.getEmail(expectedToken)).willReturn(EMAIL);
-            given(jwtTokenProvider.getRoles(expectedToken)).willReturn(ROLES);
+            given(jwtTokenProvider.verifyAccessToken(expectedToken)).willReturn(CLAIMS);
+            given(userPrincipalService.getPrincipal(USER_ID)).willReturn(PRINCIPAL);
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
-            verify(jwtTokenProvider).validateToken(expectedToken);
+            verify(jwtTokenProvider).verifyAccessToken(expectedToken);
         }
 
         @Test
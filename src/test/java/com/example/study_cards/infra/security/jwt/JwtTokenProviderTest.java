@@ -34,6 +34,7 @@ class JwtTokenProviderTest extends BaseUnitTest {
     private static final String TEST_ISSUER = "test-issuer";
     private static final int ACCESS_TOKEN_EXPIRE_MINUTES = 15;
     private static final int REFRESH_TOKEN_EXPIRE_DAYS = 14;
+    private static final int VERIFIED_CACHE_SIZE = 100;
 
     @BeforeEach
     void setUp() {
@@ -41,6 +42,7 @@ class JwtTokenProviderTest extends BaseUnitTest {
         lenient().when(jwtProperties.getIssuer()).thenReturn(TEST_ISSUER);
         lenient().when(jwtProperties.getAccessTokenExpireMinutes()).thenReturn(ACCESS_TOKEN_EXPIRE_MINUTES);
         lenient().when(jwtProperties.getRefreshTokenExpireDays()).thenReturn(REFRESH_TOKEN_EXPIRE_DAYS);
+        lenient().when(jwtProperties.getVerifiedCacheSize()).thenReturn(VERIFIED_CACHE_SIZE);
 
         jwtTokenProvider = new JwtTokenProvider(jwtProperties);
         jwtTokenProvider.init();
@@ -104,6 +106,87 @@ class JwtTokenProviderTest extends BaseUnitTest {
         }
     }
 
+    @Nested
+    @DisplayName("verify")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("한 번의 검증으로 userId, email, roles, 만료 시각을 모두 반환한다")
+        void verify_returnsAllClaims() {
+            // given
+            Set<Role> roles = Set.of(Role.ROLE_ADMIN, Role.ROLE_USER);
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", roles);
+
+            // when
+            JwtClaims claims = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(claims.userId()).isEqualTo(1L);
+            assertThat(claims.email()).isEqualTo("test@example.com");
+            assertThat(claims.roles()).containsExactlyInAnyOrderElementsOf(roles);
+            assertThat(claims.expiresAtMs()).isGreaterThan(System.currentTimeMillis());
+        }
+
+        @Test
+        @DisplayName("이미 검증한 토큰은 캐시된 클레임을 그대로 반환한다")
+        void verify_sameToken_returnsCachedClaims() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", Set.of(Role.ROLE_USER));
+            JwtClaims first = jwtTokenProvider.verify(token);
+
+            // when
+            JwtClaims second = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("캐시 크기가 0이면 매번 새로 검증한다")
+        void verify_cacheDisabled_parsesEveryTime() {
+            // given
+            given(jwtProperties.getVerifiedCacheSize()).willReturn(0);
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", Set.of(Role.ROLE_USER));
+            JwtClaims first = jwtTokenProvider.verify(token);
+
+            // when
+            JwtClaims second = jwtTokenProvider.verify(token);
+
+            // then
+            assertThat(second).isNotSameAs(first);
+            assertThat(second).isEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("verifyAccessToken 은 액세스 토큰의 클레임을 반환한다")
+        void verifyAccessToken_accessToken_returnsClaims() {
+            // given
+            String token = jwtTokenProvider.createAccessToken(1L, "test@example.com", Set.of(Role.ROLE_USER));
+
+            // when
+            JwtClaims claims = jwtTokenProvider.verifyAccessToken(token);
+
+            // then
+            assertThat(claims.userId()).isEqualTo(1L);
+            assertThat(claims.isAccessToken()).isTrue();
+        }
+
+        @Test
+        @DisplayName("verifyAccessToken 은 리프레시 토큰을 거부한다")
+        void verifyAccessToken_refreshToken_throwsException() {
+            // given
+            String token = jwtTokenProvider.createRefreshToken(1L);
+
+            // when & then
+            assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken(token))
+                    .isInstanceOf(JwtException.class)
+                    .satisfies(exception -> {
+                        JwtException jwtException = (JwtException) exception;
+                        assertThat(jwtException.getErrorCode()).isEqualTo(JwtErrorCode.INVALID_TOKEN);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("validateToken")
     class ValidateTokenTest {
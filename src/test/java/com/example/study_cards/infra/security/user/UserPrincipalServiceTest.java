@@ -0,0 +1,123 @@
+package com.example.study_cards.infra.security.user;
+
+import com.example.study_cards.domain.user.entity.Role;
+import com.example.study_cards.domain.user.entity.User;
+import com.example.study_cards.domain.user.exception.UserErrorCode;
+import com.example.study_cards.domain.user.exception.UserException;
+import com.example.study_cards.domain.user.service.UserDomainService;
+import com.example.study_cards.infra.redis.service.UserCacheService;
+import com.example.study_cards.infra.redis.vo.UserVo;
+import com.example.study_cards.infra.security.jwt.JwtTokenProvider;
+import com.example.study_cards.support.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class UserPrincipalServiceTest extends BaseUnitTest {
+
+    @Mock
+    private UserCacheService userCacheService;
+
+    @Mock
+    private UserDomainService userDomainService;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @InjectMocks
+    private UserPrincipalService userPrincipalService;
+
+    private static final Long USER_ID = 1L;
+    private static final long ACCESS_TOKEN_EXPIRATION_MS = 1_800_000L;
+    private static final UserVo PRINCIPAL = new UserVo(USER_ID, "test@example.com", "tester", Set.of(Role.ROLE_USER));
+
+    @Nested
+    @DisplayName("getPrincipal")
+    class GetPrincipalTest {
+
+        @Test
+        @DisplayName("캐시에 있으면 DB 를 조회하지 않는다")
+        void getPrincipal_cached_skipsDatabase() {
+            // given
+            given(userCacheService.getCachedUser(USER_ID)).willReturn(Optional.of(PRINCIPAL));
+
+            // when
+            UserVo result = userPrincipalService.getPrincipal(USER_ID);
+
+            // then
+            assertThat(result).isEqualTo(PRINCIPAL);
+            verify(userDomainService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시에 없으면 DB 에서 읽어 캐시에 넣는다")
+        void getPrincipal_notCached_loadsAndCaches() {
+            // given
+            User user = createUser();
+            given(userCacheService.getCachedUser(USER_ID)).willReturn(Optional.empty());
+            given(userDomainService.findById(USER_ID)).willReturn(user);
+            given(jwtTokenProvider.getAccessTokenExpirationMs()).willReturn(ACCESS_TOKEN_EXPIRATION_MS);
+
+            // when
+            UserVo result = userPrincipalService.getPrincipal(USER_ID);
+
+            // then
+            assertThat(result).isEqualTo(PRINCIPAL);
+            verify(userCacheService).cacheUser(PRINCIPAL, ACCESS_TOKEN_EXPIRATION_MS);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 DB 에서 조회한다")
+        void getPrincipal_redisFailure_fallsBackToDatabase() {
+            // given
+            User user = createUser();
+            given(userCacheService.getCachedUser(USER_ID))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+            given(userDomainService.findById(USER_ID)).willReturn(user);
+
+            // when
+            UserVo result = userPrincipalService.getPrincipal(USER_ID);
+
+            // then
+            assertThat(result).isEqualTo(PRINCIPAL);
+        }
+
+        @Test
+        @DisplayName("탈퇴/정지된 사용자면 예외를 던지고 캐시하지 않는다")
+        void getPrincipal_inactiveUser_throwsException() {
+            // given
+            given(userCacheService.getCachedUser(USER_ID)).willReturn(Optional.empty());
+            given(userDomainService.findById(USER_ID)).willThrow(new UserException(UserErrorCode.USER_NOT_FOUND));
+
+            // when & then
+            assertThatThrownBy(() -> userPrincipalService.getPrincipal(USER_ID))
+                    .isInstanceOf(UserException.class);
+            verify(userCacheService, never()).cacheUser(any(), anyLong());
+        }
+    }
+
+    private User createUser() {
+        User user = User.builder()
+                .email("test@example.com")
+                .password("encoded-password")
+                .nickname("tester")
+                .build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        return user;
+    }
+}